@@ -0,0 +1,92 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.benchmarks;
+
+import com.ibm.cloud.objectstorage.services.s3.internal.crypto.CipherLite;
+import com.ibm.cloud.objectstorage.services.s3.internal.crypto.CipherLiteInputStream;
+import com.ibm.cloud.objectstorage.services.s3.internal.crypto.ContentCryptoScheme;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encrypting content through the {@code CipherLiteInputStream} the
+ * encryption client wraps around uploads and downloads, for the buffer sizes
+ * set with {@code CryptoConfiguration#setCipherBufferSize}. The 2 KB buffer
+ * is the default.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CipherStreamBenchmark {
+
+    @Param({"16777216"})
+    public int size;
+
+    @Param({"2048", "65536", "262144"})
+    public int bufferSize;
+
+    @Param({"CTR", "CBC"})
+    public String mode;
+
+    private byte[] content;
+    private byte[] buffer;
+    private SecretKey key;
+    private byte[] iv;
+    private ContentCryptoScheme scheme;
+
+    @Setup
+    public void setup() {
+        content = new byte[size];
+        buffer = new byte[64 * 1024];
+        key = new SecretKeySpec(new byte[32], "AES");
+        scheme = "CTR".equals(mode) ? ContentCryptoScheme.AES_CTR : ContentCryptoScheme.AES_CBC;
+        iv = new byte[scheme.getIVLengthInBytes()];
+    }
+
+    @Benchmark
+    public long encrypt() throws Exception {
+        CipherLite cipherLite = scheme.createCipherLite(key, iv, Cipher.ENCRYPT_MODE);
+        return drain(new CipherLiteInputStream(new ByteArrayInputStream(content), cipherLite, bufferSize));
+    }
+
+    private long drain(InputStream in) throws IOException {
+        long total = 0;
+        try {
+            for (int read; (read = in.read(buffer)) != -1;) {
+                total += read;
+            }
+        } finally {
+            in.close();
+        }
+        return total;
+    }
+}
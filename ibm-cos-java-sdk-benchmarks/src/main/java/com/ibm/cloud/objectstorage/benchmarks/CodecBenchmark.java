@@ -0,0 +1,77 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.benchmarks;
+
+import com.ibm.cloud.objectstorage.util.Base16;
+import com.ibm.cloud.objectstorage.util.Base64;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Base64 and Base16 codecs, on the 16 byte digests used for Content-MD5 and
+ * signatures as well as on larger inputs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CodecBenchmark {
+
+    @Param({"16", "1024", "65536"})
+    public int size;
+
+    private byte[] bytes;
+    private String base64;
+    private String base16;
+
+    @Setup
+    public void setup() {
+        bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        base64 = Base64.encodeAsString(bytes);
+        base16 = Base16.encodeAsString(bytes);
+    }
+
+    @Benchmark
+    public String base64Encode() {
+        return Base64.encodeAsString(bytes);
+    }
+
+    @Benchmark
+    public byte[] base64Decode() {
+        return Base64.decode(base64);
+    }
+
+    @Benchmark
+    public String base16Encode() {
+        return Base16.encodeAsString(bytes);
+    }
+
+    @Benchmark
+    public byte[] base16Decode() {
+        return Base16.decode(base16);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.benchmarks;
+
+import com.ibm.cloud.objectstorage.util.BinaryUtils;
+import com.ibm.cloud.objectstorage.util.StringUtils;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In-JVM HTTP server answering the S3 requests exercised by the benchmarks
+ * with canned responses, so that they measure the client rather than the
+ * network or a real service.
+ * <p>
+ * GET requests on a bucket return a ListObjectsV2 response, HEAD requests on
+ * an object return its metadata headers and PUT requests return an ETag.
+ */
+class FakeS3Endpoint implements HttpHandler {
+
+    static final String BUCKET = "bucket";
+
+    private static final String STREAMING_PAYLOAD = "STREAMING-AWS4-HMAC-SHA256-PAYLOAD";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final byte[] listing;
+
+    FakeS3Endpoint(int listingKeys) throws IOException {
+        this.listing = listObjectsV2Response(listingKeys);
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.executor = Executors.newCachedThreadPool();
+        server.createContext("/", this);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String getEndpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            String etag = drain(exchange.getRequestBody(), STREAMING_PAYLOAD.equals(
+                    exchange.getRequestHeaders().getFirst("x-amz-content-sha256")));
+            exchange.getResponseHeaders().add("x-amz-request-id", "0123456789ABCDEF");
+            String method = exchange.getRequestMethod();
+            if ("GET".equals(method)) {
+                exchange.getResponseHeaders().add("Content-Type", "application/xml");
+                exchange.sendResponseHeaders(200, listing.length);
+                OutputStream out = exchange.getResponseBody();
+                out.write(listing);
+                out.close();
+            } else if ("HEAD".equals(method)) {
+                for (Map.Entry<String, String> header : objectMetadataHeaders().entrySet()) {
+                    exchange.getResponseHeaders().add(header.getKey(), header.getValue());
+                }
+                exchange.sendResponseHeaders(200, -1);
+            } else {
+                exchange.getResponseHeaders().add("ETag", "\"" + etag + "\"");
+                exchange.sendResponseHeaders(200, -1);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * @return The hex encoded MD5 of the request body, which the client
+     *         checks against the ETag of upload responses.
+     */
+    private static String drain(InputStream in, boolean chunked) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            body.write(buffer, 0, read);
+        }
+        in.close();
+
+        MessageDigest md5;
+        try {
+            md5 = MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] bytes = body.toByteArray();
+        if (!chunked) {
+            md5.update(bytes);
+        } else {
+            // Each chunk is "<hex size>;chunk-signature=<signature>\r\n<data>\r\n"
+            int position = 0;
+            while (position < bytes.length) {
+                int lineEnd = indexOfCrlf(bytes, position);
+                String header = new String(bytes, position, lineEnd - position, StringUtils.UTF8);
+                int size = Integer.parseInt(header.substring(0, header.indexOf(';')), 16);
+                md5.update(bytes, lineEnd + 2, size);
+                position = lineEnd + 2 + size + 2;
+            }
+        }
+        return BinaryUtils.toHex(md5.digest());
+    }
+
+    private static int indexOfCrlf(byte[] bytes, int from) {
+        for (int i = from; i < bytes.length - 1; i++) {
+            if (bytes[i] == '\r' && bytes[i + 1] == '\n') {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Malformed aws-chunked body");
+    }
+
+    /**
+     * @return The headers of a HEAD object response with user metadata.
+     */
+    static Map<String, String> objectMetadataHeaders() {
+        Map<String, String> headers = new LinkedHashMap<String, String>();
+        headers.put("Content-Type", "application/octet-stream");
+        headers.put("Content-Length", "1048576");
+        headers.put("ETag", "\"b6d81b360a5672d80c27430f39153e2c\"");
+        headers.put("Last-Modified", "Thu, 15 Oct 2026 12:00:00 GMT");
+        headers.put("Accept-Ranges", "bytes");
+        headers.put("x-amz-server-side-encryption", "AES256");
+        headers.put("x-amz-meta-owner", "benchmarks");
+        headers.put("x-amz-meta-project", "ibm-cos-sdk-java");
+        headers.put("x-amz-meta-sequence", "42");
+        return headers;
+    }
+
+    /**
+     * @return A ListObjectsV2 response body listing the given number of keys.
+     */
+    static byte[] listObjectsV2Response(int keys) {
+        StringBuilder xml = new StringBuilder(keys * 400);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+           .append("<ListBucketResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">")
+           .append("<Name>").append(BUCKET).append("</Name><Prefix></Prefix>")
+           .append("<KeyCount>").append(keys).append("</KeyCount>")
+           .append("<MaxKeys>").append(keys).append("</MaxKeys><IsTruncated>false</IsTruncated>");
+        for (int i = 0; i < keys; i++) {
+            xml.append("<Contents><Key>logs/2026/10/15/object-").append(i).append(".json</Key>")
+               .append("<LastModified>2026-10-15T12:00:00.000Z</LastModified>")
+               .append("<ETag>&quot;b6d81b360a5672d80c27430f39153e2c&quot;</ETag>")
+               .append("<Size>").append(1024 + i).append("</Size>")
+               .append("<Owner><ID>owner-id</ID><DisplayName>owner</DisplayName></Owner>")
+               .append("<StorageClass>STANDARD</StorageClass></Contents>");
+        }
+        xml.append("</ListBucketResult>");
+        return xml.toString().getBytes(StringUtils.UTF8);
+    }
+}
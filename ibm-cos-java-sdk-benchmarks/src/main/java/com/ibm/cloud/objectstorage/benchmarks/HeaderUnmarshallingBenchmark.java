@@ -0,0 +1,63 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.benchmarks;
+
+import com.ibm.cloud.objectstorage.AmazonWebServiceResponse;
+import com.ibm.cloud.objectstorage.DefaultRequest;
+import com.ibm.cloud.objectstorage.http.HttpResponse;
+import com.ibm.cloud.objectstorage.services.s3.internal.S3MetadataResponseHandler;
+import com.ibm.cloud.objectstorage.services.s3.model.ObjectMetadata;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.client.methods.HttpHead;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Unmarshalling of the HEAD object response headers served by the fake
+ * endpoint into {@link ObjectMetadata}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HeaderUnmarshallingBenchmark {
+
+    private final S3MetadataResponseHandler handler = new S3MetadataResponseHandler();
+
+    private HttpResponse response;
+
+    @Setup
+    public void setup() {
+        response = new HttpResponse(new DefaultRequest<Void>("Amazon S3"), new HttpHead());
+        response.setStatusCode(200);
+        for (Map.Entry<String, String> header : FakeS3Endpoint.objectMetadataHeaders().entrySet()) {
+            response.addHeader(header.getKey(), header.getValue());
+        }
+    }
+
+    @Benchmark
+    public AmazonWebServiceResponse<ObjectMetadata> unmarshallObjectMetadata() throws Exception {
+        return handler.handle(response);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.benchmarks;
+
+import com.ibm.cloud.objectstorage.ClientConfiguration;
+import com.ibm.cloud.objectstorage.auth.AWSStaticCredentialsProvider;
+import com.ibm.cloud.objectstorage.auth.BasicAWSCredentials;
+import com.ibm.cloud.objectstorage.client.builder.AwsClientBuilder.EndpointConfiguration;
+import com.ibm.cloud.objectstorage.services.s3.AmazonS3;
+import com.ibm.cloud.objectstorage.services.s3.AmazonS3ClientBuilder;
+import com.ibm.cloud.objectstorage.services.s3.model.ListObjectsV2Request;
+import com.ibm.cloud.objectstorage.services.s3.model.ListObjectsV2Result;
+import com.ibm.cloud.objectstorage.services.s3.model.ObjectMetadata;
+import com.ibm.cloud.objectstorage.services.s3.model.PutObjectResult;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Complete requests of an S3 client against the fake endpoint, covering
+ * marshalling, signing, the HTTP client and unmarshalling together.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class S3ClientBenchmark {
+
+    @Param({"1000"})
+    public int keys;
+
+    private final byte[] content = new byte[1024];
+
+    private FakeS3Endpoint endpoint;
+    private AmazonS3 s3;
+
+    @Setup
+    public void setup() throws IOException {
+        endpoint = new FakeS3Endpoint(keys);
+        s3 = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials(
+                        "0123456789abcdef0123456789abcdef", "0123456789abcdef0123456789abcdef0123456789abcdef")))
+                .withEndpointConfiguration(new EndpointConfiguration(endpoint.getEndpoint(), "us-south"))
+                .withPathStyleAccessEnabled(true)
+                .withClientConfiguration(new ClientConfiguration().withMaxErrorRetry(0))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        s3.shutdown();
+        endpoint.stop();
+    }
+
+    @Benchmark
+    public ListObjectsV2Result listObjectsV2() {
+        return s3.listObjectsV2(new ListObjectsV2Request().withBucketName(FakeS3Endpoint.BUCKET));
+    }
+
+    @Benchmark
+    public ObjectMetadata getObjectMetadata() {
+        return s3.getObjectMetadata(FakeS3Endpoint.BUCKET, "logs/2026/10/15/object-1.json");
+    }
+
+    @Benchmark
+    public PutObjectResult putObject() {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length);
+        return s3.putObject(FakeS3Endpoint.BUCKET, "logs/2026/10/15/object-1.json",
+                new ByteArrayInputStream(content), metadata);
+    }
+}
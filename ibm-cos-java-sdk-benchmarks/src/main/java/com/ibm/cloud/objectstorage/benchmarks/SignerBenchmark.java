@@ -0,0 +1,118 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.benchmarks;
+
+import com.ibm.cloud.objectstorage.ClientConfiguration;
+import com.ibm.cloud.objectstorage.DefaultRequest;
+import com.ibm.cloud.objectstorage.auth.AWS4Signer;
+import com.ibm.cloud.objectstorage.auth.AWSCredentials;
+import com.ibm.cloud.objectstorage.auth.BasicAWSCredentials;
+import com.ibm.cloud.objectstorage.http.HttpMethodName;
+import com.ibm.cloud.objectstorage.oauth.BasicIBMOAuthCredentials;
+import com.ibm.cloud.objectstorage.oauth.DefaultTokenManager;
+import com.ibm.cloud.objectstorage.oauth.IBMOAuthSigner;
+import com.ibm.cloud.objectstorage.oauth.Token;
+import com.ibm.cloud.objectstorage.oauth.TokenProvider;
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Signing of a PUT object request with HMAC credentials (AWS signature
+ * version 4) and with IAM credentials. Each invocation builds a new request,
+ * since signing adds headers to it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SignerBenchmark {
+
+    private static final URI ENDPOINT = URI.create("https://s3.us-south.cloud-object-storage.appdomain.cloud");
+
+    private final byte[] content = new byte[1024];
+
+    private AWS4Signer aws4Signer;
+    private AWSCredentials hmacCredentials;
+    private IBMOAuthSigner oauthSigner;
+    private AWSCredentials oauthCredentials;
+
+    @Setup
+    public void setup() {
+        aws4Signer = new AWS4Signer();
+        aws4Signer.setServiceName("s3");
+        aws4Signer.setRegionName("us-south");
+        hmacCredentials = new BasicAWSCredentials("0123456789abcdef0123456789abcdef",
+                "0123456789abcdef0123456789abcdef0123456789abcdef");
+
+        oauthSigner = new IBMOAuthSigner(new ClientConfiguration());
+        oauthCredentials = new BasicIBMOAuthCredentials(new DefaultTokenManager(new StaticTokenProvider()),
+                "serviceInstanceId");
+    }
+
+    @Benchmark
+    public DefaultRequest<Void> aws4Sign() {
+        DefaultRequest<Void> request = newRequest();
+        aws4Signer.sign(request, hmacCredentials);
+        return request;
+    }
+
+    @Benchmark
+    public DefaultRequest<Void> oauthSign() {
+        DefaultRequest<Void> request = newRequest();
+        oauthSigner.sign(request, oauthCredentials);
+        return request;
+    }
+
+    private DefaultRequest<Void> newRequest() {
+        DefaultRequest<Void> request = new DefaultRequest<Void>("Amazon S3");
+        request.setHttpMethod(HttpMethodName.PUT);
+        request.setEndpoint(ENDPOINT);
+        request.setResourcePath("/bucket/logs/2026/10/15/object-1.json");
+        request.addHeader("Content-Type", "application/json");
+        request.addHeader("Content-Length", String.valueOf(content.length));
+        request.addHeader("x-amz-meta-owner", "benchmarks");
+        request.addParameter("x-id", "PutObject");
+        request.setContent(new ByteArrayInputStream(content));
+        return request;
+    }
+
+    /**
+     * Returns a token valid for an hour, so that no refresh happens while
+     * measuring.
+     */
+    private static class StaticTokenProvider implements TokenProvider {
+        @Override
+        public Token retrieveToken() {
+            Token token = new Token();
+            token.setAccess_token("eyJraWQiOiIyMDE3MDQwMS0wMDowMDowMCIsImFsZyI6IlJTMjU2In0.benchmark");
+            token.setRefresh_token("not_supported");
+            token.setToken_type("Bearer");
+            token.setExpires_in("3600");
+            token.setExpiration(String.valueOf(System.currentTimeMillis() / 1000L + 3600));
+            return token;
+        }
+    }
+}
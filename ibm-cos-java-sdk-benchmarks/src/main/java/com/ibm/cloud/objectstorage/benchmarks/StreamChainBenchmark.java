@@ -0,0 +1,120 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.benchmarks;
+
+import com.ibm.cloud.objectstorage.event.ProgressEvent;
+import com.ibm.cloud.objectstorage.event.ProgressInputStream;
+import com.ibm.cloud.objectstorage.event.ProgressListener;
+import com.ibm.cloud.objectstorage.services.s3.internal.MD5DigestCalculatingInputStream;
+import com.ibm.cloud.objectstorage.util.CRC32ChecksumCalculatingInputStream;
+import com.ibm.cloud.objectstorage.util.LengthCheckInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reading an upload body through the chain of {@code SdkFilterInputStream}
+ * wrappers the client adds to it: MD5 and CRC32 calculation, progress
+ * reporting and length checking. The plain read is the baseline.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StreamChainBenchmark {
+
+    @Param({"1048576"})
+    public int size;
+
+    @Param({"8192"})
+    public int readSize;
+
+    private byte[] content;
+    private byte[] buffer;
+    private final CountingProgressListener listener = new CountingProgressListener();
+
+    @Setup
+    public void setup() {
+        content = new byte[size];
+        buffer = new byte[readSize];
+    }
+
+    @Benchmark
+    public long plainRead() throws IOException {
+        return drain(new ByteArrayInputStream(content));
+    }
+
+    @Benchmark
+    public long md5() throws IOException {
+        return drain(new MD5DigestCalculatingInputStream(new ByteArrayInputStream(content)));
+    }
+
+    @Benchmark
+    public long crc32() throws IOException {
+        return drain(new CRC32ChecksumCalculatingInputStream(new ByteArrayInputStream(content)));
+    }
+
+    @Benchmark
+    public long progress() throws IOException {
+        return drain(ProgressInputStream.inputStreamForRequest(new ByteArrayInputStream(content), listener));
+    }
+
+    @Benchmark
+    public long lengthCheck() throws IOException {
+        return drain(new LengthCheckInputStream(new ByteArrayInputStream(content), size,
+                LengthCheckInputStream.INCLUDE_SKIPPED_BYTES));
+    }
+
+    @Benchmark
+    public long fullChain() throws IOException {
+        InputStream in = new ByteArrayInputStream(content);
+        in = new MD5DigestCalculatingInputStream(in);
+        in = new CRC32ChecksumCalculatingInputStream(in);
+        in = ProgressInputStream.inputStreamForRequest(in, listener);
+        in = new LengthCheckInputStream(in, size, LengthCheckInputStream.INCLUDE_SKIPPED_BYTES);
+        return drain(in);
+    }
+
+    private long drain(InputStream in) throws IOException {
+        long total = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            total += read;
+        }
+        in.close();
+        return total;
+    }
+
+    private static class CountingProgressListener implements ProgressListener {
+        private long bytes;
+
+        @Override
+        public void progressChanged(ProgressEvent progressEvent) {
+            bytes += progressEvent.getBytesTransferred();
+        }
+    }
+}
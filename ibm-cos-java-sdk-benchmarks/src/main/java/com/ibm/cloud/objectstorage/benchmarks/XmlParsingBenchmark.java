@@ -0,0 +1,76 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.benchmarks;
+
+import com.ibm.cloud.objectstorage.services.s3.model.ListObjectsV2Result;
+import com.ibm.cloud.objectstorage.services.s3.model.S3ObjectSummaryField;
+import com.ibm.cloud.objectstorage.services.s3.model.transform.Unmarshallers;
+import com.ibm.cloud.objectstorage.services.s3.model.transform.XmlResponsesSaxParser;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing of the ListObjectsV2 response served by the fake endpoint, with the
+ * SAX handler and with the unmarshaller used by the client, populating all
+ * fields of the object summaries or only their keys.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class XmlParsingBenchmark {
+
+    @Param({"1000"})
+    public int keys;
+
+    private byte[] listing;
+
+    @Setup
+    public void setup() {
+        listing = FakeS3Endpoint.listObjectsV2Response(keys);
+    }
+
+    @Benchmark
+    public ListObjectsV2Result parseListObjectsV2Response() throws IOException {
+        return new XmlResponsesSaxParser()
+                .parseListObjectsV2Response(new ByteArrayInputStream(listing), false)
+                .getResult();
+    }
+
+    @Benchmark
+    public ListObjectsV2Result unmarshallListObjectsV2Response() throws Exception {
+        return new Unmarshallers.ListObjectsV2Unmarshaller(false)
+                .unmarshall(new ByteArrayInputStream(listing));
+    }
+
+    @Benchmark
+    public ListObjectsV2Result unmarshallListObjectsV2ResponseKeysOnly() throws Exception {
+        return new Unmarshallers.ListObjectsV2Unmarshaller(false, EnumSet.noneOf(S3ObjectSummaryField.class))
+                .unmarshall(new ByteArrayInputStream(listing));
+    }
+}
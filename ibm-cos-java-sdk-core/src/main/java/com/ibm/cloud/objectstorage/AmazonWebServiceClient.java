@@ -1053,6 +1053,25 @@ public abstract class AmazonWebServiceClient {
         this.isImmutable = true;
     }
 
+    /**
+     * Internal only API to open the configured number of connections to the client's endpoint in
+     * the background. Only intended for use by the fluent builders.
+     *
+     * @see ClientConfiguration#setWarmUpConnections(int)
+     */
+    @SdkInternalApi
+    public final void warmUpConnections() {
+        int connections = clientConfiguration.getWarmUpConnections();
+        if (connections > 0 && endpoint != null) {
+            if (!sendsRequestsToEndpointHost()) {
+                log.warn("Connections are not warmed up since requests are not sent to the host of the endpoint "
+                        + endpoint + "; enable path-style access to warm up connections");
+                return;
+            }
+            client.warmUpConnections(endpoint, connections);
+        }
+    }
+
     /**
      * If the client has been marked as immutable then throw an {@link
      * UnsupportedOperationException}, otherwise do nothing. Should be called by each mutating
@@ -1085,6 +1104,16 @@ public abstract class AmazonWebServiceClient {
         return false;
     }
 
+    /**
+     * Hook to allow S3 client to report that its requests are sent to other hosts than the one of
+     * its endpoint, such as the per-bucket hosts of virtual-hosted-style requests.
+     *
+     * @return True if requests are sent to the host of the endpoint, false otherwise.
+     */
+    protected boolean sendsRequestsToEndpointHost() {
+        return true;
+    }
+
     public String getSignerOverride() {
         return clientConfiguration.getSignerOverride();
     }
@@ -18,6 +18,8 @@ import com.ibm.cloud.objectstorage.annotation.NotThreadSafe;
 import com.ibm.cloud.objectstorage.http.IdleConnectionReaper;
 import com.ibm.cloud.objectstorage.http.SystemPropertyTlsKeyManagersProvider;
 import com.ibm.cloud.objectstorage.http.TlsKeyManagersProvider;
+import com.ibm.cloud.objectstorage.http.apache.client.impl.ConnectionManagerAwareHttpClient;
+import com.ibm.cloud.objectstorage.http.client.HttpClientFactory;
 import com.ibm.cloud.objectstorage.retry.PredefinedRetryPolicies;
 import com.ibm.cloud.objectstorage.retry.RetryMode;
 import com.ibm.cloud.objectstorage.retry.RetryPolicy;
@@ -123,6 +125,12 @@ public class ClientConfiguration {
      */
     public static final int DEFAULT_VALIDATE_AFTER_INACTIVITY_MILLIS = 5 * 1000;
 
+    /**
+     * The default number of connections opened to the endpoint when a client is built, which is
+     * none.
+     */
+    public static final int DEFAULT_WARM_UP_CONNECTIONS = 0;
+
     /**
      * The default on whether to use TCP KeepAlive.
      */
@@ -293,6 +301,11 @@ public class ClientConfiguration {
 
     private int validateAfterInactivityMillis = DEFAULT_VALIDATE_AFTER_INACTIVITY_MILLIS;
 
+    /**
+     * The number of connections opened to the endpoint in the background when a client is built.
+     */
+    private int warmUpConnections = DEFAULT_WARM_UP_CONNECTIONS;
+
     /**
      * Optional override to enable support for TCP KeepAlive (not to be confused with HTTP
      * KeepAlive). TCP KeepAlive can be used to detect misbehaving routers or down servers through
@@ -378,6 +391,11 @@ public class ClientConfiguration {
     private TlsKeyManagersProvider tlsKeyManagersProvider;
     private RetryMode retryMode;
 
+    /**
+     * Factory for the transport used to send requests, or null to use Apache HttpClient.
+     */
+    private HttpClientFactory<? extends ConnectionManagerAwareHttpClient> httpClientFactory;
+
     public ClientConfiguration() {
         apacheHttpClientConfig = new ApacheHttpClientConfig();
     }
@@ -419,6 +437,7 @@ public class ClientConfiguration {
         this.connectionTTL = other.getConnectionTTL();
         this.connectionMaxIdleMillis = other.getConnectionMaxIdleMillis();
         this.validateAfterInactivityMillis = other.getValidateAfterInactivityMillis();
+        this.warmUpConnections = other.getWarmUpConnections();
         this.tcpKeepAlive = other.useTcpKeepAlive();
         this.secureRandom = other.getSecureRandom();
         this.headers.clear();
@@ -429,6 +448,7 @@ public class ClientConfiguration {
         this.httpsProxyHolder.set(other.httpsProxyHolder.get());
         this.tlsKeyManagersProvider = other.tlsKeyManagersProvider;
         this.retryMode = other.retryMode;
+        this.httpClientFactory = other.getHttpClientFactory();
     }
 
     /**
@@ -2177,6 +2197,57 @@ public class ClientConfiguration {
         return this;
     }
 
+    /**
+     * Returns the number of connections opened to the endpoint in the background when a client is
+     * built.
+     *
+     * <p>The default value is {@value #DEFAULT_WARM_UP_CONNECTIONS}.</p>
+     *
+     * @return The number of connections opened when a client is built.
+     * @see #setWarmUpConnections(int)
+     */
+    public int getWarmUpConnections() {
+        return warmUpConnections;
+    }
+
+    /**
+     * Sets the number of connections opened to the endpoint in the background when a client is
+     * built with its builder, up to the maximum number of connections. Without warm-up the
+     * connection pool starts empty and the first requests each pay for DNS resolution and the TCP
+     * and TLS handshakes, which shows as a latency spike right after an application starts.
+     * <p>
+     * The first connection performs a full TLS handshake, and the remaining ones are opened in
+     * parallel and resume its TLS session. Building the client does not wait for them; requests
+     * sent in the meantime open their own connections as usual. Connections are closed as usual
+     * once idle for longer than the {@link #getConnectionMaxIdleMillis() maximum idle time}.
+     * <p>
+     * Connections are opened directly to the endpoint of the client. Amazon S3 clients that use
+     * virtual-hosted-style requests send them to a host per bucket instead, so enable path-style
+     * access to benefit from warm-up. A warning is logged and no connection is opened for such
+     * clients, and when a proxy is configured.
+     *
+     * <p>The default value is {@value #DEFAULT_WARM_UP_CONNECTIONS}, which disables warm-up.</p>
+     *
+     * @param warmUpConnections The number of connections to open when a client is built.
+     */
+    public void setWarmUpConnections(int warmUpConnections) {
+        this.warmUpConnections = warmUpConnections;
+    }
+
+    /**
+     * Sets the number of connections opened to the endpoint in the background when a client is
+     * built with its builder, and returns the updated ClientConfiguration object so that
+     * additional calls may be chained together.
+     *
+     * @param warmUpConnections The number of connections to open when a client is built.
+     * @return The updated {@link ClientConfiguration} object.
+     * @see #setWarmUpConnections(int)
+     */
+    public ClientConfiguration withWarmUpConnections(int warmUpConnections) {
+        setWarmUpConnections(warmUpConnections);
+        return this;
+    }
+
     /**
      * Returns whether or not TCP KeepAlive support is enabled.
      */
@@ -2479,6 +2550,47 @@ public class ClientConfiguration {
         withTlsKeyManagersProvider(tlsKeyManagersProvider);
     }
 
+    /**
+     * Returns the factory for the transport used to send requests, or null if requests are sent
+     * with Apache HttpClient.
+     *
+     * @return The factory for the transport used to send requests.
+     */
+    public HttpClientFactory<? extends ConnectionManagerAwareHttpClient> getHttpClientFactory() {
+        return httpClientFactory;
+    }
+
+    /**
+     * Sets the factory for the transport used to send requests. By default requests are sent with
+     * Apache HttpClient over HTTP/1.1, one request per connection at a time.
+     * <p>
+     * Set an instance of {@link com.ibm.cloud.objectstorage.http.jdk.JdkHttpClientFactory} to
+     * send requests with the HTTP/2 capable client of Java 11 and later, which multiplexes
+     * concurrent requests over a few connections. Note that most settings specific to the Apache
+     * connection pool do not apply to other transports.
+     *
+     * @param httpClientFactory
+     *            The factory for the transport, or null to use Apache HttpClient.
+     */
+    public void setHttpClientFactory(HttpClientFactory<? extends ConnectionManagerAwareHttpClient> httpClientFactory) {
+        this.httpClientFactory = httpClientFactory;
+    }
+
+    /**
+     * Sets the factory for the transport used to send requests, and returns the updated
+     * ClientConfiguration object so that additional calls may be chained together.
+     *
+     * @param httpClientFactory
+     *            The factory for the transport, or null to use Apache HttpClient.
+     * @return The updated ClientConfiguration object.
+     * @see #setHttpClientFactory(HttpClientFactory)
+     */
+    public ClientConfiguration withHttpClientFactory(
+            HttpClientFactory<? extends ConnectionManagerAwareHttpClient> httpClientFactory) {
+        setHttpClientFactory(httpClientFactory);
+        return this;
+    }
+
     private URL getHttpProxyEnvironmentVariable() {
         if (getProtocol() == Protocol.HTTP) {
             return getUrlEnvVar(httpProxyHolder, "HTTP_PROXY");
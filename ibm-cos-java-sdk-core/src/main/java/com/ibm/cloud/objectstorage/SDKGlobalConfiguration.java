@@ -375,6 +375,12 @@ public class SDKGlobalConfiguration {
      */
     public static final String AWS_EC2_METADATA_V1_DISABLED_PROFILE_PROPERTY = "ec2_metadata_v1_disabled";
 
+    /**
+     * System property to set the maximum number of signing keys cached by the
+     * AWS4 signers, one per secret key, region and service. Defaults to 300.
+     */
+    public static final String SIGNER_KEY_CACHE_SIZE_SYSTEM_PROPERTY = "com.ibm.cloud.objectstorage.sdk.signerKeyCacheSize";
+
 
     /**
      * Environment variable to enable/disable client side monitoring.
@@ -18,10 +18,11 @@ import com.ibm.cloud.objectstorage.ReadLimitInfo;
 import com.ibm.cloud.objectstorage.SdkClientException;
 import com.ibm.cloud.objectstorage.SignableRequest;
 import com.ibm.cloud.objectstorage.annotation.SdkTestInternalApi;
+import com.ibm.cloud.objectstorage.auth.internal.AWS4SignerBuffers;
 import com.ibm.cloud.objectstorage.auth.internal.AWS4SignerRequestParams;
 import com.ibm.cloud.objectstorage.auth.internal.AWS4SignerUtils;
 import com.ibm.cloud.objectstorage.auth.internal.SignerKey;
-import com.ibm.cloud.objectstorage.internal.FIFOCache;
+import com.ibm.cloud.objectstorage.auth.internal.SignerKeyCache;
 import com.ibm.cloud.objectstorage.log.InternalLogApi;
 import com.ibm.cloud.objectstorage.log.InternalLogFactory;
 import com.ibm.cloud.objectstorage.util.BinaryUtils;
@@ -39,6 +40,9 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
 import static com.ibm.cloud.objectstorage.auth.internal.SignerConstants.AUTHORIZATION;
@@ -65,10 +69,16 @@ public class AWS4Signer extends AbstractAWSSigner implements
         //, EndpointPrefixAwareSigner, RegionFromEndpointResolverAwareSigner
 
     protected static final InternalLogApi log = InternalLogFactory.getLog(AWS4Signer.class);
-    private static final int SIGNER_CACHE_MAX_SIZE = 300;
-    private static final FIFOCache<SignerKey> signerCache = new FIFOCache<SignerKey>(SIGNER_CACHE_MAX_SIZE);
+    private static final SignerKeyCache signerCache = SignerKeyCache.getDefault();
     private static final List<String> listOfHeadersToIgnoreInLowerCase = Arrays.asList("connection", "x-amzn-trace-id");
 
+    /**
+     * Lower case forms of the header names signed so far. Most requests are
+     * made of the same few headers, so the names are only lower cased once.
+     */
+    private static final int HEADER_NAME_CACHE_MAX_SIZE = 512;
+    private static final ConcurrentMap<String, String> canonicalHeaderNames = new ConcurrentHashMap<String, String>();
+
     private final SdkClock clock;
 
     /**
@@ -331,10 +341,10 @@ public class AWS4Signer extends AbstractAWSSigner implements
         final String path = SdkHttpUtils.appendUri(
                 request.getEndpoint().getPath(), request.getResourcePath());
 
-        final StringBuilder canonicalRequestBuilder = new StringBuilder(request
-                .getHttpMethod().toString());
+        final StringBuilder canonicalRequestBuilder = AWS4SignerBuffers.get().builder();
 
-        canonicalRequestBuilder.append(LINE_SEPARATOR)
+        canonicalRequestBuilder.append(request.getHttpMethod().name())
+                .append(LINE_SEPARATOR)
                 // This would optionally double url-encode the resource path
                 .append(getCanonicalizedResourcePath(path, doubleUrlEncode))
                 .append(LINE_SEPARATOR)
@@ -361,14 +371,17 @@ public class AWS4Signer extends AbstractAWSSigner implements
     protected String createStringToSign(String canonicalRequest,
             AWS4SignerRequestParams signerParams) {
 
-        final StringBuilder stringToSignBuilder = new StringBuilder(
-                signerParams.getSigningAlgorithm());
-        stringToSignBuilder.append(LINE_SEPARATOR)
+        final AWS4SignerBuffers buffers = AWS4SignerBuffers.get();
+        final byte[] canonicalRequestHash = buffers.sha256(canonicalRequest);
+
+        final StringBuilder stringToSignBuilder = buffers.builder();
+        stringToSignBuilder.append(signerParams.getSigningAlgorithm())
+                .append(LINE_SEPARATOR)
                 .append(signerParams.getFormattedSigningDateTime())
                 .append(LINE_SEPARATOR)
                 .append(signerParams.getScope())
-                .append(LINE_SEPARATOR)
-                .append(BinaryUtils.toHex(hash(canonicalRequest)));
+                .append(LINE_SEPARATOR);
+        AWS4SignerBuffers.appendHex(stringToSignBuilder, canonicalRequestHash);
 
         final String stringToSign = stringToSignBuilder.toString();
 
@@ -387,19 +400,19 @@ public class AWS4Signer extends AbstractAWSSigner implements
     private final byte[] deriveSigningKey(AWSCredentials credentials,
             AWS4SignerRequestParams signerRequestParams) {
 
-        final String cacheKey = computeSigningCacheKeyName(credentials,
-                signerRequestParams);
+        final SignerKeyCache.Fingerprint fingerprint = new SignerKeyCache.Fingerprint(
+                credentials.getAWSSecretKey(),
+                signerRequestParams.getRegionName(),
+                signerRequestParams.getServiceName());
         final long daysSinceEpochSigningDate = DateUtils
                 .numberOfDaysSinceEpoch(signerRequestParams
                         .getSigningDateTimeMilli());
 
-        SignerKey signerKey = signerCache.get(cacheKey);
+        SignerKey signerKey = signerCache.get(fingerprint,
+                daysSinceEpochSigningDate);
 
         if (signerKey != null) {
-            if (daysSinceEpochSigningDate == signerKey
-                    .getNumberOfDaysSinceEpoch()) {
-                return signerKey.getSigningKey();
-            }
+            return signerKey.getSigningKey();
         }
         if (log.isDebugEnabled()) {
             log.debug("Generating a new signing key as the signing key not available in the cache for the date "
@@ -409,25 +422,11 @@ public class AWS4Signer extends AbstractAWSSigner implements
                 signerRequestParams.getFormattedSigningDate(),
                 signerRequestParams.getRegionName(),
                 signerRequestParams.getServiceName());
-        signerCache.add(cacheKey, new SignerKey(
+        signerCache.add(fingerprint, new SignerKey(
                 daysSinceEpochSigningDate, signingKey));
         return signingKey;
     }
 
-    /**
-     * Computes the name to be used to reference the signing key in the cache.
-     */
-    private final String computeSigningCacheKeyName(AWSCredentials credentials,
-            AWS4SignerRequestParams signerRequestParams) {
-        final StringBuilder hashKeyBuilder = new StringBuilder(
-                credentials.getAWSSecretKey());
-
-        return hashKeyBuilder.append("-")
-                .append(signerRequestParams.getRegionName())
-                .append("-")
-                .append(signerRequestParams.getServiceName()).toString();
-    }
-
     /**
      * Step 3 of the AWS Signature version 4 calculation. It involves deriving
      * the signing key and computing the signature. Refer to
@@ -436,8 +435,7 @@ public class AWS4Signer extends AbstractAWSSigner implements
      */
     protected final byte[] computeSignature(String stringToSign,
             byte[] signingKey, AWS4SignerRequestParams signerRequestParams) {
-        return sign(stringToSign.getBytes(Charset.forName("UTF-8")), signingKey,
-                SigningAlgorithm.HmacSHA256);
+        return AWS4SignerBuffers.get().hmacSha256(signingKey, stringToSign);
     }
 
     /**
@@ -446,25 +444,19 @@ public class AWS4Signer extends AbstractAWSSigner implements
     private String buildAuthorizationHeader(SignableRequest<?> request,
             byte[] signature, AWSCredentials credentials,
             AWS4SignerRequestParams signerParams) {
-        final String signingCredentials = credentials.getAWSAccessKeyId() + "/"
-                + signerParams.getScope();
-
-        final String credential = "Credential="
-                + signingCredentials;
-        final String signerHeaders = "SignedHeaders="
-                + getSignedHeadersString(request);
-        final String signatureHeader = "Signature="
-                + BinaryUtils.toHex(signature);
+        final String signedHeaders = getSignedHeadersString(request);
 
-        final StringBuilder authHeaderBuilder = new StringBuilder();
+        final StringBuilder authHeaderBuilder = AWS4SignerBuffers.get().builder();
 
         authHeaderBuilder.append(AWS4_SIGNING_ALGORITHM)
-                         .append(" ")
-                         .append(credential)
-                         .append(", ")
-                         .append(signerHeaders)
-                         .append(", ")
-                         .append(signatureHeader);
+                         .append(" Credential=")
+                         .append(credentials.getAWSAccessKeyId())
+                         .append("/")
+                         .append(signerParams.getScope())
+                         .append(", SignedHeaders=")
+                         .append(signedHeaders)
+                         .append(", Signature=");
+        AWS4SignerBuffers.appendHex(authHeaderBuilder, signature);
 
         return authHeaderBuilder.toString();
     }
@@ -495,17 +487,13 @@ public class AWS4Signer extends AbstractAWSSigner implements
     }
 
     protected String getCanonicalizedHeaderString(SignableRequest<?> request) {
-        final List<String> sortedHeaders = new ArrayList<String>(request.getHeaders()
-                .keySet());
-        Collections.sort(sortedHeaders, String.CASE_INSENSITIVE_ORDER);
-
         final Map<String, String> requestHeaders = request.getHeaders();
         StringBuilder buffer = new StringBuilder();
-        for (String header : sortedHeaders) {
+        for (String header : sortedHeaderNames(requestHeaders)) {
             if (shouldExcludeHeaderFromSigning(header)) {
                 continue;
             }
-            String key = StringUtils.lowerCase(header);
+            String key = canonicalHeaderName(header);
             String value = requestHeaders.get(header);
 
             StringUtils.appendCompactedString(buffer, key);
@@ -521,25 +509,52 @@ public class AWS4Signer extends AbstractAWSSigner implements
     }
 
     protected String getSignedHeadersString(SignableRequest<?> request) {
-        final List<String> sortedHeaders = new ArrayList<String>(request
-                .getHeaders().keySet());
-        Collections.sort(sortedHeaders, String.CASE_INSENSITIVE_ORDER);
-
         StringBuilder buffer = new StringBuilder();
-        for (String header : sortedHeaders) {
+        for (String header : sortedHeaderNames(request.getHeaders())) {
             if (shouldExcludeHeaderFromSigning(header)) {
                 continue;
             }
             if (buffer.length() > 0)
                 buffer.append(";");
-            buffer.append(StringUtils.lowerCase(header));
+            buffer.append(canonicalHeaderName(header));
         }
 
         return buffer.toString();
     }
 
+    /**
+     * Returns the header names in case insensitive order, without copying
+     * them if the headers are already sorted that way, as they are in
+     * {@link com.ibm.cloud.objectstorage.DefaultRequest}.
+     */
+    private static Iterable<String> sortedHeaderNames(Map<String, String> headers) {
+        if (headers instanceof SortedMap
+                && ((SortedMap<String, String>) headers).comparator() == String.CASE_INSENSITIVE_ORDER) {
+            return headers.keySet();
+        }
+        final List<String> sortedHeaders = new ArrayList<String>(headers.keySet());
+        Collections.sort(sortedHeaders, String.CASE_INSENSITIVE_ORDER);
+        return sortedHeaders;
+    }
+
+    private static String canonicalHeaderName(String header) {
+        String name = canonicalHeaderNames.get(header);
+        if (name == null) {
+            name = StringUtils.lowerCase(header);
+            if (canonicalHeaderNames.size() < HEADER_NAME_CACHE_MAX_SIZE) {
+                canonicalHeaderNames.putIfAbsent(header, name);
+            }
+        }
+        return name;
+    }
+
     protected boolean shouldExcludeHeaderFromSigning(String header) {
-        return listOfHeadersToIgnoreInLowerCase.contains(header.toLowerCase());
+        for (String ignored : listOfHeadersToIgnoreInLowerCase) {
+            if (ignored.equalsIgnoreCase(header)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     protected void addHostHeader(SignableRequest<?> request) {
@@ -383,7 +383,7 @@ public abstract class AbstractAWSSigner implements Signer {
      */
     protected String getCanonicalizedResourcePath(String resourcePath, boolean urlEncode) {
         String value = resourcePath;
-        if (urlEncode) {
+        if (urlEncode && !isNormalizedUnreservedPath(resourcePath)) {
             value = SdkHttpUtils.urlEncode(resourcePath, true);
 
             URI normalize = URI.create(value).normalize();
@@ -402,6 +402,31 @@ public abstract class AbstractAWSSigner implements Signer {
         return value;
     }
 
+    /**
+     * Returns whether the path is left unchanged by url encoding and
+     * normalization, which is the case of most paths: only unreserved
+     * characters and slashes, with no empty, "." or ".." segment.
+     */
+    private static boolean isNormalizedUnreservedPath(String path) {
+        int segmentStart = 0;
+        for (int i = 0; i <= path.length(); i++) {
+            char c = i < path.length() ? path.charAt(i) : '/';
+            if (c == '/') {
+                int segmentLength = i - segmentStart;
+                if ((segmentLength == 0 && i > 0 && i < path.length())
+                        || (segmentLength == 1 && path.charAt(segmentStart) == '.')
+                        || (segmentLength == 2 && path.startsWith("..", segmentStart))) {
+                    return false;
+                }
+                segmentStart = i + 1;
+            } else if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.' || c == '~')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     protected String getCanonicalizedEndpoint(URI endpoint) {
         String endpointForStringToSign = StringUtils.lowerCase(endpoint.getHost());
         /*
@@ -0,0 +1,172 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.auth.internal;
+
+import static com.ibm.cloud.objectstorage.util.StringUtils.UTF8;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.ibm.cloud.objectstorage.SdkClientException;
+import com.ibm.cloud.objectstorage.annotation.SdkInternalApi;
+import com.ibm.cloud.objectstorage.internal.SdkThreadLocalsRegistry;
+
+/**
+ * Per thread buffers reused across the requests signed by the AWS4 signers,
+ * so that signing a request does not allocate beyond the strings it returns.
+ * <p>
+ * The HMAC of the signature is computed with a {@link Mac} kept initialized
+ * with the last signing key used by the thread. Signing keys only change
+ * daily, so the key schedule of the HMAC is rarely recomputed. This Mac is
+ * distinct from the one of {@code SigningAlgorithm}, which is initialized
+ * with a different key for each step of deriving a signing key.
+ */
+@SdkInternalApi
+public final class AWS4SignerBuffers {
+
+    private static final String HMAC_SHA256 = "HmacSHA256";
+
+    /** Builders grown beyond this capacity are not kept */
+    private static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final ThreadLocal<AWS4SignerBuffers> BUFFERS = SdkThreadLocalsRegistry.register(
+            new ThreadLocal<AWS4SignerBuffers>() {
+                @Override
+                protected AWS4SignerBuffers initialValue() {
+                    return new AWS4SignerBuffers();
+                }
+            });
+
+    private StringBuilder builder = new StringBuilder(1024);
+    private byte[] bytes = new byte[1024];
+    private MessageDigest sha256;
+    private Mac hmacSha256;
+    private byte[] hmacKey;
+
+    private AWS4SignerBuffers() {
+    }
+
+    /**
+     * Returns the buffers of the current thread.
+     */
+    public static AWS4SignerBuffers get() {
+        return BUFFERS.get();
+    }
+
+    /**
+     * Returns an empty builder. The content of the builder is overwritten by
+     * the next call, so it must be turned into a string before.
+     */
+    public StringBuilder builder() {
+        if (builder.capacity() > MAX_RETAINED_CAPACITY) {
+            builder = new StringBuilder(1024);
+        } else {
+            builder.setLength(0);
+        }
+        return builder;
+    }
+
+    /**
+     * Returns the SHA-256 hash of the UTF-8 encoding of the given text.
+     */
+    public byte[] sha256(CharSequence text) {
+        try {
+            if (sha256 == null) {
+                sha256 = MessageDigest.getInstance("SHA-256");
+            }
+            sha256.reset();
+            int length = encode(text);
+            if (length < 0) {
+                sha256.update(text.toString().getBytes(UTF8));
+            } else {
+                sha256.update(bytes, 0, length);
+            }
+            return sha256.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new SdkClientException("Unable to get SHA256 Function" + e.getMessage(), e);
+        } finally {
+            releaseBytes();
+        }
+    }
+
+    /**
+     * Returns the HMAC-SHA256 of the UTF-8 encoding of the given text, keyed
+     * with the given key.
+     */
+    public byte[] hmacSha256(byte[] key, CharSequence text) {
+        try {
+            if (hmacSha256 == null) {
+                hmacSha256 = Mac.getInstance(HMAC_SHA256);
+            }
+            if (hmacKey == null || !Arrays.equals(hmacKey, key)) {
+                hmacKey = null;
+                hmacSha256.init(new SecretKeySpec(key, HMAC_SHA256));
+                hmacKey = key.clone();
+            }
+            int length = encode(text);
+            if (length < 0) {
+                hmacSha256.update(text.toString().getBytes(UTF8));
+            } else {
+                hmacSha256.update(bytes, 0, length);
+            }
+            // Resets the Mac to its initialized state
+            return hmacSha256.doFinal();
+        } catch (Exception e) {
+            throw new SdkClientException("Unable to calculate a request signature: " + e.getMessage(), e);
+        } finally {
+            releaseBytes();
+        }
+    }
+
+    /**
+     * Appends the lower case hexadecimal encoding of the given bytes.
+     */
+    public static StringBuilder appendHex(StringBuilder destination, byte[] data) {
+        for (byte b : data) {
+            destination.append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+        }
+        return destination;
+    }
+
+    /**
+     * Copies the given text to the byte buffer if it is all ASCII, which is
+     * the same as its UTF-8 encoding, and returns its length, or returns -1
+     * if the text needs to be encoded.
+     */
+    private int encode(CharSequence text) {
+        int length = text.length();
+        if (bytes.length < length) {
+            bytes = new byte[Math.max(length, bytes.length * 2)];
+        }
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                return -1;
+            }
+            bytes[i] = (byte) c;
+        }
+        return length;
+    }
+
+    private void releaseBytes() {
+        if (bytes.length > MAX_RETAINED_CAPACITY) {
+            bytes = new byte[1024];
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.auth.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.logging.LogFactory;
+
+import com.ibm.cloud.objectstorage.SDKGlobalConfiguration;
+import com.ibm.cloud.objectstorage.annotation.SdkInternalApi;
+import com.ibm.cloud.objectstorage.annotation.ThreadSafe;
+
+/**
+ * A bounded cache of the signing keys derived by the AWS4 signers, which
+ * evicts the earliest added key when full.
+ * <p>
+ * Lookups do not lock, so that signing requests concurrently does not
+ * contend on the cache. The cache may briefly hold more keys than its
+ * maximum size while keys are being added concurrently.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class SignerKeyCache {
+
+    /** Default maximum number of signing keys cached */
+    public static final int DEFAULT_MAX_SIZE = 300;
+
+    private static final SignerKeyCache DEFAULT = new SignerKeyCache(configuredMaxSize());
+
+    private final ConcurrentMap<Fingerprint, SignerKey> keys = new ConcurrentHashMap<Fingerprint, SignerKey>();
+    /** Keys of the cache, earliest added first */
+    private final ConcurrentLinkedQueue<Fingerprint> addOrder = new ConcurrentLinkedQueue<Fingerprint>();
+    private final int maxSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxSize
+     *            the maximum number of signing keys of the cache
+     */
+    public SignerKeyCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize " + maxSize
+                    + " must be at least 1");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cache shared by the AWS4 signers, of the size set by the
+     * {@link SDKGlobalConfiguration#SIGNER_KEY_CACHE_SIZE_SYSTEM_PROPERTY}
+     * system property, or {@link #DEFAULT_MAX_SIZE}.
+     */
+    public static SignerKeyCache getDefault() {
+        return DEFAULT;
+    }
+
+    private static int configuredMaxSize() {
+        String value = System.getProperty(SDKGlobalConfiguration.SIGNER_KEY_CACHE_SIZE_SYSTEM_PROPERTY);
+        if (value != null) {
+            try {
+                int maxSize = Integer.parseInt(value.trim());
+                if (maxSize >= 1) {
+                    return maxSize;
+                }
+            } catch (NumberFormatException e) {
+                // Logged below
+            }
+            LogFactory.getLog(SignerKeyCache.class).warn("Ignoring invalid "
+                    + SDKGlobalConfiguration.SIGNER_KEY_CACHE_SIZE_SYSTEM_PROPERTY + " " + value);
+        }
+        return DEFAULT_MAX_SIZE;
+    }
+
+    /**
+     * Returns the signing key of the given credentials and scope for the
+     * given day, or null if none is cached.
+     */
+    public SignerKey get(Fingerprint fingerprint, long daysSinceEpoch) {
+        SignerKey signerKey = keys.get(fingerprint);
+        if (signerKey != null && signerKey.getNumberOfDaysSinceEpoch() == daysSinceEpoch) {
+            hits.increment();
+            return signerKey;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Adds or replaces the signing key of the given credentials and scope,
+     * evicting the earliest added keys if the cache is full.
+     */
+    public void add(Fingerprint fingerprint, SignerKey signerKey) {
+        if (keys.put(fingerprint, signerKey) == null) {
+            addOrder.add(fingerprint);
+            while (keys.size() > maxSize) {
+                Fingerprint earliest = addOrder.poll();
+                if (earliest == null) {
+                    break;
+                }
+                keys.remove(earliest);
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of signing keys in the cache.
+     */
+    public int size() {
+        return keys.size();
+    }
+
+    /**
+     * Returns the maximum number of signing keys in the cache.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the number of lookups that found a signing key.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that found no signing key for the day.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of signing keys evicted to keep the cache bounded.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Identifies the signing keys derived from a secret key for a region and
+     * service. Its hash code is computed once, and no string is built to
+     * look up a key.
+     */
+    public static final class Fingerprint {
+        private final String secretKey;
+        private final String regionName;
+        private final String serviceName;
+        private final int hashCode;
+
+        public Fingerprint(String secretKey, String regionName, String serviceName) {
+            this.secretKey = secretKey;
+            this.regionName = regionName;
+            this.serviceName = serviceName;
+            int h = secretKey == null ? 0 : secretKey.hashCode();
+            h = 31 * h + (regionName == null ? 0 : regionName.hashCode());
+            h = 31 * h + (serviceName == null ? 0 : serviceName.hashCode());
+            this.hashCode = h;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Fingerprint)) {
+                return false;
+            }
+            Fingerprint other = (Fingerprint) obj;
+            return hashCode == other.hashCode
+                    && equals(secretKey, other.secretKey)
+                    && equals(regionName, other.regionName)
+                    && equals(serviceName, other.serviceName);
+        }
+
+        private static boolean equals(String a, String b) {
+            return a == null ? b == null : a.equals(b);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            // Never expose the secret key
+            return "Fingerprint(" + regionName + ", " + serviceName + ")";
+        }
+    }
+}
@@ -514,6 +514,7 @@ public abstract class AwsClientBuilder<Subclass extends AwsClientBuilder, TypeTo
         AmazonWebServiceClient client = (AmazonWebServiceClient) clientInterface;
         setRegion(client);
         client.makeImmutable();
+        client.warmUpConnections();
         return clientInterface;
     }
 
@@ -14,6 +14,7 @@
  */
 package com.ibm.cloud.objectstorage.event;
 
+import static com.ibm.cloud.objectstorage.event.SDKProgressPublisher.flushBytesTransferred;
 import static com.ibm.cloud.objectstorage.event.SDKProgressPublisher.publishRequestBytesTransferred;
 import static com.ibm.cloud.objectstorage.event.SDKProgressPublisher.publishRequestReset;
 
@@ -36,6 +37,7 @@ class RequestProgressInputStream extends ProgressInputStream {
     @Override
     protected void onEOF() {
         onNotifyBytesRead();
+        flushBytesTransferred(getListener());
     }
 
     @Override
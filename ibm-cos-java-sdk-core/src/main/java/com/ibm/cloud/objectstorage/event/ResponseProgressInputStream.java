@@ -13,6 +13,7 @@
  * permissions and limitations under the License.
  */
 package com.ibm.cloud.objectstorage.event;
+import static com.ibm.cloud.objectstorage.event.SDKProgressPublisher.flushBytesTransferred;
 import static com.ibm.cloud.objectstorage.event.SDKProgressPublisher.publishResponseBytesTransferred;
 import static com.ibm.cloud.objectstorage.event.SDKProgressPublisher.publishResponseReset;
 
@@ -34,6 +35,7 @@ class ResponseProgressInputStream extends ProgressInputStream {
     @Override
     protected void onEOF() {
         onNotifyBytesRead();
+        flushBytesTransferred(getListener());
     }
 
     @Override
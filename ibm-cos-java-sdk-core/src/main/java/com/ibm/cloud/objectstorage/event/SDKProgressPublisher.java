@@ -21,11 +21,18 @@ import static com.ibm.cloud.objectstorage.event.ProgressEventType.REQUEST_CONTEN
 import static com.ibm.cloud.objectstorage.event.ProgressEventType.RESPONSE_BYTE_TRANSFER_EVENT;
 import static com.ibm.cloud.objectstorage.event.ProgressEventType.RESPONSE_CONTENT_LENGTH_EVENT;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.logging.LogFactory;
 
@@ -33,6 +40,18 @@ import org.apache.commons.logging.LogFactory;
  * This class is responsible for executing the callback method of
  * ProgressListener; listener callbacks are executed sequentially in a separate
  * single thread.
+ * <p>
+ * Byte transfer events to a listener are coalesced, and only handed to the
+ * callback thread once they add up to {@value #MIN_BYTES_PER_DELIVERY} bytes
+ * or {@value #MIN_MILLIS_BETWEEN_DELIVERIES} ms after the first of them,
+ * whichever comes first. Any other event to the listener, such as a completion
+ * or failure, delivers the bytes held back before it, and so does
+ * {@link #flushBytesTransferred(ProgressListener)} once a stream is fully
+ * transferred. Byte transfer events published while an earlier
+ * one is waiting for the callback thread are coalesced into it, so that the
+ * callback thread falls behind by at most one byte transfer event per listener
+ * however many bytes are transferred. Publishing threads only contend with
+ * each other when they publish to the same listener.
  */
 public class SDKProgressPublisher {
 
@@ -41,6 +60,20 @@ public class SDKProgressPublisher {
      */
     private static volatile Future<?> latestFutureTask;
 
+    /** Number of bytes from which coalesced byte counts are delivered. */
+    private static final long MIN_BYTES_PER_DELIVERY = 256 * 1024;
+
+    /** Time after which coalesced byte counts are delivered, however few bytes. */
+    private static final long MIN_MILLIS_BETWEEN_DELIVERIES = 100;
+
+    /**
+     * The byte transfer events to each asynchronous listener that wait for the
+     * callback thread. An entry is only used for the very listener it was
+     * created for, should distinct listeners be equal.
+     */
+    private static final ConcurrentMap<ProgressListener, PendingByteCount> pendingByteCounts =
+            new ConcurrentHashMap<ProgressListener, PendingByteCount>();
+
     /**
      * Used to deliver a progress event to the given listener.
      *
@@ -72,6 +105,27 @@ public class SDKProgressPublisher {
         // This is unfortunate as the listener should never block in the first
         // place, but such task submission is necessary to remain backward
         // compatible.
+        // Byte counts held back are delivered before this event, and those
+        // published from now on after it
+        flush(listener);
+        return submitEvent(listener, event);
+    }
+
+    /**
+     * Hands the byte counts held back for the given listener to the callback
+     * thread, if any.
+     */
+    private static Future<?> flush(final ProgressListener listener) {
+        PendingByteCount pending = pendingByteCounts.get(listener);
+        if (pending == null || pending.listener != listener) {
+            return null;
+        }
+        pendingByteCounts.remove(listener, pending);
+        return submit(pending);
+    }
+
+    private static Future<?> submitEvent(final ProgressListener listener,
+            final ProgressEvent event) {
         return latestFutureTask = LazyHolder.executor.submit(new Runnable() {
             @Override
             public void run() {
@@ -80,6 +134,75 @@ public class SDKProgressPublisher {
         });
     }
 
+    private static Future<?> deliverByteCount(final ProgressListener listener,
+            final ProgressEventType type, final long bytes) {
+
+        if (listener instanceof DeliveryMode) {
+            DeliveryMode mode = (DeliveryMode) listener;
+            if (mode.isSyncCallSafe()) {
+                return quietlyCallListener(listener, new ProgressEvent(type, bytes));
+            }
+        }
+        while (true) {
+            PendingByteCount pending = pendingByteCounts.get(listener);
+            if (pending == null) {
+                PendingByteCount created = new PendingByteCount(listener);
+                created.add(type, bytes);
+                pending = pendingByteCounts.putIfAbsent(listener, created);
+                if (pending == null) {
+                    return created.isDue() ? submit(created) : schedule(created);
+                }
+            }
+            if (pending.listener != listener) {
+                // An equal but distinct listener is waiting
+                return submitEvent(listener, new ProgressEvent(type, bytes));
+            }
+            if (pending.add(type, bytes)) {
+                return pending.isDue() ? submit(pending) : null;
+            }
+            // Already claimed by the callback thread
+            pendingByteCounts.remove(listener, pending);
+        }
+    }
+
+    /**
+     * Hands the given byte count to the callback thread unless it already
+     * has been.
+     */
+    private static Future<?> submit(PendingByteCount pending) {
+        if (!pending.submitted.compareAndSet(false, true)) {
+            return pending.future;
+        }
+        try {
+            LazyHolder.executor.execute(pending.future);
+        } catch (RuntimeException e) {
+            pendingByteCounts.remove(pending.listener, pending);
+            throw e;
+        }
+        return latestFutureTask = pending.future;
+    }
+
+    /**
+     * Has the callback thread deliver the given byte count once it is due,
+     * unless it has been handed to the callback thread before then.
+     */
+    private static Future<?> schedule(final PendingByteCount pending) {
+        try {
+            LazyHolder.executor.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    if (pending.submitted.compareAndSet(false, true)) {
+                        pending.future.run();
+                    }
+                }
+            }, MIN_MILLIS_BETWEEN_DELIVERIES, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            pendingByteCounts.remove(pending.listener, pending);
+            throw e;
+        }
+        return null;
+    }
+
     private static Future<?> quietlyCallListener(final ProgressListener listener,
             final ProgressEvent event) {
         try {
@@ -159,9 +282,28 @@ public class SDKProgressPublisher {
             final long bytes) {
         if (listener == ProgressListener.NOOP || listener == null || bytes <= 0)
             return null;
+        if (type == REQUEST_BYTE_TRANSFER_EVENT || type == RESPONSE_BYTE_TRANSFER_EVENT) {
+            return deliverByteCount(listener, type, bytes);
+        }
         return deliverEvent(listener, new ProgressEvent(type, bytes));
     }
 
+    /**
+     * Delivers the byte transfer events held back for the given listener
+     * without waiting for more bytes, typically once a stream has been fully
+     * transferred.
+     *
+     * @param listener
+     *            must not be null or else the publication will be skipped
+     * @return the future of a submitted task; or null if no bytes were held
+     *         back for the listener.
+     */
+    public static Future<?> flushBytesTransferred(final ProgressListener listener) {
+        if (listener == ProgressListener.NOOP || listener == null)
+            return null;
+        return flush(listener);
+    }
+
     /**
      * Convenient method to publish a request reset event to the given listener.
      *
@@ -232,24 +374,91 @@ public class SDKProgressPublisher {
     @Deprecated
     public static void waitTillCompletion()
             throws InterruptedException, ExecutionException {
+        for (PendingByteCount pending : pendingByteCounts.values()) {
+            pendingByteCounts.remove(pending.listener, pending);
+            submit(pending);
+        }
         if (latestFutureTask != null) {
             latestFutureTask.get();
         }
     }
 
+    /**
+     * The byte transfer events to a listener coalesced until they are due, and
+     * then while waiting for the callback thread. Once the callback thread has
+     * claimed a count, bytes can no longer be added to it and go to a new
+     * pending byte count instead.
+     */
+    private static final class PendingByteCount implements Runnable {
+        /** Marks a count taken by the callback thread */
+        private static final long CLAIMED = -1;
+
+        private final ProgressListener listener;
+        private final AtomicLong requestBytes = new AtomicLong();
+        private final AtomicLong responseBytes = new AtomicLong();
+        private final FutureTask<?> future = new FutureTask<Void>(this, null);
+        private final AtomicBoolean submitted = new AtomicBoolean();
+        private final long createdNanos = System.nanoTime();
+
+        private PendingByteCount(ProgressListener listener) {
+            this.listener = listener;
+        }
+
+        /**
+         * @return True if enough bytes or time have accumulated for the count
+         *         to be delivered.
+         */
+        private boolean isDue() {
+            return requestBytes.get() + responseBytes.get() >= MIN_BYTES_PER_DELIVERY
+                    || System.nanoTime() - createdNanos >= TimeUnit.MILLISECONDS.toNanos(MIN_MILLIS_BETWEEN_DELIVERIES);
+        }
+
+        /**
+         * @return False if the count has already been claimed, in which case
+         *         the bytes were not added.
+         */
+        private boolean add(ProgressEventType type, long bytes) {
+            AtomicLong count = type == REQUEST_BYTE_TRANSFER_EVENT ? requestBytes : responseBytes;
+            while (true) {
+                long current = count.get();
+                if (current == CLAIMED) {
+                    return false;
+                }
+                if (count.compareAndSet(current, current + bytes)) {
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            pendingByteCounts.remove(listener, this);
+            long request = requestBytes.getAndSet(CLAIMED);
+            long response = responseBytes.getAndSet(CLAIMED);
+            // A failing listener must not lose the other count
+            if (request > 0) {
+                quietlyCallListener(listener, new ProgressEvent(REQUEST_BYTE_TRANSFER_EVENT, request));
+            }
+            if (response > 0) {
+                quietlyCallListener(listener, new ProgressEvent(RESPONSE_BYTE_TRANSFER_EVENT, response));
+            }
+        }
+    }
+
     /**
      * Used to avoid creating the extra thread until absolutely necessary.
      */
     private static final class LazyHolder {
         /** A single thread pool for executing all ProgressListener callbacks. **/
-        private static final ExecutorService executor = createNewExecutorService();
+        private static final ScheduledExecutorService executor = createNewExecutorService();
 
         /**
          * Creates a new single threaded executor service for performing the
-         * callbacks.
+         * callbacks, which also delivers coalesced byte counts once they are
+         * due.
          */
-        private static ExecutorService createNewExecutorService() {
-            return Executors.newSingleThreadExecutor(new ThreadFactory() {
+        private static ScheduledExecutorService createNewExecutorService() {
+            return Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
                 public Thread newThread(Runnable r) {
                     Thread t = new Thread(r);
                     t.setName("java-sdk-progress-listener-callback-thread");
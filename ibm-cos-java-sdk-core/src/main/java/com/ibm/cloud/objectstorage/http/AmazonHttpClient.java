@@ -60,9 +60,11 @@ import com.ibm.cloud.objectstorage.handlers.HandlerContextKey;
 import com.ibm.cloud.objectstorage.handlers.RequestHandler2;
 import com.ibm.cloud.objectstorage.http.apache.client.impl.ApacheHttpClientFactory;
 import com.ibm.cloud.objectstorage.http.apache.client.impl.ConnectionManagerAwareHttpClient;
+import com.ibm.cloud.objectstorage.http.apache.client.impl.NonBlockingHttpClient;
 import com.ibm.cloud.objectstorage.http.apache.request.impl.ApacheHttpRequestFactory;
 import com.ibm.cloud.objectstorage.http.apache.utils.ApacheUtils;
 import com.ibm.cloud.objectstorage.http.client.HttpClientFactory;
+import com.ibm.cloud.objectstorage.http.conn.ConnectionPoolWarmer;
 import com.ibm.cloud.objectstorage.http.exception.HttpRequestTimeoutException;
 import com.ibm.cloud.objectstorage.http.request.HttpRequestFactory;
 import com.ibm.cloud.objectstorage.http.response.AwsResponseHandlerAdapter;
@@ -111,6 +113,7 @@ import com.ibm.cloud.objectstorage.util.StringUtils;
 import com.ibm.cloud.objectstorage.util.UnreliableFilterInputStream;
 import java.io.BufferedInputStream;
 import java.io.Closeable;
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -125,6 +128,15 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.Header;
@@ -135,6 +147,7 @@ import org.apache.http.StatusLine;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.HttpClientConnectionManager;
 import org.apache.http.entity.BufferedHttpEntity;
 import org.apache.http.impl.execchain.RequestAbortedException;
 import org.apache.http.pool.ConnPoolControl;
@@ -346,7 +359,16 @@ public class AmazonHttpClient {
              retryPolicy,
              requestMetricCollector,
              HttpClientSettings.adapt(config, useBrowserCompatibleHostNameVerifier, calculateCRC32FromCompressedData));
-        this.httpClient = httpClientFactory.create(this.httpClientSettings);
+        this.httpClient = createHttpClient(config, this.httpClientSettings);
+    }
+
+    /**
+     * Creates the transport configured for the client, which defaults to Apache HttpClient.
+     */
+    private static ConnectionManagerAwareHttpClient createHttpClient(ClientConfiguration config,
+                                                                     HttpClientSettings settings) {
+        HttpClientFactory<? extends ConnectionManagerAwareHttpClient> factory = config.getHttpClientFactory();
+        return factory == null ? httpClientFactory.create(settings) : factory.create(settings);
     }
 
     /**
@@ -462,8 +484,35 @@ public class AmazonHttpClient {
     public void shutdown() {
         clientExecutionTimer.shutdown();
         httpRequestTimer.shutdown();
-        IdleConnectionReaper.removeConnectionManager(httpClient.getHttpClientConnectionManager());
-        httpClient.getHttpClientConnectionManager().shutdown();
+        HttpClientConnectionManager connectionManager = httpClient.getHttpClientConnectionManager();
+        if (connectionManager != null) {
+            IdleConnectionReaper.removeConnectionManager(connectionManager);
+            connectionManager.shutdown();
+        } else if (httpClient instanceof Closeable) {
+            closeQuietly((Closeable) httpClient, log);
+        }
+    }
+
+    /**
+     * Opens connections to the given endpoint in the background, so that the first requests to
+     * it do not have to establish their own. Transports that do not pool connections through a
+     * connection manager are left untouched.
+     *
+     * @param endpoint    The endpoint to connect to.
+     * @param connections The number of connections to open.
+     * @return A future for the number of connections that were opened.
+     */
+    @SdkInternalApi
+    public Future<Integer> warmUpConnections(URI endpoint, int connections) {
+        HttpClientConnectionManager connectionManager = httpClient.getHttpClientConnectionManager();
+        if (connectionManager == null) {
+            return CompletableFuture.completedFuture(0);
+        }
+        if (httpClientSettings.isProxyEnabled()) {
+            log.warn("Connections are not warmed up since a proxy is configured");
+            return CompletableFuture.completedFuture(0);
+        }
+        return new ConnectionPoolWarmer(connectionManager, httpClientSettings).warmUp(endpoint, connections);
     }
 
     /**
@@ -564,6 +613,55 @@ public class AmazonHttpClient {
             .execute(adaptedRespHandler);
     }
 
+    /**
+     * @return True if the transport of this client can send requests without blocking, which is
+     *         required by {@link #executeAsync}.
+     */
+    @SdkInternalApi
+    public boolean isNonBlocking() {
+        return httpClient instanceof NonBlockingHttpClient;
+    }
+
+    /**
+     * Executes the request without blocking the calling thread. The request is signed and
+     * marshalled to HTTP exactly as by {@link #execute(Request, HttpResponseHandler,
+     * HttpResponseHandler, ExecutionContext)}, then sent through the {@link NonBlockingHttpClient}
+     * transport; the response handlers run on the transport's callback thread once the response
+     * has been received, and failed attempts are retried according to the retry policy after a
+     * delay that does not hold any thread.
+     *
+     * @param destination Optional file the content of a successful response is written to, in
+     *                    which case the response handler sees an empty content.
+     * @return A future completed with the response, or exceptionally with the
+     *         {@link AmazonClientException} the synchronous execution would have thrown.
+     * @throws IllegalStateException If the transport of this client is not a
+     *                               {@link NonBlockingHttpClient}.
+     */
+    @SdkInternalApi
+    public <T> CompletableFuture<Response<T>> executeAsync(Request<?> request,
+                                                           HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+                                                           HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+                                                           ExecutionContext executionContext,
+                                                           File destination) {
+        if (!isNonBlocking()) {
+            throw new IllegalStateException("Requests can only be executed asynchronously with a "
+                                            + "NonBlockingHttpClient transport");
+        }
+        executionContext.setClientProtocol(this.config.getProtocol());
+        HttpResponseHandler<T> adaptedRespHandler = new AwsResponseHandlerAdapter<T>(
+            getNonNullResponseHandler(responseHandler),
+            request,
+            executionContext.getAwsRequestMetrics(),
+            responseMetadataCache);
+        return new AsyncRequestExecutor<T>(request,
+                                           adaptedRespHandler,
+                                           new AwsErrorResponseHandler(errorResponseHandler,
+                                                                       executionContext.getAwsRequestMetrics(),
+                                                                       config),
+                                           executionContext,
+                                           destination).executeAsync();
+    }
+
     /**
      * Ensures the response handler is not null. If it is this method returns a dummy response
      * handler.
@@ -715,14 +813,388 @@ public class AmazonHttpClient {
 
     }
 
+    /**
+     * Runs the attempts of an asynchronous request with the helpers of {@link RequestExecutor}.
+     * Each attempt is started either by the caller or, for retries, by {@link
+     * AsyncRetryScheduler}, and its response is handled from the callback of the {@link
+     * NonBlockingHttpClient}, so no thread waits while the request is in flight or while pausing
+     * between attempts. The request and client execution timeouts abort the HTTP request in
+     * flight from the scheduler, and fail the request with the same exceptions as the
+     * synchronous execution.
+     */
+    private class AsyncRequestExecutor<Output> extends RequestExecutor<Output> {
+        private final File destination;
+        private final CompletableFuture<Response<Output>> result = new CompletableFuture<Response<Output>>();
+        private final AtomicBoolean done = new AtomicBoolean();
+        private final ExecOneRequestParams execOneParams = new ExecOneRequestParams();
+
+        private Map<String, List<String>> originalParameters;
+        private Map<String, String> originalHeaders;
+        private InputStream originalContent;
+        private InputStream origContent;
+        private InputStream toBeClosed;
+        private HttpClientContext localRequestContext;
+        private ScheduledFuture<?> clientExecutionTimeoutTask;
+
+        // Guarded by this
+        private boolean clientExecutionTimedOut;
+        private boolean httpRequestTimedOut;
+        private HttpRequestBase inFlightRequest;
+        private ScheduledFuture<?> pendingAttempt;
+
+        private AsyncRequestExecutor(Request<?> request,
+                                     HttpResponseHandler<Output> responseHandler,
+                                     HttpResponseHandler<? extends SdkBaseException> errorResponseHandler,
+                                     ExecutionContext executionContext,
+                                     File destination) {
+            super(request,
+                  new AmazonWebServiceRequestAdapter(request.getOriginalRequest()),
+                  errorResponseHandler,
+                  responseHandler,
+                  executionContext,
+                  executionContext.getRequestHandler2s() == null
+                          ? Collections.<RequestHandler2>emptyList()
+                          : executionContext.getRequestHandler2s());
+            this.destination = destination;
+        }
+
+        private CompletableFuture<Response<Output>> executeAsync() {
+            int clientExecutionTimeout = getClientExecutionTimeout(requestConfig);
+            if (clientExecutionTimeout > 0) {
+                clientExecutionTimeoutTask = AsyncRetryScheduler.INSTANCE.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        onClientExecutionTimeout();
+                    }
+                }, clientExecutionTimeout, TimeUnit.MILLISECONDS);
+            }
+            try {
+                prepareRequest();
+                origContent = request.getContent();
+                toBeClosed = beforeRequest(); // for progress tracking
+                // make "notCloseable", so reset would work with retries
+                request.setContent(toBeClosed == null ? null
+                        : ReleasableInputStream.wrap(toBeClosed).disableClose());
+            } catch (Throwable t) {
+                finish(null, t);
+                return result;
+            }
+            try {
+                publishProgress(requestConfig.getProgressListener(), ProgressEventType.CLIENT_REQUEST_STARTED_EVENT);
+                // Make a copy of the original request params and headers so that every
+                // attempt starts over with the original.
+                originalParameters = new LinkedHashMap<String, List<String>>(request.getParameters());
+                originalHeaders = new HashMap<String, String>(request.getHeaders());
+                originalContent = request.getContent();
+                startExecution(originalContent);
+            } catch (Throwable t) {
+                fail(t);
+                return result;
+            }
+            startAttempt();
+            return result;
+        }
+
+        /**
+         * Starts an attempt, after the retry delay if it is a retry.
+         */
+        private void startAttempt() {
+            try {
+                initAttempt(execOneParams, originalParameters, originalHeaders, originalContent);
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+            try {
+                beforeAttempt(HandlerBeforeAttemptContext.builder().withRequest(request).build());
+                prepareAttempt(execOneParams);
+                if (!execOneParams.isRetry()) {
+                    sendAttempt();
+                    return;
+                }
+                publishProgress(requestConfig.getProgressListener(), ProgressEventType.CLIENT_REQUEST_RETRY_EVENT);
+                awsRequestMetrics.startEvent(Field.RetryPauseTime);
+                long delay = computeDelayBeforeRetry(execOneParams);
+                synchronized (this) {
+                    if (!clientExecutionTimedOut) {
+                        pendingAttempt = AsyncRetryScheduler.INSTANCE.schedule(new Runnable() {
+                            @Override
+                            public void run() {
+                                awsRequestMetrics.endEvent(Field.RetryPauseTime);
+                                sendAttempt();
+                            }
+                        }, delay, TimeUnit.MILLISECONDS);
+                        return;
+                    }
+                }
+                awsRequestMetrics.endEvent(Field.RetryPauseTime);
+                failAttempt(new ClientExecutionTimeoutException());
+            } catch (Throwable t) {
+                failAttempt(t);
+            }
+        }
+
+        private void sendAttempt() {
+            final HttpRequestBase apacheRequest;
+            try {
+                localRequestContext = prepareHttpRequest(execOneParams);
+                apacheRequest = execOneParams.apacheRequest;
+            } catch (Throwable t) {
+                failAttempt(t);
+                return;
+            }
+            synchronized (this) {
+                if (clientExecutionTimedOut) {
+                    awsRequestMetrics.endEvent(Field.HttpRequestTime);
+                    failAttempt(new ClientExecutionTimeoutException());
+                    return;
+                }
+                inFlightRequest = apacheRequest;
+                httpRequestTimedOut = false;
+            }
+
+            int requestTimeout = getRequestTimeout(requestConfig);
+            final ScheduledFuture<?> requestTimeoutTask = requestTimeout <= 0 ? null
+                    : AsyncRetryScheduler.INSTANCE.schedule(new Runnable() {
+                        @Override
+                        public void run() {
+                            onHttpRequestTimeout(apacheRequest);
+                        }
+                    }, requestTimeout, TimeUnit.MILLISECONDS);
+
+            CompletableFuture<org.apache.http.HttpResponse> response;
+            try {
+                NonBlockingHttpClient transport = (NonBlockingHttpClient) httpClient;
+                response = destination == null
+                        ? transport.executeAsync(apacheRequest, responseHandler.needsConnectionLeftOpen())
+                        : transport.executeAsync(apacheRequest, destination);
+            } catch (Throwable t) {
+                response = new CompletableFuture<org.apache.http.HttpResponse>();
+                response.completeExceptionally(t);
+            }
+            response.whenComplete(new BiConsumer<org.apache.http.HttpResponse, Throwable>() {
+                @Override
+                public void accept(org.apache.http.HttpResponse apacheResponse, Throwable failure) {
+                    if (requestTimeoutTask != null) {
+                        requestTimeoutTask.cancel(false);
+                    }
+                    onHttpResponse(apacheResponse, failure);
+                }
+            });
+        }
+
+        private void onHttpResponse(org.apache.http.HttpResponse apacheResponse, Throwable failure) {
+            boolean executionTimedOut;
+            boolean requestTimedOut;
+            synchronized (this) {
+                inFlightRequest = null;
+                executionTimedOut = clientExecutionTimedOut;
+                requestTimedOut = httpRequestTimedOut;
+            }
+            awsRequestMetrics.endEvent(Field.HttpRequestTime);
+            execOneParams.apacheResponse = apacheResponse;
+
+            Response<Output> response;
+            try {
+                // Client execution timeouts take precedence as it's not retryable
+                if (executionTimedOut) {
+                    throw new ClientExecutionTimeoutException();
+                }
+                if (failure != null) {
+                    throw toIOException(failure, requestTimedOut);
+                }
+                response = handleHttpResponse(execOneParams, localRequestContext);
+            } catch (Throwable t) {
+                failAttempt(t);
+                return;
+            }
+            finishAttempt(response, execOneParams.retriedException, null);
+        }
+
+        /**
+         * Returns the exception the synchronous execution would have seen for a failed HTTP
+         * request.
+         */
+        private IOException toIOException(Throwable failure, boolean requestTimedOut) {
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause()
+                    : failure;
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            IOException ioe = cause instanceof IOException ? (IOException) cause : new IOException(cause);
+            return requestTimedOut ? new HttpRequestTimeoutException(ioe) : ioe;
+        }
+
+        /**
+         * Handles the failure of an attempt like the synchronous execution: I/O errors are
+         * retried if the retry policy allows it, other failures fail the request.
+         */
+        private void failAttempt(Throwable t) {
+            Exception savedException = t instanceof Exception ? (Exception) t : null;
+            Throwable error = null;
+            if (t instanceof ClientExecutionTimeoutException) {
+                error = t;
+            } else if (t instanceof IOException) {
+                try {
+                    handleRetryableException(execOneParams, (IOException) t);
+                } catch (RuntimeException e) {
+                    error = e;
+                }
+            } else if (t instanceof InterruptedException) {
+                error = new AbortedException(t);
+            } else {
+                error = lastReset(captureExceptionMetrics(t));
+            }
+            finishAttempt(null, savedException, error);
+        }
+
+        /**
+         * Ends the current attempt, then completes the request with the response or the error, or
+         * starts the next attempt if there is neither.
+         */
+        private void finishAttempt(Response<Output> response, Exception savedException, Throwable error) {
+            try {
+                endAttempt(execOneParams, response, savedException, error != null);
+            } catch (Throwable t) {
+                // Exceptions generated here replace the failure of the attempt.
+                error = t instanceof InterruptedException ? new AbortedException(t) : t;
+            }
+            if (error != null) {
+                fail(error);
+            } else if (response != null) {
+                complete(response);
+            } else {
+                startAttempt();
+            }
+        }
+
+        private void onHttpRequestTimeout(HttpRequestBase apacheRequest) {
+            synchronized (this) {
+                if (inFlightRequest != apacheRequest) {
+                    return;
+                }
+                httpRequestTimedOut = true;
+            }
+            apacheRequest.abort();
+        }
+
+        /**
+         * Aborts the HTTP request in flight, whose callback then fails the request, or fails the
+         * request right away if it is pausing before a retry. Otherwise the request fails when
+         * its next attempt starts.
+         */
+        private void onClientExecutionTimeout() {
+            HttpRequestBase toAbort;
+            synchronized (this) {
+                clientExecutionTimedOut = true;
+                toAbort = inFlightRequest;
+                if (toAbort == null && (pendingAttempt == null || !pendingAttempt.cancel(false))) {
+                    return;
+                }
+            }
+            if (toAbort != null) {
+                toAbort.abort();
+            } else {
+                awsRequestMetrics.endEvent(Field.RetryPauseTime);
+                failAttempt(new ClientExecutionTimeoutException());
+            }
+        }
+
+        /**
+         * The response is handled on the callback thread of the transport, whose interrupted
+         * status is not related to this request.
+         */
+        @Override
+        void checkInterrupted(Response<?> response) {
+        }
+
+        /**
+         * Waiting for send tokens would block the callback thread of the transport.
+         */
+        @Override
+        boolean fastFailRateLimiting() {
+            return true;
+        }
+
+        private void complete(Response<Output> response) {
+            try {
+                afterExecution(response);
+            } catch (AmazonClientException e) {
+                fail(e);
+                return;
+            } catch (Throwable t) {
+                finish(null, t);
+                return;
+            }
+            finish(response, null);
+        }
+
+        private void fail(Throwable t) {
+            if (t instanceof AmazonClientException) {
+                try {
+                    // Exceptions generated here replace the failure.
+                    afterExecutionError(null, (AmazonClientException) t);
+                } catch (Throwable e) {
+                    t = e;
+                }
+            }
+            finish(null, t);
+        }
+
+        private void finish(Response<Output> response, Throwable t) {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+            if (clientExecutionTimeoutTask != null) {
+                clientExecutionTimeoutTask.cancel(false);
+            }
+            if (toBeClosed != null) {
+                // Always close so any progress tracking would get the final events propagated.
+                closeQuietlyForRuntimeExceptions(toBeClosed, log);
+                request.setContent(origContent); // restore the original content
+            }
+            if (t == null) {
+                result.complete(response);
+            } else {
+                result.completeExceptionally(t);
+            }
+        }
+    }
+
+    /**
+     * Starts the delayed retries of asynchronous requests and enforces their timeouts. Starting
+     * an attempt or aborting a request does not block, so a single thread serves every client.
+     */
+    private static final class AsyncRetryScheduler {
+        private static final ScheduledThreadPoolExecutor INSTANCE = newScheduler();
+
+        private static ScheduledThreadPoolExecutor newScheduler() {
+            ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "sdk-async-retry-scheduler");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            // Most timeouts are canceled once the request completes
+            scheduler.setRemoveOnCancelPolicy(true);
+            return scheduler;
+        }
+    }
+
     private class RequestExecutor<Output> {
-        private final Request<?> request;
-        private final RequestConfig requestConfig;
+        final Request<?> request;
+        final RequestConfig requestConfig;
         private final HttpResponseHandler<? extends SdkBaseException> errorResponseHandler;
-        private final HttpResponseHandler<Output> responseHandler;
-        private final ExecutionContext executionContext;
+        final HttpResponseHandler<Output> responseHandler;
+        final ExecutionContext executionContext;
         private final List<RequestHandler2> requestHandler2s;
-        private final AWSRequestMetrics awsRequestMetrics;
+        final AWSRequestMetrics awsRequestMetrics;
         private final Protocol clientProtocol;
         //TODO: Call CSMRequestHandler directly in this class since it's CSM aware now
         private RequestHandler2 csmRequestHandler;
@@ -796,17 +1268,9 @@ public class AmazonHttpClient {
         }
 
         private Response<Output> doExecute() throws InterruptedException {
-            runBeforeRequestHandlers();
-            setSdkTransactionId(request);
-            setUserAgent(request);
-            setTraceId(request);
+            prepareRequest();
 
             ProgressListener listener = requestConfig.getProgressListener();
-            // add custom headers
-            request.getHeaders().putAll(config.getHeaders());
-            request.getHeaders().putAll(requestConfig.getCustomRequestHeaders());
-            // add custom query parameters
-            mergeQueryParameters(requestConfig.getCustomQueryParameters());
             Response<Output> response = null;
             final InputStream origContent = request.getContent();
             final InputStream toBeClosed = beforeRequest(); // for progress tracking
@@ -817,17 +1281,11 @@ public class AmazonHttpClient {
             try {
                 publishProgress(listener, ProgressEventType.CLIENT_REQUEST_STARTED_EVENT);
                 response = executeHelper();
-                publishProgress(listener, ProgressEventType.CLIENT_REQUEST_SUCCESS_EVENT);
-                awsRequestMetrics.endEvent(AwsClientSideMonitoringMetrics.ApiCallLatency);
-                awsRequestMetrics.getTimingInfo().endTiming();
-                afterResponse(response);
+                afterExecution(response);
                 return response;
             } catch (AmazonClientException e) {
-                publishProgress(listener, ProgressEventType.CLIENT_REQUEST_FAILED_EVENT);
-
-                awsRequestMetrics.endEvent(AwsClientSideMonitoringMetrics.ApiCallLatency);
                 // Exceptions generated here will block the rethrow of e.
-                afterError(response, e);
+                afterExecutionError(response, e);
                 throw e;
             } finally {
                 // Always close so any progress tracking would get the final events propagated.
@@ -836,7 +1294,45 @@ public class AmazonHttpClient {
             }
         }
 
-        private void closeQuietlyForRuntimeExceptions(Closeable c, Log log) {
+        /**
+         * Runs the request handlers and adds the SDK and custom headers and query parameters to
+         * the request.
+         */
+        void prepareRequest() {
+            runBeforeRequestHandlers();
+            setSdkTransactionId(request);
+            setUserAgent(request);
+            setTraceId(request);
+
+            // add custom headers
+            request.getHeaders().putAll(config.getHeaders());
+            request.getHeaders().putAll(requestConfig.getCustomRequestHeaders());
+            // add custom query parameters
+            mergeQueryParameters(requestConfig.getCustomQueryParameters());
+        }
+
+        /**
+         * Publishes the end of a successful execution and runs the after response handlers.
+         */
+        void afterExecution(Response<Output> response) throws InterruptedException {
+            ProgressListener listener = requestConfig.getProgressListener();
+            publishProgress(listener, ProgressEventType.CLIENT_REQUEST_SUCCESS_EVENT);
+            awsRequestMetrics.endEvent(AwsClientSideMonitoringMetrics.ApiCallLatency);
+            awsRequestMetrics.getTimingInfo().endTiming();
+            afterResponse(response);
+        }
+
+        /**
+         * Publishes the end of a failed execution and runs the after error handlers.
+         */
+        void afterExecutionError(Response<?> response, AmazonClientException e) throws InterruptedException {
+            publishProgress(requestConfig.getProgressListener(), ProgressEventType.CLIENT_REQUEST_FAILED_EVENT);
+
+            awsRequestMetrics.endEvent(AwsClientSideMonitoringMetrics.ApiCallLatency);
+            afterError(response, e);
+        }
+
+        void closeQuietlyForRuntimeExceptions(Closeable c, Log log) {
             try {
                 closeQuietly(c, log);
             } catch (RuntimeException e) {
@@ -936,7 +1432,7 @@ public class AmazonHttpClient {
          *                 leaking the connection.
          * @throws InterruptedException If thread has been interrupted
          */
-        private void checkInterrupted(Response<?> response) throws InterruptedException {
+        void checkInterrupted(Response<?> response) throws InterruptedException {
             if (Thread.interrupted()) {
                 throw new SdkInterruptedException(response);
             }
@@ -961,7 +1457,7 @@ public class AmazonHttpClient {
          * @return an input stream, which will be made mark-and-resettable if possible, for progress
          * tracking purposes; or null if the request doesn't have an input stream
          */
-        private InputStream beforeRequest() {
+        InputStream beforeRequest() {
             ProgressListener listener = requestConfig.getProgressListener();
             reportContentLength(listener);
             if (request.getContent() == null) {
@@ -1078,7 +1574,7 @@ public class AmazonHttpClient {
             }
         }
 
-        private <T> void beforeAttempt(HandlerBeforeAttemptContext context) throws InterruptedException {
+        <T> void beforeAttempt(HandlerBeforeAttemptContext context) throws InterruptedException {
             for (RequestHandler2 handler2 : requestHandler2s) {
                 handler2.beforeAttempt(context);
                 checkInterrupted();
@@ -1096,60 +1592,16 @@ public class AmazonHttpClient {
          * Internal method to execute the HTTP method given.
          */
         private Response<Output> executeHelper() throws InterruptedException {
-        /*
-         * add the service endpoint to the logs. You can infer service name from service endpoint
-         */
-            awsRequestMetrics
-                    .addPropertyWith(Field.RequestType, requestConfig.getRequestType())
-                    .addPropertyWith(Field.ServiceName, request.getServiceName())
-                    .addPropertyWith(Field.ServiceEndpoint, request.getEndpoint());
             // Make a copy of the original request params and headers so that we can
             // permute it in this loop and start over with the original every time.
             final Map<String, List<String>> originalParameters = new LinkedHashMap<String, List<String>>(request.getParameters());
             final Map<String, String> originalHeaders = new HashMap<String, String>(request.getHeaders());
-            // Always mark the input stream before execution.
             final ExecOneRequestParams execOneParams = new ExecOneRequestParams();
             final InputStream originalContent = request.getContent();
-            if (originalContent != null && originalContent.markSupported()
-                && !(originalContent instanceof BufferedInputStream)) {
-                // Mark only once for non-BufferedInputStream
-                final int readLimit = requestConfig.getRequestClientOptions().getReadLimit();
-                originalContent.mark(readLimit);
-            }
-            awsRequestMetrics.startEvent(AwsClientSideMonitoringMetrics.ApiCallLatency);
+            startExecution(originalContent);
             while (true) {
                 checkInterrupted();
-                if (originalContent instanceof BufferedInputStream && originalContent.markSupported()) {
-                    // Mark everytime for BufferedInputStream, since the marker could have been invalidated
-                    final int readLimit = requestConfig.getRequestClientOptions().getReadLimit();
-                    originalContent.mark(readLimit);
-                }
-                execOneParams.initPerRetry();
-                URI redirectedURI = execOneParams.redirectedURI;
-                if (redirectedURI != null) {
-                /*
-                 * [scheme:][//authority][path][?query][#fragment]
-                 */
-                    String scheme = redirectedURI.getScheme();
-                    String beforeAuthority = scheme == null ? "" : scheme + "://";
-                    String authority = redirectedURI.getAuthority();
-                    String path = redirectedURI.getPath();
-
-                    request.setEndpoint(URI.create(beforeAuthority + authority));
-                    request.setResourcePath(SdkHttpUtils.urlEncode(path, true));
-                    awsRequestMetrics.addPropertyWith(Field.RedirectLocation,
-                                                      redirectedURI.toString());
-
-                }
-                if (execOneParams.authRetryParam != null) {
-                    request.setEndpoint(execOneParams.authRetryParam.getEndpointForRetry());
-                }
-                awsRequestMetrics.setCounter(Field.RequestCount, execOneParams.requestCount);
-                if (execOneParams.isRetry()) {
-                    request.setParameters(originalParameters);
-                    request.setHeaders(originalHeaders);
-                    request.setContent(originalContent);
-                }
+                initAttempt(execOneParams, originalParameters, originalHeaders, originalContent);
 
                 Response<Output> response = null;
                 Exception savedException = null;
@@ -1181,42 +1633,113 @@ public class AmazonHttpClient {
                     thrown = true;
                     throw lastReset(captureExceptionMetrics(e));
                 } finally {
-                /*
-                 * Some response handlers need to manually manage the HTTP connection and will take
-                 * care of releasing the connection on their own, but if this response handler
-                 * doesn't need the connection left open, we go ahead and release the it to free up
-                 * resources. But if we throw, then the caller doesn't get the handle on the response
-                 * to close for themselves. In this case, we will close the connection for them as well.
-                 */
-                    if (!execOneParams.leaveHttpConnectionOpen || thrown) {
-                        if (execOneParams.apacheResponse != null) {
-                            HttpEntity entity = execOneParams.apacheResponse.getEntity();
-                            if (entity != null) {
-                                try {
-                                    closeQuietly(entity.getContent(), log);
-                                } catch (IOException e) {
-                                    log.warn("Cannot close the response content.", e);
-                                }
-                            }
-                        }
-                    }
-
-                    HandlerAfterAttemptContext afterAttemptContext = HandlerAfterAttemptContext.builder()
-                            .withRequest(request)
-                            .withResponse(response)
-                            .withException(savedException)
-                            .build();
-
                     /*
                      * Exceptions generated here will replace ones rethrown in catch-blocks
                      * above or thrown in the original try-block.
                      */
-                    afterAttempt(afterAttemptContext);
+                    endAttempt(execOneParams, response, savedException, thrown);
                 }
             } /* end while (true) */
         }
 
-        private void handleRetryableException(ExecOneRequestParams execOneParams, Exception e) {
+        /**
+         * Records the service endpoint and marks the content of the request before its first
+         * attempt.
+         */
+        void startExecution(InputStream originalContent) {
+        /*
+         * add the service endpoint to the logs. You can infer service name from service endpoint
+         */
+            awsRequestMetrics
+                    .addPropertyWith(Field.RequestType, requestConfig.getRequestType())
+                    .addPropertyWith(Field.ServiceName, request.getServiceName())
+                    .addPropertyWith(Field.ServiceEndpoint, request.getEndpoint());
+            // Always mark the input stream before execution.
+            if (originalContent != null && originalContent.markSupported()
+                && !(originalContent instanceof BufferedInputStream)) {
+                // Mark only once for non-BufferedInputStream
+                final int readLimit = requestConfig.getRequestClientOptions().getReadLimit();
+                originalContent.mark(readLimit);
+            }
+            awsRequestMetrics.startEvent(AwsClientSideMonitoringMetrics.ApiCallLatency);
+        }
+
+        /**
+         * Points the request at the redirected or auth retry endpoint, if any, and restores its
+         * original parameters, headers and content before a retry.
+         */
+        void initAttempt(ExecOneRequestParams execOneParams,
+                         Map<String, List<String>> originalParameters,
+                         Map<String, String> originalHeaders,
+                         InputStream originalContent) {
+            if (originalContent instanceof BufferedInputStream && originalContent.markSupported()) {
+                // Mark everytime for BufferedInputStream, since the marker could have been invalidated
+                final int readLimit = requestConfig.getRequestClientOptions().getReadLimit();
+                originalContent.mark(readLimit);
+            }
+            execOneParams.initPerRetry();
+            URI redirectedURI = execOneParams.redirectedURI;
+            if (redirectedURI != null) {
+            /*
+             * [scheme:][//authority][path][?query][#fragment]
+             */
+                String scheme = redirectedURI.getScheme();
+                String beforeAuthority = scheme == null ? "" : scheme + "://";
+                String authority = redirectedURI.getAuthority();
+                String path = redirectedURI.getPath();
+
+                request.setEndpoint(URI.create(beforeAuthority + authority));
+                request.setResourcePath(SdkHttpUtils.urlEncode(path, true));
+                awsRequestMetrics.addPropertyWith(Field.RedirectLocation,
+                                                  redirectedURI.toString());
+
+            }
+            if (execOneParams.authRetryParam != null) {
+                request.setEndpoint(execOneParams.authRetryParam.getEndpointForRetry());
+            }
+            awsRequestMetrics.setCounter(Field.RequestCount, execOneParams.requestCount);
+            if (execOneParams.isRetry()) {
+                request.setParameters(originalParameters);
+                request.setHeaders(originalHeaders);
+                request.setContent(originalContent);
+            }
+        }
+
+        /**
+         * Releases the response of an attempt unless the response handler keeps it open, and runs
+         * the after attempt handlers.
+         */
+        void endAttempt(ExecOneRequestParams execOneParams, Response<Output> response,
+                        Exception savedException, boolean thrown) throws InterruptedException {
+            /*
+             * Some response handlers need to manually manage the HTTP connection and will take
+             * care of releasing the connection on their own, but if this response handler
+             * doesn't need the connection left open, we go ahead and release the it to free up
+             * resources. But if we throw, then the caller doesn't get the handle on the response
+             * to close for themselves. In this case, we will close the connection for them as well.
+             */
+            if (!execOneParams.leaveHttpConnectionOpen || thrown) {
+                if (execOneParams.apacheResponse != null) {
+                    HttpEntity entity = execOneParams.apacheResponse.getEntity();
+                    if (entity != null) {
+                        try {
+                            closeQuietly(entity.getContent(), log);
+                        } catch (IOException e) {
+                            log.warn("Cannot close the response content.", e);
+                        }
+                    }
+                }
+            }
+
+            HandlerAfterAttemptContext afterAttemptContext = HandlerAfterAttemptContext.builder()
+                    .withRequest(request)
+                    .withResponse(response)
+                    .withException(savedException)
+                    .build();
+            afterAttempt(afterAttemptContext);
+        }
+
+        void handleRetryableException(ExecOneRequestParams execOneParams, Exception e) {
             captureExceptionMetrics(e);
             awsRequestMetrics.addProperty(Field.AWSRequestID, null);
             SdkClientException sdkClientException;
@@ -1248,7 +1771,7 @@ public class AmazonHttpClient {
          * @param t the failure
          * @return the failure as given
          */
-        private <T extends Throwable> T lastReset(final T t) {
+        <T extends Throwable> T lastReset(final T t) {
             try {
                 InputStream content = request.getContent();
                 if (content != null) {
@@ -1286,6 +1809,57 @@ public class AmazonHttpClient {
         private Response<Output> executeOneRequest(ExecOneRequestParams execOneParams)
                 throws IOException, InterruptedException {
 
+            prepareAttempt(execOneParams);
+            final ProgressListener listener = requestConfig.getProgressListener();
+
+            if (execOneParams.isRetry()) {
+                pauseBeforeRetry(execOneParams, listener);
+            }
+
+            final HttpClientContext localRequestContext = prepareHttpRequest(execOneParams);
+
+            /////////// Send HTTP request ////////////
+            executionContext.getClientExecutionTrackerTask().setCurrentHttpRequest(execOneParams.apacheRequest);
+            final HttpRequestAbortTaskTracker requestAbortTaskTracker = httpRequestTimer
+                    .startTimer(execOneParams.apacheRequest, getRequestTimeout(requestConfig));
+
+            try {
+                execOneParams.apacheResponse = httpClient.execute(execOneParams.apacheRequest, localRequestContext);
+                if (shouldBufferHttpEntity(responseHandler.needsConnectionLeftOpen(),
+                                           executionContext,
+                                           execOneParams,
+                                           requestAbortTaskTracker)) {
+                    execOneParams.apacheResponse
+                            .setEntity(new BufferedHttpEntity(
+                                    execOneParams.apacheResponse.getEntity()));
+                }
+            } catch (IOException ioe) {
+                // Client execution timeouts take precedence as it's not retryable
+                if (executionContext.getClientExecutionTrackerTask().hasTimeoutExpired()) {
+                    throw new InterruptedException();
+                } else if (requestAbortTaskTracker.httpRequestAborted()) {
+                    // Interrupt flag can leak from apache when aborting the request
+                    // https://issues.apache.org/jira/browse/HTTPCLIENT-1958, TT0174038332
+                    if (ioe instanceof RequestAbortedException) {
+                        Thread.interrupted();
+                    }
+                     throw new HttpRequestTimeoutException(ioe);
+                } else {
+                    throw ioe;
+                }
+            } finally {
+                requestAbortTaskTracker.cancelTask();
+                awsRequestMetrics.endEvent(Field.HttpRequestTime);
+            }
+
+            return handleHttpResponse(execOneParams, localRequestContext);
+        }
+
+        /**
+         * Resets the content of the request before a retry and acquires a send token for the
+         * attempt.
+         */
+        void prepareAttempt(ExecOneRequestParams execOneParams) throws ResetException, InterruptedException {
             if (execOneParams.isRetry()) {
                 resetRequestInputStream(request, execOneParams.retriedException);
             }
@@ -1293,14 +1867,17 @@ public class AmazonHttpClient {
             if (requestLog.isDebugEnabled()) {
                 requestLog.debug((execOneParams.isRetry() ? "Retrying " : "Sending ") + "Request: " + request);
             }
-            final AWSCredentials credentials = getCredentialsFromContext();
-            final ProgressListener listener = requestConfig.getProgressListener();
-
             getSendToken();
+        }
 
-            if (execOneParams.isRetry()) {
-                pauseBeforeRetry(execOneParams, listener);
-            }
+        /**
+         * Signs the request and creates the HTTP request of the attempt.
+         *
+         * @return The context to execute the HTTP request in.
+         */
+        HttpClientContext prepareHttpRequest(ExecOneRequestParams execOneParams)
+                throws IOException, InterruptedException {
+            final AWSCredentials credentials = getCredentialsFromContext();
 
             updateRetryHeaderInfo(request, execOneParams);
             sdkRequestHeaderProvider.addSdkRequestRetryHeader(request, execOneParams.requestCount);
@@ -1339,45 +1916,20 @@ public class AmazonHttpClient {
                             (AWSRequestMetrics.SIMPLE_NAME, awsRequestMetrics));
 
             execOneParams.resetBeforeHttpRequest();
-            publishProgress(listener, ProgressEventType.HTTP_REQUEST_STARTED_EVENT);
+            publishProgress(requestConfig.getProgressListener(), ProgressEventType.HTTP_REQUEST_STARTED_EVENT);
             awsRequestMetrics.startEvent(Field.HttpRequestTime);
             awsRequestMetrics.setCounter(Field.RetryCapacityConsumed, retryCapacity.consumedCapacity());
+            return localRequestContext;
+        }
 
-            /////////// Send HTTP request ////////////
-            executionContext.getClientExecutionTrackerTask().setCurrentHttpRequest(execOneParams.apacheRequest);
-            final HttpRequestAbortTaskTracker requestAbortTaskTracker = httpRequestTimer
-                    .startTimer(execOneParams.apacheRequest, getRequestTimeout(requestConfig));
-
-            try {
-                execOneParams.apacheResponse = httpClient.execute(execOneParams.apacheRequest, localRequestContext);
-                if (shouldBufferHttpEntity(responseHandler.needsConnectionLeftOpen(),
-                                           executionContext,
-                                           execOneParams,
-                                           requestAbortTaskTracker)) {
-                    execOneParams.apacheResponse
-                            .setEntity(new BufferedHttpEntity(
-                                    execOneParams.apacheResponse.getEntity()));
-                }
-            } catch (IOException ioe) {
-                // Client execution timeouts take precedence as it's not retryable
-                if (executionContext.getClientExecutionTrackerTask().hasTimeoutExpired()) {
-                    throw new InterruptedException();
-                } else if (requestAbortTaskTracker.httpRequestAborted()) {
-                    // Interrupt flag can leak from apache when aborting the request
-                    // https://issues.apache.org/jira/browse/HTTPCLIENT-1958, TT0174038332
-                    if (ioe instanceof RequestAbortedException) {
-                        Thread.interrupted();
-                    }
-                     throw new HttpRequestTimeoutException(ioe);
-                } else {
-                    throw ioe;
-                }
-            } finally {
-                requestAbortTaskTracker.cancelTask();
-                awsRequestMetrics.endEvent(Field.HttpRequestTime);
-            }
-
-            publishProgress(listener, ProgressEventType.HTTP_REQUEST_COMPLETED_EVENT);
+        /**
+         * Handles the HTTP response of an attempt.
+         *
+         * @return The response, or null for retry.
+         */
+        Response<Output> handleHttpResponse(ExecOneRequestParams execOneParams, HttpClientContext localRequestContext)
+                throws IOException, InterruptedException {
+            publishProgress(requestConfig.getProgressListener(), ProgressEventType.HTTP_REQUEST_COMPLETED_EVENT);
             final StatusLine statusLine = execOneParams.apacheResponse.getStatusLine();
             final int statusCode = statusLine == null ? -1 : statusLine.getStatusCode();
 
@@ -1560,7 +2112,7 @@ public class AmazonHttpClient {
         /**
          * Capture the metrics for the given throwable.
          */
-        private <T extends Throwable> T captureExceptionMetrics(T t) {
+        <T extends Throwable> T captureExceptionMetrics(T t) {
             awsRequestMetrics.incrementCounterWith(Field.Exception)
                     .addProperty(Field.Exception, t);
             if (t instanceof AmazonServiceException) {
@@ -1693,7 +2245,7 @@ public class AmazonHttpClient {
             }
         }
 
-        private boolean fastFailRateLimiting() {
+        boolean fastFailRateLimiting() {
             return config.getRetryPolicy().isFastFailRateLimiting();
         }
 
@@ -1906,6 +2458,14 @@ public class AmazonHttpClient {
          * Sleep for a period of time on failed request to avoid flooding a service with retries.
          */
         private void doPauseBeforeRetry(ExecOneRequestParams execOneParams) throws InterruptedException {
+            Thread.sleep(computeDelayBeforeRetry(execOneParams));
+        }
+
+        /**
+         * Returns the delay before the next attempt, which is zero if the retry is due to a
+         * redirection.
+         */
+        long computeDelayBeforeRetry(ExecOneRequestParams execOneParams) {
             final int retriesAttempted = execOneParams.requestCount - 2;
             RetryPolicyContext context = RetryPolicyContext.builder()
                     .request(request)
@@ -1914,16 +2474,17 @@ public class AmazonHttpClient {
                     .exception(execOneParams.retriedException)
                     .build();
             // don't pause if the retry was not due to a redirection (I.E. when retried exception is null)
-            if (context.exception() != null) {
-                long delay = retryPolicy.computeDelayBeforeNextRetry(context);
-                execOneParams.lastBackoffDelay = delay;
+            if (context.exception() == null) {
+                return 0;
+            }
+            long delay = retryPolicy.computeDelayBeforeNextRetry(context);
+            execOneParams.lastBackoffDelay = delay;
 
-                if (log.isDebugEnabled()) {
-                    log.debug("Retriable error detected, " + "will retry in " + delay +
-                              "ms, attempt number: " + retriesAttempted);
-                }
-                Thread.sleep(delay);
+            if (log.isDebugEnabled()) {
+                log.debug("Retriable error detected, " + "will retry in " + delay +
+                          "ms, attempt number: " + retriesAttempted);
             }
+            return delay;
         }
 
         /**
@@ -1933,7 +2494,7 @@ public class AmazonHttpClient {
          * @param requestConfig Current request configuration
          * @return Request timeout value or 0 if none is set
          */
-        private int getRequestTimeout(RequestConfig requestConfig) {
+        int getRequestTimeout(RequestConfig requestConfig) {
             if (requestConfig.getRequestTimeout() != null) {
                 return requestConfig.getRequestTimeout();
             } else {
@@ -1948,7 +2509,7 @@ public class AmazonHttpClient {
          * @param requestConfig Current request configuration
          * @return Client Execution timeout value or 0 if none is set
          */
-        private int getClientExecutionTimeout(RequestConfig requestConfig) {
+        int getClientExecutionTimeout(RequestConfig requestConfig) {
             if (requestConfig.getClientExecutionTimeout() != null) {
                 return requestConfig.getClientExecutionTimeout();
             } else {
@@ -1959,7 +2520,7 @@ public class AmazonHttpClient {
         /**
          * Stateful parameters that are used for executing a single httpClientSettings request.
          */
-        private class ExecOneRequestParams {
+        class ExecOneRequestParams {
             int requestCount; // monotonic increasing
             /**
              * Last delay between retries
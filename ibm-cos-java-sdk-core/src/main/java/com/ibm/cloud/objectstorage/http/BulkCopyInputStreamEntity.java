@@ -0,0 +1,79 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.http.entity.InputStreamEntity;
+
+/**
+ * {@link InputStreamEntity} that writes its content in large chunks.
+ * <p>
+ * {@link InputStreamEntity#writeTo(OutputStream)} copies through a 4 KB buffer,
+ * so a multi-gigabyte upload turns into millions of small reads through the
+ * content stream wrappers and millions of small socket (or TLS record) writes.
+ * This entity sizes its buffer to the content, up to {@link #MAX_BUFFER_SIZE},
+ * and hands each chunk to the connection in a single write, which the Apache
+ * session buffer passes straight through to the socket.
+ * <p>
+ * The content is still copied through a heap buffer: the Apache client only
+ * exposes an {@link OutputStream} to write to, never the socket channel, so
+ * file content cannot be sent with {@code FileChannel.transferTo}.
+ */
+class BulkCopyInputStreamEntity extends InputStreamEntity {
+
+    /** Upper bound of the copy buffer allocated for a single write out. */
+    static final int MAX_BUFFER_SIZE = 128 * 1024;
+
+    /** Buffer size used when the content length is unknown. */
+    private static final int UNKNOWN_LENGTH_BUFFER_SIZE = 16 * 1024;
+
+    BulkCopyInputStreamEntity(InputStream instream, long length) {
+        super(instream, length);
+    }
+
+    @Override
+    public void writeTo(final OutputStream outstream) throws IOException {
+        if (outstream == null) {
+            throw new IllegalArgumentException("Output stream may not be null");
+        }
+        final InputStream instream = getContent();
+        final long length = getContentLength();
+        try {
+            int l;
+            if (length < 0) {
+                final byte[] buffer = new byte[UNKNOWN_LENGTH_BUFFER_SIZE];
+                // consume until EOF
+                while ((l = instream.read(buffer)) != -1) {
+                    outstream.write(buffer, 0, l);
+                }
+            } else {
+                final byte[] buffer = new byte[(int) Math.max(1, Math.min(MAX_BUFFER_SIZE, length))];
+                // consume no more than length
+                long remaining = length;
+                while (remaining > 0) {
+                    l = instream.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                    if (l == -1) {
+                        break;
+                    }
+                    outstream.write(buffer, 0, l);
+                    remaining -= l;
+                }
+            }
+        } finally {
+            instream.close();
+        }
+    }
+}
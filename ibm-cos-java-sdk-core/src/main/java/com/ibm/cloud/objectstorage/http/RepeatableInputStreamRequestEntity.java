@@ -103,7 +103,7 @@ public class RepeatableInputStreamRequestEntity extends BasicHttpEntity {
                         ServiceMetricType.UPLOAD_BYTE_COUNT_NAME_SUFFIX);
 
         content = getContent(request);
-        inputStreamRequestEntity = (type == null) ? new InputStreamEntity(content, contentLength) :
+        inputStreamRequestEntity = (type == null) ? new BulkCopyInputStreamEntity(content, contentLength) :
                 new MetricInputStreamEntity(type, content, contentLength);
         inputStreamRequestEntity.setContentType(contentType);
 
@@ -25,7 +25,10 @@ public interface ConnectionManagerAwareHttpClient extends HttpClient {
 
     /**
      * Returns the {@link HttpClientConnectionManager} associated with the
-     * http client.
+     * http client, or null if the client does not pool connections through
+     * one. Clients without a connection manager that hold resources should
+     * implement {@link java.io.Closeable}; they are closed when the SDK client
+     * is shut down.
      */
     HttpClientConnectionManager getHttpClientConnectionManager();
 }
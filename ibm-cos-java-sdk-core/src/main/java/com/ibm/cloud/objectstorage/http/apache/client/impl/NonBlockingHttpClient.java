@@ -0,0 +1,58 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.http.apache.client.impl;
+
+import java.io.File;
+import java.util.concurrent.CompletableFuture;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+
+/**
+ * A transport that can also send requests without blocking the calling
+ * thread. The returned futures are completed from the transport's own I/O
+ * callbacks, so no thread waits for a response while it is in flight.
+ */
+public interface NonBlockingHttpClient extends ConnectionManagerAwareHttpClient {
+
+    /**
+     * Sends a request without waiting for its response.
+     *
+     * @param request
+     *            The request to send.
+     * @param streamContent
+     *            True to complete the future as soon as the response headers
+     *            have been received, the content then being read from the
+     *            response entity. False to complete it once the whole content
+     *            has been received and buffered in memory.
+     * @return A future completed with the response, or exceptionally with
+     *         the {@link java.io.IOException} that failed the exchange.
+     */
+    CompletableFuture<HttpResponse> executeAsync(HttpUriRequest request, boolean streamContent);
+
+    /**
+     * Sends a request without waiting for its response, writing the content
+     * of a successful (2xx) response to the specified file. The entity of
+     * such a response is empty; the content of any other response is
+     * buffered in memory.
+     *
+     * @param request
+     *            The request to send.
+     * @param destination
+     *            The file the content of a successful response is written
+     *            to, replacing any existing content.
+     * @return A future completed with the response once its content has been
+     *         written, or exceptionally with the {@link java.io.IOException}
+     *         that failed the exchange.
+     */
+    CompletableFuture<HttpResponse> executeAsync(HttpUriRequest request, File destination);
+}
@@ -0,0 +1,211 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.http.conn;
+
+import com.ibm.cloud.objectstorage.annotation.SdkInternalApi;
+import com.ibm.cloud.objectstorage.http.apache.utils.ApacheUtils;
+import com.ibm.cloud.objectstorage.http.settings.HttpClientSettings;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.client.utils.URIUtils;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * Opens connections to an endpoint ahead of the first requests, so that
+ * those requests find established connections in the pool instead of each
+ * paying for DNS resolution and the TCP and TLS handshakes.
+ * <p>
+ * The first connection is opened on its own. Its TLS session is cached by the
+ * SSL context of the connection manager, so the remaining connections, which
+ * are opened in parallel, can resume it with an abbreviated handshake. Later
+ * connections opened by requests benefit from the cached session as well.
+ * <p>
+ * Only the direct route to the host of the endpoint is warmed up. Requests
+ * sent through a proxy, or to other hosts such as the per-bucket hosts of
+ * virtual-hosted-style Amazon S3 requests, take other routes and do not
+ * benefit, so warming up is only useful for path-style clients without a
+ * proxy. Clients skip warming up, with a warning, in the other cases.
+ * <p>
+ * All work happens on a few daemon threads that exit once the connections
+ * are open, however many connections are requested.
+ */
+@SdkInternalApi
+public final class ConnectionPoolWarmer {
+
+    private static final Log LOG = LogFactory.getLog(ConnectionPoolWarmer.class);
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    /** Maximum number of connections opened in parallel after the first one. */
+    private static final int MAX_PARALLEL_CONNECTS = 4;
+
+    private final HttpClientConnectionManager connectionManager;
+    private final HttpClientSettings settings;
+
+    public ConnectionPoolWarmer(HttpClientConnectionManager connectionManager, HttpClientSettings settings) {
+        this.connectionManager = connectionManager;
+        this.settings = settings;
+    }
+
+    /**
+     * Opens connections to the given endpoint in the background and returns
+     * them to the pool. Connections already idle in the pool count towards
+     * the requested number.
+     *
+     * @param endpoint
+     *            The endpoint to connect to.
+     * @param connections
+     *            The number of connections to open, capped at the maximum
+     *            number of connections of the pool.
+     * @return A future for the number of connections that were opened.
+     */
+    public Future<Integer> warmUp(URI endpoint, int connections) {
+        final int count = Math.min(connections, settings.getMaxConnections());
+        if (count <= 0) {
+            throw new IllegalArgumentException("connections must be positive");
+        }
+        final HttpRoute route = toRoute(endpoint);
+        // One thread leases the connections and waits for the others to open them
+        int threads = 1 + Math.min(count - 1, MAX_PARALLEL_CONNECTS);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "connection-pool-warm-up-" + THREAD_COUNT.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        });
+        try {
+            return executor.submit(new Callable<Integer>() {
+                @Override
+                public Integer call() throws Exception {
+                    try {
+                        int opened = openConnections(route, count, executor);
+                        if (LOG.isDebugEnabled()) {
+                            LOG.debug("Opened " + opened + " connections to " + route);
+                        }
+                        return opened;
+                    } finally {
+                        executor.shutdown();
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            executor.shutdown();
+            throw e;
+        }
+    }
+
+    private int openConnections(final HttpRoute route, int count, ExecutorService executor) throws Exception {
+        List<HttpClientConnection> leased = new ArrayList<HttpClientConnection>(count);
+        try {
+            // All connections are leased before any is released, otherwise
+            // the pool would hand out the same connection again
+            try {
+                for (int i = 0; i < count; i++) {
+                    leased.add(connectionManager.requestConnection(route, null)
+                            .get(settings.getConnectionPoolRequestTimeout(), TimeUnit.MILLISECONDS));
+                }
+            } catch (Exception e) {
+                LOG.debug("Stopped leasing connections to warm up after " + leased.size(), e);
+            }
+
+            List<HttpClientConnection> closed = new ArrayList<HttpClientConnection>();
+            for (HttpClientConnection connection : leased) {
+                if (!connection.isOpen()) {
+                    closed.add(connection);
+                }
+            }
+            if (closed.isEmpty() || !connect(closed.get(0), route)) {
+                return 0;
+            }
+
+            List<Future<Boolean>> connects = new ArrayList<Future<Boolean>>();
+            for (final HttpClientConnection connection : closed.subList(1, closed.size())) {
+                connects.add(executor.submit(new Callable<Boolean>() {
+                    @Override
+                    public Boolean call() {
+                        return connect(connection, route);
+                    }
+                }));
+            }
+            int opened = 1;
+            for (Future<Boolean> connect : connects) {
+                if (connect.get()) {
+                    opened++;
+                }
+            }
+            return opened;
+        } finally {
+            for (HttpClientConnection connection : leased) {
+                connectionManager.releaseConnection(connection, null, settings.getMaxIdleConnectionTime(),
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private boolean connect(HttpClientConnection connection, HttpRoute route) {
+        HttpContext context = ApacheUtils.newClientContext(settings, null);
+        try {
+            connectionManager.connect(connection, route, settings.getConnectionTimeout(), context);
+            connectionManager.routeComplete(connection, route, context);
+            return true;
+        } catch (IOException e) {
+            LOG.debug("Unable to open a connection to " + route, e);
+            try {
+                connection.shutdown();
+            } catch (IOException ignored) {
+                // The connection is discarded by the pool when released
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Builds the route requests to the endpoint take when no proxy is used,
+     * so that the pooled connections match it. Proxied routes are not
+     * supported since opening them may require tunnelling through the proxy.
+     */
+    private HttpRoute toRoute(URI endpoint) {
+        HttpHost host = URIUtils.extractHost(endpoint);
+        if (host == null) {
+            throw new IllegalArgumentException("Endpoint " + endpoint + " has no host");
+        }
+        HttpHost target = host;
+        try {
+            if (host.getPort() <= 0) {
+                target = new HttpHost(host.getHostName(), DefaultSchemePortResolver.INSTANCE.resolve(host),
+                        host.getSchemeName());
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to resolve the port of " + endpoint, e);
+        }
+        return new HttpRoute(target, settings.getLocalAddress(), "https".equalsIgnoreCase(target.getSchemeName()));
+    }
+}
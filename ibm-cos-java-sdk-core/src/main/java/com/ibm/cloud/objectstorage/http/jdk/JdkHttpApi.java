@@ -0,0 +1,320 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.http.jdk;
+
+import com.ibm.cloud.objectstorage.SdkClientException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.Authenticator;
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import javax.net.ssl.SSLContext;
+
+/**
+ * Access to the {@code java.net.http} client of Java 11 and later.
+ * <p>
+ * The SDK is compiled for Java 8, so the client is looked up and invoked
+ * reflectively. All lookups happen once, when this class is initialized;
+ * {@link #isAvailable()} reports whether they succeeded.
+ */
+final class JdkHttpApi {
+
+    private static final Throwable UNAVAILABLE_CAUSE;
+
+    private static Method newClientBuilder;
+    private static Method clientBuilderVersion;
+    private static Method clientBuilderConnectTimeout;
+    private static Method clientBuilderSslContext;
+    private static Method clientBuilderProxy;
+    private static Method clientBuilderAuthenticator;
+    private static Method clientBuilderBuild;
+    private static Method clientSendAsync;
+
+    private static Method newRequestBuilder;
+    private static Method requestBuilderHeader;
+    private static Method requestBuilderMethod;
+    private static Method requestBuilderExpectContinue;
+    private static Method requestBuilderBuild;
+
+    private static Method noBody;
+    private static Method ofInputStream;
+    private static Method fromPublisher;
+    private static Object inputStreamBodyHandler;
+    private static Object byteArrayBodyHandler;
+    private static Class<?> bodyHandlerClass;
+    private static Method ofFileSubscriber;
+    private static Method ofByteArraySubscriber;
+    private static Method responseInfoStatusCode;
+
+    private static Method responseStatusCode;
+    private static Method responseHeaders;
+    private static Method responseBody;
+    private static Method responseVersion;
+    private static Method headersMap;
+
+    private static Method proxySelectorOf;
+
+    private static Object http2;
+
+    static {
+        Throwable cause = null;
+        try {
+            Class<?> client = Class.forName("java.net.http.HttpClient");
+            Class<?> clientBuilder = Class.forName("java.net.http.HttpClient$Builder");
+            Class<?> version = Class.forName("java.net.http.HttpClient$Version");
+            Class<?> request = Class.forName("java.net.http.HttpRequest");
+            Class<?> requestBuilder = Class.forName("java.net.http.HttpRequest$Builder");
+            Class<?> bodyPublisher = Class.forName("java.net.http.HttpRequest$BodyPublisher");
+            Class<?> bodyPublishers = Class.forName("java.net.http.HttpRequest$BodyPublishers");
+            Class<?> response = Class.forName("java.net.http.HttpResponse");
+            Class<?> bodyHandler = Class.forName("java.net.http.HttpResponse$BodyHandler");
+            Class<?> bodyHandlers = Class.forName("java.net.http.HttpResponse$BodyHandlers");
+            Class<?> bodySubscribers = Class.forName("java.net.http.HttpResponse$BodySubscribers");
+            Class<?> responseInfo = Class.forName("java.net.http.HttpResponse$ResponseInfo");
+            Class<?> headers = Class.forName("java.net.http.HttpHeaders");
+            Class<?> flowPublisher = Class.forName("java.util.concurrent.Flow$Publisher");
+
+            newClientBuilder = client.getMethod("newBuilder");
+            clientBuilderVersion = clientBuilder.getMethod("version", version);
+            clientBuilderConnectTimeout = clientBuilder.getMethod("connectTimeout", Duration.class);
+            clientBuilderSslContext = clientBuilder.getMethod("sslContext", SSLContext.class);
+            clientBuilderProxy = clientBuilder.getMethod("proxy", ProxySelector.class);
+            clientBuilderAuthenticator = clientBuilder.getMethod("authenticator", Authenticator.class);
+            clientBuilderBuild = clientBuilder.getMethod("build");
+            clientSendAsync = client.getMethod("sendAsync", request, bodyHandler);
+
+            newRequestBuilder = request.getMethod("newBuilder", URI.class);
+            requestBuilderHeader = requestBuilder.getMethod("header", String.class, String.class);
+            requestBuilderMethod = requestBuilder.getMethod("method", String.class, bodyPublisher);
+            requestBuilderExpectContinue = requestBuilder.getMethod("expectContinue", boolean.class);
+            requestBuilderBuild = requestBuilder.getMethod("build");
+
+            noBody = bodyPublishers.getMethod("noBody");
+            ofInputStream = bodyPublishers.getMethod("ofInputStream", Supplier.class);
+            fromPublisher = bodyPublishers.getMethod("fromPublisher", flowPublisher, long.class);
+            inputStreamBodyHandler = bodyHandlers.getMethod("ofInputStream").invoke(null);
+            byteArrayBodyHandler = bodyHandlers.getMethod("ofByteArray").invoke(null);
+            bodyHandlerClass = bodyHandler;
+            ofFileSubscriber = bodySubscribers.getMethod("ofFile", Path.class);
+            ofByteArraySubscriber = bodySubscribers.getMethod("ofByteArray");
+            responseInfoStatusCode = responseInfo.getMethod("statusCode");
+
+            responseStatusCode = response.getMethod("statusCode");
+            responseHeaders = response.getMethod("headers");
+            responseBody = response.getMethod("body");
+            responseVersion = response.getMethod("version");
+            headersMap = headers.getMethod("map");
+
+            proxySelectorOf = ProxySelector.class.getMethod("of", InetSocketAddress.class);
+
+            http2 = version.getField("HTTP_2").get(null);
+        } catch (Exception e) {
+            cause = e;
+        } catch (LinkageError e) {
+            cause = e;
+        }
+        UNAVAILABLE_CAUSE = cause;
+    }
+
+    private JdkHttpApi() {
+    }
+
+    /**
+     * @return True if the running JVM provides the {@code java.net.http}
+     *         client.
+     */
+    static boolean isAvailable() {
+        return UNAVAILABLE_CAUSE == null;
+    }
+
+    /**
+     * Throws an {@link SdkClientException} if the running JVM does not
+     * provide the {@code java.net.http} client.
+     */
+    static void checkAvailable() {
+        if (UNAVAILABLE_CAUSE != null) {
+            throw new SdkClientException("The HTTP/2 transport requires the java.net.http module of Java 11 or "
+                    + "later, running on Java " + System.getProperty("java.version"), UNAVAILABLE_CAUSE);
+        }
+    }
+
+    static Object newHttp2ClientBuilder() {
+        return invoke(clientBuilderVersion, invoke(newClientBuilder, null), http2);
+    }
+
+    static void connectTimeout(Object clientBuilder, Duration timeout) {
+        invoke(clientBuilderConnectTimeout, clientBuilder, timeout);
+    }
+
+    static void sslContext(Object clientBuilder, SSLContext sslContext) {
+        invoke(clientBuilderSslContext, clientBuilder, sslContext);
+    }
+
+    static void proxy(Object clientBuilder, InetSocketAddress proxyAddress) {
+        invoke(clientBuilderProxy, clientBuilder, invoke(proxySelectorOf, null, proxyAddress));
+    }
+
+    static void authenticator(Object clientBuilder, Authenticator authenticator) {
+        invoke(clientBuilderAuthenticator, clientBuilder, authenticator);
+    }
+
+    static Object buildClient(Object clientBuilder) {
+        return invoke(clientBuilderBuild, clientBuilder);
+    }
+
+    /**
+     * Sends a request, completing the returned future once the response
+     * headers have been received. The body is read from the response's
+     * {@link #body(Object) input stream}.
+     */
+    static CompletableFuture<?> sendAsync(Object client, Object request) {
+        return sendAsync(client, request, inputStreamBodyHandler);
+    }
+
+    /**
+     * Sends a request, completing the returned future once the specified
+     * body handler has received the response body.
+     */
+    static CompletableFuture<?> sendAsync(Object client, Object request, Object bodyHandler) {
+        return (CompletableFuture<?>) invoke(clientSendAsync, client, request, bodyHandler);
+    }
+
+    /**
+     * @return A body handler whose response body is an {@link InputStream}
+     *         available as soon as the response headers are received.
+     */
+    static Object inputStreamBodyHandler() {
+        return inputStreamBodyHandler;
+    }
+
+    /**
+     * @return A body handler whose response body is the {@code byte[]} of
+     *         the whole content, read without blocking any thread.
+     */
+    static Object byteArrayBodyHandler() {
+        return byteArrayBodyHandler;
+    }
+
+    /**
+     * @return A body handler which writes the content of a 2xx response to
+     *         the specified file, its response body then being the
+     *         {@link Path} of that file, and reads the content of any other
+     *         response into a {@code byte[]}.
+     */
+    static Object fileBodyHandler(final Path file) {
+        return Proxy.newProxyInstance(JdkHttpApi.class.getClassLoader(), new Class<?>[] {bodyHandlerClass},
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        if ("equals".equals(method.getName())) {
+                            return proxy == args[0];
+                        }
+                        if ("hashCode".equals(method.getName())) {
+                            return System.identityHashCode(proxy);
+                        }
+                        if ("toString".equals(method.getName())) {
+                            return "BodyHandler writing to " + file;
+                        }
+                        int statusCode = (Integer) JdkHttpApi.invoke(responseInfoStatusCode, args[0]);
+                        return statusCode / 100 == 2
+                                ? JdkHttpApi.invoke(ofFileSubscriber, null, file)
+                                : JdkHttpApi.invoke(ofByteArraySubscriber, null);
+                    }
+                });
+    }
+
+    static Object newRequestBuilder(URI uri) {
+        return invoke(newRequestBuilder, null, uri);
+    }
+
+    static void header(Object requestBuilder, String name, String value) {
+        invoke(requestBuilderHeader, requestBuilder, name, value);
+    }
+
+    static void method(Object requestBuilder, String method, Object bodyPublisher) {
+        invoke(requestBuilderMethod, requestBuilder, method, bodyPublisher);
+    }
+
+    static void expectContinue(Object requestBuilder, boolean enable) {
+        invoke(requestBuilderExpectContinue, requestBuilder, enable);
+    }
+
+    static Object buildRequest(Object requestBuilder) {
+        return invoke(requestBuilderBuild, requestBuilder);
+    }
+
+    static Object noBody() {
+        return invoke(noBody, null);
+    }
+
+    /**
+     * @param contentLength
+     *            The number of bytes the stream provides, or a negative
+     *            number if unknown.
+     */
+    static Object ofInputStream(Supplier<? extends InputStream> content, long contentLength) {
+        Object publisher = invoke(ofInputStream, null, content);
+        return contentLength < 0 ? publisher : invoke(fromPublisher, null, publisher, contentLength);
+    }
+
+    static int statusCode(Object response) {
+        return (Integer) invoke(responseStatusCode, response);
+    }
+
+    @SuppressWarnings("unchecked")
+    static Map<String, List<String>> headers(Object response) {
+        return (Map<String, List<String>>) invoke(headersMap, invoke(responseHeaders, response));
+    }
+
+    /**
+     * @return The body of the response, whose type depends on the body
+     *         handler the request was sent with.
+     */
+    static Object body(Object response) {
+        return invoke(responseBody, response);
+    }
+
+    /**
+     * @return True if the response was received over HTTP/2.
+     */
+    static boolean isHttp2(Object response) {
+        return http2.equals(invoke(responseVersion, response));
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new SdkClientException("Unable to invoke " + method, cause);
+        } catch (IllegalAccessException e) {
+            throw new SdkClientException("Unable to invoke " + method, e);
+        }
+    }
+}
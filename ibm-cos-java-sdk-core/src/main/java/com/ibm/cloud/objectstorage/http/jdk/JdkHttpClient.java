@@ -0,0 +1,457 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.http.jdk;
+
+import com.ibm.cloud.objectstorage.http.apache.client.impl.NonBlockingHttpClient;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.ProtocolVersion;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.client.utils.URIUtils;
+import org.apache.http.concurrent.Cancellable;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.impl.EnglishReasonPhraseCatalog;
+import org.apache.http.impl.execchain.RequestAbortedException;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.EntityUtils;
+
+/**
+ * Sends the requests built by the SDK through the {@code java.net.http}
+ * client, which multiplexes concurrent requests to the same host as streams
+ * of a single HTTP/2 connection when the server supports it.
+ * <p>
+ * Requests and responses are translated from and to their Apache HttpClient
+ * counterparts, so that the rest of the request pipeline is unaware of the
+ * transport in use. There is no connection manager to expose; connections
+ * are managed by the {@code java.net.http} client itself. The deprecated
+ * {@link #getConnectionManager()} returns a manager whose only effect is to
+ * close the client on shutdown, for callers that dispose of a client that way.
+ * <p>
+ * Requests can also be sent without blocking through
+ * {@link #executeAsync(HttpUriRequest, boolean)}, in which case the response
+ * is delivered from the {@code java.net.http} client's callbacks.
+ */
+class JdkHttpClient implements NonBlockingHttpClient, Closeable {
+
+    private static final byte[] EMPTY_CONTENT = new byte[0];
+
+    private static final ProtocolVersion HTTP_2 = new ProtocolVersion("HTTP", 2, 0);
+
+    /**
+     * Headers set by the {@code java.net.http} client itself, or not allowed
+     * in HTTP/2 requests.
+     */
+    private static final Set<String> SKIPPED_HEADERS = new HashSet<String>(Arrays.asList(
+            "connection", "content-length", "date", "expect", "from", "host", "keep-alive",
+            "proxy-connection", "te", "transfer-encoding", "upgrade", "via", "warning"));
+
+    private final Object client;
+
+    private final ClientConnectionManager connectionManager = new ClosingConnectionManager();
+
+    JdkHttpClient(Object client) {
+        this.client = client;
+    }
+
+    @Override
+    public HttpResponse execute(HttpUriRequest request, HttpContext context) throws IOException {
+        final CompletableFuture<?> future = JdkHttpApi.sendAsync(client, toJdkRequest(request));
+        setCancellable(request, new Cancellable() {
+            @Override
+            public boolean cancel() {
+                return future.cancel(true);
+            }
+        });
+
+        Object response;
+        try {
+            response = future.get();
+        } catch (CancellationException e) {
+            throw new RequestAbortedException("Request aborted");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the response");
+        } catch (ExecutionException e) {
+            throw toIOException(e.getCause());
+        }
+
+        return toApacheResponse(request, response, (InputStream) JdkHttpApi.body(response));
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> executeAsync(HttpUriRequest request, boolean streamContent) {
+        return executeAsync(request, streamContent
+                ? JdkHttpApi.inputStreamBodyHandler()
+                : JdkHttpApi.byteArrayBodyHandler());
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> executeAsync(HttpUriRequest request, File destination) {
+        return executeAsync(request, JdkHttpApi.fileBodyHandler(destination.toPath()));
+    }
+
+    private CompletableFuture<HttpResponse> executeAsync(final HttpUriRequest request, Object bodyHandler) {
+        final CompletableFuture<HttpResponse> result = new CompletableFuture<HttpResponse>();
+        final CompletableFuture<?> future;
+        try {
+            future = JdkHttpApi.sendAsync(client, toJdkRequest(request), bodyHandler);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+        setCancellable(request, new Cancellable() {
+            @Override
+            public boolean cancel() {
+                return future.cancel(true);
+            }
+        });
+
+        future.whenComplete(new BiConsumer<Object, Throwable>() {
+            @Override
+            public void accept(Object response, Throwable failure) {
+                if (failure != null) {
+                    result.completeExceptionally(toIOException(failure));
+                    return;
+                }
+                try {
+                    result.complete(toApacheResponse(request, response, toInputStream(JdkHttpApi.body(response))));
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns the content of a response received through one of the body
+     * handlers of {@link JdkHttpApi}.
+     */
+    private static InputStream toInputStream(Object body) {
+        if (body instanceof InputStream) {
+            return (InputStream) body;
+        }
+        if (body instanceof byte[]) {
+            return new ByteArrayInputStream((byte[]) body);
+        }
+        // The content was written to a file
+        return new ByteArrayInputStream(EMPTY_CONTENT);
+    }
+
+    private static IOException toIOException(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        if (cause instanceof IOException) {
+            return (IOException) cause;
+        }
+        if (cause instanceof UncheckedIOException) {
+            return ((UncheckedIOException) cause).getCause();
+        }
+        if (cause instanceof CancellationException) {
+            return new RequestAbortedException("Request aborted");
+        }
+        return new IOException(cause);
+    }
+
+    @Override
+    public HttpResponse execute(HttpUriRequest request) throws IOException {
+        return execute(request, (HttpContext) null);
+    }
+
+    @Override
+    public HttpResponse execute(HttpHost target, HttpRequest request) throws IOException {
+        return execute(target, request, (HttpContext) null);
+    }
+
+    @Override
+    public HttpResponse execute(HttpHost target, HttpRequest request, HttpContext context) throws IOException {
+        if (request instanceof HttpUriRequest && ((HttpUriRequest) request).getURI().isAbsolute()) {
+            return execute((HttpUriRequest) request, context);
+        }
+        return execute(toUriRequest(target, request), context);
+    }
+
+    @Override
+    public <T> T execute(HttpUriRequest request, ResponseHandler<? extends T> responseHandler) throws IOException {
+        return execute(request, responseHandler, null);
+    }
+
+    @Override
+    public <T> T execute(HttpUriRequest request, ResponseHandler<? extends T> responseHandler, HttpContext context)
+            throws IOException {
+        HttpResponse response = execute(request, context);
+        try {
+            return responseHandler.handleResponse(response);
+        } finally {
+            EntityUtils.consumeQuietly(response.getEntity());
+        }
+    }
+
+    @Override
+    public <T> T execute(HttpHost target, HttpRequest request, ResponseHandler<? extends T> responseHandler)
+            throws IOException {
+        return execute(target, request, responseHandler, null);
+    }
+
+    @Override
+    public <T> T execute(HttpHost target, HttpRequest request, ResponseHandler<? extends T> responseHandler,
+            HttpContext context) throws IOException {
+        HttpResponse response = execute(target, request, context);
+        try {
+            return responseHandler.handleResponse(response);
+        } finally {
+            EntityUtils.consumeQuietly(response.getEntity());
+        }
+    }
+
+    /**
+     * @return null, connections are pooled by the {@code java.net.http}
+     *         client.
+     */
+    @Override
+    public HttpClientConnectionManager getHttpClientConnectionManager() {
+        return null;
+    }
+
+    /**
+     * @return Empty parameters, the client is configured through
+     *         {@link JdkHttpClientFactory} instead.
+     */
+    @Override
+    @Deprecated
+    public HttpParams getParams() {
+        return new BasicHttpParams();
+    }
+
+    /**
+     * @return A connection manager that closes this client on shutdown and
+     *         otherwise has no effect.
+     */
+    @Override
+    @Deprecated
+    public ClientConnectionManager getConnectionManager() {
+        return connectionManager;
+    }
+
+    /**
+     * Closes the underlying client on JVMs where it can be closed (Java 21
+     * and later). On earlier versions its connections are closed once it is
+     * garbage collected.
+     */
+    @Override
+    public void close() throws IOException {
+        if (client instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) client).close();
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+    /**
+     * Resolves a request whose request line only holds a path against the
+     * target host.
+     */
+    private static HttpUriRequest toUriRequest(HttpHost target, HttpRequest request) throws IOException {
+        try {
+            URI uri = new URI(request.getRequestLine().getUri());
+            if (!uri.isAbsolute()) {
+                if (target == null) {
+                    throw new IOException("A target host is required for request " + request.getRequestLine());
+                }
+                uri = URIUtils.resolve(new URI(target.toURI()), uri);
+            }
+            return RequestBuilder.copy(request).setUri(uri).build();
+        } catch (URISyntaxException e) {
+            throw new IOException("Invalid request URI " + request.getRequestLine().getUri(), e);
+        }
+    }
+
+    private Object toJdkRequest(HttpUriRequest request) {
+        Object builder = JdkHttpApi.newRequestBuilder(request.getURI());
+        for (Header header : request.getAllHeaders()) {
+            if (!SKIPPED_HEADERS.contains(header.getName().toLowerCase(Locale.ENGLISH))) {
+                JdkHttpApi.header(builder, header.getName(), header.getValue());
+            }
+        }
+        if (request instanceof HttpRequestBase) {
+            RequestConfig config = ((HttpRequestBase) request).getConfig();
+            if (config != null && config.isExpectContinueEnabled()) {
+                JdkHttpApi.expectContinue(builder, true);
+            }
+        }
+        JdkHttpApi.method(builder, request.getMethod(), toBodyPublisher(request));
+        return JdkHttpApi.buildRequest(builder);
+    }
+
+    private Object toBodyPublisher(HttpUriRequest request) {
+        final HttpEntity entity = request instanceof HttpEntityEnclosingRequest
+                ? ((HttpEntityEnclosingRequest) request).getEntity()
+                : null;
+        if (entity == null) {
+            return JdkHttpApi.noBody();
+        }
+        return JdkHttpApi.ofInputStream(new Supplier<InputStream>() {
+            @Override
+            public InputStream get() {
+                try {
+                    return new NonClosingInputStream(entity.getContent());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }, entity.getContentLength());
+    }
+
+    private HttpResponse toApacheResponse(HttpUriRequest request, Object response, final InputStream body) {
+        setCancellable(request, new Cancellable() {
+            @Override
+            public boolean cancel() {
+                try {
+                    body.close();
+                } catch (IOException ignored) {
+                    // The exchange is being abandoned anyway
+                }
+                return true;
+            }
+        });
+
+        int statusCode = JdkHttpApi.statusCode(response);
+        ProtocolVersion version = JdkHttpApi.isHttp2(response) ? HTTP_2 : HttpVersion.HTTP_1_1;
+        BasicHttpResponse apacheResponse = new BasicHttpResponse(version, statusCode,
+                EnglishReasonPhraseCatalog.INSTANCE.getReason(statusCode, Locale.ENGLISH));
+
+        BasicHttpEntity entity = new BasicHttpEntity();
+        entity.setContent(body);
+        for (Map.Entry<String, List<String>> header : JdkHttpApi.headers(response).entrySet()) {
+            // Skip HTTP/2 pseudo headers such as :status
+            if (header.getKey().startsWith(":")) {
+                continue;
+            }
+            for (String value : header.getValue()) {
+                apacheResponse.addHeader(header.getKey(), value);
+            }
+        }
+        Header contentLength = apacheResponse.getFirstHeader("Content-Length");
+        entity.setContentLength(contentLength == null ? -1 : Long.parseLong(contentLength.getValue()));
+        entity.setContentType(apacheResponse.getFirstHeader("Content-Type"));
+        entity.setContentEncoding(apacheResponse.getFirstHeader("Content-Encoding"));
+        apacheResponse.setEntity(entity);
+        return apacheResponse;
+    }
+
+    private static void setCancellable(HttpUriRequest request, Cancellable cancellable) {
+        if (request instanceof HttpRequestBase) {
+            ((HttpRequestBase) request).setCancellable(cancellable);
+        }
+    }
+
+    /**
+     * Stands in for the connection manager of the deprecated Apache API.
+     * Shutting it down closes the client, which is how callers of that API
+     * release a client they no longer need.
+     */
+    @SuppressWarnings("deprecation")
+    private class ClosingConnectionManager implements ClientConnectionManager {
+        @Override
+        public SchemeRegistry getSchemeRegistry() {
+            return new SchemeRegistry();
+        }
+
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            throw new UnsupportedOperationException("Connections are managed by the java.net.http client");
+        }
+
+        @Override
+        public void releaseConnection(ManagedClientConnection conn, long validDuration, TimeUnit timeUnit) {
+        }
+
+        @Override
+        public void closeExpiredConnections() {
+        }
+
+        @Override
+        public void closeIdleConnections(long idletime, TimeUnit timeUnit) {
+        }
+
+        @Override
+        public void shutdown() {
+            try {
+                close();
+            } catch (IOException ignored) {
+                // Nothing left to release
+            }
+        }
+    }
+
+    /**
+     * The {@code java.net.http} client closes request bodies once it has
+     * read them, but the SDK resets and resends the same stream on retries.
+     */
+    private static class NonClosingInputStream extends FilterInputStream {
+        NonClosingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.http.jdk;
+
+import com.ibm.cloud.objectstorage.SDKGlobalConfiguration;
+import com.ibm.cloud.objectstorage.annotation.Beta;
+import com.ibm.cloud.objectstorage.http.SystemPropertyTlsKeyManagersProvider;
+import com.ibm.cloud.objectstorage.http.TlsKeyManagersProvider;
+import com.ibm.cloud.objectstorage.http.apache.client.impl.ConnectionManagerAwareHttpClient;
+import com.ibm.cloud.objectstorage.http.client.HttpClientFactory;
+import com.ibm.cloud.objectstorage.http.settings.HttpClientSettings;
+import com.ibm.cloud.objectstorage.internal.SdkSSLContext;
+import java.net.Authenticator;
+import java.net.InetSocketAddress;
+import java.net.PasswordAuthentication;
+import java.time.Duration;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Factory that builds an HTTP/2 capable client on top of the
+ * {@code java.net.http} client of Java 11 and later, to be set with
+ * {@link com.ibm.cloud.objectstorage.ClientConfiguration#setHttpClientFactory(HttpClientFactory)}.
+ * <p>
+ * Concurrent requests to the same endpoint are multiplexed over a single
+ * connection when the server negotiates HTTP/2, and sent over HTTP/1.1
+ * otherwise. This reduces TLS handshakes and connection churn when many small
+ * requests, such as HEAD or metadata GET requests, are in flight at the same
+ * time. Large uploads and downloads gain little, since they are limited by
+ * bandwidth rather than by the number of connections.
+ * <p>
+ * The following settings of the client configuration are applied: connection
+ * timeout, proxy host, port and credentials, TLS key managers and secure
+ * random. Settings specific to the Apache connection pool (maximum
+ * connections, connection TTL, idle connection reaping, socket buffer sizes,
+ * non-proxy hosts) do not apply. Socket timeouts are not enforced either; use
+ * the request or client execution timeouts instead. Headers the
+ * {@code java.net.http} client does not allow to be set, notably
+ * {@code Date}, are not sent, so requests must be signed with a signer that
+ * does not rely on them, such as AWS signature version 4 or IAM tokens.
+ */
+@Beta
+public class JdkHttpClientFactory implements HttpClientFactory<ConnectionManagerAwareHttpClient> {
+
+    private static final Log LOG = LogFactory.getLog(JdkHttpClientFactory.class);
+
+    /**
+     * @return True if the running JVM provides the {@code java.net.http}
+     *         client this factory depends on.
+     */
+    public static boolean isSupported() {
+        return JdkHttpApi.isAvailable();
+    }
+
+    /**
+     * @throws com.ibm.cloud.objectstorage.SdkClientException
+     *             If the running JVM is older than Java 11.
+     */
+    @Override
+    public ConnectionManagerAwareHttpClient create(HttpClientSettings settings) {
+        JdkHttpApi.checkAvailable();
+        if (SDKGlobalConfiguration.isCertCheckingDisabled()) {
+            LOG.warn("SSL Certificate checking for endpoints cannot be disabled for the HTTP/2 transport.");
+        }
+
+        Object builder = JdkHttpApi.newHttp2ClientBuilder();
+        if (settings.getConnectionTimeout() > 0) {
+            JdkHttpApi.connectTimeout(builder, Duration.ofMillis(settings.getConnectionTimeout()));
+        }
+        TlsKeyManagersProvider keyManagersProvider = settings.getTlsKeyMangersProvider();
+        if (keyManagersProvider == null) {
+            keyManagersProvider = new SystemPropertyTlsKeyManagersProvider();
+        }
+        JdkHttpApi.sslContext(builder, SdkSSLContext.getPreferredSSLContext(keyManagersProvider.getKeyManagers(),
+                settings.getSecureRandom()));
+        addProxyConfig(builder, settings);
+
+        return new JdkHttpClient(JdkHttpApi.buildClient(builder));
+    }
+
+    private void addProxyConfig(Object builder, final HttpClientSettings settings) {
+        if (!settings.isProxyEnabled()) {
+            return;
+        }
+        LOG.info("Configuring Proxy. Proxy Host: " + settings.getProxyHost() + " " +
+                "Proxy Port: " + settings.getProxyPort());
+        JdkHttpApi.proxy(builder, InetSocketAddress.createUnresolved(settings.getProxyHost(), settings.getProxyPort()));
+
+        if (settings.isAuthenticatedProxy()) {
+            JdkHttpApi.authenticator(builder, new Authenticator() {
+                @Override
+                protected PasswordAuthentication getPasswordAuthentication() {
+                    if (getRequestorType() != RequestorType.PROXY) {
+                        return null;
+                    }
+                    return new PasswordAuthentication(settings.getProxyUsername(),
+                            settings.getProxyPassword().toCharArray());
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.internal;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import com.ibm.cloud.objectstorage.SdkClientException;
+import com.ibm.cloud.objectstorage.annotation.NotThreadSafe;
+
+/**
+ * Input stream exposing a region of a file, read with positional
+ * {@link FileChannel} reads.
+ * <p>
+ * Unlike a {@link ResettableInputStream} wrapped in a sub-stream, no bytes are
+ * ever skipped or read twice to reach the start of the region, mark and reset
+ * are a matter of moving an offset, and the stream reports the exact number of
+ * bytes left in the region so that callers can size their copy buffers to it.
+ * <p>
+ * As with {@link ResettableInputStream}, if the file is meant to be closed
+ * only by the code block that opened it, the creator should call
+ * {@link #disableClose()} and rely on {@link #release()} instead.
+ */
+@NotThreadSafe
+public class FileRegionInputStream extends ReleasableInputStream {
+    private final File file;
+    private final FileChannel fileChannel;
+    private final long regionStart;
+    private final long regionEnd;
+    private long position;
+    private long markPos;
+
+    /**
+     * @param file
+     *            the file to read; must not be null.
+     * @param offset
+     *            the offset in the file of the first byte of the region.
+     * @param length
+     *            the number of bytes in the region. The region is truncated if
+     *            it extends beyond the end of the file.
+     */
+    public FileRegionInputStream(File file, long offset, long length) throws IOException {
+        this(new FileInputStream(file), file, offset, length);
+    }
+
+    private FileRegionInputStream(FileInputStream fis, File file, long offset, long length) throws IOException {
+        super(fis);
+        if (offset < 0 || length < 0) {
+            fis.close();
+            throw new IllegalArgumentException("Invalid file region: offset=" + offset + ", length=" + length);
+        }
+        this.file = file;
+        this.fileChannel = fis.getChannel();
+        this.regionStart = offset;
+        this.regionEnd = Math.min(offset + length, fileChannel.size());
+        this.position = offset;
+        this.markPos = offset;
+    }
+
+    @Override
+    public final boolean markSupported() {
+        return true;
+    }
+
+    /**
+     * Marks the current position in the region. The read limit is ignored as
+     * resetting never requires buffering.
+     */
+    @Override
+    public void mark(int unused) {
+        abortIfNeeded();
+        markPos = position;
+    }
+
+    @Override
+    public void reset() throws IOException {
+        abortIfNeeded();
+        position = markPos;
+    }
+
+    @Override
+    public int available() throws IOException {
+        abortIfNeeded();
+        return (int) Math.min(Integer.MAX_VALUE, getRemaining());
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        int bytesRead = read(b, 0, 1);
+        return bytesRead == -1 ? -1 : (b[0] & 0xFF);
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        abortIfNeeded();
+        if (len == 0) {
+            return 0;
+        }
+        long remaining = getRemaining();
+        if (remaining <= 0) {
+            return -1;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(b, off, (int) Math.min(len, remaining));
+        int bytesRead = fileChannel.read(buffer, position);
+        if (bytesRead > 0) {
+            position += bytesRead;
+        }
+        return bytesRead;
+    }
+
+    /**
+     * Reads bytes of the region into the given buffer, which may be a direct
+     * buffer, without an intermediate heap copy.
+     *
+     * @return the number of bytes read, or -1 at the end of the region.
+     */
+    public int read(ByteBuffer buffer) throws IOException {
+        abortIfNeeded();
+        long remaining = getRemaining();
+        if (remaining <= 0) {
+            return -1;
+        }
+        int limit = buffer.limit();
+        if (buffer.remaining() > remaining) {
+            buffer.limit(buffer.position() + (int) remaining);
+        }
+        try {
+            int bytesRead = fileChannel.read(buffer, position);
+            if (bytesRead > 0) {
+                position += bytesRead;
+            }
+            return bytesRead;
+        } finally {
+            buffer.limit(limit);
+        }
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        abortIfNeeded();
+        if (n <= 0) {
+            return 0;
+        }
+        long skipped = Math.min(n, getRemaining());
+        position += skipped;
+        return skipped;
+    }
+
+    /**
+     * Returns the number of bytes between the current position and the end of
+     * the region.
+     */
+    public long getRemaining() {
+        return regionEnd - position;
+    }
+
+    /**
+     * Returns the total number of bytes in the region.
+     */
+    public long getRegionLength() {
+        return regionEnd - regionStart;
+    }
+
+    /**
+     * Returns the underlying file.
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Convenient factory method to construct a new stream for the given file
+     * region, converting any IOException into SdkClientException with the
+     * given error message.
+     */
+    public static FileRegionInputStream newFileRegionInputStream(File file, long offset, long length,
+            String errmsg) {
+        try {
+            return new FileRegionInputStream(file, offset, length);
+        } catch (IOException e) {
+            throw errmsg == null
+                ? new SdkClientException(e)
+                : new SdkClientException(errmsg, e);
+        }
+    }
+}
@@ -35,6 +35,7 @@ import com.ibm.cloud.objectstorage.auth.AWSCredentials;
 import com.ibm.cloud.objectstorage.auth.AWSCredentialsProvider;
 import com.ibm.cloud.objectstorage.auth.DefaultAWSCredentialsProviderChain;
 import com.ibm.cloud.objectstorage.auth.PropertiesCredentials;
+import com.ibm.cloud.objectstorage.auth.internal.SignerKeyCache;
 import com.ibm.cloud.objectstorage.jmx.spi.SdkMBeanRegistry;
 import com.ibm.cloud.objectstorage.regions.Regions;
 import com.ibm.cloud.objectstorage.util.AWSRequestMetrics;
@@ -894,6 +895,39 @@ public enum AwsSdkMetrics {
         AwsSdkMetrics.hostMetricName = hostMetricName;
     }
 
+    /**
+     * Returns the number of requests signed with a signing key found in the
+     * cache of the AWS4 signers.
+     */
+    public static long getSignerKeyCacheHitCount() {
+        return SignerKeyCache.getDefault().getHitCount();
+    }
+
+    /**
+     * Returns the number of requests for which the AWS4 signers had to derive
+     * a signing key, because none was cached for the credentials and day.
+     */
+    public static long getSignerKeyCacheMissCount() {
+        return SignerKeyCache.getDefault().getMissCount();
+    }
+
+    /**
+     * Returns the number of signing keys evicted from the cache of the AWS4
+     * signers because it was full. A growing count means that more
+     * credentials are in use than the cache can hold, see
+     * {@link SDKGlobalConfiguration#SIGNER_KEY_CACHE_SIZE_SYSTEM_PROPERTY}.
+     */
+    public static long getSignerKeyCacheEvictionCount() {
+        return SignerKeyCache.getDefault().getEvictionCount();
+    }
+
+    /**
+     * Returns the number of signing keys in the cache of the AWS4 signers.
+     */
+    public static int getSignerKeyCacheSize() {
+        return SignerKeyCache.getDefault().size();
+    }
+
     /**
      * Used as a registry for the predefined metrics to be captured by the
      * metric collector at the AWS SDK level.
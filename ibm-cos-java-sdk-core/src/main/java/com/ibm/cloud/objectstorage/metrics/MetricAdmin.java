@@ -139,4 +139,16 @@ public class MetricAdmin implements MetricAdminMBean {
     public void setSingleMetricNamespace(boolean singleMetricNamespace) {
         AwsSdkMetrics.setSingleMetricNamespace(singleMetricNamespace);
     }
+    @Override
+    public long getSignerKeyCacheHitCount() {
+        return AwsSdkMetrics.getSignerKeyCacheHitCount();
+    }
+    @Override
+    public long getSignerKeyCacheMissCount() {
+        return AwsSdkMetrics.getSignerKeyCacheMissCount();
+    }
+    @Override
+    public long getSignerKeyCacheEvictionCount() {
+        return AwsSdkMetrics.getSignerKeyCacheEvictionCount();
+    }
 }
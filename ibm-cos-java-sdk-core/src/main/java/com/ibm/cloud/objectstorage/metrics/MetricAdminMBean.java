@@ -184,4 +184,20 @@ public interface MetricAdminMBean {
      * Used to set whether a single metric name space is to be used.
      */
     public void setSingleMetricNamespace(boolean singleMetricNamespace);
+
+    /**
+     * Returns the number of requests signed with a cached AWS4 signing key.
+     */
+    public long getSignerKeyCacheHitCount();
+
+    /**
+     * Returns the number of requests for which an AWS4 signing key had to be
+     * derived.
+     */
+    public long getSignerKeyCacheMissCount();
+
+    /**
+     * Returns the number of AWS4 signing keys evicted from the full cache.
+     */
+    public long getSignerKeyCacheEvictionCount();
 }
\ No newline at end of file
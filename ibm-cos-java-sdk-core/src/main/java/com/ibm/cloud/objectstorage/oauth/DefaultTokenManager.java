@@ -16,6 +16,11 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.http.HttpStatus;
 import org.apache.http.impl.client.HttpClientBuilder;
@@ -40,7 +45,12 @@ import com.ibm.cloud.objectstorage.oauth.DefaultTokenManager;
  * The DefaultTokenProvider is used to retrieve the token from the IAM Service
  * which uses the api key method. A client can also use their own implementation
  * of TokenHandler
- *
+ * <p>
+ * The cached token is held as an immutable snapshot, so that retrieving a
+ * valid token takes no lock. Once the token is due for refresh, a single
+ * caller triggers the refresh while all other callers keep using the current
+ * token until it expires. {@link #getToken()} goes through the protected
+ * cache and expiry methods, which subclasses may override.
  *
  */
 public class DefaultTokenManager implements TokenManager {
@@ -49,9 +59,9 @@ public class DefaultTokenManager implements TokenManager {
 
     private TokenProvider provider;
 
-    private volatile Token token;
-    // flag to signify if an async refresh process has already started
-    private volatile boolean asyncInProgress = false;
+    private final AtomicReference<TokenSnapshot> snapshot = new AtomicReference<TokenSnapshot>();
+    // flag to signify if a refresh has already started
+    private final AtomicBoolean refreshInProgress = new AtomicBoolean(false);
 
     /** variable to overwrite the global SDKGlobalConfiguration.IAM_ENDPOINT **/
     private String iamEndpoint = SDKGlobalConfiguration.IAM_ENDPOINT;
@@ -72,8 +82,26 @@ public class DefaultTokenManager implements TokenManager {
     /** The client http setting */
     private HttpClientSettings httpClientSettings;
 
-    // Executor service for token refresh
-    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    /** The registry refreshing the token ahead of time, if shared through one */
+    private volatile TokenManagerRegistry registry;
+
+    /** The refresh scheduled by the registry, guarded by the registry */
+    ScheduledFuture<?> scheduledRefresh;
+
+    /**
+     * Executor service for token refresh, shared by all token managers. Its
+     * daemon threads are only kept while refreshes are running.
+     */
+    private static final ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactory() {
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "iam-token-refresh-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    });
 
     /**
      * Set of HTTP response codes that should attempt retry.
@@ -174,9 +202,7 @@ public class DefaultTokenManager implements TokenManager {
         }
 
         // retrieve from cache
-        if (token == null) {
-            token = retrieveTokenFromCache();
-        }
+        Token token = retrieveTokenFromCache();
 
         // check if expired
         if (hasTokenExpired(token)) {
@@ -184,26 +210,42 @@ public class DefaultTokenManager implements TokenManager {
         }
 
         // check if token should be refreshed. If a refreshtoken is not present, the token manager will call upon the original tokenprovider retrieve a fresh token
-        if (isTokenExpiring(token) && !isAsyncInProgress()) {
-            if (null != token.getRefresh_token() && "not_supported" != token.getRefresh_token()) {
-                this.asyncInProgress = true;
+        if (isTokenExpiring(token) && refreshInProgress.compareAndSet(false, true)) {
+            token = refresh(token);
+        }
+
+        final TokenSnapshot current = snapshot.get();
+        return current != null && current.token == token ? current.value : TokenSnapshot.tokenValue(token);
+    }
+
+    /**
+     * Refreshes the token on behalf of all callers, which keep using the
+     * current token in the meantime. Must only be called by the caller that
+     * set the refresh in progress flag.
+     *
+     * @return The token to use for the current request
+     */
+    private Token refresh(Token token) {
+        if (TokenSnapshot.isRefreshable(token)) {
+            try {
                 submitRefreshTask();
-            } else {
-                retrieveToken();
-                token = retrieveTokenFromCache();
+            } catch (RuntimeException e) {
+                refreshInProgress.set(false);
+                throw e;
             }
+            return token;
         }
 
-        if (token.getAccess_token() != null && !token.getAccess_token().isEmpty()) {
-            return token.getAccess_token();
-        } else if (token.getDelegated_refresh_token()!= null && !token.getDelegated_refresh_token().isEmpty()) {
-            return token.getDelegated_refresh_token();
-        } else if (token.getIms_token() != null && !token.getIms_token().isEmpty()) {
-            return token.getIms_token();
-        } else {
-            return token.getUaa_token();
+        try {
+            retrieveToken();
+        } catch (OAuthServiceException exception) {
+            // The current token is still valid, the next caller will try again
+            log.info("OAuthTokenManager: Failed to refresh expiring token: " + exception.getMessage());
+            return token;
+        } finally {
+            refreshInProgress.set(false);
         }
-
+        return retrieveTokenFromCache();
     }
 
     /**
@@ -226,7 +268,7 @@ public class DefaultTokenManager implements TokenManager {
      * @param token
      *            The IAM Token object
      */
-    protected synchronized void cacheToken(final Token token) {
+    protected void cacheToken(final Token token) {
 
         log.debug("OAuthTokenManager.cacheToken");
 
@@ -254,6 +296,11 @@ public class DefaultTokenManager implements TokenManager {
         token.setExpirationTime(tokenExpirationTime);
 
         setTokenCache(token);
+
+        final TokenManagerRegistry registry = this.registry;
+        if (registry != null) {
+            registry.scheduleRefresh(this);
+        }
     }
 
     /**
@@ -283,7 +330,12 @@ public class DefaultTokenManager implements TokenManager {
 
         final long currentTime = System.currentTimeMillis() / 1000L;
 
-        if (Long.valueOf(token.getExpiration()) < currentTime) {
+        // The expiration of the cached token is only parsed once
+        final TokenSnapshot current = snapshot.get();
+        final boolean expired = current != null && current.token == token
+                ? current.hasExpired(currentTime)
+                : Long.valueOf(token.getExpiration()) < currentTime;
+        if (expired) {
             retrieveToken();
             return true;
         }
@@ -321,7 +373,8 @@ public class DefaultTokenManager implements TokenManager {
      * @return boolean currently cached Token object
      */
     protected Token getCachedToken() {
-        return this.token;
+        TokenSnapshot current = snapshot.get();
+        return current == null ? null : current.token;
     }
 
     /**
@@ -330,49 +383,121 @@ public class DefaultTokenManager implements TokenManager {
      *            Sets the Token object in cache
      */
     protected void setTokenCache(Token token) {
-        this.token = token;
+        snapshot.set(token == null ? null : new TokenSnapshot(token));
     }
 
     /**
      * retrieve token from provider. Ensures each thread checks the token is
-     * null prior to making the callout to IAM
+     * null, expired or expiring prior to making the callout to IAM, so that
+     * threads waiting on each other do not retrieve it again
      *
      */
     protected synchronized void retrieveToken() {
 
         log.debug("OAuthTokenManager.retrieveToken");
 
-        // If we have no token or if the token we have has expired, get a new token
-        if (token == null || (Long.valueOf(token.getExpiration()) < System.currentTimeMillis() / 1000L)) {
+        // If we have no token or if the token we have is due refresh, get a new token
+        final TokenSnapshot current = snapshot.get();
+        final long currentTime = System.currentTimeMillis() / 1000L;
+        if (current == null || current.isExpiring(currentTime)) {
             log.debug("Token needs to be refreshed, retrieving from provider");
-            for (int attempt = 1; attempt <= this.iamMaxRetry; attempt++) {
-                try {
-                    token = provider.retrieveToken();
-                    break;  // We received a token; no exceptions were thrown
-                } catch (OAuthServiceException exception) {
-                    log.debug("Exception retrieving IAM token on attempt " + attempt
-                        + ". Returned status code " + exception.getStatusCode()
-                        + ". Error Message: " + exception.getErrorMessage()
-                        + ". Status Message: " + exception.getStatusMessage());
-                    // Check if we've run out of retries and need to rethrow this exception
-                    if (attempt >= this.iamMaxRetry) {
-                        throw exception;
-                    }
+            fetchToken();
+        }
+    }
+
+    /**
+     * Retrieves a token from the provider, retrying up to the max retry
+     * count, and caches it.
+     */
+    private void fetchToken() {
+        Token token = null;
+        for (int attempt = 1; attempt <= this.iamMaxRetry; attempt++) {
+            try {
+                token = provider.retrieveToken();
+                break;  // We received a token; no exceptions were thrown
+            } catch (OAuthServiceException exception) {
+                log.debug("Exception retrieving IAM token on attempt " + attempt
+                    + ". Returned status code " + exception.getStatusCode()
+                    + ". Error Message: " + exception.getErrorMessage()
+                    + ". Status Message: " + exception.getStatusMessage());
+                // Check if we've run out of retries and need to rethrow this exception
+                if (attempt >= this.iamMaxRetry) {
+                    throw exception;
                 }
             }
+        }
 
-            // Retrieving tokens should always return a non-null value,
-            //  so even if token was originally null, it should not be now.
-            if (token == null) {
-                throw new OAuthServiceException("TokenProvider.retrieveToken() " +
-                    " returned null and instead of throwing an exception. This is a bug." +
-                    " Custom TokenProvider classes should return a token or thrown exceptions.");
-            }
+        // Retrieving tokens should always return a non-null value,
+        //  so even if token was originally null, it should not be now.
+        if (token == null) {
+            throw new OAuthServiceException("TokenProvider.retrieveToken() " +
+                " returned null and instead of throwing an exception. This is a bug." +
+                " Custom TokenProvider classes should return a token or thrown exceptions.");
+        }
+
+        cacheToken(token);
+    }
 
-            cacheToken(token);
+    /**
+     * Refreshes the token in the background ahead of its refresh time, unless
+     * a refresh is already in progress. Used by the {@link TokenManagerRegistry}.
+     */
+    void refreshInBackground() {
+        final TokenSnapshot current = snapshot.get();
+        if (current == null || !refreshInProgress.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (current.refreshable) {
+                submitRefreshTask();
+            } else {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            synchronized (DefaultTokenManager.this) {
+                                fetchToken();
+                            }
+                        } catch (RuntimeException e) {
+                            log.info("OAuthTokenManager: Failed to refresh token ahead of time: " + e.getMessage());
+                        } finally {
+                            refreshInProgress.set(false);
+                        }
+                    }
+                });
+            }
+        } catch (RuntimeException e) {
+            refreshInProgress.set(false);
+            throw e;
         }
     }
 
+    /**
+     * @return The refresh time of the cached token in seconds since the
+     *         epoch, or -1 if no token is cached.
+     */
+    long getCachedRefreshTime() {
+        final TokenSnapshot current = snapshot.get();
+        return current == null ? -1 : current.refreshTime;
+    }
+
+    /**
+     * @return The expiration time of the cached token in seconds since the
+     *         epoch, or -1 if no token is cached.
+     */
+    long getCachedExpirationTime() {
+        final TokenSnapshot current = snapshot.get();
+        return current == null ? -1 : current.expirationTime;
+    }
+
+    TokenManagerRegistry getRegistry() {
+        return registry;
+    }
+
+    void setRegistry(TokenManagerRegistry registry) {
+        this.registry = registry;
+    }
+
     /**
      * Submits a token refresh task
      *
@@ -390,8 +515,7 @@ public class DefaultTokenManager implements TokenManager {
      * @return boolean
      */
     protected boolean isAsyncInProgress() {
-        log.debug("Aysnchrnonous job in progress : " + asyncInProgress);
-        return asyncInProgress;
+        return refreshInProgress.get();
     }
     /**
      * Client config to customise the IAM Client
@@ -431,14 +555,53 @@ public class DefaultTokenManager implements TokenManager {
         }
     }
 
-    @Override
-    protected void finalize() throws Throwable {
-        try {
-            executor.shutdown();
-        } catch (Throwable t) {
-            throw t;
-        } finally {
-            super.finalize();
+    /**
+     * Immutable copy of the cached token, with the access token string and
+     * the refresh and expiration times resolved once when it is cached.
+     */
+    private static final class TokenSnapshot {
+        private final Token token;
+        private final String value;
+        private final long refreshTime;
+        private final long expirationTime;
+        private final boolean refreshable;
+
+        TokenSnapshot(Token token) {
+            this.token = token;
+            this.value = tokenValue(token);
+            this.refreshTime = token.getRefreshTime();
+            long expiration;
+            try {
+                expiration = Long.parseLong(token.getExpiration());
+            } catch (NumberFormatException exception) {
+                expiration = 0;
+            }
+            this.expirationTime = expiration;
+            this.refreshable = isRefreshable(token);
+        }
+
+        private static boolean isRefreshable(Token token) {
+            return token.getRefresh_token() != null && !"not_supported".equals(token.getRefresh_token());
+        }
+
+        boolean hasExpired(long currentTime) {
+            return expirationTime < currentTime;
+        }
+
+        boolean isExpiring(long currentTime) {
+            return currentTime > refreshTime;
+        }
+
+        private static String tokenValue(Token token) {
+            if (token.getAccess_token() != null && !token.getAccess_token().isEmpty()) {
+                return token.getAccess_token();
+            } else if (token.getDelegated_refresh_token()!= null && !token.getDelegated_refresh_token().isEmpty()) {
+                return token.getDelegated_refresh_token();
+            } else if (token.getIms_token() != null && !token.getIms_token().isEmpty()) {
+                return token.getIms_token();
+            } else {
+                return token.getUaa_token();
+            }
         }
     }
 
@@ -452,6 +615,7 @@ public class DefaultTokenManager implements TokenManager {
 
         @Override
         public void run() {
+            final TokenSnapshot current = tokenManager.snapshot.get();
             try {
                 if (!(tokenManager.getProvider() instanceof DefaultTokenProvider)) {
                     log.info("OAuthTokenManager.TokenRefreshTask: Token Provider is not of type DefaultTokenProvider, so using the refresh token is not supported.");
@@ -460,10 +624,10 @@ public class DefaultTokenManager implements TokenManager {
 
                 // Try to get a new token as long as it has not yet expired
                 while ((this.refreshedToken == null)
-                        && (System.currentTimeMillis() / 1000 < tokenManager.token.getExpirationTime())) {
+                        && (System.currentTimeMillis() / 1000 < current.expirationTime)) {
                     try {
                         log.info("OAuthTokenManager.TokenRefreshTask: Attempting to retrieve refresh token");
-                        refreshedToken = ((DefaultTokenProvider)tokenManager.getProvider()).retrieveTokenWithRefresh(tokenManager.token.getRefresh_token());
+                        refreshedToken = ((DefaultTokenProvider)tokenManager.getProvider()).retrieveTokenWithRefresh(current.token.getRefresh_token());
                         break;  // We received a token; no exceptions were thrown
                     } catch (OAuthServiceException exception) {
                         log.info("OAuthTokenManager.TokenRefreshTask: Exception retrieving IAM token"
@@ -476,7 +640,7 @@ public class DefaultTokenManager implements TokenManager {
                         } catch (InterruptedException e) {
                             log.info("Token refresh task interrupted: " + e.getMessage());
                         }
-                        if (System.currentTimeMillis() / 1000 >= tokenManager.token.getExpirationTime()) {
+                        if (System.currentTimeMillis() / 1000 >= current.expirationTime) {
                             // The token has expired, so we want to rethrow this exception as the failure reason
                             throw exception;
                         }
@@ -486,7 +650,7 @@ public class DefaultTokenManager implements TokenManager {
                 if (refreshedToken != null) {
                     tokenManager.cacheToken(refreshedToken);
                     log.info("OAuthTokenManager.TokenRefreshTask: Token refreshed");
-                } else if (System.currentTimeMillis() / 1000 < tokenManager.token.getExpirationTime()) {
+                } else if (System.currentTimeMillis() / 1000 < current.expirationTime) {
                     // Retrieving tokens should always return a non-null value, so if we are here,
                     //   we broke the loop because of the 'break', not because the token expired.
                     log.info("OAuthTokenManager.TokenRefreshTask: Refresh aborted before token expiration");
@@ -498,7 +662,7 @@ public class DefaultTokenManager implements TokenManager {
                     log.info("OAuthTokenManager.TokenRefreshTask: Failed to refresh token");
                 }
             } finally {
-                tokenManager.asyncInProgress = false;
+                tokenManager.refreshInProgress.set(false);
             }
         }
     }
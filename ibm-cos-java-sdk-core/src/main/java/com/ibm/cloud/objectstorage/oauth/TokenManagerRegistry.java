@@ -0,0 +1,226 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.oauth;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.ibm.cloud.objectstorage.annotation.ThreadSafe;
+import com.ibm.cloud.objectstorage.log.InternalLogApi;
+import com.ibm.cloud.objectstorage.log.InternalLogFactory;
+
+/**
+ * Process wide cache of token managers, so that clients using the same API
+ * key, or any other caller defined key such as a service instance id, share
+ * one token instead of each retrieving and refreshing their own.
+ * <p>
+ * A single scheduler thread refreshes the tokens of the registered managers
+ * in the background before request threads would have to. Each refresh is
+ * scheduled at a random point of the last part of the token's refresh window,
+ * as defined by the IAM refresh offset, so that tokens retrieved at the same
+ * time are not all refreshed against IAM at the same time.
+ * <p>
+ * The registry holds up to a maximum number of token managers and evicts the
+ * least recently requested one when full. Evicted managers keep working for
+ * the clients still using them, but are no longer refreshed ahead of time.
+ * <p>
+ * Shared token managers are configured by the first caller. Settings applied
+ * later, such as the client configuration passed on by each client, apply to
+ * all clients sharing the token manager.
+ *
+ * <pre>
+ * TokenManager tokenManager = TokenManagerRegistry.getDefault().getTokenManager(apiKey);
+ * AWSCredentials credentials = new BasicIBMOAuthCredentials(tokenManager, serviceInstanceId);
+ * </pre>
+ */
+@ThreadSafe
+public class TokenManagerRegistry {
+
+    protected static final InternalLogApi log = InternalLogFactory.getLog(TokenManagerRegistry.class);
+
+    /** Default maximum number of token managers held by a registry */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    /**
+     * Part of the refresh window, counted back from the refresh time of a
+     * token, over which its scheduled refresh is spread.
+     */
+    static final double REFRESH_JITTER = 0.5;
+
+    private static final TokenManagerRegistry DEFAULT = new TokenManagerRegistry(DEFAULT_MAX_SIZE);
+
+    private final Map<String, DefaultTokenManager> tokenManagers;
+
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    /**
+     * @return The registry shared by the whole process
+     */
+    public static TokenManagerRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Creates a registry with its own refresh scheduler. Most applications
+     * should use the {@link #getDefault() default registry} instead.
+     *
+     * @param maxSize
+     *            The maximum number of token managers to hold
+     */
+    public TokenManagerRegistry(final int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.tokenManagers = new LinkedHashMap<String, DefaultTokenManager>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, DefaultTokenManager> eldest) {
+                if (size() > maxSize) {
+                    log.debug("Evicting least recently used token manager");
+                    unregister(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.scheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "iam-token-refresh-scheduler");
+                t.setDaemon(true);
+                return t;
+            }
+        });
+        this.scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Returns the token manager for the given API key, creating one that uses
+     * the {@link DefaultTokenProvider} if none is registered yet.
+     *
+     * @param apiKey
+     *            The IBM API Key
+     * @return The shared token manager
+     */
+    public DefaultTokenManager getTokenManager(String apiKey) {
+        synchronized (tokenManagers) {
+            DefaultTokenManager tokenManager = tokenManagers.get(apiKey);
+            if (tokenManager == null) {
+                tokenManager = register(apiKey, new DefaultTokenManager(apiKey));
+            }
+            return tokenManager;
+        }
+    }
+
+    /**
+     * Returns the token manager registered under the given key, creating one
+     * that uses the given token provider if none is registered yet.
+     *
+     * @param key
+     *            The key to share the token manager under, such as a service
+     *            instance id
+     * @param provider
+     *            The token provider to use if a token manager is created
+     * @return The shared token manager
+     */
+    public DefaultTokenManager getTokenManager(String key, TokenProvider provider) {
+        synchronized (tokenManagers) {
+            DefaultTokenManager tokenManager = tokenManagers.get(key);
+            if (tokenManager == null) {
+                tokenManager = register(key, new DefaultTokenManager(provider));
+            }
+            return tokenManager;
+        }
+    }
+
+    /**
+     * Removes the token manager registered under the given key, if any. It
+     * keeps working for the clients still using it, but is no longer
+     * refreshed ahead of time.
+     *
+     * @param key
+     *            The key the token manager is registered under
+     */
+    public void remove(String key) {
+        synchronized (tokenManagers) {
+            DefaultTokenManager tokenManager = tokenManagers.remove(key);
+            if (tokenManager != null) {
+                unregister(tokenManager);
+            }
+        }
+    }
+
+    /**
+     * @return The number of token managers currently registered
+     */
+    public int size() {
+        synchronized (tokenManagers) {
+            return tokenManagers.size();
+        }
+    }
+
+    private DefaultTokenManager register(String key, DefaultTokenManager tokenManager) {
+        if (key == null) {
+            throw new IllegalArgumentException("key must not be null");
+        }
+        tokenManager.setRegistry(this);
+        tokenManagers.put(key, tokenManager);
+        return tokenManager;
+    }
+
+    private void unregister(DefaultTokenManager tokenManager) {
+        tokenManager.setRegistry(null);
+        if (tokenManager.scheduledRefresh != null) {
+            tokenManager.scheduledRefresh.cancel(false);
+            tokenManager.scheduledRefresh = null;
+        }
+    }
+
+    /**
+     * Schedules the background refresh of the token just cached by the given
+     * token manager, replacing any refresh scheduled for its previous token.
+     * Tokens already due for refresh are left to the request path.
+     */
+    void scheduleRefresh(final DefaultTokenManager tokenManager) {
+        final long refreshTime = tokenManager.getCachedRefreshTime() * 1000L;
+        final long window = tokenManager.getCachedExpirationTime() * 1000L - refreshTime;
+        final long untilRefresh = refreshTime - System.currentTimeMillis();
+        // Never spread over more than the time left, which would refresh short
+        // lived tokens right away
+        final long jitter = (long) (ThreadLocalRandom.current().nextDouble()
+                * Math.max(0, Math.min(window, untilRefresh)) * REFRESH_JITTER);
+
+        synchronized (tokenManagers) {
+            if (tokenManager.getRegistry() != this) {
+                return;
+            }
+            if (tokenManager.scheduledRefresh != null) {
+                tokenManager.scheduledRefresh.cancel(false);
+                tokenManager.scheduledRefresh = null;
+            }
+            if (untilRefresh <= 0) {
+                return;
+            }
+            tokenManager.scheduledRefresh = scheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    tokenManager.refreshInBackground();
+                }
+            }, untilRefresh - jitter, TimeUnit.MILLISECONDS);
+        }
+    }
+}
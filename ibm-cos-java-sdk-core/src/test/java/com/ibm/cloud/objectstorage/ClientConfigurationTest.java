@@ -26,6 +26,8 @@ import static org.unitils.reflectionassert.ReflectionAssert.assertReflectionEqua
 
 import com.ibm.cloud.objectstorage.http.SystemPropertyTlsKeyManagersProvider;
 import com.ibm.cloud.objectstorage.http.TlsKeyManagersProvider;
+import com.ibm.cloud.objectstorage.http.client.HttpClientFactory;
+import com.ibm.cloud.objectstorage.http.jdk.JdkHttpClientFactory;
 import com.ibm.cloud.objectstorage.retry.PredefinedRetryPolicies;
 import com.ibm.cloud.objectstorage.retry.RetryMode;
 import com.ibm.cloud.objectstorage.retry.RetryPolicy;
@@ -596,6 +598,8 @@ public class ClientConfigurationTest {
                 field.set(customConfig, new SystemPropertyTlsKeyManagersProvider());
             } else if (clzz.isAssignableFrom(RetryMode.class)) {
                 field.set(customConfig, RetryMode.LEGACY);
+            } else if (clzz.isAssignableFrom(HttpClientFactory.class)) {
+                field.set(customConfig, new JdkHttpClientFactory());
             } else {
                 throw new RuntimeException(
                         String.format("Field %s of type %s is not supported",
@@ -133,6 +133,55 @@ public class AWS4SignerTest {
                      request.getHeaders().get("Authorization"));
     }
 
+    @Test
+    public void signingWithDifferentKeys_usesTheKeyOfEachRequest() throws Exception {
+        AWSCredentials credentials = new BasicAWSCredentials("access", "secret");
+        AWSCredentials otherCredentials = new BasicAWSCredentials("other", "other-secret");
+
+        Calendar c = new GregorianCalendar();
+        c.set(1981, 1, 16, 6, 30, 0);
+        c.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+        signer.setOverrideDate(c.getTime());
+        signer.setServiceName("demo");
+
+        for (int i = 0; i < 2; i++) {
+            SignableRequest<?> request = generateBasicRequest();
+            signer.sign(request, credentials);
+            assertEquals("AWS4-HMAC-SHA256 Credential=access/19810216/us-east-1/demo/aws4_request, "
+                         + "SignedHeaders=host;x-amz-archive-description;x-amz-date, "
+                         + "Signature=77fe7c02927966018667f21d1dc3dfad9057e58401cbb9ed64f1b7868288e35a",
+                         request.getHeaders().get("Authorization"));
+
+            request = generateBasicRequest();
+            signer.sign(request, otherCredentials);
+            assertEquals("AWS4-HMAC-SHA256 Credential=other/19810216/us-east-1/demo/aws4_request, "
+                         + "SignedHeaders=host;x-amz-archive-description;x-amz-date, "
+                         + "Signature=16edc8452c7070d59f932c6d78aa629f36a7ee83438ebf2b99967493ebceff21",
+                         request.getHeaders().get("Authorization"));
+        }
+    }
+
+    @Test
+    public void signingWithNonAsciiHeaderValue_encodesUtf8() throws Exception {
+        AWSCredentials credentials = new BasicAWSCredentials("access", "secret");
+        SignableRequest<?> request = generateBasicRequest();
+        request.addHeader("x-amz-meta-name", "caf\u00e9 \u6587\u5b57");
+
+        Calendar c = new GregorianCalendar();
+        c.set(1981, 1, 16, 6, 30, 0);
+        c.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+        signer.setOverrideDate(c.getTime());
+        signer.setServiceName("demo");
+
+        signer.sign(request, credentials);
+        assertEquals("AWS4-HMAC-SHA256 Credential=access/19810216/us-east-1/demo/aws4_request, "
+                     + "SignedHeaders=host;x-amz-archive-description;x-amz-date;x-amz-meta-name, "
+                     + "Signature=eb37f51b1e68b3f4ac8647ff262606c5195e7ff095bb5e122005314360a1c712",
+                     request.getHeaders().get("Authorization"));
+    }
+
     @Test
     public void testPresigning() throws Exception {
         final String EXPECTED_AMZ_SIGNATURE = "bf7ae1c2f266d347e290a2aee7b126d38b8a695149d003b9fab2ed1eb6d6ebda";
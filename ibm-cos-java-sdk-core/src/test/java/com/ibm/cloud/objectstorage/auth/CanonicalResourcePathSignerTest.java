@@ -43,9 +43,12 @@ public class CanonicalResourcePathSignerTest {
             tc("Single segment no slash -> slash prepended", "foo", "/foo"),
             tc("Multiple segments -> unchanged", "/foo/bar", "/foo/bar"),
             tc("Multiple segments with trailing slash -> unchanged", "/foo/bar/", "/foo/bar/"),
+            tc("Unreserved characters -> unchanged", "/foo-bar_~/baz.txt", "/foo-bar_~/baz.txt"),
+            tc("Empty segment -> should remove empty segment", "/foo//bar", "/foo/bar"),
 
             // Double URL encoding
             tc("Multiple segments, urlEncoded slash -> encodes percent", "/foo%2Fbar", "/foo%252Fbar"),
+            tc("Space -> url encoded", "/foo bar", "/foo%20bar"),
 
             // Normalization
             tc("Single segment, dot -> should remove dot", "/.", "/"),
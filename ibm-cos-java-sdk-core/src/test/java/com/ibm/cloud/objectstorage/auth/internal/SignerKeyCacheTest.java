@@ -0,0 +1,116 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.auth.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import com.ibm.cloud.objectstorage.auth.internal.SignerKeyCache.Fingerprint;
+
+public class SignerKeyCacheTest {
+
+    private static final byte[] KEY = new byte[] { 1, 2, 3 };
+
+    @Test
+    public void getCountsHitsAndMisses() {
+        SignerKeyCache cache = new SignerKeyCache(3);
+        Fingerprint fingerprint = new Fingerprint("secret", "us-south", "s3");
+
+        assertNull(cache.get(fingerprint, 100));
+        cache.add(fingerprint, new SignerKey(100, KEY));
+        assertNotNull(cache.get(new Fingerprint("secret", "us-south", "s3"), 100));
+        // A key derived for another day is not returned
+        assertNull(cache.get(fingerprint, 101));
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void addEvictsEarliestKey() {
+        SignerKeyCache cache = new SignerKeyCache(2);
+        Fingerprint k1 = new Fingerprint("secret1", "us-south", "s3");
+        Fingerprint k2 = new Fingerprint("secret2", "us-south", "s3");
+        Fingerprint k3 = new Fingerprint("secret1", "eu-de", "s3");
+
+        cache.add(k1, new SignerKey(100, KEY));
+        cache.add(k2, new SignerKey(100, KEY));
+        // Replacing a key keeps its place
+        cache.add(k1, new SignerKey(101, KEY));
+        assertEquals(2, cache.size());
+
+        cache.add(k3, new SignerKey(100, KEY));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertNull(cache.get(k1, 101));
+        assertNotNull(cache.get(k2, 100));
+        assertNotNull(cache.get(k3, 100));
+    }
+
+    @Test
+    public void concurrentAddsStayBounded() throws InterruptedException {
+        final SignerKeyCache cache = new SignerKeyCache(50);
+        final CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < 8; t++) {
+            final int thread = t;
+            Thread th = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < 1000; i++) {
+                        Fingerprint fingerprint = new Fingerprint("secret" + (i % 200), "region" + thread, "s3");
+                        if (cache.get(fingerprint, 100) == null) {
+                            cache.add(fingerprint, new SignerKey(100, KEY));
+                        }
+                    }
+                }
+            };
+            th.start();
+            threads.add(th);
+        }
+        start.countDown();
+        for (Thread th : threads) {
+            th.join();
+        }
+
+        assertTrue(cache.size() <= 50);
+        assertEquals(8000, cache.getHitCount() + cache.getMissCount());
+    }
+
+    @Test
+    public void fingerprintDoesNotExposeSecretKey() {
+        Fingerprint fingerprint = new Fingerprint("secret", "us-south", "s3");
+        assertFalse(fingerprint.toString().contains("secret"));
+        assertTrue(fingerprint.equals(new Fingerprint("secret", "us-south", "s3")));
+        assertFalse(fingerprint.equals(new Fingerprint("secret", "us-south", "kms")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroSizeIsRejected() {
+        new SignerKeyCache(0);
+    }
+}
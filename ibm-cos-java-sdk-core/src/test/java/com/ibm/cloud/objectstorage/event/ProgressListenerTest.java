@@ -19,11 +19,21 @@
 package com.ibm.cloud.objectstorage.event;
 
 import static com.ibm.cloud.objectstorage.event.SDKProgressPublisher.publishProgress;
+import static com.ibm.cloud.objectstorage.event.SDKProgressPublisher.publishRequestBytesTransferred;
+import static com.ibm.cloud.objectstorage.event.SDKProgressPublisher.publishResponseBytesTransferred;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 
@@ -80,4 +90,168 @@ public class ProgressListenerTest {
             // expected
         }
     }
+
+    // Byte counts published while the callback thread is busy are coalesced
+    @Test
+    public void coalesceByteCountsWithAsyncListener() throws Exception {
+        final CountDownLatch blocked = new CountDownLatch(1);
+        publishProgress(new ProgressListener() {
+            @Override
+            public void progressChanged(ProgressEvent progressEvent) {
+                try {
+                    blocked.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }, ProgressEventType.CLIENT_REQUEST_STARTED_EVENT);
+        final ProgressTracker tracker = new ProgressTracker();
+        final int[] events = new int[1];
+        ProgressListener asyncListener = new ProgressListener() {
+            @Override
+            public void progressChanged(ProgressEvent progressEvent) {
+                events[0]++;
+                tracker.progressChanged(progressEvent);
+            }
+        };
+        Future<?> future = null;
+        for (int i = 0; i < 1000; i++) {
+            publishRequestBytesTransferred(asyncListener, 8192);
+            future = publishResponseBytesTransferred(asyncListener, 10);
+        }
+        blocked.countDown();
+        future.get();
+        assertEquals(2, events[0]);
+        assertEquals(1000 * 8192, tracker.getProgress().getRequestBytesTransferred());
+        assertEquals(1000 * 10, tracker.getProgress().getResponseBytesTransferred());
+    }
+
+    // Byte counts published concurrently to the same listener are all delivered
+    @Test
+    public void deliverAllByteCountsPublishedConcurrently() throws Exception {
+        final ProgressTracker tracker = new ProgressTracker();
+        final ProgressListener asyncListener = new ProgressListener() {
+            @Override
+            public void progressChanged(ProgressEvent progressEvent) {
+                tracker.progressChanged(progressEvent);
+            }
+        };
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < 10000; j++) {
+                        publishRequestBytesTransferred(asyncListener, 3);
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        // Runs after every byte count submitted before it
+        publishProgress(asyncListener, ProgressEventType.CLIENT_REQUEST_SUCCESS_EVENT).get();
+        assertEquals(8 * 10000 * 3, tracker.getProgress().getRequestBytesTransferred());
+    }
+
+    // Small byte counts are held back until a later event delivers them first
+    @Test
+    public void deliverHeldByteCountsBeforeCompletion() throws Exception {
+        final List<ProgressEventType> types = new CopyOnWriteArrayList<ProgressEventType>();
+        final ProgressTracker tracker = new ProgressTracker();
+        ProgressListener asyncListener = new ProgressListener() {
+            @Override
+            public void progressChanged(ProgressEvent progressEvent) {
+                types.add(progressEvent.getEventType());
+                tracker.progressChanged(progressEvent);
+            }
+        };
+        assertNull(publishRequestBytesTransferred(asyncListener, 100));
+        assertNull(publishResponseBytesTransferred(asyncListener, 10));
+        publishProgress(asyncListener, ProgressEventType.TRANSFER_COMPLETED_EVENT).get();
+        assertEquals(ProgressEventType.TRANSFER_COMPLETED_EVENT, types.get(types.size() - 1));
+        assertEquals(100, tracker.getProgress().getRequestBytesTransferred());
+        assertEquals(10, tracker.getProgress().getResponseBytesTransferred());
+    }
+
+    // Byte counts are delivered once the minimum interval has passed, even
+    // when nothing else is published to the listener
+    @Test
+    public void deliverByteCountsAfterMinimumInterval() throws Exception {
+        final CountDownLatch delivered = new CountDownLatch(1);
+        final ProgressTracker tracker = new ProgressTracker();
+        ProgressListener asyncListener = new ProgressListener() {
+            @Override
+            public void progressChanged(ProgressEvent progressEvent) {
+                tracker.progressChanged(progressEvent);
+                delivered.countDown();
+            }
+        };
+        assertNull(publishRequestBytesTransferred(asyncListener, 10));
+        assertNull(publishRequestBytesTransferred(asyncListener, 10));
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        assertEquals(20, tracker.getProgress().getRequestBytesTransferred());
+    }
+
+    // A response stream read to its end delivers all of its bytes at once,
+    // however few
+    @Test
+    public void deliverAllBytesOfStreamReadToEnd() throws Exception {
+        final ProgressTracker tracker = new ProgressTracker();
+        ProgressListener asyncListener = new ProgressListener() {
+            @Override
+            public void progressChanged(ProgressEvent progressEvent) {
+                tracker.progressChanged(progressEvent);
+            }
+        };
+        int length = 100 * 1024;
+        InputStream in = ProgressInputStream.inputStreamForResponse(
+                new ByteArrayInputStream(new byte[length]), asyncListener);
+        byte[] buffer = new byte[4096];
+        while (in.read(buffer) != -1) {
+        }
+        // Runs after every task handed to the callback thread so far
+        SDKProgressPublisher.getExecutorService().submit(new Runnable() {
+            @Override
+            public void run() {
+            }
+        }).get();
+        assertEquals(length, tracker.getProgress().getResponseBytesTransferred());
+    }
+
+    // Waiting for completion delivers the byte counts held back
+    @Test
+    @SuppressWarnings("deprecation")
+    public void deliverHeldByteCountsWhenWaitingForCompletion() throws Exception {
+        final ProgressTracker tracker = new ProgressTracker();
+        ProgressListener asyncListener = new ProgressListener() {
+            @Override
+            public void progressChanged(ProgressEvent progressEvent) {
+                tracker.progressChanged(progressEvent);
+            }
+        };
+        assertNull(publishResponseBytesTransferred(asyncListener, 10));
+        SDKProgressPublisher.waitTillCompletion();
+        assertEquals(10, tracker.getProgress().getResponseBytesTransferred());
+    }
+
+    // A listener failing on one byte count still gets the other
+    @Test
+    public void deliverResponseBytesAfterFailureOnRequestBytes() throws Exception {
+        final ProgressTracker tracker = new ProgressTracker();
+        ProgressListener asyncListener = new ProgressListener() {
+            @Override
+            public void progressChanged(ProgressEvent progressEvent) {
+                if (progressEvent.getEventType() == ProgressEventType.REQUEST_BYTE_TRANSFER_EVENT) {
+                    throw new IllegalStateException();
+                }
+                tracker.progressChanged(progressEvent);
+            }
+        };
+        publishResponseBytesTransferred(asyncListener, 10);
+        publishRequestBytesTransferred(asyncListener, 1024 * 1024).get();
+        assertEquals(10, tracker.getProgress().getResponseBytesTransferred());
+    }
 }
@@ -0,0 +1,93 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.http;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.ibm.cloud.objectstorage.DefaultRequest;
+import com.ibm.cloud.objectstorage.internal.ReleasableInputStream;
+
+public class BulkCopyInputStreamEntityTest {
+
+    private static final byte[] CONTENT = content(300 * 1024);
+
+    @Test
+    public void testWritesContentInBufferSizedChunks() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        new BulkCopyInputStreamEntity(new ByteArrayInputStream(CONTENT), CONTENT.length).writeTo(out);
+
+        assertArrayEquals(CONTENT, out.toByteArray());
+        assertEquals(3, out.writes);
+    }
+
+    @Test
+    public void testWritesNoMoreThanContentLength() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BulkCopyInputStreamEntity(new ByteArrayInputStream(CONTENT), 1000).writeTo(out);
+
+        assertArrayEquals(Arrays.copyOf(CONTENT, 1000), out.toByteArray());
+    }
+
+    @Test
+    public void testWritesUntilEndOfUnknownLengthContent() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BulkCopyInputStreamEntity(new ByteArrayInputStream(CONTENT), -1).writeTo(out);
+
+        assertArrayEquals(CONTENT, out.toByteArray());
+    }
+
+    @Test
+    public void testRequestEntityWritesContentAgainOnRetry() throws IOException {
+        DefaultRequest<Object> request = new DefaultRequest<Object>("test");
+        request.addHeader("Content-Length", String.valueOf(CONTENT.length));
+        // As the client does, so that writing an attempt out doesn't close the content
+        request.setContent(ReleasableInputStream.wrap(new ByteArrayInputStream(CONTENT)).disableClose());
+        request.getContent().mark(-1);
+        RepeatableInputStreamRequestEntity entity = new RepeatableInputStreamRequestEntity(request);
+        assertTrue(entity.isRepeatable());
+
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        entity.writeTo(first);
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        entity.writeTo(second);
+
+        assertArrayEquals(CONTENT, first.toByteArray());
+        assertArrayEquals(CONTENT, second.toByteArray());
+    }
+
+    private static byte[] content(int length) {
+        byte[] content = new byte[length];
+        new Random(length).nextBytes(content);
+        return content;
+    }
+
+    private static class CountingOutputStream extends ByteArrayOutputStream {
+        private int writes;
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            writes++;
+            super.write(b, off, len);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.http.conn;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.Assert.assertEquals;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import com.ibm.cloud.objectstorage.ClientConfiguration;
+import com.ibm.cloud.objectstorage.http.apache.client.impl.ApacheConnectionManagerFactory;
+import com.ibm.cloud.objectstorage.http.settings.HttpClientSettings;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ConnectionPoolWarmerTest {
+    @Rule
+    public WireMockRule wireMock = new WireMockRule(wireMockConfig().port(0));
+
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    @After
+    public void teardown() {
+        if (connectionManager != null) {
+            connectionManager.shutdown();
+        }
+    }
+
+    @Test
+    public void warmUp_opensConnectionsAndReturnsThemToPool() throws Exception {
+        HttpClientSettings settings = HttpClientSettings.adapt(new ClientConfiguration());
+        connectionManager = (PoolingHttpClientConnectionManager) new ApacheConnectionManagerFactory().create(settings);
+
+        int opened = new ConnectionPoolWarmer(connectionManager, settings)
+                .warmUp(URI.create("http://localhost:" + wireMock.port()), 3)
+                .get(10, TimeUnit.SECONDS);
+
+        assertEquals(3, opened);
+        PoolStats stats = connectionManager.getTotalStats();
+        assertEquals(3, stats.getAvailable());
+        assertEquals(0, stats.getLeased());
+    }
+
+    @Test
+    public void warmUp_cappedAtMaxConnections() throws Exception {
+        HttpClientSettings settings = HttpClientSettings.adapt(new ClientConfiguration().withMaxConnections(2));
+        connectionManager = (PoolingHttpClientConnectionManager) new ApacheConnectionManagerFactory().create(settings);
+
+        int opened = new ConnectionPoolWarmer(connectionManager, settings)
+                .warmUp(URI.create("http://localhost:" + wireMock.port()), 5)
+                .get(10, TimeUnit.SECONDS);
+
+        assertEquals(2, opened);
+        assertEquals(2, connectionManager.getTotalStats().getAvailable());
+    }
+
+    @Test
+    public void warmUp_moreConnectionsThanWarmUpThreads_opensAll() throws Exception {
+        HttpClientSettings settings = HttpClientSettings.adapt(new ClientConfiguration());
+        connectionManager = (PoolingHttpClientConnectionManager) new ApacheConnectionManagerFactory().create(settings);
+
+        int opened = new ConnectionPoolWarmer(connectionManager, settings)
+                .warmUp(URI.create("http://localhost:" + wireMock.port()), 12)
+                .get(10, TimeUnit.SECONDS);
+
+        assertEquals(12, opened);
+        assertEquals(12, connectionManager.getTotalStats().getAvailable());
+    }
+
+    @Test
+    public void warmUp_unreachableEndpoint_opensNothing() throws Exception {
+        HttpClientSettings settings = HttpClientSettings.adapt(new ClientConfiguration());
+        connectionManager = (PoolingHttpClientConnectionManager) new ApacheConnectionManagerFactory().create(settings);
+        int port = wireMock.port();
+        wireMock.stop();
+
+        int opened = new ConnectionPoolWarmer(connectionManager, settings)
+                .warmUp(URI.create("http://localhost:" + port), 3)
+                .get(10, TimeUnit.SECONDS);
+
+        assertEquals(0, opened);
+        assertEquals(0, connectionManager.getTotalStats().getAvailable());
+        assertEquals(0, connectionManager.getTotalStats().getLeased());
+    }
+}
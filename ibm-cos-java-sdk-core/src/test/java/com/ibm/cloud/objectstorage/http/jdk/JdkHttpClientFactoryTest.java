@@ -0,0 +1,135 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.http.jdk;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.put;
+import static com.github.tomakehurst.wiremock.client.WireMock.putRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import com.ibm.cloud.objectstorage.ClientConfiguration;
+import com.ibm.cloud.objectstorage.DefaultRequest;
+import com.ibm.cloud.objectstorage.Response;
+import com.ibm.cloud.objectstorage.SdkClientException;
+import com.ibm.cloud.objectstorage.http.AmazonHttpClient;
+import com.ibm.cloud.objectstorage.http.ExecutionContext;
+import com.ibm.cloud.objectstorage.http.HttpMethodName;
+import com.ibm.cloud.objectstorage.http.HttpResponse;
+import com.ibm.cloud.objectstorage.http.HttpResponseHandler;
+import com.ibm.cloud.objectstorage.http.settings.HttpClientSettings;
+import com.ibm.cloud.objectstorage.util.IOUtils;
+import com.ibm.cloud.objectstorage.util.StringUtils;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.net.URI;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class JdkHttpClientFactoryTest {
+    @Rule
+    public WireMockRule wireMock = new WireMockRule(wireMockConfig().port(0));
+
+    private AmazonHttpClient httpClient;
+
+    @After
+    public void teardown() {
+        if (httpClient != null) {
+            httpClient.shutdown();
+        }
+    }
+
+    @Test
+    public void create_beforeJava11_failsWithClearMessage() {
+        assumeFalse(JdkHttpClientFactory.isSupported());
+        try {
+            new JdkHttpClientFactory().create(HttpClientSettings.adapt(new ClientConfiguration()));
+            fail("Expected SdkClientException");
+        } catch (SdkClientException expected) {
+            assertEquals(true, expected.getMessage().contains("Java 11"));
+        }
+    }
+
+    @Test
+    public void execute_sendsRequestAndReadsResponse() throws Exception {
+        assumeTrue(JdkHttpClientFactory.isSupported());
+        wireMock.stubFor(put(urlEqualTo("/bucket/key?uploads")).willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("ETag", "\"etag\"")
+                .withBody("response body")));
+        httpClient = new AmazonHttpClient(new ClientConfiguration()
+                .withTlsKeyManagersProvider(null)
+                .withHttpClientFactory(new JdkHttpClientFactory()));
+
+        DefaultRequest<Void> request = new DefaultRequest<Void>(null, "service");
+        request.setEndpoint(URI.create("http://localhost:" + wireMock.port()));
+        request.setResourcePath("/bucket/key");
+        request.addParameter("uploads", null);
+        request.setHttpMethod(HttpMethodName.PUT);
+        request.addHeader("x-amz-meta-foo", "bar");
+        request.addHeader("Content-Length", "12");
+        request.setContent(new ByteArrayInputStream("request body".getBytes(StringUtils.UTF8)));
+
+        Response<String> response = httpClient.requestExecutionBuilder()
+                .request(request)
+                .executionContext(new ExecutionContext())
+                .execute(new BodyHandler());
+
+        assertEquals("response body", response.getAwsResponse());
+        assertEquals(200, response.getHttpResponse().getStatusCode());
+        assertEquals("\"etag\"", response.getHttpResponse().getHeaders().get("ETag"));
+        verify(putRequestedFor(urlEqualTo("/bucket/key?uploads"))
+                .withHeader("x-amz-meta-foo", equalTo("bar"))
+                .withRequestBody(equalTo("request body")));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void deprecatedAccessors_areBenignAndShutdownClosesClient() throws Exception {
+        final boolean[] closed = new boolean[1];
+        JdkHttpClient client = new JdkHttpClient(new Closeable() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        });
+
+        assertNotNull(client.getParams());
+        assertNotNull(client.getConnectionManager().getSchemeRegistry());
+        client.getConnectionManager().closeExpiredConnections();
+        client.getConnectionManager().shutdown();
+        assertTrue(closed[0]);
+    }
+
+    private static class BodyHandler implements HttpResponseHandler<String> {
+        @Override
+        public String handle(HttpResponse response) throws Exception {
+            return IOUtils.toString(response.getContent());
+        }
+
+        @Override
+        public boolean needsConnectionLeftOpen() {
+            return false;
+        }
+    }
+}
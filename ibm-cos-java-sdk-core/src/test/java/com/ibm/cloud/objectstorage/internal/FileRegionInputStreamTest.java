@@ -0,0 +1,95 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.internal;
+
+import static com.ibm.cloud.objectstorage.util.FileUtils.generateRandomAsciiFile;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class FileRegionInputStreamTest {
+
+    private static File file;
+    private static String fileContent;
+
+    @BeforeClass
+    public static void setup() throws IOException {
+        file = generateRandomAsciiFile(100);
+        fileContent = FileUtils.readFileToString(file);
+    }
+
+    @Test
+    public void testReadsOnlyTheRegion() throws IOException {
+        FileRegionInputStream is = new FileRegionInputStream(file, 10, 30);
+        assertEquals(30, is.getRegionLength());
+        assertEquals(30, is.available());
+        assertEquals(fileContent.substring(10, 40), IOUtils.toString(is));
+        assertEquals(0, is.getRemaining());
+        assertEquals(-1, is.read());
+        is.release();
+    }
+
+    @Test
+    public void testRegionIsTruncatedAtEndOfFile() throws IOException {
+        FileRegionInputStream is = new FileRegionInputStream(file, 90, 30);
+        assertEquals(10, is.getRegionLength());
+        assertEquals(fileContent.substring(90), IOUtils.toString(is));
+        is.release();
+    }
+
+    @Test
+    public void testMarkAndReset() throws IOException {
+        FileRegionInputStream is = new FileRegionInputStream(file, 50, 50);
+        assertTrue(is.markSupported());
+        assertEquals(fileContent.substring(50), IOUtils.toString(is));
+        is.reset();
+        assertEquals(5, is.skip(5));
+        is.mark(-1);
+        assertEquals(fileContent.substring(55), IOUtils.toString(is));
+        is.reset();
+        assertEquals(fileContent.substring(55), IOUtils.toString(is));
+        is.release();
+    }
+
+    @Test
+    public void testReadIntoDirectBuffer() throws IOException {
+        FileRegionInputStream is = new FileRegionInputStream(file, 0, 20);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        assertEquals(20, is.read(buffer));
+        assertEquals(64, buffer.limit());
+        assertEquals(-1, is.read(buffer));
+        buffer.flip();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        assertEquals(fileContent.substring(0, 20), new String(bytes));
+        is.release();
+    }
+
+    @Test
+    public void testCloseDisabled() throws IOException {
+        FileRegionInputStream is = new FileRegionInputStream(file, 0, 10).disableClose();
+        assertEquals(fileContent.substring(0, 10), IOUtils.toString(is));
+        is.close();
+        is.reset();
+        assertEquals(fileContent.substring(0, 10), IOUtils.toString(is));
+        is.release();
+    }
+}
@@ -273,6 +273,76 @@ public class DefaultTokenManagerTest {
 		verify(defaultTokenManager, times(1)).submitRefreshTask();
 	}
 	
+	/**
+	 * Mock TokenProvider to return expiring token.
+	 * Only the first caller should trigger a refresh while it is in progress,
+	 * other callers keep using the current token.
+	 */
+	@Test
+	public void shouldOnlySubmitOneRefreshWhileInProgress() {
+		long expiry = (System.currentTimeMillis() / 1000L) + 60;
+		Token expiringToken = new Token();
+		expiringToken.setAccess_token(accessToken);
+		expiringToken.setRefresh_token(refreshToken);
+		expiringToken.setToken_type("Bearer");
+		expiringToken.setExpires_in("3600");
+		expiringToken.setExpiration(String.valueOf(expiry));
+
+		TokenProvider tokenProviderMock = mock(TokenProvider.class);
+		DefaultTokenManager defaultTokenManager = spy(new DefaultTokenManager(tokenProviderMock));
+		when(tokenProviderMock.retrieveToken()).thenReturn(expiringToken);
+		Mockito.doNothing().when(defaultTokenManager).submitRefreshTask();
+
+		assertEquals(accessToken, defaultTokenManager.getToken());
+		assertEquals(accessToken, defaultTokenManager.getToken());
+		assertEquals(accessToken, defaultTokenManager.getToken());
+
+		verify(defaultTokenManager, times(1)).submitRefreshTask();
+		verify(tokenProviderMock, times(1)).retrieveToken();
+		assertTrue(defaultTokenManager.isAsyncInProgress());
+	}
+
+	/**
+	 * Subclasses overriding the cache and expiry methods should still be
+	 * consulted when a token is retrieved.
+	 */
+	@Test
+	public void shouldConsultOverriddenCacheAndExpiryMethods() {
+		final Token cachedToken = new Token();
+		cachedToken.setAccess_token("cachedAccessToken");
+		cachedToken.setRefresh_token(refreshToken);
+		cachedToken.setExpiration("0");
+
+		TokenProvider tokenProviderMock = mock(TokenProvider.class);
+		DefaultTokenManager defaultTokenManager = spy(new DefaultTokenManager(tokenProviderMock) {
+			@Override
+			protected boolean checkCache() {
+				return true;
+			}
+
+			@Override
+			protected Token retrieveTokenFromCache() {
+				return cachedToken;
+			}
+
+			@Override
+			protected boolean hasTokenExpired(Token token) {
+				return false;
+			}
+
+			@Override
+			protected boolean isTokenExpiring(Token token) {
+				return false;
+			}
+		});
+
+		assertEquals("cachedAccessToken", defaultTokenManager.getToken());
+
+		verify(defaultTokenManager, times(1)).hasTokenExpired(cachedToken);
+		verify(defaultTokenManager, times(1)).isTokenExpiring(cachedToken);
+		verify(tokenProviderMock, never()).retrieveToken();
+	}
+
 	/**
 	 * Mock TokenProvider to return expiring token.
 	 * Token manager should recognize that token is expiring and attempt to refresh.
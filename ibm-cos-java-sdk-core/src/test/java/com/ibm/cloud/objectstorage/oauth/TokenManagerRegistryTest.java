@@ -0,0 +1,97 @@
+package com.ibm.cloud.objectstorage.oauth;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+public class TokenManagerRegistryTest {
+
+	/**
+	 * Test that the same token manager is returned for the same key
+	 */
+	@Test
+	public void shouldShareTokenManagerPerKey() {
+		TokenManagerRegistry registry = new TokenManagerRegistry(10);
+
+		DefaultTokenManager first = registry.getTokenManager("apiKey1");
+
+		assertSame(first, registry.getTokenManager("apiKey1"));
+		assertNotSame(first, registry.getTokenManager("apiKey2"));
+		assertSame(first, registry.getTokenManager("apiKey1", new TokenProviderUtil()));
+		assertEquals(2, registry.size());
+	}
+
+	/**
+	 * Test that the least recently requested token manager is evicted once the
+	 * registry is full
+	 */
+	@Test
+	public void shouldEvictLeastRecentlyUsedTokenManager() {
+		TokenManagerRegistry registry = new TokenManagerRegistry(2);
+
+		DefaultTokenManager a = registry.getTokenManager("a", new TokenProviderUtil());
+		DefaultTokenManager b = registry.getTokenManager("b", new TokenProviderUtil());
+		registry.getTokenManager("a", new TokenProviderUtil());
+		registry.getTokenManager("c", new TokenProviderUtil());
+
+		assertEquals(2, registry.size());
+		assertSame(a, registry.getTokenManager("a", new TokenProviderUtil()));
+		assertNull(b.getRegistry());
+		assertNotSame(b, registry.getTokenManager("b", new TokenProviderUtil()));
+	}
+
+	/**
+	 * Test that registered tokens are refreshed in the background before they
+	 * are due for refresh on the request path
+	 */
+	@Test
+	public void shouldRefreshTokenAheadOfTime() {
+		TokenProvider tokenProviderMock = mock(TokenProvider.class);
+		when(tokenProviderMock.retrieveToken()).thenAnswer(new Answer<Token>() {
+			@Override
+			public Token answer(InvocationOnMock invocation) {
+				Token token = new Token();
+				token.setAccess_token("ProviderAccessToken");
+				token.setToken_type("Bearer");
+				token.setExpires_in("10");
+				token.setExpiration(String.valueOf(System.currentTimeMillis() / 1000L + 10));
+				return token;
+			}
+		});
+
+		TokenManagerRegistry registry = new TokenManagerRegistry(10);
+		DefaultTokenManager tokenManager = registry.getTokenManager("serviceInstanceId", tokenProviderMock);
+		tokenManager.setIamRefreshOffset(0.9);
+
+		assertEquals("ProviderAccessToken", tokenManager.getToken());
+
+		verify(tokenProviderMock, timeout(5000).atLeast(3)).retrieveToken();
+	}
+
+	/**
+	 * Test that removed token managers are no longer refreshed ahead of time
+	 */
+	@Test
+	public void shouldNotScheduleRefreshAfterRemoval() {
+		TokenManagerRegistry registry = new TokenManagerRegistry(10);
+		DefaultTokenManager tokenManager = registry.getTokenManager("key", new TokenProviderUtil());
+
+		tokenManager.getToken();
+		assertEquals(true, tokenManager.scheduledRefresh != null);
+
+		registry.remove("key");
+
+		assertNull(tokenManager.scheduledRefresh);
+		assertEquals(0, registry.size());
+	}
+}
@@ -0,0 +1,184 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3;
+
+import java.io.File;
+import java.util.concurrent.CompletableFuture;
+
+import com.ibm.cloud.objectstorage.services.s3.model.AbortMultipartUploadRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.CompleteMultipartUploadRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.CompleteMultipartUploadResult;
+import com.ibm.cloud.objectstorage.services.s3.model.CopyObjectRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.CopyObjectResult;
+import com.ibm.cloud.objectstorage.services.s3.model.CopyPartRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.CopyPartResult;
+import com.ibm.cloud.objectstorage.services.s3.model.DeleteObjectRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.DeleteObjectsRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.DeleteObjectsResult;
+import com.ibm.cloud.objectstorage.services.s3.model.GetObjectMetadataRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.GetObjectRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.InitiateMultipartUploadRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.InitiateMultipartUploadResult;
+import com.ibm.cloud.objectstorage.services.s3.model.ListObjectsV2Request;
+import com.ibm.cloud.objectstorage.services.s3.model.ListObjectsV2Result;
+import com.ibm.cloud.objectstorage.services.s3.model.ObjectMetadata;
+import com.ibm.cloud.objectstorage.services.s3.model.PutObjectRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.PutObjectResult;
+import com.ibm.cloud.objectstorage.services.s3.model.S3Object;
+import com.ibm.cloud.objectstorage.services.s3.model.UploadPartRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.UploadPartResult;
+
+/**
+ * Asynchronous interface for the most frequently used object operations of
+ * IBM Cloud Object Storage. Every method returns immediately with a
+ * {@link CompletableFuture} that is completed with the result of the
+ * operation, or completed exceptionally with the
+ * {@link com.ibm.cloud.objectstorage.SdkClientException} or
+ * {@link com.ibm.cloud.objectstorage.AmazonServiceException} the equivalent
+ * {@link AmazonS3} call would have thrown.
+ * <p>
+ * Requests are marshalled, signed and unmarshalled exactly as they are by
+ * {@link AmazonS3}, but sent through a non-blocking HTTP transport: no thread
+ * waits for a response while the request is in flight, so a small number of
+ * application threads can keep many requests outstanding. Futures are
+ * completed from the transport's callback threads, so dependent stages that
+ * block should be run on an executor of their own.
+ *
+ * @see AmazonS3AsyncClientBuilder
+ */
+public interface AmazonS3Async {
+
+    /**
+     * Gets the object stored under the specified bucket and key. The content
+     * stream of the returned {@link S3Object} holds an HTTP connection until
+     * it is fully read or closed.
+     *
+     * @param getObjectRequest
+     *            The request object containing all the options on how to
+     *            download the object.
+     * @return A future completed with the object, or with <code>null</code>
+     *         if constraints were specified but not met.
+     * @see AmazonS3#getObject(GetObjectRequest)
+     */
+    CompletableFuture<S3Object> getObjectAsync(GetObjectRequest getObjectRequest);
+
+    /**
+     * Gets the object stored under the specified bucket and key and saves it
+     * to the specified file.
+     *
+     * @param getObjectRequest
+     *            The request object containing all the options on how to
+     *            download the object content.
+     * @param destinationFile
+     *            Indicates the file (which might already exist) where to save
+     *            the object content being downloaded.
+     * @return A future completed with the object's metadata, or with
+     *         <code>null</code> if constraints were specified but not met.
+     * @see AmazonS3#getObject(GetObjectRequest, File)
+     */
+    CompletableFuture<ObjectMetadata> getObjectAsync(GetObjectRequest getObjectRequest, File destinationFile);
+
+    /**
+     * Gets the metadata for the specified object without actually fetching
+     * the object itself.
+     *
+     * @see AmazonS3#getObjectMetadata(GetObjectMetadataRequest)
+     */
+    CompletableFuture<ObjectMetadata> getObjectMetadataAsync(GetObjectMetadataRequest getObjectMetadataRequest);
+
+    /**
+     * Uploads a new object to the specified bucket.
+     *
+     * @see AmazonS3#putObject(PutObjectRequest)
+     */
+    CompletableFuture<PutObjectResult> putObjectAsync(PutObjectRequest putObjectRequest);
+
+    /**
+     * Copies a source object to a new destination.
+     *
+     * @see AmazonS3#copyObject(CopyObjectRequest)
+     */
+    CompletableFuture<CopyObjectResult> copyObjectAsync(CopyObjectRequest copyObjectRequest);
+
+    /**
+     * Deletes the specified object.
+     *
+     * @see AmazonS3#deleteObject(DeleteObjectRequest)
+     */
+    CompletableFuture<Void> deleteObjectAsync(DeleteObjectRequest deleteObjectRequest);
+
+    /**
+     * Deletes multiple objects in a single bucket.
+     *
+     * @see AmazonS3#deleteObjects(DeleteObjectsRequest)
+     */
+    CompletableFuture<DeleteObjectsResult> deleteObjectsAsync(DeleteObjectsRequest deleteObjectsRequest);
+
+    /**
+     * Returns a page of the objects in a bucket.
+     *
+     * @see AmazonS3#listObjectsV2(ListObjectsV2Request)
+     */
+    CompletableFuture<ListObjectsV2Result> listObjectsV2Async(ListObjectsV2Request listObjectsV2Request);
+
+    /**
+     * Initiates a multipart upload.
+     *
+     * @see AmazonS3#initiateMultipartUpload(InitiateMultipartUploadRequest)
+     */
+    CompletableFuture<InitiateMultipartUploadResult> initiateMultipartUploadAsync(
+            InitiateMultipartUploadRequest request);
+
+    /**
+     * Uploads a part in a multipart upload.
+     *
+     * @see AmazonS3#uploadPart(UploadPartRequest)
+     */
+    CompletableFuture<UploadPartResult> uploadPartAsync(UploadPartRequest request);
+
+    /**
+     * Copies a source object to a part of a multipart upload.
+     *
+     * @see AmazonS3#copyPart(CopyPartRequest)
+     */
+    CompletableFuture<CopyPartResult> copyPartAsync(CopyPartRequest copyPartRequest);
+
+    /**
+     * Completes a multipart upload by assembling previously uploaded parts.
+     *
+     * @see AmazonS3#completeMultipartUpload(CompleteMultipartUploadRequest)
+     */
+    CompletableFuture<CompleteMultipartUploadResult> completeMultipartUploadAsync(
+            CompleteMultipartUploadRequest request);
+
+    /**
+     * Aborts a multipart upload.
+     *
+     * @see AmazonS3#abortMultipartUpload(AbortMultipartUploadRequest)
+     */
+    CompletableFuture<Void> abortMultipartUploadAsync(AbortMultipartUploadRequest request);
+
+    /**
+     * @return The synchronous client that marshals, signs and unmarshals the
+     *         requests issued through this client.
+     */
+    AmazonS3 getS3Client();
+
+    /**
+     * Shuts down this client and releases any resources it holds. Whether the
+     * underlying {@link AmazonS3}, and with it the transport, is shut down as
+     * well is controlled by
+     * {@link AmazonS3AsyncClientBuilder#setShutDownS3Client(Boolean)}.
+     */
+    void shutdown();
+}
@@ -0,0 +1,232 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3;
+
+import java.io.File;
+import java.util.concurrent.CompletableFuture;
+
+import com.ibm.cloud.objectstorage.annotation.ThreadSafe;
+import com.ibm.cloud.objectstorage.http.apache.client.impl.NonBlockingHttpClient;
+import com.ibm.cloud.objectstorage.services.s3.model.AbortMultipartUploadRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.CompleteMultipartUploadRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.CompleteMultipartUploadResult;
+import com.ibm.cloud.objectstorage.services.s3.model.CopyObjectRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.CopyObjectResult;
+import com.ibm.cloud.objectstorage.services.s3.model.CopyPartRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.CopyPartResult;
+import com.ibm.cloud.objectstorage.services.s3.model.DeleteObjectRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.DeleteObjectsRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.DeleteObjectsResult;
+import com.ibm.cloud.objectstorage.services.s3.model.GetObjectMetadataRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.GetObjectRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.InitiateMultipartUploadRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.InitiateMultipartUploadResult;
+import com.ibm.cloud.objectstorage.services.s3.model.ListObjectsV2Request;
+import com.ibm.cloud.objectstorage.services.s3.model.ListObjectsV2Result;
+import com.ibm.cloud.objectstorage.services.s3.model.ObjectMetadata;
+import com.ibm.cloud.objectstorage.services.s3.model.PutObjectRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.PutObjectResult;
+import com.ibm.cloud.objectstorage.services.s3.model.S3Object;
+import com.ibm.cloud.objectstorage.services.s3.model.UploadPartRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.UploadPartResult;
+
+/**
+ * Default implementation of {@link AmazonS3Async}.
+ * <p>
+ * Requests are built by the wrapped {@link AmazonS3Client} with the same
+ * marshallers, signers and response handlers as its synchronous operations,
+ * and sent through its {@link NonBlockingHttpClient} transport, such as the
+ * one created by {@link com.ibm.cloud.objectstorage.http.jdk.JdkHttpClientFactory}.
+ * The calling thread only marshals and signs the request; the returned
+ * futures are completed from the transport's callbacks and retries are
+ * scheduled without holding a thread, so the number of requests in flight is
+ * not bounded by a pool of threads.
+ * <p>
+ * Errors detected while building a request, such as a missing bucket name,
+ * are reported through the returned future like any other failure.
+ * <p>
+ * Instances should be created through {@link AmazonS3AsyncClientBuilder}.
+ */
+@ThreadSafe
+public class AmazonS3AsyncClient implements AmazonS3Async {
+
+    private final AmazonS3Client s3;
+
+    private final boolean shutDownS3Client;
+
+    /**
+     * Constructs a new asynchronous client which sends requests through the
+     * transport of the specified client.
+     *
+     * @param s3
+     *            The client used to marshal, sign and unmarshal requests. Its
+     *            transport must be a {@link NonBlockingHttpClient}.
+     * @param shutDownS3Client
+     *            True if {@link #shutdown()} should also shut down the
+     *            specified client.
+     */
+    AmazonS3AsyncClient(AmazonS3Client s3, boolean shutDownS3Client) {
+        if (s3 == null) {
+            throw new IllegalArgumentException("The S3 client must be specified");
+        }
+        if (!s3.isNonBlocking()) {
+            throw new IllegalArgumentException("The S3 client must be configured with a non-blocking transport, "
+                    + "see ClientConfiguration#setHttpClientFactory");
+        }
+        this.s3 = s3;
+        this.shutDownS3Client = shutDownS3Client;
+    }
+
+    @Override
+    public CompletableFuture<S3Object> getObjectAsync(GetObjectRequest getObjectRequest) {
+        try {
+            return s3.getObjectAsync(getObjectRequest);
+        } catch (RuntimeException e) {
+            return failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<ObjectMetadata> getObjectAsync(GetObjectRequest getObjectRequest,
+            File destinationFile) {
+        try {
+            return s3.getObjectAsync(getObjectRequest, destinationFile);
+        } catch (RuntimeException e) {
+            return failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<ObjectMetadata> getObjectMetadataAsync(
+            GetObjectMetadataRequest getObjectMetadataRequest) {
+        try {
+            return s3.getObjectMetadataAsync(getObjectMetadataRequest);
+        } catch (RuntimeException e) {
+            return failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<PutObjectResult> putObjectAsync(PutObjectRequest putObjectRequest) {
+        try {
+            return s3.putObjectAsync(putObjectRequest);
+        } catch (RuntimeException e) {
+            return failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<CopyObjectResult> copyObjectAsync(CopyObjectRequest copyObjectRequest) {
+        try {
+            return s3.copyObjectAsync(copyObjectRequest);
+        } catch (RuntimeException e) {
+            return failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteObjectAsync(DeleteObjectRequest deleteObjectRequest) {
+        try {
+            return s3.deleteObjectAsync(deleteObjectRequest);
+        } catch (RuntimeException e) {
+            return failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<DeleteObjectsResult> deleteObjectsAsync(DeleteObjectsRequest deleteObjectsRequest) {
+        try {
+            return s3.deleteObjectsAsync(deleteObjectsRequest);
+        } catch (RuntimeException e) {
+            return failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<ListObjectsV2Result> listObjectsV2Async(ListObjectsV2Request listObjectsV2Request) {
+        try {
+            return s3.listObjectsV2Async(listObjectsV2Request);
+        } catch (RuntimeException e) {
+            return failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<InitiateMultipartUploadResult> initiateMultipartUploadAsync(
+            InitiateMultipartUploadRequest request) {
+        try {
+            return s3.initiateMultipartUploadAsync(request);
+        } catch (RuntimeException e) {
+            return failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<UploadPartResult> uploadPartAsync(UploadPartRequest request) {
+        try {
+            return s3.uploadPartAsync(request);
+        } catch (RuntimeException e) {
+            return failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<CopyPartResult> copyPartAsync(CopyPartRequest copyPartRequest) {
+        try {
+            return s3.copyPartAsync(copyPartRequest);
+        } catch (RuntimeException e) {
+            return failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<CompleteMultipartUploadResult> completeMultipartUploadAsync(
+            CompleteMultipartUploadRequest request) {
+        try {
+            return s3.completeMultipartUploadAsync(request);
+        } catch (RuntimeException e) {
+            return failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> abortMultipartUploadAsync(AbortMultipartUploadRequest request) {
+        try {
+            return s3.abortMultipartUploadAsync(request);
+        } catch (RuntimeException e) {
+            return failedFuture(e);
+        }
+    }
+
+    @Override
+    public AmazonS3 getS3Client() {
+        return s3;
+    }
+
+    /**
+     * Shuts down this client. When the client owns the underlying
+     * {@link AmazonS3Client}, that client and its transport are shut down too.
+     */
+    @Override
+    public void shutdown() {
+        if (shutDownS3Client) {
+            s3.shutdown();
+        }
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(Throwable t) {
+        CompletableFuture<T> future = new CompletableFuture<T>();
+        future.completeExceptionally(t);
+        return future;
+    }
+}
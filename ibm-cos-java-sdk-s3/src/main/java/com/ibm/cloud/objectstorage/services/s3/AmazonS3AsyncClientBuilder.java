@@ -0,0 +1,143 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3;
+
+import com.ibm.cloud.objectstorage.ClientConfiguration;
+import com.ibm.cloud.objectstorage.annotation.NotThreadSafe;
+import com.ibm.cloud.objectstorage.http.jdk.JdkHttpClientFactory;
+
+/**
+ * Fluent builder for {@link AmazonS3Async}.
+ * <p>
+ * Note that if no {@link AmazonS3} is provided via {@link #withS3Client(AmazonS3)}
+ * or {@link #setS3Client(AmazonS3)} a default client will be created using
+ * {@link AmazonS3ClientBuilder#standard()} with a {@link JdkHttpClientFactory}
+ * transport and otherwise default settings.
+ */
+@NotThreadSafe
+public final class AmazonS3AsyncClientBuilder {
+
+    private AmazonS3 s3Client;
+
+    private Boolean shutDownS3Client;
+
+    /**
+     * @return Create new instance of builder with all defaults set.
+     */
+    public static AmazonS3AsyncClientBuilder standard() {
+        return new AmazonS3AsyncClientBuilder();
+    }
+
+    /**
+     * @return Default asynchronous client wrapping a default {@link AmazonS3}.
+     */
+    public static AmazonS3Async defaultClient() {
+        return standard().build();
+    }
+
+    private AmazonS3AsyncClientBuilder() {
+    }
+
+    /**
+     * @return The low level client currently configured in the builder.
+     */
+    public AmazonS3 getS3Client() {
+        return s3Client;
+    }
+
+    /**
+     * Sets the low level client used to marshal, sign and send requests. It
+     * must be an {@link AmazonS3Client} built with a non-blocking transport,
+     * for example by setting a {@link JdkHttpClientFactory} with
+     * {@link ClientConfiguration#setHttpClientFactory}. Encryption clients
+     * are not supported.
+     *
+     * @param s3Client Client implementation to use
+     */
+    public void setS3Client(AmazonS3 s3Client) {
+        this.s3Client = s3Client;
+    }
+
+    /**
+     * Sets the low level client used to marshal, sign and send requests.
+     *
+     * @param s3Client Client implementation to use
+     * @return This object for method chaining.
+     */
+    public AmazonS3AsyncClientBuilder withS3Client(AmazonS3 s3Client) {
+        setS3Client(s3Client);
+        return this;
+    }
+
+    /**
+     * @return Current configured option on whether the low level client
+     *         should be shut down when the async client is shut down.
+     */
+    public Boolean isShutDownS3Client() {
+        return shutDownS3Client;
+    }
+
+    /**
+     * By default, when the async client is shut down, the underlying
+     * {@link AmazonS3} is also shut down. For cases where it is shared with
+     * other components you can set this option to false to disable that
+     * behavior.
+     *
+     * @param shutDownS3Client True to shut down the low level client on
+     *            shutdown, false otherwise.
+     */
+    public void setShutDownS3Client(Boolean shutDownS3Client) {
+        this.shutDownS3Client = shutDownS3Client;
+    }
+
+    /**
+     * @see #setShutDownS3Client(Boolean)
+     * @return This object for method chaining.
+     */
+    public AmazonS3AsyncClientBuilder withShutDownS3Client(Boolean shutDownS3Client) {
+        setShutDownS3Client(shutDownS3Client);
+        return this;
+    }
+
+    private AmazonS3Client resolveS3Client() {
+        AmazonS3 s3 = s3Client;
+        if (s3 == null) {
+            s3 = AmazonS3ClientBuilder.standard()
+                    .withClientConfiguration(new ClientConfiguration()
+                            .withHttpClientFactory(new JdkHttpClientFactory()))
+                    .build();
+        }
+        if (!(s3 instanceof AmazonS3Client)
+            || s3 instanceof AmazonS3Encryption
+            || s3 instanceof AmazonS3EncryptionV2) {
+            throw new IllegalArgumentException("The S3 client must be an AmazonS3Client, found "
+                    + s3.getClass().getName());
+        }
+        return (AmazonS3Client) s3;
+    }
+
+    private boolean resolveShutDownS3Client() {
+        return shutDownS3Client == null ? true : shutDownS3Client;
+    }
+
+    /**
+     * Construct an asynchronous client using the current builder configuration.
+     *
+     * @return Fully configured implementation of AmazonS3Async.
+     * @throws IllegalArgumentException If the configured client is not an
+     *             {@link AmazonS3Client} with a non-blocking transport.
+     */
+    public AmazonS3Async build() {
+        return new AmazonS3AsyncClient(resolveS3Client(), resolveShutDownS3Client());
+    }
+}
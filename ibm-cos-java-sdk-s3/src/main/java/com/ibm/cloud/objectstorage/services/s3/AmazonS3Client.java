@@ -61,7 +61,7 @@ import com.ibm.cloud.objectstorage.internal.AmazonWebServiceRequestAdapter;
 import com.ibm.cloud.objectstorage.internal.DefaultServiceEndpointBuilder;
 import com.ibm.cloud.objectstorage.internal.IdentityEndpointBuilder;
 import com.ibm.cloud.objectstorage.internal.ReleasableInputStream;
-import com.ibm.cloud.objectstorage.internal.ResettableInputStream;
+import com.ibm.cloud.objectstorage.internal.FileRegionInputStream;
 import com.ibm.cloud.objectstorage.internal.ServiceEndpointBuilder;
 import com.ibm.cloud.objectstorage.internal.StaticCredentialsProvider;
 import com.ibm.cloud.objectstorage.internal.auth.NoOpSignerProvider;
@@ -309,10 +309,15 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 
 import org.apache.commons.logging.Log;
@@ -744,6 +749,15 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         return false;
     }
 
+    /**
+     * Virtual-hosted-style requests are sent to a host per bucket, and
+     * accelerated requests to the accelerate endpoint.
+     */
+    @Override
+    protected boolean sendsRequestsToEndpointHost() {
+        return clientOptions.isPathStyleAccess() && !clientOptions.isAccelerateModeEnabled();
+    }
+
     @Override
     public VersionListing listNextBatchOfVersions(VersionListing previousVersionListing)
             throws SdkClientException, AmazonServiceException {
@@ -879,6 +893,21 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
     public ListObjectsV2Result listObjectsV2(ListObjectsV2Request listObjectsV2Request)
             throws SdkClientException, AmazonServiceException {
         listObjectsV2Request = beforeClientExecution(listObjectsV2Request);
+        return invoke(createListObjectsV2Request(listObjectsV2Request),
+                newListObjectsV2Unmarshaller(listObjectsV2Request), listObjectsV2Request.getBucketName(), null);
+    }
+
+    /**
+     * Non-blocking variant of {@link #listObjectsV2(ListObjectsV2Request)}.
+     */
+    CompletableFuture<ListObjectsV2Result> listObjectsV2Async(ListObjectsV2Request listObjectsV2Request) {
+        listObjectsV2Request = beforeClientExecution(listObjectsV2Request);
+        return invokeAsync(createListObjectsV2Request(listObjectsV2Request),
+                new S3XmlResponseHandler<ListObjectsV2Result>(newListObjectsV2Unmarshaller(listObjectsV2Request)),
+                listObjectsV2Request.getBucketName(), null, null);
+    }
+
+    private Request<ListObjectsV2Request> createListObjectsV2Request(ListObjectsV2Request listObjectsV2Request) {
         rejectNull(listObjectsV2Request.getBucketName(), "The bucket name parameter must be specified when listing objects in a bucket");
         Request<ListObjectsV2Request> request = createRequest(listObjectsV2Request.getBucketName(), null, listObjectsV2Request, HttpMethodName.GET);
         request.addHandlerContext(HandlerContextKey.OPERATION_NAME, "ListObjectsV2");
@@ -897,13 +926,18 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         request.addParameter("fetch-owner", Boolean.toString(listObjectsV2Request.isFetchOwner()));
         //IBM unsupported
         //populateRequesterPaysHeader(request, listObjectsV2Request.isRequesterPays());
+        return request;
+    }
 
+    private static Unmarshallers.ListObjectsV2Unmarshaller newListObjectsV2Unmarshaller(
+            ListObjectsV2Request listObjectsV2Request) {
         /**
          * If URL encoding has been requested from S3 we'll automatically decode the response.
          */
         final boolean shouldSDKDecodeResponse = Constants.URL_ENCODING.equals(listObjectsV2Request.getEncodingType());
 
-        return invoke(request, new Unmarshallers.ListObjectsV2Unmarshaller(shouldSDKDecodeResponse), listObjectsV2Request.getBucketName(), null);
+        return new Unmarshallers.ListObjectsV2Unmarshaller(shouldSDKDecodeResponse,
+                listObjectsV2Request.getObjectSummaryFields());
     }
 
     @Override
@@ -1327,6 +1361,23 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
     public ObjectMetadata getObjectMetadata(GetObjectMetadataRequest getObjectMetadataRequest)
             throws SdkClientException, AmazonServiceException {
         getObjectMetadataRequest = beforeClientExecution(getObjectMetadataRequest);
+        Request<GetObjectMetadataRequest> request = createGetObjectMetadataRequest(getObjectMetadataRequest);
+        return invoke(request, new S3MetadataResponseHandler(), getObjectMetadataRequest.getBucketName(),
+                getObjectMetadataRequest.getKey());
+    }
+
+    /**
+     * Non-blocking variant of {@link #getObjectMetadata(GetObjectMetadataRequest)}.
+     */
+    CompletableFuture<ObjectMetadata> getObjectMetadataAsync(GetObjectMetadataRequest getObjectMetadataRequest) {
+        getObjectMetadataRequest = beforeClientExecution(getObjectMetadataRequest);
+        Request<GetObjectMetadataRequest> request = createGetObjectMetadataRequest(getObjectMetadataRequest);
+        return invokeAsync(request, new S3MetadataResponseHandler(), getObjectMetadataRequest.getBucketName(),
+                getObjectMetadataRequest.getKey(), null);
+    }
+
+    private Request<GetObjectMetadataRequest> createGetObjectMetadataRequest(
+            GetObjectMetadataRequest getObjectMetadataRequest) {
         rejectNull(getObjectMetadataRequest, "The GetObjectMetadataRequest parameter must be specified when requesting an object's metadata");
 
         String bucketName = getObjectMetadataRequest.getBucketName();
@@ -1348,8 +1399,7 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         addHeaderIfNotEmpty(request, Headers.MIRROR_DESTINATION, getObjectMetadataRequest.getWormMirrorDestination());
 
         populateSSE_C(request, getObjectMetadataRequest.getSSECustomerKey());
-
-        return invoke(request, new S3MetadataResponseHandler(), bucketName, key);
+        return request;
     }
 
     @Override
@@ -1462,6 +1512,90 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
     public S3Object getObject(GetObjectRequest getObjectRequest)
         throws SdkClientException, AmazonServiceException {
         getObjectRequest = beforeClientExecution(getObjectRequest);
+        Request<GetObjectRequest> request = createGetObjectRequest(getObjectRequest);
+        final ProgressListener listener = getObjectRequest.getGeneralProgressListener();
+        publishProgress(listener, ProgressEventType.TRANSFER_STARTED_EVENT);
+
+        try {
+            S3Object s3Object = invoke(request, new S3ObjectResponseHandler(),
+                                       getObjectRequest.getBucketName(), getObjectRequest.getKey());
+            return completeGetObject(s3Object, getObjectRequest, listener);
+        } catch (AmazonS3Exception ase) {
+            if (isUnmetGetObjectConstraint(ase, listener)) {
+                return null;
+            }
+            throw ase;
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #getObject(GetObjectRequest)}. The future
+     * is completed as soon as the response headers have been received; the
+     * content is then read from {@link S3Object#getObjectContent()}.
+     */
+    CompletableFuture<S3Object> getObjectAsync(GetObjectRequest getObjectRequest) {
+        final GetObjectRequest originalRequest = beforeClientExecution(getObjectRequest);
+        Request<GetObjectRequest> request = createGetObjectRequest(originalRequest);
+        final ProgressListener listener = originalRequest.getGeneralProgressListener();
+        publishProgress(listener, ProgressEventType.TRANSFER_STARTED_EVENT);
+
+        return invokeAsync(request, new S3ObjectResponseHandler(), originalRequest.getBucketName(),
+                           originalRequest.getKey(), null)
+                .handle(new BiFunction<S3Object, Throwable, S3Object>() {
+                    @Override
+                    public S3Object apply(S3Object s3Object, Throwable t) {
+                        if (t == null) {
+                            return completeGetObject(s3Object, originalRequest, listener);
+                        }
+                        Throwable cause = unwrapCompletionException(t);
+                        if (cause instanceof AmazonS3Exception
+                            && isUnmetGetObjectConstraint((AmazonS3Exception) cause, listener)) {
+                            return null;
+                        }
+                        throw asCompletionException(cause);
+                    }
+                });
+    }
+
+    /**
+     * Non-blocking variant of {@link #getObject(GetObjectRequest, File)}. The
+     * transport writes the content straight to the destination file, which is
+     * then checked against the ETag when client side validation applies.
+     */
+    CompletableFuture<ObjectMetadata> getObjectAsync(GetObjectRequest getObjectRequest, final File destinationFile) {
+        rejectNull(destinationFile,
+                "The destination file parameter must be specified when downloading an object directly to a file");
+        final GetObjectRequest originalRequest = beforeClientExecution(getObjectRequest);
+        Request<GetObjectRequest> request = createGetObjectRequest(originalRequest);
+        final ProgressListener listener = originalRequest.getGeneralProgressListener();
+        ServiceUtils.createParentDirectoryIfNecessary(destinationFile);
+        publishProgress(listener, ProgressEventType.TRANSFER_STARTED_EVENT);
+
+        return invokeAsync(request, new S3ObjectResponseHandler(), originalRequest.getBucketName(),
+                           originalRequest.getKey(), destinationFile)
+                .handle(new BiFunction<S3Object, Throwable, ObjectMetadata>() {
+                    @Override
+                    public ObjectMetadata apply(S3Object s3Object, Throwable t) {
+                        if (t == null) {
+                            IOUtils.closeQuietly(s3Object, log);
+                            ObjectMetadata metadata = s3Object.getObjectMetadata();
+                            if (!skipMd5CheckStrategy.skipClientSideValidation(originalRequest, metadata)) {
+                                verifyDownloadedFile(destinationFile, metadata, listener);
+                            }
+                            publishProgress(listener, ProgressEventType.TRANSFER_COMPLETED_EVENT);
+                            return metadata;
+                        }
+                        Throwable cause = unwrapCompletionException(t);
+                        if (cause instanceof AmazonS3Exception
+                            && isUnmetGetObjectConstraint((AmazonS3Exception) cause, listener)) {
+                            return null;
+                        }
+                        throw asCompletionException(cause);
+                    }
+                });
+    }
+
+    private Request<GetObjectRequest> createGetObjectRequest(GetObjectRequest getObjectRequest) {
         assertNotNull(getObjectRequest, "GetObjectRequest");
         assertStringNotEmpty(getObjectRequest.getBucketName(), "BucketName");
         assertStringNotEmpty(getObjectRequest.getKey(), "Key");
@@ -1501,38 +1635,69 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
 
         // Populate the SSE-C parameters to the request header
         populateSSE_C(request, getObjectRequest.getSSECustomerKey());
-        final ProgressListener listener = getObjectRequest.getGeneralProgressListener();
-        publishProgress(listener, ProgressEventType.TRANSFER_STARTED_EVENT);
+        return request;
+    }
 
-        try {
-            S3Object s3Object = invoke(request, new S3ObjectResponseHandler(),
-                                       getObjectRequest.getBucketName(), getObjectRequest.getKey());
-            /*
-             * TODO: For now, it's easiest to set there here in the client, but
-             *       we could push this back into the response handler with a
-             *       little more work.
-             */
-            s3Object.setBucketName(getObjectRequest.getBucketName());
-            s3Object.setKey(getObjectRequest.getKey());
+    private S3Object completeGetObject(S3Object s3Object, GetObjectRequest getObjectRequest,
+                                       ProgressListener listener) {
+        /*
+         * TODO: For now, it's easiest to set there here in the client, but
+         *       we could push this back into the response handler with a
+         *       little more work.
+         */
+        s3Object.setBucketName(getObjectRequest.getBucketName());
+        s3Object.setKey(getObjectRequest.getKey());
 
-            boolean skipClientSideValidation = skipMd5CheckStrategy.skipClientSideValidation(getObjectRequest,
-                                                                                             s3Object.getObjectMetadata());
-            postProcessS3Object(s3Object, skipClientSideValidation, listener);
-            return s3Object;
-        } catch (AmazonS3Exception ase) {
-            /*
-             * If the request failed because one of the specified constraints
-             * was not met (ex: matching ETag, modified since date, etc.), then
-             * return null, so that users don't have to wrap their code in
-             * try/catch blocks and check for this status code if they want to
-             * use constraints.
-             */
-            if (ase.getStatusCode() == 412 || ase.getStatusCode() == 304) {
-                publishProgress(listener, ProgressEventType.TRANSFER_CANCELED_EVENT);
-                return null;
-            }
+        boolean skipClientSideValidation = skipMd5CheckStrategy.skipClientSideValidation(getObjectRequest,
+                                                                                         s3Object.getObjectMetadata());
+        postProcessS3Object(s3Object, skipClientSideValidation, listener);
+        return s3Object;
+    }
+
+    /**
+     * Publishes the outcome of a failed GetObject request and returns true if
+     * it failed because one of the specified constraints was not met.
+     */
+    private boolean isUnmetGetObjectConstraint(AmazonS3Exception ase, ProgressListener listener) {
+        /*
+         * If the request failed because one of the specified constraints
+         * was not met (ex: matching ETag, modified since date, etc.), then
+         * return null, so that users don't have to wrap their code in
+         * try/catch blocks and check for this status code if they want to
+         * use constraints.
+         */
+        if (ase.getStatusCode() == 412 || ase.getStatusCode() == 304) {
+            publishProgress(listener, ProgressEventType.TRANSFER_CANCELED_EVENT);
+            return true;
+        }
+        publishProgress(listener, ProgressEventType.TRANSFER_FAILED_EVENT);
+        return false;
+    }
+
+    /**
+     * Compares the MD5 of a file downloaded by the transport with the ETag of
+     * the object, like {@link ServiceUtils#downloadObjectToFile} does for
+     * streamed downloads.
+     */
+    private void verifyDownloadedFile(File file, ObjectMetadata metadata, ProgressListener listener) {
+        if (skipMd5CheckStrategy.skipClientSideValidationPerGetResponse(metadata)) {
+            return;
+        }
+        byte[] clientSideHash;
+        try {
+            clientSideHash = Md5Utils.computeMD5Hash(file);
+        } catch (Exception e) {
+            log.warn("Unable to calculate MD5 hash to validate download: " + e.getMessage(), e);
+            return;
+        }
+        byte[] serverSideHash = BinaryUtils.fromHex(metadata.getETag());
+        if (!Arrays.equals(clientSideHash, serverSideHash)) {
             publishProgress(listener, ProgressEventType.TRANSFER_FAILED_EVENT);
-            throw ase;
+            throw new SdkClientException("Unable to verify integrity of data download.  " +
+                    "Client calculated content hash didn't match hash calculated by Amazon S3.  " +
+                    "The data stored in '" + file.getAbsolutePath() + "' may be corrupt." +
+                    "\nClient-side hash: " + Arrays.toString(clientSideHash) +
+                    "\nServer-side hash: " + Arrays.toString(serverSideHash));
         }
     }
 
@@ -1743,19 +1908,68 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
     public PutObjectResult putObject(PutObjectRequest putObjectRequest) throws SdkClientException, AmazonServiceException {
         putObjectRequest = beforeClientExecution(putObjectRequest);
         rejectNull(putObjectRequest, "The PutObjectRequest parameter must be specified when uploading an object");
-        final File file = putObjectRequest.getFile();
-        final InputStream isOrig = putObjectRequest.getInputStream();
-        InputStream inputStreamObjectLock = null;
+        final ObjectMetadata metadata = putObjectRequest.getMetadata() == null
+                ? new ObjectMetadata() : putObjectRequest.getMetadata();
+        Request<PutObjectRequest> request = createPutObjectRequest(putObjectRequest, metadata);
+
+        return uploadObject(getPutObjectInputStream(request, putObjectRequest, metadata), putObjectRequest.getFile(),
+                            metadata, putObjectRequest.getGeneralProgressListener(), request, putObjectRequest,
+                            skipMd5CheckStrategy.skipServerSideValidation(putObjectRequest),
+                            skipMd5CheckStrategy.skipClientSideValidationPerRequest(putObjectRequest),
+                            new PutObjectStrategy(putObjectRequest.getBucketName(), putObjectRequest.getKey()),
+                            true);
+    }
+
+    /**
+     * Non-blocking variant of {@link #putObject(PutObjectRequest)}. The
+     * content is read by the transport while the request is sent.
+     */
+    CompletableFuture<PutObjectResult> putObjectAsync(PutObjectRequest putObjectRequest) {
+        final PutObjectRequest originalRequest = beforeClientExecution(putObjectRequest);
+        rejectNull(originalRequest, "The PutObjectRequest parameter must be specified when uploading an object");
+        final File file = originalRequest.getFile();
+        final String bucketName = originalRequest.getBucketName();
+        final String key = originalRequest.getKey();
+        final ProgressListener listener = originalRequest.getGeneralProgressListener();
+        final ObjectMetadata metadata = originalRequest.getMetadata() == null
+                ? new ObjectMetadata() : originalRequest.getMetadata();
+        Request<PutObjectRequest> request = createPutObjectRequest(originalRequest, metadata);
+
+        final InputStream originalStream = getPutObjectInputStream(request, originalRequest, metadata);
+        final MD5DigestCalculatingInputStream md5DigestStream = prepareUpload(originalStream, file, metadata, listener,
+                request, originalRequest, skipMd5CheckStrategy.skipServerSideValidation(originalRequest),
+                skipMd5CheckStrategy.skipClientSideValidationPerRequest(originalRequest), true);
+        final InputStream input = request.getContent();
+        final PutObjectStrategy uploadStrategy = new PutObjectStrategy(bucketName, key);
+
+        CompletableFuture<ObjectMetadata> future;
+        try {
+            future = invokeAsync(request, new S3MetadataResponseHandler(), bucketName, key, null);
+        } catch (RuntimeException e) {
+            cleanupDataSource(originalRequest, file, originalStream, input, log);
+            publishProgress(listener, ProgressEventType.TRANSFER_FAILED_EVENT);
+            throw e;
+        }
+        return future.handle(new BiFunction<ObjectMetadata, Throwable, PutObjectResult>() {
+            @Override
+            public PutObjectResult apply(ObjectMetadata returnedMetadata, Throwable t) {
+                cleanupDataSource(originalRequest, file, originalStream, input, log);
+                if (t != null) {
+                    publishProgress(listener, ProgressEventType.TRANSFER_FAILED_EVENT);
+                    throw asCompletionException(unwrapCompletionException(t));
+                }
+                return completeUpload(returnedMetadata, metadata, md5DigestStream, listener, uploadStrategy);
+            }
+        });
+    }
+
+    private Request<PutObjectRequest> createPutObjectRequest(PutObjectRequest putObjectRequest,
+                                                             ObjectMetadata metadata) {
         final String bucketName = putObjectRequest.getBucketName();
         final String key = putObjectRequest.getKey();
-        final ProgressListener listener = putObjectRequest.getGeneralProgressListener();
         rejectNull(bucketName, "The bucket name parameter must be specified when uploading an object");
         rejectNull(key, "The key parameter must be specified when uploading an object");
 
-        ObjectMetadata metadata = putObjectRequest.getMetadata();
-        if (metadata == null)
-            metadata = new ObjectMetadata();
-
         Request<PutObjectRequest> request = createRequest(bucketName, key, putObjectRequest, HttpMethodName.PUT);
         request.addHandlerContext(HandlerContextKey.OPERATION_NAME, "PutObject");
         request.addHandlerContext(HandlerContextKey.REQUIRES_LENGTH, Boolean.TRUE);
@@ -1822,40 +2036,34 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
             request.addHeader(Headers.RETENTION_PERIOD, putObjectRequest.getRetentionPeriod().toString());
         }
 
+        return request;
+    }
+
+    /**
+     * Returns the stream to upload for the specified request. When object
+     * lock settings are specified for a stream without a content MD5, the
+     * stream is read into memory to populate the Content-MD5 header.
+     */
+    private InputStream getPutObjectInputStream(Request<PutObjectRequest> request,
+                                                PutObjectRequest putObjectRequest,
+                                                ObjectMetadata metadata) {
+        final InputStream isOrig = putObjectRequest.getInputStream();
         // IBM-specific
         if (putObjectRequest.getObjectLockLegalHoldStatus() != null || putObjectRequest.getObjectLockMode() != null || putObjectRequest.getObjectLockRetainUntilDate() != null) { 
             try {
                 if(isOrig != null && metadata.getContentMD5() == null)
                 {
-                    inputStreamObjectLock = putObjectRequest.getInputStream();
-                    int size = inputStreamObjectLock.available();
+                    int size = isOrig.available();
                     byte[] bytes = new byte[size];
-                    inputStreamObjectLock.read(bytes);
+                    isOrig.read(bytes);
                     populateRequestHeaderWithMd5(request, bytes);
-                    inputStreamObjectLock = new ByteArrayInputStream(bytes);
+                    return new ByteArrayInputStream(bytes);
                 }
             } catch ( Exception e ) {
                 throw new SdkClientException("Couldn't compute md5 sum", e);
             }
         }
-
-        // Object Lock Specific check
-        if(inputStreamObjectLock != null)
-        {
-            return uploadObject(inputStreamObjectLock, file, metadata, listener, request, putObjectRequest,
-                            skipMd5CheckStrategy.skipServerSideValidation(putObjectRequest),
-                            skipMd5CheckStrategy.skipClientSideValidationPerRequest(putObjectRequest),
-                            new PutObjectStrategy(bucketName, key),
-                            true);
-        }
-        else
-        {
-            return uploadObject(isOrig, file, metadata, listener, request, putObjectRequest,
-                            skipMd5CheckStrategy.skipServerSideValidation(putObjectRequest),
-                            skipMd5CheckStrategy.skipClientSideValidationPerRequest(putObjectRequest),
-                            new PutObjectStrategy(bucketName, key),
-                            true);
-        }
+        return isOrig;
     }
 
     /**
@@ -1872,10 +2080,42 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
                                                          final UploadObjectStrategy<RequestT, ResponseT> uploadStrategy,
                                                          final boolean setContentTypeIfNotProvided) {
 
+        final MD5DigestCalculatingInputStream md5DigestStream = prepareUpload(originalStream, file, metadata, listener,
+                request, originalRequest, skipServerSideValidation, skipClientSideValidationPerRequest,
+                setContentTypeIfNotProvided);
+        final InputStream input = request.getContent();
+
+        final ObjectMetadata returnedMetadata;
+        try {
+            returnedMetadata = uploadStrategy.invokeServiceCall(request);
+        } catch (Throwable t) {
+            publishProgress(listener, ProgressEventType.TRANSFER_FAILED_EVENT);
+            throw failure(t);
+        } finally {
+            cleanupDataSource(originalRequest, file, originalStream, input, log);
+        }
+        return completeUpload(returnedMetadata, metadata, md5DigestStream, listener, uploadStrategy);
+    }
+
+    /**
+     * Sets the content and metadata headers of an upload request and
+     * publishes the start of the transfer.
+     *
+     * @return The stream calculating the MD5 of the uploaded content for
+     *         client side validation, or null if no validation is needed.
+     */
+    private MD5DigestCalculatingInputStream prepareUpload(final InputStream originalStream,
+                                                          final File file,
+                                                          final ObjectMetadata metadata,
+                                                          final ProgressListener listener,
+                                                          final Request<?> request,
+                                                          final S3DataSource originalRequest,
+                                                          final boolean skipServerSideValidation,
+                                                          final boolean skipClientSideValidationPerRequest,
+                                                          final boolean setContentTypeIfNotProvided) {
         InputStream input = getInputStream(originalStream, file, metadata, request,
                                            skipServerSideValidation, setContentTypeIfNotProvided);
 
-        final ObjectMetadata returnedMetadata;
         MD5DigestCalculatingInputStream md5DigestStream = null;
         try {
             if (metadata.getContentMD5() == null && !skipClientSideValidationPerRequest) {
@@ -1889,17 +2129,23 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
 
             populateRequestMetadata(request, metadata);
             request.setContent(input);
-            publishProgress(listener, ProgressEventType.TRANSFER_STARTED_EVENT);
-            try {
-                returnedMetadata = uploadStrategy.invokeServiceCall(request);
-            } catch (Throwable t) {
-                publishProgress(listener, ProgressEventType.TRANSFER_FAILED_EVENT);
-                throw failure(t);
-            }
-        } finally {
+        } catch (RuntimeException e) {
             cleanupDataSource(originalRequest, file, originalStream, input, log);
+            throw e;
         }
+        publishProgress(listener, ProgressEventType.TRANSFER_STARTED_EVENT);
+        return md5DigestStream;
+    }
 
+    /**
+     * Validates the MD5 of uploaded content against the returned ETag and
+     * creates the result of the upload.
+     */
+    private <ResponseT> ResponseT completeUpload(final ObjectMetadata returnedMetadata,
+                                                 final ObjectMetadata metadata,
+                                                 final MD5DigestCalculatingInputStream md5DigestStream,
+                                                 final ProgressListener listener,
+                                                 final UploadObjectStrategy<?, ResponseT> uploadStrategy) {
         String contentMd5 = metadata.getContentMD5();
         if (md5DigestStream != null) {
             contentMd5 = Base64.encodeAsString(md5DigestStream.getMd5Digest());
@@ -2063,6 +2309,52 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
     public CopyObjectResult copyObject(CopyObjectRequest copyObjectRequest)
             throws SdkClientException, AmazonServiceException {
         copyObjectRequest = beforeClientExecution(copyObjectRequest);
+        Request<CopyObjectRequest> request = createCopyObjectRequest(copyObjectRequest);
+        CopyObjectResultHandler copyObjectResultHandler = null;
+        try {
+            copyObjectResultHandler = invoke(request, newCopyObjectResponseHandler(),
+                    copyObjectRequest.getDestinationBucketName(), copyObjectRequest.getDestinationKey());
+        } catch (AmazonS3Exception ase) {
+            /*
+             * If the request failed because one of the specified constraints
+             * was not met (ex: matching ETag, modified since date, etc.), then
+             * return null, so that users don't have to wrap their code in
+             * try/catch blocks and check for this status code if they want to
+             * use constraints.
+             */
+            if (ase.getStatusCode() == Constants.FAILED_PRECONDITION_STATUS_CODE) {
+               return null;
+            }
+
+            throw ase;
+        }
+        return createCopyObjectResult(copyObjectResultHandler, request);
+    }
+
+    /**
+     * Non-blocking variant of {@link #copyObject(CopyObjectRequest)}.
+     */
+    CompletableFuture<CopyObjectResult> copyObjectAsync(CopyObjectRequest copyObjectRequest) {
+        copyObjectRequest = beforeClientExecution(copyObjectRequest);
+        final Request<CopyObjectRequest> request = createCopyObjectRequest(copyObjectRequest);
+        return invokeAsync(request, newCopyObjectResponseHandler(), copyObjectRequest.getDestinationBucketName(),
+                           copyObjectRequest.getDestinationKey(), null)
+                .handle(new BiFunction<CopyObjectResultHandler, Throwable, CopyObjectResult>() {
+                    @Override
+                    public CopyObjectResult apply(CopyObjectResultHandler copyObjectResultHandler, Throwable t) {
+                        if (t == null) {
+                            return createCopyObjectResult(copyObjectResultHandler, request);
+                        }
+                        Throwable cause = unwrapCompletionException(t);
+                        if (isFailedPrecondition(cause)) {
+                            return null;
+                        }
+                        throw asCompletionException(cause);
+                    }
+                });
+    }
+
+    private Request<CopyObjectRequest> createCopyObjectRequest(CopyObjectRequest copyObjectRequest) {
         rejectNull(copyObjectRequest.getSourceBucketName(),
                 "The source bucket name must be specified when copying an object");
         rejectNull(copyObjectRequest.getSourceKey(),
@@ -2100,32 +2392,27 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
          * remote server thinks there's more data to pull.
          */
         setZeroContentLength(request);
-        CopyObjectResultHandler copyObjectResultHandler = null;
-        try {
-            @SuppressWarnings("unchecked")
-            ResponseHeaderHandlerChain<CopyObjectResultHandler> handler = new ResponseHeaderHandlerChain<CopyObjectResultHandler>(
-                    // xml payload unmarshaller
-                    new Unmarshallers.CopyObjectUnmarshaller(),
-                    // header handlers
-                    new ServerSideEncryptionHeaderHandler<CopyObjectResultHandler>(),
-                    new S3VersionHeaderHandler<CopyObjectResultHandler>(),
-                    new ObjectExpirationHeaderHandler<CopyObjectResultHandler>());
-            copyObjectResultHandler = invoke(request, handler, destinationBucketName, destinationKey);
-        } catch (AmazonS3Exception ase) {
-            /*
-             * If the request failed because one of the specified constraints
-             * was not met (ex: matching ETag, modified since date, etc.), then
-             * return null, so that users don't have to wrap their code in
-             * try/catch blocks and check for this status code if they want to
-             * use constraints.
-             */
-            if (ase.getStatusCode() == Constants.FAILED_PRECONDITION_STATUS_CODE) {
-               return null;
-            }
+        return request;
+    }
 
-            throw ase;
-        }
+    @SuppressWarnings("unchecked")
+    private static ResponseHeaderHandlerChain<CopyObjectResultHandler> newCopyObjectResponseHandler() {
+        return new ResponseHeaderHandlerChain<CopyObjectResultHandler>(
+                // xml payload unmarshaller
+                new Unmarshallers.CopyObjectUnmarshaller(),
+                // header handlers
+                new ServerSideEncryptionHeaderHandler<CopyObjectResultHandler>(),
+                new S3VersionHeaderHandler<CopyObjectResultHandler>(),
+                new ObjectExpirationHeaderHandler<CopyObjectResultHandler>());
+    }
 
+    private static boolean isFailedPrecondition(Throwable t) {
+        return t instanceof AmazonS3Exception
+               && ((AmazonS3Exception) t).getStatusCode() == Constants.FAILED_PRECONDITION_STATUS_CODE;
+    }
+
+    private CopyObjectResult createCopyObjectResult(CopyObjectResultHandler copyObjectResultHandler,
+                                                    Request<CopyObjectRequest> request) {
         /*
          * CopyObject has two failure modes:
          *  1 - An HTTP error code is returned and the error is processed like any
@@ -2214,6 +2501,52 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
     @Override
     public CopyPartResult copyPart(CopyPartRequest copyPartRequest) {
         copyPartRequest = beforeClientExecution(copyPartRequest);
+        Request<CopyPartRequest> request = createCopyPartRequest(copyPartRequest);
+        CopyObjectResultHandler copyObjectResultHandler = null;
+        try {
+            copyObjectResultHandler = invoke(request, newCopyPartResponseHandler(),
+                    copyPartRequest.getDestinationBucketName(), copyPartRequest.getDestinationKey());
+        } catch ( AmazonS3Exception ase ) {
+            /*
+             * If the request failed because one of the specified constraints
+             * was not met (ex: matching ETag, modified since date, etc.), then
+             * return null, so that users don't have to wrap their code in
+             * try/catch blocks and check for this status code if they want to
+             * use constraints.
+             */
+            if ( ase.getStatusCode() == Constants.FAILED_PRECONDITION_STATUS_CODE ) {
+                return null;
+            }
+
+            throw ase;
+        }
+        return createCopyPartResult(copyObjectResultHandler, request, copyPartRequest);
+    }
+
+    /**
+     * Non-blocking variant of {@link #copyPart(CopyPartRequest)}.
+     */
+    CompletableFuture<CopyPartResult> copyPartAsync(CopyPartRequest copyPartRequest) {
+        final CopyPartRequest originalRequest = beforeClientExecution(copyPartRequest);
+        final Request<CopyPartRequest> request = createCopyPartRequest(originalRequest);
+        return invokeAsync(request, newCopyPartResponseHandler(), originalRequest.getDestinationBucketName(),
+                           originalRequest.getDestinationKey(), null)
+                .handle(new BiFunction<CopyObjectResultHandler, Throwable, CopyPartResult>() {
+                    @Override
+                    public CopyPartResult apply(CopyObjectResultHandler copyObjectResultHandler, Throwable t) {
+                        if (t == null) {
+                            return createCopyPartResult(copyObjectResultHandler, request, originalRequest);
+                        }
+                        Throwable cause = unwrapCompletionException(t);
+                        if (isFailedPrecondition(cause)) {
+                            return null;
+                        }
+                        throw asCompletionException(cause);
+                    }
+                });
+    }
+
+    private Request<CopyPartRequest> createCopyPartRequest(CopyPartRequest copyPartRequest) {
         rejectNull(copyPartRequest.getSourceBucketName(),
                 "The source bucket name must be specified when copying a part");
         rejectNull(copyPartRequest.getSourceKey(),
@@ -2247,31 +2580,22 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
          * remote server thinks there's more data to pull.
          */
         setZeroContentLength(request);
-        CopyObjectResultHandler copyObjectResultHandler = null;
-        try {
-            @SuppressWarnings("unchecked")
-            ResponseHeaderHandlerChain<CopyObjectResultHandler> handler = new ResponseHeaderHandlerChain<CopyObjectResultHandler>(
-                    // xml payload unmarshaller
-                    new Unmarshallers.CopyObjectUnmarshaller(),
-                    // header handlers
-                    new ServerSideEncryptionHeaderHandler<CopyObjectResultHandler>(),
-                    new S3VersionHeaderHandler<CopyObjectResultHandler>());
-            copyObjectResultHandler = invoke(request, handler, destinationBucketName, destinationKey);
-        } catch ( AmazonS3Exception ase ) {
-            /*
-             * If the request failed because one of the specified constraints
-             * was not met (ex: matching ETag, modified since date, etc.), then
-             * return null, so that users don't have to wrap their code in
-             * try/catch blocks and check for this status code if they want to
-             * use constraints.
-             */
-            if ( ase.getStatusCode() == Constants.FAILED_PRECONDITION_STATUS_CODE ) {
-                return null;
-            }
+        return request;
+    }
 
-            throw ase;
-        }
+    @SuppressWarnings("unchecked")
+    private static ResponseHeaderHandlerChain<CopyObjectResultHandler> newCopyPartResponseHandler() {
+        return new ResponseHeaderHandlerChain<CopyObjectResultHandler>(
+                // xml payload unmarshaller
+                new Unmarshallers.CopyObjectUnmarshaller(),
+                // header handlers
+                new ServerSideEncryptionHeaderHandler<CopyObjectResultHandler>(),
+                new S3VersionHeaderHandler<CopyObjectResultHandler>());
+    }
 
+    private CopyPartResult createCopyPartResult(CopyObjectResultHandler copyObjectResultHandler,
+                                                Request<CopyPartRequest> request,
+                                                CopyPartRequest copyPartRequest) {
         /*
          * CopyPart has two failure modes: 1 - An HTTP error code is returned
          * and the error is processed like any other error response. 2 - An HTTP
@@ -2326,6 +2650,21 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
     public void deleteObject(DeleteObjectRequest deleteObjectRequest)
             throws SdkClientException, AmazonServiceException {
         deleteObjectRequest = beforeClientExecution(deleteObjectRequest);
+        Request<DeleteObjectRequest> request = createDeleteObjectRequest(deleteObjectRequest);
+        invoke(request, voidResponseHandler, deleteObjectRequest.getBucketName(), deleteObjectRequest.getKey());
+    }
+
+    /**
+     * Non-blocking variant of {@link #deleteObject(DeleteObjectRequest)}.
+     */
+    CompletableFuture<Void> deleteObjectAsync(DeleteObjectRequest deleteObjectRequest) {
+        deleteObjectRequest = beforeClientExecution(deleteObjectRequest);
+        Request<DeleteObjectRequest> request = createDeleteObjectRequest(deleteObjectRequest);
+        return invokeAsync(request, voidResponseHandler, deleteObjectRequest.getBucketName(),
+                           deleteObjectRequest.getKey(), null);
+    }
+
+    private Request<DeleteObjectRequest> createDeleteObjectRequest(DeleteObjectRequest deleteObjectRequest) {
         rejectNull(deleteObjectRequest,
             "The delete object request must be specified when deleting an object");
 
@@ -2337,13 +2676,35 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         if (deleteObjectRequest.getBypassGovernanceRetention()) {
             request.addHeader(Headers.BYPASS_GOVERNANCE_RETENTION, "true");
         }
-
-        invoke(request, voidResponseHandler, deleteObjectRequest.getBucketName(), deleteObjectRequest.getKey());
+        return request;
     }
 
     @Override
     public DeleteObjectsResult deleteObjects(DeleteObjectsRequest deleteObjectsRequest) {
         deleteObjectsRequest = beforeClientExecution(deleteObjectsRequest);
+        Request<DeleteObjectsRequest> request = createDeleteObjectsRequest(deleteObjectsRequest);
+        ResponseHeaderHandlerChain<DeleteObjectsResponse> responseHandler = newDeleteObjectsResponseHandler();
+        DeleteObjectsResponse response = invoke(request, responseHandler, deleteObjectsRequest.getBucketName(), null);
+        return createDeleteObjectsResult(response, responseHandler);
+    }
+
+    /**
+     * Non-blocking variant of {@link #deleteObjects(DeleteObjectsRequest)}.
+     */
+    CompletableFuture<DeleteObjectsResult> deleteObjectsAsync(DeleteObjectsRequest deleteObjectsRequest) {
+        deleteObjectsRequest = beforeClientExecution(deleteObjectsRequest);
+        Request<DeleteObjectsRequest> request = createDeleteObjectsRequest(deleteObjectsRequest);
+        final ResponseHeaderHandlerChain<DeleteObjectsResponse> responseHandler = newDeleteObjectsResponseHandler();
+        return invokeAsync(request, responseHandler, deleteObjectsRequest.getBucketName(), null, null)
+                .thenApply(new Function<DeleteObjectsResponse, DeleteObjectsResult>() {
+                    @Override
+                    public DeleteObjectsResult apply(DeleteObjectsResponse response) {
+                        return createDeleteObjectsResult(response, responseHandler);
+                    }
+                });
+    }
+
+    private Request<DeleteObjectsRequest> createDeleteObjectsRequest(DeleteObjectsRequest deleteObjectsRequest) {
         Request<DeleteObjectsRequest> request = createRequest(deleteObjectsRequest.getBucketName(), null, deleteObjectsRequest, HttpMethodName.POST);
         request.addHandlerContext(HandlerContextKey.OPERATION_NAME, "DeleteObjects");
         request.addParameter("delete", null);
@@ -2362,17 +2723,18 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         request.addHeader("Content-Type", "application/xml");
         request.setContent(new ByteArrayInputStream(content));
         populateRequestHeaderWithMd5(request, content);
+        return request;
+    }
 
-        @SuppressWarnings("unchecked")
-        ResponseHeaderHandlerChain<DeleteObjectsResponse> responseHandler = new ResponseHeaderHandlerChain<DeleteObjectsResponse>(
+    @SuppressWarnings("unchecked")
+    private static ResponseHeaderHandlerChain<DeleteObjectsResponse> newDeleteObjectsResponseHandler() {
+        return new ResponseHeaderHandlerChain<DeleteObjectsResponse>(
                 new Unmarshallers.DeleteObjectsResultUnmarshaller(),
                 new S3RequesterChargedHeaderHandler<DeleteObjectsResponse>());
+    }
 
-
-
-
-        DeleteObjectsResponse response = invoke(request, responseHandler, deleteObjectsRequest.getBucketName(), null);
-
+    private DeleteObjectsResult createDeleteObjectsResult(DeleteObjectsResponse response,
+            ResponseHeaderHandlerChain<DeleteObjectsResponse> responseHandler) {
         /*
          * If the result was only partially successful, throw an exception
          */
@@ -3636,6 +3998,23 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
     public void abortMultipartUpload(AbortMultipartUploadRequest abortMultipartUploadRequest)
             throws SdkClientException, AmazonServiceException {
         abortMultipartUploadRequest = beforeClientExecution(abortMultipartUploadRequest);
+        Request<AbortMultipartUploadRequest> request = createAbortMultipartUploadRequest(abortMultipartUploadRequest);
+        invoke(request, voidResponseHandler, abortMultipartUploadRequest.getBucketName(),
+                abortMultipartUploadRequest.getKey());
+    }
+
+    /**
+     * Non-blocking variant of {@link #abortMultipartUpload(AbortMultipartUploadRequest)}.
+     */
+    CompletableFuture<Void> abortMultipartUploadAsync(AbortMultipartUploadRequest abortMultipartUploadRequest) {
+        abortMultipartUploadRequest = beforeClientExecution(abortMultipartUploadRequest);
+        Request<AbortMultipartUploadRequest> request = createAbortMultipartUploadRequest(abortMultipartUploadRequest);
+        return invokeAsync(request, voidResponseHandler, abortMultipartUploadRequest.getBucketName(),
+                           abortMultipartUploadRequest.getKey(), null);
+    }
+
+    private Request<AbortMultipartUploadRequest> createAbortMultipartUploadRequest(
+            AbortMultipartUploadRequest abortMultipartUploadRequest) {
         rejectNull(abortMultipartUploadRequest,
             "The request parameter must be specified when aborting a multipart upload");
         rejectNull(abortMultipartUploadRequest.getBucketName(),
@@ -3652,8 +4031,7 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         request.addHandlerContext(HandlerContextKey.OPERATION_NAME, "AbortMultipartUpload");
         request.addParameter("uploadId", abortMultipartUploadRequest.getUploadId());
         populateRequesterPaysHeader(request, abortMultipartUploadRequest.isRequesterPays());
-
-        invoke(request, voidResponseHandler, bucketName, key);
+        return request;
     }
 
     @Override
@@ -3661,72 +4039,117 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
             CompleteMultipartUploadRequest completeMultipartUploadRequest)
             throws SdkClientException, AmazonServiceException {
         completeMultipartUploadRequest = beforeClientExecution(completeMultipartUploadRequest);
-        rejectNull(completeMultipartUploadRequest,
-            "The request parameter must be specified when completing a multipart upload");
-
+        validateCompleteMultipartUploadRequest(completeMultipartUploadRequest);
         String bucketName = completeMultipartUploadRequest.getBucketName();
         String key = completeMultipartUploadRequest.getKey();
-        String uploadId = completeMultipartUploadRequest.getUploadId();
-        rejectNull(bucketName,
+
+        int retries = 0;
+        CompleteMultipartUploadHandler handler;
+        do {
+            Request<CompleteMultipartUploadRequest> request = createCompleteMultipartUploadRequest(completeMultipartUploadRequest);
+            handler = invoke(request, newCompleteMultipartUploadResponseHandler(), bucketName, key);
+            if (handler.getCompleteMultipartUploadResult() != null) {
+                return handler.getCompleteMultipartUploadResult();
+            }
+        } while (shouldRetryCompleteMultipartUpload(completeMultipartUploadRequest,
+                handler.getAmazonS3Exception(), retries++));
+
+        throw handler.getAmazonS3Exception();
+    }
+
+    /**
+     * Non-blocking variant of {@link #completeMultipartUpload(CompleteMultipartUploadRequest)}.
+     * Completions answered with an error in a 200 response are retried
+     * from the callback of the previous attempt.
+     */
+    CompletableFuture<CompleteMultipartUploadResult> completeMultipartUploadAsync(
+            CompleteMultipartUploadRequest completeMultipartUploadRequest) {
+        completeMultipartUploadRequest = beforeClientExecution(completeMultipartUploadRequest);
+        validateCompleteMultipartUploadRequest(completeMultipartUploadRequest);
+        return completeMultipartUploadAsync(completeMultipartUploadRequest, 0);
+    }
+
+    private void validateCompleteMultipartUploadRequest(CompleteMultipartUploadRequest completeMultipartUploadRequest) {
+        rejectNull(completeMultipartUploadRequest,
+            "The request parameter must be specified when completing a multipart upload");
+        rejectNull(completeMultipartUploadRequest.getBucketName(),
             "The bucket name parameter must be specified when completing a multipart upload");
-        rejectNull(key,
+        rejectNull(completeMultipartUploadRequest.getKey(),
             "The key parameter must be specified when completing a multipart upload");
-        rejectNull(uploadId,
+        rejectNull(completeMultipartUploadRequest.getUploadId(),
             "The upload ID parameter must be specified when completing a multipart upload");
         rejectNull(completeMultipartUploadRequest.getPartETags(),
             "The part ETags parameter must be specified when completing a multipart upload");
+    }
 
-        int retries = 0;
-        CompleteMultipartUploadHandler handler;
-        do {
-            Request<CompleteMultipartUploadRequest> request = createRequest(bucketName, key, completeMultipartUploadRequest, HttpMethodName.POST);
-            request.addHandlerContext(HandlerContextKey.OPERATION_NAME, "CompleteMultipartUpload");
-            request.addParameter("uploadId", uploadId);
+    private CompletableFuture<CompleteMultipartUploadResult> completeMultipartUploadAsync(
+            final CompleteMultipartUploadRequest completeMultipartUploadRequest, final int retries) {
+        Request<CompleteMultipartUploadRequest> request = createCompleteMultipartUploadRequest(completeMultipartUploadRequest);
+        return invokeAsync(request, newCompleteMultipartUploadResponseHandler(),
+                           completeMultipartUploadRequest.getBucketName(), completeMultipartUploadRequest.getKey(), null)
+                .thenCompose(new Function<CompleteMultipartUploadHandler, CompletionStage<CompleteMultipartUploadResult>>() {
+                    @Override
+                    public CompletionStage<CompleteMultipartUploadResult> apply(CompleteMultipartUploadHandler handler) {
+                        if (handler.getCompleteMultipartUploadResult() != null) {
+                            return CompletableFuture.completedFuture(handler.getCompleteMultipartUploadResult());
+                        }
+                        if (shouldRetryCompleteMultipartUpload(completeMultipartUploadRequest,
+                                handler.getAmazonS3Exception(), retries)) {
+                            return completeMultipartUploadAsync(completeMultipartUploadRequest, retries + 1);
+                        }
+                        throw handler.getAmazonS3Exception();
+                    }
+                });
+    }
 
-            populateRequesterPaysHeader(request, completeMultipartUploadRequest.isRequesterPays());
+    private Request<CompleteMultipartUploadRequest> createCompleteMultipartUploadRequest(
+            CompleteMultipartUploadRequest completeMultipartUploadRequest) {
+        String bucketName = completeMultipartUploadRequest.getBucketName();
+        String key = completeMultipartUploadRequest.getKey();
+        String uploadId = completeMultipartUploadRequest.getUploadId();
+        Request<CompleteMultipartUploadRequest> request = createRequest(bucketName, key, completeMultipartUploadRequest, HttpMethodName.POST);
+        request.addHandlerContext(HandlerContextKey.OPERATION_NAME, "CompleteMultipartUpload");
+        request.addParameter("uploadId", uploadId);
 
-            byte[] xml = RequestXmlFactory.convertToXmlByteArray(completeMultipartUploadRequest.getPartETags());
-            request.addHeader("Content-Type", "application/xml");
-            request.addHeader("Content-Length", String.valueOf(xml.length));
+        populateRequesterPaysHeader(request, completeMultipartUploadRequest.isRequesterPays());
 
-            // IBM-specific
-            if (completeMultipartUploadRequest.getRetentionExpirationDate() != null) {
-                request.addHeader(Headers.RETENTION_EXPIRATION_DATE, DateUtils.formatRFC822Date(completeMultipartUploadRequest.getRetentionExpirationDate()));
-            }
-            if (completeMultipartUploadRequest.getRetentionPeriod() != null) {
-                request.addHeader(Headers.RETENTION_PERIOD, completeMultipartUploadRequest.getRetentionPeriod().toString());
-            }
-            addHeaderIfNotNull(request, Headers.RETENTION_LEGAL_HOLD_ID, completeMultipartUploadRequest.getRetentionLegalHoldId());
+        byte[] xml = RequestXmlFactory.convertToXmlByteArray(completeMultipartUploadRequest.getPartETags());
+        request.addHeader("Content-Type", "application/xml");
+        request.addHeader("Content-Length", String.valueOf(xml.length));
 
+        // IBM-specific
+        if (completeMultipartUploadRequest.getRetentionExpirationDate() != null) {
+            request.addHeader(Headers.RETENTION_EXPIRATION_DATE, DateUtils.formatRFC822Date(completeMultipartUploadRequest.getRetentionExpirationDate()));
+        }
+        if (completeMultipartUploadRequest.getRetentionPeriod() != null) {
+            request.addHeader(Headers.RETENTION_PERIOD, completeMultipartUploadRequest.getRetentionPeriod().toString());
+        }
+        addHeaderIfNotNull(request, Headers.RETENTION_LEGAL_HOLD_ID, completeMultipartUploadRequest.getRetentionLegalHoldId());
 
-            request.setContent(new ByteArrayInputStream(xml));
 
-            // IBM-specific for retention?
-            // Calculate Content MD5
-            try {
-                byte[] md5 = Md5Utils.computeMD5Hash(new ByteArrayInputStream(xml));
-                String md5Base64 = BinaryUtils.toBase64(md5);
-                request.addHeader("Content-MD5", md5Base64);
-            } catch ( Exception e ) {
-                throw new SdkClientException("Couldn't compute md5 sum", e);
-            }
+        request.setContent(new ByteArrayInputStream(xml));
 
-            @SuppressWarnings("unchecked")
-            ResponseHeaderHandlerChain<CompleteMultipartUploadHandler> responseHandler = new ResponseHeaderHandlerChain<CompleteMultipartUploadHandler>(
-                    // xml payload unmarshaller
-                    new Unmarshallers.CompleteMultipartUploadResultUnmarshaller(),
-                    // header handlers
-                    new ServerSideEncryptionHeaderHandler<CompleteMultipartUploadHandler>(),
-                    new ObjectExpirationHeaderHandler<CompleteMultipartUploadHandler>(),
-                    new S3VersionHeaderHandler<CompleteMultipartUploadHandler>());
-            handler = invoke(request, responseHandler, bucketName, key);
-            if (handler.getCompleteMultipartUploadResult() != null) {
-                return handler.getCompleteMultipartUploadResult();
-            }
-        } while (shouldRetryCompleteMultipartUpload(completeMultipartUploadRequest,
-                handler.getAmazonS3Exception(), retries++));
+        // IBM-specific for retention?
+        // Calculate Content MD5
+        try {
+            byte[] md5 = Md5Utils.computeMD5Hash(new ByteArrayInputStream(xml));
+            String md5Base64 = BinaryUtils.toBase64(md5);
+            request.addHeader("Content-MD5", md5Base64);
+        } catch ( Exception e ) {
+            throw new SdkClientException("Couldn't compute md5 sum", e);
+        }
+        return request;
+    }
 
-        throw handler.getAmazonS3Exception();
+    @SuppressWarnings("unchecked")
+    private static ResponseHeaderHandlerChain<CompleteMultipartUploadHandler> newCompleteMultipartUploadResponseHandler() {
+        return new ResponseHeaderHandlerChain<CompleteMultipartUploadHandler>(
+                // xml payload unmarshaller
+                new Unmarshallers.CompleteMultipartUploadResultUnmarshaller(),
+                // header handlers
+                new ServerSideEncryptionHeaderHandler<CompleteMultipartUploadHandler>(),
+                new ObjectExpirationHeaderHandler<CompleteMultipartUploadHandler>(),
+                new S3VersionHeaderHandler<CompleteMultipartUploadHandler>());
     }
 
     private boolean shouldRetryCompleteMultipartUpload(AmazonWebServiceRequest originalRequest,
@@ -3752,6 +4175,24 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
             InitiateMultipartUploadRequest initiateMultipartUploadRequest)
             throws SdkClientException, AmazonServiceException {
         initiateMultipartUploadRequest = beforeClientExecution(initiateMultipartUploadRequest);
+        Request<InitiateMultipartUploadRequest> request = createInitiateMultipartUploadRequest(initiateMultipartUploadRequest);
+        return invoke(request, newInitiateMultipartUploadResponseHandler(),
+                initiateMultipartUploadRequest.getBucketName(), initiateMultipartUploadRequest.getKey());
+    }
+
+    /**
+     * Non-blocking variant of {@link #initiateMultipartUpload(InitiateMultipartUploadRequest)}.
+     */
+    CompletableFuture<InitiateMultipartUploadResult> initiateMultipartUploadAsync(
+            InitiateMultipartUploadRequest initiateMultipartUploadRequest) {
+        initiateMultipartUploadRequest = beforeClientExecution(initiateMultipartUploadRequest);
+        Request<InitiateMultipartUploadRequest> request = createInitiateMultipartUploadRequest(initiateMultipartUploadRequest);
+        return invokeAsync(request, newInitiateMultipartUploadResponseHandler(),
+                initiateMultipartUploadRequest.getBucketName(), initiateMultipartUploadRequest.getKey(), null);
+    }
+
+    private Request<InitiateMultipartUploadRequest> createInitiateMultipartUploadRequest(
+            InitiateMultipartUploadRequest initiateMultipartUploadRequest) {
         rejectNull(initiateMultipartUploadRequest,
             "The request parameter must be specified when initiating a multipart upload");
 
@@ -3808,17 +4249,18 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         // Set the request content to be empty (but not null) to force the runtime to pass
         // any query params in the query string and not the request body, to keep S3 happy.
         request.setContent(new ByteArrayInputStream(new byte[0]));
+        return request;
+    }
 
-        @SuppressWarnings("unchecked")
-        ResponseHeaderHandlerChain<InitiateMultipartUploadResult> responseHandler = new ResponseHeaderHandlerChain<InitiateMultipartUploadResult>(
+    @SuppressWarnings("unchecked")
+    private static ResponseHeaderHandlerChain<InitiateMultipartUploadResult> newInitiateMultipartUploadResponseHandler() {
+        return new ResponseHeaderHandlerChain<InitiateMultipartUploadResult>(
                 // xml payload unmarshaller
                 new Unmarshallers.InitiateMultipartUploadResultUnmarshaller(),
                 // header handlers
                 new ServerSideEncryptionHeaderHandler<InitiateMultipartUploadResult>(),
                 new S3RequesterChargedHeaderHandler<InitiateMultipartUploadResult>(),
                 new InitiateMultipartUploadHeaderHandler());
-        return invoke(request, responseHandler,
-                initiateMultipartUploadRequest.getBucketName(), initiateMultipartUploadRequest.getKey());
     }
 
     @Override
@@ -3889,6 +4331,80 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
     public UploadPartResult uploadPart(UploadPartRequest uploadPartRequest)
             throws SdkClientException, AmazonServiceException {
         uploadPartRequest = beforeClientExecution(uploadPartRequest);
+        return uploadPart(uploadPartRequest, new UploadPartSender<UploadPartResult>() {
+            @Override
+            public UploadPartResult send(String bucketName, String key, String uploadId, int partNumber,
+                    long partSize, Request<UploadPartRequest> request, InputStream inputStream,
+                    MD5DigestCalculatingInputStream md5DigestStream, ProgressListener listener) {
+                return doUploadPart(bucketName, key, uploadId, partNumber,
+                        partSize, request, inputStream, md5DigestStream, listener);
+            }
+
+            @Override
+            public boolean releasesDataSource() {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Non-blocking variant of {@link #uploadPart(UploadPartRequest)}. The part
+     * is read by the transport while the request is sent.
+     */
+    CompletableFuture<UploadPartResult> uploadPartAsync(UploadPartRequest uploadPartRequest) {
+        final UploadPartRequest originalRequest = beforeClientExecution(uploadPartRequest);
+        return uploadPart(originalRequest, new UploadPartSender<CompletableFuture<UploadPartResult>>() {
+            @Override
+            public CompletableFuture<UploadPartResult> send(final String bucketName, final String key,
+                    final String uploadId, final int partNumber, final long partSize,
+                    Request<UploadPartRequest> request, final InputStream inputStream,
+                    final MD5DigestCalculatingInputStream md5DigestStream, final ProgressListener listener) {
+                request.setContent(inputStream);
+                return invokeAsync(request, new S3MetadataResponseHandler(), bucketName, key, null)
+                        .handle(new BiFunction<ObjectMetadata, Throwable, UploadPartResult>() {
+                            @Override
+                            public UploadPartResult apply(ObjectMetadata metadata, Throwable t) {
+                                cleanupDataSource(originalRequest, originalRequest.getFile(),
+                                        originalRequest.getInputStream(), inputStream, log);
+                                try {
+                                    if (t != null) {
+                                        throw unwrapCompletionException(t);
+                                    }
+                                    return createUploadPartResult(bucketName, key, uploadId, partNumber,
+                                            partSize, metadata, md5DigestStream, listener);
+                                } catch (Throwable failure) {
+                                    publishProgress(listener, ProgressEventType.TRANSFER_PART_FAILED_EVENT);
+                                    publishProgress(listener, ProgressEventType.TRANSFER_PART_COMPLETED_EVENT);
+                                    throw asCompletionException(failure);
+                                }
+                            }
+                        });
+            }
+
+            @Override
+            public boolean releasesDataSource() {
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Sends an UploadPart request once its content is prepared by
+     * {@link #uploadPart(UploadPartRequest, UploadPartSender)}.
+     */
+    private interface UploadPartSender<T> {
+        T send(String bucketName, String key, String uploadId, int partNumber, long partSize,
+               Request<UploadPartRequest> request, InputStream inputStream,
+               MD5DigestCalculatingInputStream md5DigestStream, ProgressListener listener);
+
+        /**
+         * @return True if the data source of the part is released by the
+         *         sender once the value returned by {@link #send} completes.
+         */
+        boolean releasesDataSource();
+    }
+
+    private <T> T uploadPart(UploadPartRequest uploadPartRequest, UploadPartSender<T> sender) {
         rejectNull(uploadPartRequest,
             "The request parameter must be specified when uploading a part");
         final File fileOrig = uploadPartRequest.getFile();
@@ -3924,6 +4440,7 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         // Populate the SSE-C parameters to the request header
         populateSSE_C(request, uploadPartRequest.getSSECustomerKey());
         InputStream isCurr = isOrig;
+        boolean released = false;
         try {
             if (fileOrig == null) {
                 if (isOrig == null) {
@@ -3943,28 +4460,32 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
                     awsreq.getRequestClientOptions()
                         .setReadLimit(bufsize.intValue());
                 }
+                //IBM unsupported
+                // isCurr = new InputSubstream(
+                //         isCurr,
+                //         uploadPartRequest.getFileOffset(),
+                //         partSize,
+                //         uploadPartRequest.isLastPart());
+                final boolean closeStream = uploadPartRequest.isCalculateMD5() ? false : uploadPartRequest.isLastPart();
+                isCurr = new InputSubstream(
+                        isCurr,
+                        uploadPartRequest.getFileOffset(),
+                        partSize,
+                        closeStream);
             } else {
+                // Read the part straight from its region of the file with
+                // positional reads instead of skipping through a substream.
+                // The file is released by cleanupDataSource, so closing is
+                // disabled to keep the stream resettable after MD5 calculation.
                 try {
-                    isCurr = new ResettableInputStream(fileOrig);
+                    isCurr = new FileRegionInputStream(fileOrig,
+                            uploadPartRequest.getFileOffset(), partSize).disableClose();
                 } catch(IOException e) {
                     throw new IllegalArgumentException("Failed to open file "
                             + fileOrig, e);
                 }
             }
 
-            //IBM unsupported
-            // isCurr = new InputSubstream(
-            //         isCurr,
-            //         uploadPartRequest.getFileOffset(),
-            //         partSize,
-            //         uploadPartRequest.isLastPart());
-            final boolean closeStream = uploadPartRequest.isCalculateMD5() ? false : uploadPartRequest.isLastPart();
-            isCurr = new InputSubstream(
-                    isCurr,
-                    uploadPartRequest.getFileOffset(),
-                    partSize,
-                    closeStream);
-
             // Calculate Content MD5 on part upload if requested.
             if (uploadPartRequest.getMd5Digest() == null && uploadPartRequest.isCalculateMD5() && isCurr.markSupported()) {
             try {
@@ -3989,10 +4510,14 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
             }
             final ProgressListener listener = uploadPartRequest.getGeneralProgressListener();
             publishProgress(listener, ProgressEventType.TRANSFER_PART_STARTED_EVENT);
-            return doUploadPart(bucketName, key, uploadId, partNumber,
+            T result = sender.send(bucketName, key, uploadId, partNumber,
                     partSize, request, isCurr, md5DigestStream, listener);
+            released = sender.releasesDataSource();
+            return result;
         } finally {
-            cleanupDataSource(uploadPartRequest, fileOrig, isOrig, isCurr, log);
+            if (!released) {
+                cleanupDataSource(uploadPartRequest, fileOrig, isOrig, isCurr, log);
+            }
         }
     }
 
@@ -4005,40 +4530,8 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         try {
             request.setContent(inputStream);
             ObjectMetadata metadata = invoke(request, new S3MetadataResponseHandler(), bucketName, key);
-            final String etag = metadata.getETag();
-
-            if (md5DigestStream != null
-                    && !skipMd5CheckStrategy.skipClientSideValidationPerUploadPartResponse(metadata)) {
-                byte[] clientSideHash = md5DigestStream.getMd5Digest();
-                byte[] serverSideHash = BinaryUtils.fromHex(etag);
-
-                if (!Arrays.equals(clientSideHash, serverSideHash)) {
-                    final String info = "bucketName: " + bucketName + ", key: "
-                            + key + ", uploadId: " + uploadId
-                            + ", partNumber: " + partNumber + ", partSize: "
-                            + partSize;
-                    throw new SdkClientException(
-                         "Unable to verify integrity of data upload.  "
-                        + "Client calculated content hash (contentMD5: "
-                        + Base16.encodeAsString(clientSideHash)
-                        + " in hex) didn't match hash (etag: "
-                        + etag
-                        + " in hex) calculated by Amazon S3.  "
-                        + "You may need to delete the data stored in Amazon S3. "
-                        + "(" + info + ")");
-                }
-            }
-            publishProgress(listener, ProgressEventType.TRANSFER_PART_COMPLETED_EVENT);
-            UploadPartResult result = new UploadPartResult();
-            result.setETag(etag);
-            result.setPartNumber(partNumber);
-            result.setSSEAlgorithm(metadata.getSSEAlgorithm());
-            result.setSSECustomerAlgorithm(metadata.getSSECustomerAlgorithm());
-            result.setSSECustomerKeyMd5(metadata.getSSECustomerKeyMd5());
-            result.setRequesterCharged(metadata.isRequesterCharged());
-            //IBM does not support SSE-KMS
-            //result.setBucketKeyEnabled(metadata.getBucketKeyEnabled());
-            return result;
+            return createUploadPartResult(bucketName, key, uploadId, partNumber,
+                    partSize, metadata, md5DigestStream, listener);
         } catch (Throwable t) {
             publishProgress(listener, ProgressEventType.TRANSFER_PART_FAILED_EVENT);
             // Leaving this here in case anyone is depending on it, but it's
@@ -4049,6 +4542,48 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         }
     }
 
+
+    private UploadPartResult createUploadPartResult(final String bucketName,
+            final String key, final String uploadId, final int partNumber,
+            final long partSize, ObjectMetadata metadata,
+            MD5DigestCalculatingInputStream md5DigestStream,
+            final ProgressListener listener) {
+        final String etag = metadata.getETag();
+
+        if (md5DigestStream != null
+                && !skipMd5CheckStrategy.skipClientSideValidationPerUploadPartResponse(metadata)) {
+            byte[] clientSideHash = md5DigestStream.getMd5Digest();
+            byte[] serverSideHash = BinaryUtils.fromHex(etag);
+
+            if (!Arrays.equals(clientSideHash, serverSideHash)) {
+                final String info = "bucketName: " + bucketName + ", key: "
+                        + key + ", uploadId: " + uploadId
+                        + ", partNumber: " + partNumber + ", partSize: "
+                        + partSize;
+                throw new SdkClientException(
+                     "Unable to verify integrity of data upload.  "
+                    + "Client calculated content hash (contentMD5: "
+                    + Base16.encodeAsString(clientSideHash)
+                    + " in hex) didn't match hash (etag: "
+                    + etag
+                    + " in hex) calculated by Amazon S3.  "
+                    + "You may need to delete the data stored in Amazon S3. "
+                    + "(" + info + ")");
+            }
+        }
+        publishProgress(listener, ProgressEventType.TRANSFER_PART_COMPLETED_EVENT);
+        UploadPartResult result = new UploadPartResult();
+        result.setETag(etag);
+        result.setPartNumber(partNumber);
+        result.setSSEAlgorithm(metadata.getSSEAlgorithm());
+        result.setSSECustomerAlgorithm(metadata.getSSECustomerAlgorithm());
+        result.setSSECustomerKeyMd5(metadata.getSSECustomerKeyMd5());
+        result.setRequesterCharged(metadata.isRequesterCharged());
+        //IBM does not support SSE-KMS
+        //result.setBucketKeyEnabled(metadata.getBucketKeyEnabled());
+        return result;
+    }
+
     @Override
     public S3ResponseMetadata getCachedResponseMetadata(AmazonWebServiceRequest request) {
         return (S3ResponseMetadata)client.getResponseMetadataForRequest(request);
@@ -5736,6 +6271,110 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         }
     }
 
+    /**
+     * @return True if requests of this client can be sent without blocking,
+     *         which is required by {@link AmazonS3AsyncClient}.
+     */
+    boolean isNonBlocking() {
+        return client.isNonBlocking();
+    }
+
+    /**
+     * Non-blocking counterpart of {@link #invoke(Request, HttpResponseHandler, String, String)}.
+     * The request is marshalled and signed by the calling thread, and the
+     * returned future is completed from the callback of the HTTP transport.
+     * <p>
+     * The region of a bucket is taken from the bucket region cache only, since
+     * looking it up with a HEAD request would block; clients used
+     * asynchronously should be configured with an endpoint for the bucket.
+     *
+     * @param destination Optional file the content of a successful response
+     *                    is written to by the transport.
+     */
+    private <X, Y extends AmazonWebServiceRequest> CompletableFuture<X> invokeAsync(final Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            final String bucket, String key, File destination) {
+        AmazonWebServiceRequest originalRequest = request.getOriginalRequest();
+        checkHttps(originalRequest);
+        S3SignerProvider signerProvider = new S3SignerProvider(this, getSigner());
+        ExecutionContext executionContext = createExecutionContext(originalRequest, signerProvider);
+        final AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        // Binds the request metrics to the current request.
+        request.setAWSRequestMetrics(awsRequestMetrics);
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+
+        CompletableFuture<Response<X>> future;
+        try {
+            request.setTimeOffset(timeOffset);
+            if (!request.getHeaders().containsKey(Headers.CONTENT_TYPE)) {
+                request.addHeader(Headers.CONTENT_TYPE,
+                    "application/octet-stream");
+            }
+
+            Signer signer = createSigner(request, bucket, key);
+            signerProvider.setSigner(signer);
+
+            // Retry V4 auth errors if signer is explicitly overridden and
+            // signer is not a SigV4 signer.
+            if (isSignerOverridden() && !(signer instanceof AWSS3V4Signer)) {
+                executionContext.setAuthErrorRetryStrategy(
+                        new S3V4AuthErrorRetryStrategy(buildDefaultEndpointResolver(getProtocol(request), bucket, key)));
+            }
+
+            executionContext.setCredentialsProvider(CredentialUtils.getCredentialsProvider(request.getOriginalRequest(), awsCredentialsProvider));
+            validateRequestBeforeTransmit(request);
+            future = client.executeAsync(request, responseHandler, errorResponseHandler, executionContext,
+                                         destination);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            throw e;
+        }
+
+        return future.handle(new BiFunction<Response<X>, Throwable, X>() {
+            @Override
+            public X apply(Response<X> response, Throwable t) {
+                endClientExecution(awsRequestMetrics, request, response);
+                if (t == null) {
+                    return response.getAwsResponse();
+                }
+                Throwable cause = unwrapCompletionException(t);
+                if (cause instanceof ResetException) {
+                    ((ResetException) cause).setExtraInfo("If the request involves an input stream, the maximum stream buffer size can be configured via request.getRequestClientOptions().setReadLimit(int)");
+                } else if (cause instanceof AmazonS3Exception) {
+                    AmazonS3Exception ase = (AmazonS3Exception) cause;
+                    // See invoke: keep the bucket region cache current when a
+                    // bucket was recreated in another region.
+                    if (ase.getStatusCode() == 301 && ase.getAdditionalDetails() != null) {
+                        String region = ase.getAdditionalDetails().get(Headers.S3_BUCKET_REGION);
+                        bucketRegionCache.put(bucket, region);
+                        ase.setErrorMessage("The bucket is in this region: " + region +
+                                            ". Please use this region to retry the request");
+                    }
+                } else if (cause instanceof OAuthServiceException) {
+                    OAuthServiceException ose = (OAuthServiceException) cause;
+                    AmazonS3Exception ase = new AmazonS3Exception(ose.getErrorMessage());
+                    ase.setStatusCode(ose.getStatusCode());
+                    ase.setServiceName("IAM");
+                    ase.setStackTrace(ose.getStackTrace());
+                    cause = ase;
+                }
+                throw asCompletionException(cause);
+            }
+        });
+    }
+
+    private static Throwable unwrapCompletionException(Throwable t) {
+        return t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+    }
+
+    /**
+     * Returns an exception to throw from a completion stage so that the
+     * dependent future completes exceptionally with the specified cause.
+     */
+    private static CompletionException asCompletionException(Throwable t) {
+        return t instanceof CompletionException ? (CompletionException) t : new CompletionException(t);
+    }
+
     private void validateRequestBeforeTransmit(Request<?> request) {
         boolean implicitCrossRegionForbidden = areImplicitGlobalClientsDisabled();
         boolean explicitCrossRegionEnabled = clientOptions.isForceGlobalBucketAccessEnabled();
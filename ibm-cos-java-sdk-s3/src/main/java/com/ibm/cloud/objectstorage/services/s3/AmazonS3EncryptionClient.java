@@ -40,6 +40,7 @@ import com.ibm.cloud.objectstorage.services.s3.internal.MultiFileOutputStream;
 import com.ibm.cloud.objectstorage.services.s3.internal.PartCreationEvent;
 import com.ibm.cloud.objectstorage.services.s3.internal.S3Direct;
 import com.ibm.cloud.objectstorage.services.s3.internal.crypto.v1.CryptoModuleDispatcher;
+import com.ibm.cloud.objectstorage.services.s3.internal.crypto.v1.RangedDownloadGcmContext;
 import com.ibm.cloud.objectstorage.services.s3.internal.crypto.v1.S3CryptoModule;
 import com.ibm.cloud.objectstorage.services.s3.model.AbortMultipartUploadRequest;
 import com.ibm.cloud.objectstorage.services.s3.model.CompleteMultipartUploadRequest;
@@ -639,7 +640,9 @@ public class AmazonS3EncryptionClient extends AmazonS3Client implements
      * N-1 in order to encrypt block N, parts uploaded with the
      * AmazonS3EncryptionClient (as opposed to the normal AmazonS3Client) must
      * be uploaded serially, and in order. Otherwise, the previous encryption
-     * context isn't available to use when encrypting the current part.
+     * context isn't available to use when encrypting the current part. The
+     * exception is an upload initiated with a part size in an authenticated
+     * encryption mode, see {@link #isParallelPartUploadSupported()}.
      */
     @Override
     public UploadPartResult uploadPart(UploadPartRequest uploadPartRequest)
@@ -647,6 +650,40 @@ public class AmazonS3EncryptionClient extends AmazonS3Client implements
         return crypto.uploadPartSecurely(uploadPartRequest);
     }
 
+    /**
+     * Returns true if the parts of a multipart upload initiated with an
+     * {@link EncryptedInitiateMultipartUploadRequest} specifying a part size
+     * can be uploaded concurrently, which is the case in the authenticated
+     * encryption modes. The last part then waits for the other parts to be
+     * encrypted before it completes, so it should be uploaded once they are,
+     * as {@link com.ibm.cloud.objectstorage.services.s3.transfer.TransferManager}
+     * does.
+     */
+    public boolean isParallelPartUploadSupported() {
+        return crypto.isParallelPartUploadSupported();
+    }
+
+    /**
+     * Returns a context to download the object of the given request in byte
+     * ranges of the given size, retrieved and decrypted independently of each
+     * other so that they can be downloaded in parallel; or null if the object
+     * can only be decrypted as a whole. This is the case unless the object is
+     * encrypted with AES/GCM and its encryption information is held in its
+     * metadata, or if the request is for a range or a part of the object.
+     * <p>
+     * The tag of the object is only checked by
+     * {@link RangedDownloadGcmContext#verify()}, once all the ranges are
+     * decrypted.
+     *
+     * @param rangeSize
+     *            the size of all the ranges but the last, which must be a
+     *            multiple of 16
+     */
+    public RangedDownloadGcmContext newRangedDownloadContext(GetObjectRequest req,
+            long rangeSize) {
+        return crypto.newRangedDownloadContext(req, rangeSize);
+    }
+
     @Override
     public CopyPartResult copyPart(CopyPartRequest copyPartRequest) {
         return crypto.copyPartSecurely(copyPartRequest);
@@ -0,0 +1,89 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.internal;
+
+import java.util.Date;
+
+import com.ibm.cloud.objectstorage.annotation.SdkInternalApi;
+import com.ibm.cloud.objectstorage.services.s3.model.S3ObjectSummary;
+
+/**
+ * Object summary that keeps the last modified date and ETag as returned in
+ * the listing, and only decodes them when first accessed. Parsing the date
+ * is the most expensive part of unmarshalling a listed object, and is wasted
+ * on callers that never look at it.
+ * <p>
+ * A malformed date is reported when the date is accessed instead of when
+ * the listing is parsed.
+ */
+@SdkInternalApi
+public class LazyS3ObjectSummary extends S3ObjectSummary {
+
+    private static final long serialVersionUID = 1L;
+
+    private String lastModifiedText;
+    private String eTagText;
+
+    /**
+     * Sets the last modified date as returned by S3, to be parsed on first
+     * access.
+     */
+    public void setLastModifiedText(String lastModifiedText) {
+        this.lastModifiedText = lastModifiedText;
+        this.lastModified = null;
+    }
+
+    /**
+     * Sets the ETag as returned by S3, to be unquoted on first access.
+     */
+    public void setETagText(String eTagText) {
+        this.eTagText = eTagText;
+        this.eTag = null;
+    }
+
+    @Override
+    public Date getLastModified() {
+        // The text is kept, so that concurrent first accesses both find it
+        if (lastModified == null && lastModifiedText != null) {
+            lastModified = ServiceUtils.parseIso8601Date(lastModifiedText);
+        }
+        return lastModified;
+    }
+
+    @Override
+    public void setLastModified(Date lastModified) {
+        this.lastModifiedText = null;
+        super.setLastModified(lastModified);
+    }
+
+    @Override
+    public String getETag() {
+        if (eTag == null && eTagText != null) {
+            eTag = ServiceUtils.removeQuotes(eTagText);
+        }
+        return eTag;
+    }
+
+    @Override
+    public void setETag(String eTag) {
+        this.eTagText = null;
+        super.setETag(eTag);
+    }
+
+    @Override
+    public String toString() {
+        getLastModified();
+        getETag();
+        return super.toString();
+    }
+}
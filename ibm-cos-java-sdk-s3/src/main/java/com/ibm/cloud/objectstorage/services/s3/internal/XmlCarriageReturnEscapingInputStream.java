@@ -0,0 +1,136 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.internal;
+
+import com.ibm.cloud.objectstorage.annotation.SdkInternalApi;
+import com.ibm.cloud.objectstorage.internal.SdkFilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Replaces carriage return (\r) characters of a UTF-8 encoded XML document
+ * with the explicit character entity {@code &#013;} as the document is read,
+ * to prevent the SAX parser from normalizing them into line feeds.
+ * <p>
+ * In UTF-8 the byte 0x0D only ever encodes a carriage return, since all
+ * bytes of multi-byte sequences have their high bit set, so the replacement
+ * is done on bytes without decoding the document. Memory use is bounded by
+ * the internal buffer regardless of the size of the document.
+ */
+@SdkInternalApi
+public class XmlCarriageReturnEscapingInputStream extends SdkFilterInputStream {
+
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private static final byte[] ESCAPED_CARRIAGE_RETURN = {'&', '#', '0', '1', '3', ';'};
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    /** Position in the escape sequence being written, its length if none */
+    private int escapePosition = ESCAPED_CARRIAGE_RETURN.length;
+
+    private final byte[] singleByte = new byte[1];
+
+    public XmlCarriageReturnEscapingInputStream(InputStream in) {
+        super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int read = read(singleByte, 0, 1);
+        return read == -1 ? -1 : singleByte[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        abortIfNeeded();
+        if (len == 0) {
+            return 0;
+        }
+        int count = 0;
+        while (count < len) {
+            if (escapePosition < ESCAPED_CARRIAGE_RETURN.length) {
+                b[off + count++] = ESCAPED_CARRIAGE_RETURN[escapePosition++];
+                continue;
+            }
+            if (position == limit) {
+                // Return what is available rather than block for more
+                if (count > 0) {
+                    break;
+                }
+                int read = in.read(buffer, 0, BUFFER_SIZE);
+                if (read == -1) {
+                    return -1;
+                }
+                position = 0;
+                limit = read;
+                continue;
+            }
+
+            // Copy the run of bytes up to the next carriage return
+            int end = Math.min(limit, position + len - count);
+            int i = position;
+            while (i < end && buffer[i] != CARRIAGE_RETURN) {
+                i++;
+            }
+            System.arraycopy(buffer, position, b, off + count, i - position);
+            count += i - position;
+            position = i;
+            if (i < end) {
+                position++;
+                escapePosition = 0;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+        byte[] skipped = new byte[(int) Math.min(n, BUFFER_SIZE)];
+        long remaining = n;
+        while (remaining > 0) {
+            int read = read(skipped, 0, (int) Math.min(remaining, skipped.length));
+            if (read == -1) {
+                break;
+            }
+            remaining -= read;
+        }
+        return n - remaining;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (ESCAPED_CARRIAGE_RETURN.length - escapePosition) + (limit - position);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+}
@@ -26,6 +26,7 @@ import javax.crypto.IllegalBlockSizeException;
 import javax.crypto.NoSuchPaddingException;
 import javax.crypto.NullCipher;
 import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
 
 /**
  * Functions like a {@link Cipher} but provides only a subset of all the
@@ -297,6 +298,45 @@ public class CipherLite {
         return cipher.update(input, inputOffset, inputLen);
     }
 
+    /**
+     * Continues a multiple-part encryption or decryption operation like
+     * {@link #update(byte[], int, int)}, but stores the result in the given
+     * output buffer instead of a new one, so that buffers can be reused.
+     *
+     * @param output
+     *            the buffer for the result, which must have room for at least
+     *            {@link #getOutputSize(int) getOutputSize(inputLen)} bytes
+     *            from <code>outputOffset</code>
+     * @param outputOffset
+     *            the offset in <code>output</code> where the result is stored
+     *
+     * @return the number of bytes stored in <code>output</code>
+     *
+     * @exception IllegalStateException
+     *                if the underlying cipher is in a wrong state (e.g., has
+     *                not been initialized), or the output buffer is too small
+     */
+    public int update(byte[] input, int inputOffset, int inputLen,
+            byte[] output, int outputOffset) {
+        try {
+            return cipher.update(input, inputOffset, inputLen, output, outputOffset);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Stores the given result of {@link #update(byte[], int, int)} in the
+     * given output buffer, for the subclasses which can only produce new
+     * buffers, and returns its length.
+     */
+    static int copy(byte[] result, byte[] output, int outputOffset) {
+        if (result == null)
+            return 0;
+        System.arraycopy(result, 0, output, outputOffset, result.length);
+        return result.length;
+    }
+
     /**
      * Returns the algorithm name of the underlying cipher.
      */
@@ -364,6 +404,10 @@ public class CipherLite {
         return cipherMode;
     }
 
+    final SecretKey getSecretKey() {
+        return secreteKey;
+    }
+
     /**
      * Tests if this cipher lite supports the <code>mark</code>
      * and <code>reset</code> methods.  Returns false by default, but subclass
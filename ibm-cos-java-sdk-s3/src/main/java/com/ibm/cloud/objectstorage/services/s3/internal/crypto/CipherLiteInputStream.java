@@ -49,6 +49,11 @@ public class CipherLiteInputStream extends SdkFilterInputStream {
     private boolean eof;
     private byte[] bufin;
     private byte[] bufout;
+    /**
+     * The buffer reused for the output of the cipher updates, so that a new
+     * one isn't allocated for every chunk.
+     */
+    private byte[] updateOut;
     private int curr_pos;
     private int max_pos;
 
@@ -240,9 +245,14 @@ public class CipherLiteInputStream extends SdkFilterInputStream {
             }
             return -1;
         }
-        bufout = cipherLite.update(bufin, 0, len);
+        int outputSize = cipherLite.getOutputSize(len);
+        if (updateOut == null || updateOut.length < outputSize)
+            updateOut = new byte[outputSize];
+        int outLen = cipherLite.update(bufin, 0, len, updateOut, 0);
+        // bufout stays null only if nothing was read, which counts as a retry
+        bufout = (len == 0 && outLen == 0) ? null : updateOut;
         curr_pos = 0;
-        return max_pos = (bufout == null ? 0 : bufout.length);
+        return max_pos = outLen;
     }
 
     void renewCipherLite() {
@@ -184,6 +184,55 @@ public final class GCMCipherLite extends CipherLite {
         return out;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The result is stored directly in the given buffer, and the bytes
+     * processed are tracked for {@link #mark()} and {@link #reset()} the same
+     * way as by {@link #update(byte[], int, int)}.
+     */
+    @Override
+    public int update(byte[] input, int inputOffset, int inputLen,
+            byte[] output, int outputOffset) {
+        int len;
+        if (aux == null) {
+            len = super.update(input, inputOffset, inputLen, output, outputOffset);
+            outputByteCount += checkMax(len);
+            // currentCount is irrelevant when reencryption is NOT in progress
+            invisiblyProcessed = len == 0 && inputLen > 0;
+            return len;
+        }
+        len = aux.update(input, inputOffset, inputLen, output, outputOffset);
+        currentCount += len;
+        if (currentCount == outputByteCount) {
+            aux = null; // flip back to the original GCM cipher
+        } else if (currentCount > outputByteCount) {
+            if (Cipher.ENCRYPT_MODE == getCipherMode()) {
+                throw new IllegalStateException("currentCount=" + currentCount
+                    + " > outputByteCount=" + outputByteCount);
+            }
+            // For decryption, this is possible since AES/CTR doesn't know
+            // about the tag at the end
+            int finalBytesLen = (finalBytes == null ? 0 : finalBytes.length);
+            long diff = outputByteCount - (currentCount - len) - finalBytesLen;
+            currentCount = outputByteCount - finalBytesLen;
+            aux = null; // flip back to the original GCM cipher
+            return (int) diff;
+        }
+        return len;
+    }
+
+    /**
+     * Takes into account the AES/CTR cipher used while re-processing, which
+     * unlike AES/GCM doesn't hold back the tag when decrypting.
+     */
+    @Override
+    int getOutputSize(int inputLen) {
+        int size = super.getOutputSize(inputLen);
+        CipherLite aux = this.aux;
+        return aux == null ? size : Math.max(size, aux.getOutputSize(inputLen));
+    }
+
     /**
      * Returns the input delta but only if it will not result in exceeding the
      * limit of the maximum number of bytes that can be processed by AES/GCM.
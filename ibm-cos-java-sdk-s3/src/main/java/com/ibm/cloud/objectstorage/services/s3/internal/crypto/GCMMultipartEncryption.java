@@ -0,0 +1,134 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.internal.crypto;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.ibm.cloud.objectstorage.SdkClientException;
+import com.ibm.cloud.objectstorage.annotation.GuardedBy;
+
+/**
+ * Encrypts the parts of a multipart upload with AES/GCM independently of each
+ * other, so that they can be encrypted and uploaded concurrently and in any
+ * order.
+ * <p>
+ * The counter mode of AES/GCM lets each part be encrypted with AES/CTR from
+ * the counter at its offset, which is known since all the parts but the last
+ * have the same size. The GHASH of the ciphertext is linear, so the hashes of
+ * the parts are combined into the tag of the whole object once they are all
+ * encrypted. The result is the same ciphertext and tag as encrypting the
+ * whole object with a single AES/GCM cipher, which is decrypted as usual.
+ * <p>
+ * The last part appends the tag, so it waits at its end for the other parts
+ * to be encrypted, or for the upload to be aborted; it should be uploaded
+ * once the other parts are, so that it does not hold a thread while waiting.
+ * Retried parts are encrypted again the same way.
+ */
+public final class GCMMultipartEncryption extends GCMSplitContent {
+    @GuardedBy("this")
+    private final Map<Integer, long[]> partHashes = new HashMap<Integer, long[]>();
+    @GuardedBy("this")
+    private boolean aborted;
+
+    /**
+     * @param gcmCipherLite
+     *            the AES/GCM cipher lite initialized to encrypt the content of
+     *            the upload, which is only used to create other ciphers
+     * @param partSize
+     *            the size of all the parts but the last, which must be a
+     *            multiple of the cipher block size
+     */
+    public GCMMultipartEncryption(CipherLite gcmCipherLite, long partSize) {
+        super(gcmCipherLite, partSize);
+    }
+
+    /**
+     * Returns the size of all the parts but the last.
+     */
+    public long getPartSize() {
+        return getPieceSize();
+    }
+
+    /**
+     * Returns a new cipher lite to encrypt the given part. Part numbers must
+     * be consecutive from 1.
+     *
+     * @throws SdkClientException
+     *             if a part other than the last is not of the part size
+     */
+    public CipherLite newPartCipherLite(int partNumber, long partLength,
+            boolean lastPart) {
+        if (partNumber < 1)
+            throw new IllegalArgumentException("part number must be at least 1");
+        long partSize = getPartSize();
+        if (!lastPart && partLength != partSize) {
+            throw new SdkClientException("Invalid part size: parts encrypted in parallel must be of "
+                    + partSize + " bytes with the exception of the last part, but part "
+                    + partNumber + " is of " + partLength + " bytes");
+        }
+        long offset = (partNumber - 1) * partSize;
+        if (offset + partLength > ContentCryptoScheme.MAX_GCM_BYTES) {
+            throw new SecurityException(
+                    "Number of bytes processed has exceeded the maximum allowed by AES/GCM; [partNumber="
+                            + partNumber + ", partLength=" + partLength + "]");
+        }
+        return new GCMPartCipherLite(this, createCtr(offset), partNumber,
+                partLength, lastPart);
+    }
+
+    /**
+     * Wakes up the last part if it is waiting for the other parts, which
+     * fails.
+     */
+    public synchronized void abort() {
+        aborted = true;
+        notifyAll();
+    }
+
+    /**
+     * Records the hash of a part other than the last.
+     */
+    synchronized void partEncrypted(int partNumber, long[] hash) {
+        partHashes.put(partNumber, hash.clone());
+        notifyAll();
+    }
+
+    /**
+     * Returns the tag of the upload, once all the parts before the last are
+     * encrypted.
+     */
+    synchronized byte[] tag(int lastPartNumber, long[] lastHash, long lastLength) {
+        try {
+            for (int partNumber = 1; partNumber < lastPartNumber; partNumber++) {
+                while (!partHashes.containsKey(partNumber)) {
+                    if (aborted) {
+                        throw new SdkClientException("The multipart upload was aborted before part "
+                                + partNumber + " was encrypted");
+                    }
+                    wait();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SdkClientException(
+                    "Interrupted while waiting for the other parts of the upload to be encrypted", e);
+        }
+        long[][] hashes = new long[lastPartNumber][];
+        for (int partNumber = 1; partNumber < lastPartNumber; partNumber++) {
+            hashes[partNumber - 1] = partHashes.get(partNumber);
+        }
+        hashes[lastPartNumber - 1] = lastHash;
+        return tag(hashes, lastLength);
+    }
+}
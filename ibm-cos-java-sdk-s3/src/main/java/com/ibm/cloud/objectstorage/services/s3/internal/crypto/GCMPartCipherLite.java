@@ -0,0 +1,131 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.internal.crypto;
+
+import javax.crypto.BadPaddingException;
+import javax.crypto.Cipher;
+import javax.crypto.IllegalBlockSizeException;
+
+/**
+ * Encrypts one part of a multipart upload with AES/CTR, starting at the
+ * counter AES/GCM would use at the offset of the part, and hashes the
+ * ciphertext with GHASH. The hash of the part is handed to its
+ * {@link GCMMultipartEncryption} once the part is encrypted, and the last
+ * part appends the tag of the whole upload.
+ *
+ * @see GCMMultipartEncryption
+ */
+final class GCMPartCipherLite extends CipherLite {
+    private final GCMMultipartEncryption encryption;
+    private final int partNumber;
+    private final long partLength;
+    private final boolean lastPart;
+    private final GHashAccumulator hash;
+    private long inputLength;
+
+    GCMPartCipherLite(GCMMultipartEncryption encryption, CipherLite ctr,
+            int partNumber, long partLength, boolean lastPart) {
+        super(ctr.getCipher(), ctr.getContentCryptoScheme(), ctr.getSecretKey(),
+                Cipher.ENCRYPT_MODE);
+        this.encryption = encryption;
+        this.partNumber = partNumber;
+        this.partLength = partLength;
+        this.lastPart = lastPart;
+        this.hash = new GHashAccumulator(encryption.getGHash());
+    }
+
+    /**
+     * Returns a cipher lite to encrypt the same part again from its start.
+     */
+    @Override
+    public CipherLite recreate() {
+        return encryption.newPartCipherLite(partNumber, partLength, lastPart);
+    }
+
+    @Override
+    public byte[] update(byte[] input, int inputOffset, int inputLen) {
+        inputLength += inputLen;
+        if (inputLength > partLength) {
+            throw new IllegalStateException("Part " + partNumber + " is longer than "
+                    + partLength + " bytes");
+        }
+        byte[] out = super.update(input, inputOffset, inputLen);
+        if (!lastPart && inputLength == partLength) {
+            // The cipher input stream only calls doFinal on the last part
+            try {
+                out = concat(out, super.doFinal());
+            } catch (Exception e) {
+                throw e instanceof RuntimeException
+                    ? (RuntimeException) e
+                    : new IllegalStateException(e);
+            }
+            hash(out);
+            encryption.partEncrypted(partNumber, hash.finish());
+            return out;
+        }
+        hash(out);
+        return out;
+    }
+
+    @Override
+    public int update(byte[] input, int inputOffset, int inputLen,
+            byte[] output, int outputOffset) {
+        return copy(update(input, inputOffset, inputLen), output, outputOffset);
+    }
+
+    @Override
+    public byte[] doFinal() throws IllegalBlockSizeException,
+            BadPaddingException {
+        if (!lastPart) {
+            return inputLength == partLength ? null : super.doFinal();
+        }
+        byte[] out = super.doFinal();
+        hash(out);
+        return concat(out, encryption.tag(partNumber, hash.finish(), inputLength));
+    }
+
+    @Override
+    public byte[] doFinal(byte[] input) throws IllegalBlockSizeException,
+            BadPaddingException {
+        return doFinal(input, 0, input.length);
+    }
+
+    @Override
+    public byte[] doFinal(byte[] input, int inputOffset, int inputLen)
+            throws IllegalBlockSizeException, BadPaddingException {
+        byte[] out = update(input, inputOffset, inputLen);
+        return concat(out, doFinal());
+    }
+
+    /**
+     * Adds the given ciphertext to the hash of the part.
+     */
+    private void hash(byte[] out) {
+        if (out != null) {
+            hash.update(out, 0, out.length);
+        }
+    }
+
+    private static byte[] concat(byte[] a, byte[] b) {
+        if (a == null || a.length == 0) {
+            return b;
+        }
+        if (b == null || b.length == 0) {
+            return a;
+        }
+        byte[] result = new byte[a.length + b.length];
+        System.arraycopy(a, 0, result, 0, a.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.internal.crypto;
+
+import javax.crypto.BadPaddingException;
+import javax.crypto.Cipher;
+import javax.crypto.IllegalBlockSizeException;
+
+/**
+ * Decrypts one range of an AES/GCM encrypted content with AES/CTR, starting
+ * at the counter AES/GCM would use at the offset of the range, and hashes the
+ * ciphertext with GHASH. The tag following the last range is held back from
+ * the output. The hash of the range, and the tag, are handed to its
+ * {@link GCMRangeDecryption} once the whole range is decrypted.
+ *
+ * @see GCMRangeDecryption
+ */
+final class GCMRangeCipherLite extends CipherLite {
+    private final GCMRangeDecryption decryption;
+    private final int rangeNumber;
+    private final long rangeLength;
+    private final GHashAccumulator hash;
+    /** The tag following the ciphertext, empty if not the last range */
+    private final byte[] tag;
+    private long inputLength;
+    private boolean finished;
+
+    GCMRangeCipherLite(GCMRangeDecryption decryption, CipherLite ctr,
+            int rangeNumber, long rangeLength, int tagLength) {
+        super(ctr.getCipher(), ctr.getContentCryptoScheme(), ctr.getSecretKey(),
+                Cipher.DECRYPT_MODE);
+        this.decryption = decryption;
+        this.rangeNumber = rangeNumber;
+        this.rangeLength = rangeLength;
+        this.hash = new GHashAccumulator(decryption.getGHash());
+        this.tag = new byte[tagLength];
+    }
+
+    /**
+     * Returns a cipher lite to decrypt the same range again from its start.
+     */
+    @Override
+    public CipherLite recreate() {
+        return decryption.newRangeCipherLite(rangeNumber);
+    }
+
+    @Override
+    public byte[] update(byte[] input, int inputOffset, int inputLen) {
+        int ciphertextLen = consume(input, inputOffset, inputLen);
+        return ciphertextLen == 0 ? null : super.update(input, inputOffset, ciphertextLen);
+    }
+
+    @Override
+    public int update(byte[] input, int inputOffset, int inputLen,
+            byte[] output, int outputOffset) {
+        int ciphertextLen = consume(input, inputOffset, inputLen);
+        return ciphertextLen == 0 ? 0
+            : super.update(input, inputOffset, ciphertextLen, output, outputOffset);
+    }
+
+    /**
+     * Hands the range over to its decryption once all of it, and the tag for
+     * the last range, has been processed. Doesn't fail otherwise, since the
+     * cipher input stream also calls it when closed early, but the range then
+     * fails the verification.
+     */
+    @Override
+    public byte[] doFinal() throws IllegalBlockSizeException,
+            BadPaddingException {
+        if (finished)
+            return null;
+        finished = true;
+        byte[] out = super.doFinal();
+        if (inputLength == rangeLength + tag.length) {
+            decryption.rangeDecrypted(rangeNumber, hash.finish(),
+                    tag.length == 0 ? null : tag.clone());
+        }
+        return out;
+    }
+
+    @Override
+    public byte[] doFinal(byte[] input) throws IllegalBlockSizeException,
+            BadPaddingException {
+        return doFinal(input, 0, input.length);
+    }
+
+    @Override
+    public byte[] doFinal(byte[] input, int inputOffset, int inputLen)
+            throws IllegalBlockSizeException, BadPaddingException {
+        byte[] out = update(input, inputOffset, inputLen);
+        byte[] last = doFinal();
+        if (out == null)
+            return last;
+        if (last == null || last.length == 0)
+            return out;
+        byte[] result = new byte[out.length + last.length];
+        System.arraycopy(out, 0, result, 0, out.length);
+        System.arraycopy(last, 0, result, out.length, last.length);
+        return result;
+    }
+
+    /**
+     * Hashes the ciphertext in the given input and keeps the bytes of the tag
+     * apart.
+     *
+     * @return the number of bytes of ciphertext at the start of the input
+     */
+    private int consume(byte[] input, int inputOffset, int inputLen) {
+        if (inputLength + inputLen > rangeLength + tag.length) {
+            throw new IllegalStateException("Range " + rangeNumber + " is longer than "
+                    + (rangeLength + tag.length) + " bytes");
+        }
+        int ciphertextLen = (int) Math.max(0, Math.min(inputLen, rangeLength - inputLength));
+        hash.update(input, inputOffset, ciphertextLen);
+        int tagOffset = (int) Math.max(0, inputLength - rangeLength);
+        System.arraycopy(input, inputOffset + ciphertextLen, tag, tagOffset,
+                inputLen - ciphertextLen);
+        inputLength += inputLen;
+        return ciphertextLen;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.internal.crypto;
+
+import java.security.MessageDigest;
+
+import com.ibm.cloud.objectstorage.annotation.GuardedBy;
+
+/**
+ * Decrypts the byte ranges of an AES/GCM encrypted content independently of
+ * each other, so that they can be downloaded and decrypted concurrently and in
+ * any order.
+ * <p>
+ * Each range is decrypted with AES/CTR from the counter at its offset, and
+ * its ciphertext is hashed with GHASH on the way. Once all the ranges are
+ * decrypted, their hashes are combined into the tag of the whole content,
+ * which {@link #verify()} compares to the tag at the end of the last range.
+ * All the ranges but the last are of the same size, a multiple of the cipher
+ * block size. Ranges are numbered from 1.
+ */
+public final class GCMRangeDecryption extends GCMSplitContent {
+    private final long contentLength;
+    private final int tagLength;
+    private final int rangeCount;
+    @GuardedBy("this")
+    private final long[][] rangeHashes;
+    @GuardedBy("this")
+    private byte[] tag;
+
+    /**
+     * @param gcmCipherLite
+     *            the AES/GCM cipher lite initialized to decrypt the whole
+     *            content, which is only used to create other ciphers
+     * @param contentLength
+     *            the length of the plaintext, which is that of the ciphertext
+     *            without the tag
+     * @param rangeSize
+     *            the size of all the ranges but the last, which must be a
+     *            multiple of the cipher block size
+     */
+    public GCMRangeDecryption(CipherLite gcmCipherLite, long contentLength,
+            long rangeSize) {
+        super(gcmCipherLite, rangeSize);
+        if (contentLength < 0)
+            throw new IllegalArgumentException("contentLength must not be negative");
+        this.contentLength = contentLength;
+        this.tagLength = ContentCryptoScheme.AES_GCM.getTagLengthInBits() / 8;
+        this.rangeCount = (int) Math.max(1, (contentLength + rangeSize - 1) / rangeSize);
+        this.rangeHashes = new long[rangeCount][];
+    }
+
+    /**
+     * Returns the length of the plaintext.
+     */
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    public int getRangeCount() {
+        return rangeCount;
+    }
+
+    /**
+     * Returns the offset of the given range in the plaintext, which is also
+     * its offset in the ciphertext.
+     */
+    public long getRangeStart(int rangeNumber) {
+        checkRangeNumber(rangeNumber);
+        return (rangeNumber - 1) * getPieceSize();
+    }
+
+    /**
+     * Returns the number of bytes of plaintext in the given range.
+     */
+    public long getRangeLength(int rangeNumber) {
+        long start = getRangeStart(rangeNumber);
+        return Math.min(getPieceSize(), contentLength - start);
+    }
+
+    /**
+     * Returns the inclusive byte range of the stored ciphertext to retrieve
+     * for the given range, which extends to the tag for the last range.
+     */
+    public long[] getCiphertextRange(int rangeNumber) {
+        long start = getRangeStart(rangeNumber);
+        long end = start + getRangeLength(rangeNumber) - 1;
+        if (rangeNumber == rangeCount)
+            end += tagLength;
+        return new long[] { start, end };
+    }
+
+    /**
+     * Returns a new cipher lite to decrypt the ciphertext of the given range,
+     * as returned by {@link #getCiphertextRange(int)}.
+     */
+    public CipherLite newRangeCipherLite(int rangeNumber) {
+        return new GCMRangeCipherLite(this, createCtr(getRangeStart(rangeNumber)),
+                rangeNumber, getRangeLength(rangeNumber),
+                rangeNumber == rangeCount ? tagLength : 0);
+    }
+
+    /**
+     * Checks the tag of the content against the hashes of all its ranges.
+     *
+     * @throws SecurityException
+     *             if a range was not entirely decrypted, or if the tag
+     *             doesn't match the content
+     */
+    public synchronized void verify() {
+        for (int i = 0; i < rangeCount; i++) {
+            if (rangeHashes[i] == null) {
+                throw new SecurityException("Range " + (i + 1) + " of " + rangeCount
+                        + " of the content was not entirely decrypted");
+            }
+        }
+        if (tag == null)
+            throw new SecurityException("The tag of the content was not retrieved");
+        byte[] expected = tag(rangeHashes, getRangeLength(rangeCount));
+        if (!MessageDigest.isEqual(expected, tag))
+            throw new SecurityException("The tag of the content doesn't match its ciphertext");
+    }
+
+    /**
+     * Records the hash of a range, and the tag that follows the last range.
+     */
+    synchronized void rangeDecrypted(int rangeNumber, long[] hash, byte[] tag) {
+        rangeHashes[rangeNumber - 1] = hash;
+        if (tag != null)
+            this.tag = tag;
+    }
+
+    private void checkRangeNumber(int rangeNumber) {
+        if (rangeNumber < 1 || rangeNumber > rangeCount) {
+            throw new IllegalArgumentException("range number " + rangeNumber
+                    + " must be between 1 and " + rangeCount);
+        }
+    }
+}
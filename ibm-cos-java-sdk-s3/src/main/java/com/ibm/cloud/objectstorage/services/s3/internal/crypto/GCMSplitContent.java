@@ -0,0 +1,129 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.internal.crypto;
+
+import com.ibm.cloud.objectstorage.SdkClientException;
+
+/**
+ * The AES/GCM state shared by the operations which split a content into
+ * pieces of the same size, all but the last, to process them independently
+ * of each other.
+ * <p>
+ * The counter mode of AES/GCM lets each piece be processed with AES/CTR from
+ * the counter at its offset. The GHASH of the ciphertext is linear, so the
+ * hashes of the pieces are combined into the tag of the whole content.
+ *
+ * @see GCMMultipartEncryption
+ * @see GCMRangeDecryption
+ */
+abstract class GCMSplitContent {
+    static final int BLOCK_SIZE = 16;
+
+    private final CipherLite gcm;
+    private final long pieceSize;
+    private final GHash ghash;
+    /** The encryption of the pre-counter block J0, which masks the tag */
+    private final byte[] encryptedJ0;
+    /** H to the power of the number of blocks of a piece */
+    private final long[] piecePower;
+
+    /**
+     * @param gcmCipherLite
+     *            the AES/GCM cipher lite initialized for the content, which is
+     *            only used to create other ciphers
+     * @param pieceSize
+     *            the size of all the pieces but the last, which must be a
+     *            multiple of the cipher block size
+     */
+    GCMSplitContent(CipherLite gcmCipherLite, long pieceSize) {
+        if (pieceSize <= 0 || pieceSize % BLOCK_SIZE != 0) {
+            throw new IllegalArgumentException("The size of the pieces (" + pieceSize
+                    + ") must be a positive multiple of " + BLOCK_SIZE);
+        }
+        this.gcm = gcmCipherLite;
+        this.pieceSize = pieceSize;
+        CipherLite ctr = createCtr(0);
+        this.ghash = new GHash(encryptBlock(ctr, new byte[BLOCK_SIZE]));
+        byte[] j0 = new byte[BLOCK_SIZE];
+        byte[] iv = gcm.getIV();
+        System.arraycopy(iv, 0, j0, 0, iv.length);
+        j0[BLOCK_SIZE - 1] = 1;
+        this.encryptedJ0 = encryptBlock(ctr, j0);
+        this.piecePower = ghash.power(pieceSize / BLOCK_SIZE);
+    }
+
+    final long getPieceSize() {
+        return pieceSize;
+    }
+
+    final GHash getGHash() {
+        return ghash;
+    }
+
+    /**
+     * Returns the tag of the content from the hashes of its pieces, in
+     * order.
+     *
+     * @param lastLength
+     *            the length of the last piece
+     */
+    final byte[] tag(long[][] hashes, long lastLength) {
+        long[] y = GHash.zero();
+        int last = hashes.length - 1;
+        for (int i = 0; i < last; i++) {
+            y = xor(GHash.multiply(y, piecePower), hashes[i]);
+        }
+        long lastBlocks = (lastLength + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        y = xor(GHash.multiply(y, ghash.power(lastBlocks)), hashes[last]);
+        // The length block: no additional authenticated data, then the
+        // length of the ciphertext in bits
+        y[1] ^= (last * pieceSize + lastLength) * 8;
+        ghash.multiplyH(y);
+        byte[] tag = GHash.toBytes(y);
+        for (int i = 0; i < tag.length; i++) {
+            tag[i] ^= encryptedJ0[i];
+        }
+        return tag;
+    }
+
+    /**
+     * Returns an AES/CTR cipher lite starting at the counter AES/GCM uses for
+     * the given offset of the content.
+     */
+    final CipherLite createCtr(long offset) {
+        try {
+            return gcm.createAuxiliary(offset);
+        } catch (Exception e) {
+            throw e instanceof RuntimeException
+                ? (RuntimeException) e
+                : new SdkClientException("Unable to build cipher: " + e.getMessage(), e);
+        }
+    }
+
+    private static long[] xor(long[] x, long[] y) {
+        return new long[] { x[0] ^ y[0], x[1] ^ y[1] };
+    }
+
+    /**
+     * Returns the AES encryption of the given block.
+     */
+    private static byte[] encryptBlock(CipherLite ctr, byte[] block) {
+        try {
+            return ctr.createUsingIV(block).doFinal(new byte[BLOCK_SIZE]);
+        } catch (Exception e) {
+            throw e instanceof RuntimeException
+                ? (RuntimeException) e
+                : new SdkClientException("Unable to build cipher: " + e.getMessage(), e);
+        }
+    }
+}
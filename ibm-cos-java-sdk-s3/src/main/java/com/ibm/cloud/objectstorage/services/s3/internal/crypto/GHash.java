@@ -0,0 +1,175 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.internal.crypto;
+
+/**
+ * The GHASH function of AES/GCM for a given hash subkey H, which allows the
+ * hash of a ciphertext to be computed in pieces and combined afterwards.
+ * <p>
+ * Elements of GF(2^128) are held as two longs, the first and last 8 bytes of
+ * their 16 byte big-endian representation. Multiplying by H uses a table of
+ * the products of H by every byte at every position, so each block costs 16
+ * lookups.
+ * <p>
+ * Reference: <a href=
+ * "http://csrc.nist.gov/publications/nistpubs/800-38D/SP-800-38D.pdf">
+ * NIST Special Publication 800-38D.</a>
+ */
+final class GHash {
+    /** The reduction polynomial R of GCM */
+    private static final long R = 0xE100000000000000L;
+
+    private final long[] h;
+    /**
+     * The products of H by each byte value at each of the 16 byte positions,
+     * two longs per product.
+     */
+    private final long[] table = new long[16 * 256 * 2];
+
+    /**
+     * @param h
+     *            the 16 byte hash subkey, the encryption of the zero block
+     */
+    GHash(byte[] h) {
+        this.h = toElement(h, 0);
+        // Products of H by each of the 128 single-bit elements
+        long[] bits = new long[128 * 2];
+        bits[0] = this.h[0];
+        bits[1] = this.h[1];
+        for (int k = 1; k < 128; k++) {
+            bits[2 * k] = bits[2 * k - 2];
+            bits[2 * k + 1] = bits[2 * k - 1];
+            multiplyX(bits, 2 * k);
+        }
+        for (int i = 0; i < 16; i++) {
+            for (int b = 1; b < 256; b++) {
+                int lowest = b & -b;
+                int bit = 8 * i + 7 - Integer.numberOfTrailingZeros(lowest);
+                int to = (i * 256 + b) * 2;
+                int from = (i * 256 + (b ^ lowest)) * 2;
+                table[to] = table[from] ^ bits[2 * bit];
+                table[to + 1] = table[from + 1] ^ bits[2 * bit + 1];
+            }
+        }
+    }
+
+    /**
+     * Returns a new element of value zero, the initial hash.
+     */
+    static long[] zero() {
+        return new long[2];
+    }
+
+    /**
+     * Returns the element of the 16 bytes at the given offset.
+     */
+    static long[] toElement(byte[] bytes, int offset) {
+        return new long[] { readLong(bytes, offset), readLong(bytes, offset + 8) };
+    }
+
+    /**
+     * Returns the 16 byte big-endian representation of the given element.
+     */
+    static byte[] toBytes(long[] x) {
+        byte[] bytes = new byte[16];
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (x[0] >>> (56 - 8 * i));
+            bytes[i + 8] = (byte) (x[1] >>> (56 - 8 * i));
+        }
+        return bytes;
+    }
+
+    /**
+     * Updates the given hash with the 16 byte block at the given offset.
+     */
+    void update(long[] y, byte[] block, int offset) {
+        y[0] ^= readLong(block, offset);
+        y[1] ^= readLong(block, offset + 8);
+        multiplyH(y);
+    }
+
+    /**
+     * Multiplies the given element by H, in place.
+     */
+    void multiplyH(long[] x) {
+        long hi = 0;
+        long lo = 0;
+        for (int i = 0; i < 8; i++) {
+            int index = (i * 256 + (int) ((x[0] >>> (56 - 8 * i)) & 0xFF)) * 2;
+            hi ^= table[index];
+            lo ^= table[index + 1];
+            index = ((i + 8) * 256 + (int) ((x[1] >>> (56 - 8 * i)) & 0xFF)) * 2;
+            hi ^= table[index];
+            lo ^= table[index + 1];
+        }
+        x[0] = hi;
+        x[1] = lo;
+    }
+
+    /**
+     * Returns H to the power of the given exponent.
+     */
+    long[] power(long exponent) {
+        long[] result = new long[] { 0x8000000000000000L, 0 };    // one
+        long[] square = h.clone();
+        for (long e = exponent; e > 0; e >>>= 1) {
+            if ((e & 1) != 0) {
+                result = multiply(result, square);
+            }
+            square = multiply(square, square);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the product of two elements, one bit at a time, which is only
+     * intended for the few products not by H.
+     */
+    static long[] multiply(long[] x, long[] y) {
+        long[] z = new long[2];
+        long[] v = y.clone();
+        for (int i = 0; i < 128; i++) {
+            long word = i < 64 ? x[0] : x[1];
+            if (((word >>> (63 - (i & 63))) & 1) != 0) {
+                z[0] ^= v[0];
+                z[1] ^= v[1];
+            }
+            multiplyX(v, 0);
+        }
+        return z;
+    }
+
+    /**
+     * Multiplies the element at the given index by x, in place.
+     */
+    private static void multiplyX(long[] v, int index) {
+        long hi = v[index];
+        long lo = v[index + 1];
+        boolean carry = (lo & 1) != 0;
+        lo = (lo >>> 1) | (hi << 63);
+        hi >>>= 1;
+        if (carry) {
+            hi ^= R;
+        }
+        v[index] = hi;
+        v[index + 1] = lo;
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+}
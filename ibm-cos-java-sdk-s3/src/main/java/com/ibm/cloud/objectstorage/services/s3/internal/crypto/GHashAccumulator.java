@@ -0,0 +1,67 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.internal.crypto;
+
+/**
+ * Computes the GHASH of a piece of ciphertext handed over in chunks of any
+ * length, holding back the bytes of an incomplete block until the next chunk.
+ */
+final class GHashAccumulator {
+    private final GHash ghash;
+    private final long[] hash = GHash.zero();
+    /** Ciphertext not yet hashed, shorter than a block */
+    private final byte[] pending = new byte[16];
+    private int pendingLength;
+
+    GHashAccumulator(GHash ghash) {
+        this.ghash = ghash;
+    }
+
+    /**
+     * Adds the given ciphertext to the hash.
+     */
+    void update(byte[] b, int off, int len) {
+        int end = off + len;
+        if (pendingLength > 0) {
+            int length = Math.min(len, pending.length - pendingLength);
+            System.arraycopy(b, off, pending, pendingLength, length);
+            pendingLength += length;
+            off += length;
+            if (pendingLength < pending.length) {
+                return;
+            }
+            ghash.update(hash, pending, 0);
+            pendingLength = 0;
+        }
+        for (; off + 16 <= end; off += 16) {
+            ghash.update(hash, b, off);
+        }
+        pendingLength = end - off;
+        System.arraycopy(b, off, pending, 0, pendingLength);
+    }
+
+    /**
+     * Returns the hash of the ciphertext added so far, with the last block
+     * padded with zeros.
+     */
+    long[] finish() {
+        if (pendingLength > 0) {
+            for (int i = pendingLength; i < pending.length; i++) {
+                pending[i] = 0;
+            }
+            ghash.update(hash, pending, 0);
+            pendingLength = 0;
+        }
+        return hash.clone();
+    }
+}
@@ -123,6 +123,13 @@ public class CryptoModuleDispatcher extends S3CryptoModule<MultipartUploadContex
         return ae.getObjectSecurely(req, destinationFile);
     }
 
+    @Override
+    public RangedDownloadGcmContext newRangedDownloadContext(GetObjectRequest req,
+            long rangeSize) {
+        // AE module can handle S3 objects encrypted in either AE or EO format
+        return ae.newRangedDownloadContext(req, rangeSize);
+    }
+
     @Override
     public CompleteMultipartUploadResult completeMultipartUploadSecurely(
             CompleteMultipartUploadRequest req)
@@ -151,6 +158,14 @@ public class CryptoModuleDispatcher extends S3CryptoModule<MultipartUploadContex
              ;
     }
 
+    @Override
+    public boolean isParallelPartUploadSupported() {
+        return defaultCryptoMode == EncryptionOnly
+             ? eo.isParallelPartUploadSupported()
+             : ae.isParallelPartUploadSupported()
+             ;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -159,7 +174,9 @@ public class CryptoModuleDispatcher extends S3CryptoModule<MultipartUploadContex
      * N-1 in order to encrypt block N, parts uploaded with the
      * AmazonS3EncryptionClient (as opposed to the normal AmazonS3Client) must
      * be uploaded serially, and in order. Otherwise, the previous encryption
-     * context isn't available to use when encrypting the current part.
+     * context isn't available to use when encrypting the current part. The
+     * exception is an upload initiated with a part size in an authenticated
+     * encryption mode, see {@link #isParallelPartUploadSupported()}.
      */
     @Override
     public UploadPartResult uploadPartSecurely(UploadPartRequest req)
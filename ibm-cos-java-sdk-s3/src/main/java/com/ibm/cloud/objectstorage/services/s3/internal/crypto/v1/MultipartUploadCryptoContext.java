@@ -97,4 +97,11 @@ class MultipartUploadCryptoContext extends MultipartUploadContext {
     void endPartUpload() {
         partUploadInProgress = false;
     }
+
+    /**
+     * Used to mark the upload as aborted, so that no part upload waits on it
+     * any longer.
+     */
+    void abort() {
+    }
 }
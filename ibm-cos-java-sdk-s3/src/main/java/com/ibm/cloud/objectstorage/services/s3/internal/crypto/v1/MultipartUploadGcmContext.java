@@ -0,0 +1,58 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.internal.crypto.v1;
+
+import com.ibm.cloud.objectstorage.services.s3.internal.crypto.CipherLite;
+import com.ibm.cloud.objectstorage.services.s3.internal.crypto.GCMMultipartEncryption;
+
+/**
+ * Context of a multipart upload encrypted with AES/GCM whose parts are
+ * encrypted independently, and so can be uploaded concurrently and in any
+ * order.
+ *
+ * @see GCMMultipartEncryption
+ */
+final class MultipartUploadGcmContext extends MultipartUploadCryptoContext {
+    private final GCMMultipartEncryption encryption;
+
+    MultipartUploadGcmContext(String bucketName, String key,
+            ContentCryptoMaterial cekMaterial, long partSize) {
+        super(bucketName, key, cekMaterial);
+        this.encryption = new GCMMultipartEncryption(cekMaterial.getCipherLite(), partSize);
+    }
+
+    /**
+     * Returns a new cipher lite to encrypt the given part.
+     */
+    CipherLite getCipherLite(int partNumber, long partSize, boolean lastPart) {
+        return encryption.newPartCipherLite(partNumber, partSize, lastPart);
+    }
+
+    /**
+     * Parts are not required to be uploaded in series.
+     */
+    @Override
+    void beginPartUpload(final int nextPartNumber) {
+        if (nextPartNumber < 1)
+            throw new IllegalArgumentException("part number must be at least 1");
+    }
+
+    @Override
+    void endPartUpload() {
+    }
+
+    @Override
+    void abort() {
+        encryption.abort();
+    }
+}
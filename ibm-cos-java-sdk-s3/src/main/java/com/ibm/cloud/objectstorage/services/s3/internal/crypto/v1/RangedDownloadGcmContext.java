@@ -0,0 +1,115 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.internal.crypto.v1;
+
+import static com.ibm.cloud.objectstorage.util.IOUtils.closeQuietly;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.ibm.cloud.objectstorage.services.s3.internal.S3Direct;
+import com.ibm.cloud.objectstorage.services.s3.internal.crypto.CipherLiteInputStream;
+import com.ibm.cloud.objectstorage.services.s3.internal.crypto.GCMRangeDecryption;
+import com.ibm.cloud.objectstorage.services.s3.model.GetObjectRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.S3Object;
+import com.ibm.cloud.objectstorage.services.s3.model.S3ObjectInputStream;
+
+/**
+ * Context of the download of an object encrypted with AES/GCM in byte ranges
+ * retrieved and decrypted independently, and so concurrently and in any
+ * order. Ranges are numbered from 1.
+ * <p>
+ * The content of each range is returned as soon as it is decrypted, so the
+ * object must not be trusted before {@link #verify()} has checked its tag,
+ * once all the ranges are read to their end.
+ *
+ * @see GCMRangeDecryption
+ */
+public final class RangedDownloadGcmContext {
+    private static final Log log = LogFactory.getLog(RangedDownloadGcmContext.class);
+
+    private final S3Direct s3;
+    private final GCMRangeDecryption decryption;
+    private final int bufferSize;
+    private final String eTag;
+
+    RangedDownloadGcmContext(S3Direct s3, GCMRangeDecryption decryption,
+            int bufferSize, String eTag) {
+        this.s3 = s3;
+        this.decryption = decryption;
+        this.bufferSize = bufferSize;
+        this.eTag = eTag;
+    }
+
+    /**
+     * Returns the ETag of the object the ranges are decrypted for, which
+     * every range must be retrieved from; or null if unknown.
+     */
+    public String getETag() {
+        return eTag;
+    }
+
+    /**
+     * Returns the length of the decrypted object.
+     */
+    public long getContentLength() {
+        return decryption.getContentLength();
+    }
+
+    public int getRangeCount() {
+        return decryption.getRangeCount();
+    }
+
+    /**
+     * Returns the offset of the given range in the decrypted object.
+     */
+    public long getRangeStart(int rangeNumber) {
+        return decryption.getRangeStart(rangeNumber);
+    }
+
+    /**
+     * Retrieves the given range of the object, with the range set on the
+     * given request, and returns it with its content being decrypted; or null
+     * if the constraints of the request are not met.
+     */
+    public S3Object getRange(GetObjectRequest req, int rangeNumber) {
+        long[] range = decryption.getCiphertextRange(rangeNumber);
+        req.setRange(range[0], range[1]);
+        S3Object retrieved = s3.getObject(req);
+        if (retrieved == null)
+            return null;
+        try {
+            S3ObjectInputStream objectContent = retrieved.getObjectContent();
+            retrieved.setObjectContent(new S3ObjectInputStream(
+                    new CipherLiteInputStream(objectContent,
+                        decryption.newRangeCipherLite(rangeNumber),
+                        bufferSize),
+                    objectContent.getHttpRequest()));
+            return retrieved;
+        } catch (RuntimeException ex) {
+            closeQuietly(retrieved, log);
+            throw ex;
+        }
+    }
+
+    /**
+     * Checks the tag of the object once all its ranges are decrypted.
+     *
+     * @throws SecurityException
+     *             if a range was not entirely decrypted, or if the object
+     *             doesn't match its tag
+     */
+    public void verify() {
+        decryption.verify();
+    }
+}
@@ -25,6 +25,7 @@ import com.ibm.cloud.objectstorage.services.s3.model.CopyPartRequest;
 import com.ibm.cloud.objectstorage.services.s3.model.CopyPartResult;
 import com.ibm.cloud.objectstorage.services.s3.model.CryptoMode;
 import com.ibm.cloud.objectstorage.services.s3.model.EncryptedGetObjectRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.EncryptedInitiateMultipartUploadRequest;
 import com.ibm.cloud.objectstorage.services.s3.model.GetObjectRequest;
 import com.ibm.cloud.objectstorage.services.s3.model.InitiateMultipartUploadRequest;
 import com.ibm.cloud.objectstorage.services.s3.model.InitiateMultipartUploadResult;
@@ -60,6 +61,25 @@ public abstract class S3CryptoModule<T extends MultipartUploadContext> {
 
     public abstract UploadPartResult uploadPartSecurely(UploadPartRequest req);
 
+    /**
+     * Returns true if the parts of a multipart upload initiated with a part
+     * size, see {@link EncryptedInitiateMultipartUploadRequest#setPartSize(long)},
+     * can be uploaded concurrently; false if parts must be uploaded in series.
+     */
+    public boolean isParallelPartUploadSupported() {
+        return false;
+    }
+
+    /**
+     * Returns a context to download the object of the given request in byte
+     * ranges of the given size, retrieved and decrypted independently of each
+     * other; or null if the object can only be decrypted as a whole.
+     */
+    public RangedDownloadGcmContext newRangedDownloadContext(GetObjectRequest req,
+            long rangeSize) {
+        return null;
+    }
+
     public abstract CopyPartResult copyPartSecurely(CopyPartRequest req);
 
     public abstract void abortMultipartUploadSecurely(AbortMultipartUploadRequest req);
@@ -34,19 +34,23 @@ import com.ibm.cloud.objectstorage.auth.AWSCredentialsProvider;
 import com.ibm.cloud.objectstorage.auth.DefaultAWSCredentialsProviderChain;
 import com.ibm.cloud.objectstorage.internal.SdkFilterInputStream;
 import com.ibm.cloud.objectstorage.services.kms.AWSKMS;
+import com.ibm.cloud.objectstorage.services.s3.internal.RequestCopyUtils;
 import com.ibm.cloud.objectstorage.services.s3.internal.S3Direct;
 import com.ibm.cloud.objectstorage.services.s3.internal.crypto.AdjustedRangeInputStream;
 import com.ibm.cloud.objectstorage.services.s3.internal.crypto.CipherLite;
 import com.ibm.cloud.objectstorage.services.s3.internal.crypto.CipherLiteInputStream;
 import com.ibm.cloud.objectstorage.services.s3.internal.crypto.ContentCryptoScheme;
 import com.ibm.cloud.objectstorage.services.s3.internal.crypto.CryptoRuntime;
+import com.ibm.cloud.objectstorage.services.s3.internal.crypto.GCMRangeDecryption;
 import com.ibm.cloud.objectstorage.services.s3.model.CryptoConfiguration;
 import com.ibm.cloud.objectstorage.services.s3.model.CryptoMode;
 import com.ibm.cloud.objectstorage.services.s3.model.EncryptedGetObjectRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.EncryptedInitiateMultipartUploadRequest;
 import com.ibm.cloud.objectstorage.services.s3.model.EncryptionMaterialsProvider;
 import com.ibm.cloud.objectstorage.services.s3.model.ExtraMaterialsDescription;
 import com.ibm.cloud.objectstorage.services.s3.model.GetObjectRequest;
 import com.ibm.cloud.objectstorage.services.s3.model.InitiateMultipartUploadRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.InitiateMultipartUploadResult;
 import com.ibm.cloud.objectstorage.services.s3.model.ObjectMetadata;
 import com.ibm.cloud.objectstorage.services.s3.model.S3Object;
 import com.ibm.cloud.objectstorage.services.s3.model.S3ObjectId;
@@ -144,6 +148,63 @@ class S3CryptoModuleAE extends S3CryptoModuleBase<MultipartUploadCryptoContext>
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only objects encrypted with AES/GCM, whose encryption information is in
+     * their metadata rather than in an instruction file, are downloaded in
+     * ranges. Unlike a range get, the tag of the object is verified once all
+     * the ranges are decrypted, so it is also allowed in strict mode.
+     */
+    @Override
+    public RangedDownloadGcmContext newRangedDownloadContext(GetObjectRequest req,
+            long rangeSize) {
+        if (req.getRange() != null || req.getPartNumber() != null)
+            return null;
+        ExtraMaterialsDescription extraMatDesc = NONE;
+        boolean keyWrapExpected = isStrict();
+        if (req instanceof EncryptedGetObjectRequest) {
+            EncryptedGetObjectRequest ereq = (EncryptedGetObjectRequest)req;
+            String suffix = ereq.getInstructionFileSuffix();
+            if (suffix != null && !suffix.trim().isEmpty())
+                return null;
+            extraMatDesc = ereq.getExtraMaterialDescription();
+            if (!keyWrapExpected)
+                keyWrapExpected = ereq.isKeyWrapExpected();
+        }
+        ObjectMetadata metadata = s3.getObjectMetadata(
+                RequestCopyUtils.createGetObjectMetadataRequestFrom(req));
+        S3Object object = new S3Object();
+        object.setBucketName(req.getBucketName());
+        object.setKey(req.getKey());
+        object.setObjectMetadata(metadata);
+        S3ObjectWrapper wrapped = new S3ObjectWrapper(object, req.getS3ObjectId());
+        if (!wrapped.hasEncryptionInfo()
+                || wrapped.encryptionSchemeOf(null) != ContentCryptoScheme.AES_GCM)
+            return null;
+        ContentCryptoMaterial cekMaterial = ContentCryptoMaterial
+            .fromObjectMetadata(metadata,
+                kekMaterialsProvider,
+                cryptoConfig.getCryptoProvider(),
+                cryptoConfig.getAlwaysUseCryptoProvider(),
+                null,
+                extraMatDesc,
+                keyWrapExpected,
+                kms
+            );
+        securityCheck(cekMaterial, wrapped);
+        long contentLength = metadata.getContentLength()
+                - ContentCryptoScheme.AES_GCM.getTagLengthInBits() / 8;
+        if (contentLength < 0) {
+            throw new SecurityException("S3 object with bucket name: "
+                    + req.getBucketName() + ", key: " + req.getKey()
+                    + " is too short to hold its tag");
+        }
+        return new RangedDownloadGcmContext(s3,
+                new GCMRangeDecryption(cekMaterial.getCipherLite(), contentLength, rangeSize),
+                cryptoConfig.getCipherBufferSize(), metadata.getETag());
+    }
+
     private S3Object decipher(GetObjectRequest req,
             long[] desiredRange, long[] cryptoRange,
             S3Object retrieved) {
@@ -356,17 +417,59 @@ class S3CryptoModuleAE extends S3CryptoModuleBase<MultipartUploadCryptoContext>
         return s3Object.getObjectMetadata();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The parts of an upload initiated with a part size, see
+     * {@link EncryptedInitiateMultipartUploadRequest#setPartSize(long)}, are
+     * encrypted independently of each other, so they can be uploaded
+     * concurrently.
+     */
+    @Override
+    public InitiateMultipartUploadResult initiateMultipartUploadSecurely(
+            InitiateMultipartUploadRequest req) {
+        final long partSize = partSizeOf(req);
+        final int blockSize = contentCryptoScheme.getBlockSizeInBytes();
+        if (partSize < 0 || partSize % blockSize != 0) {
+            throw new SdkClientException(
+                "Invalid part size: part sizes for encrypted multipart uploads must be multiples "
+                + "of the cipher block size ("
+                + blockSize
+                + ")");
+        }
+        return super.initiateMultipartUploadSecurely(req);
+    }
+
+    @Override
+    public boolean isParallelPartUploadSupported() {
+        return true;
+    }
+
+    private static long partSizeOf(InitiateMultipartUploadRequest req) {
+        return req instanceof EncryptedInitiateMultipartUploadRequest
+             ? ((EncryptedInitiateMultipartUploadRequest) req).getPartSize()
+             : 0;
+    }
+
     @Override
     final MultipartUploadCryptoContext newUploadContext(
             InitiateMultipartUploadRequest req, ContentCryptoMaterial cekMaterial) {
-        return new MultipartUploadCryptoContext(
-                req.getBucketName(), req.getKey(), cekMaterial);
+        final long partSize = partSizeOf(req);
+        return partSize > 0
+             ? new MultipartUploadGcmContext(
+                     req.getBucketName(), req.getKey(), cekMaterial, partSize)
+             : new MultipartUploadCryptoContext(
+                     req.getBucketName(), req.getKey(), cekMaterial);
     }
 
     //// specific overrides for uploading parts.
     @Override
     final CipherLite cipherLiteForNextPart(
-            MultipartUploadCryptoContext uploadContext) {
+            MultipartUploadCryptoContext uploadContext, UploadPartRequest req) {
+        if (uploadContext instanceof MultipartUploadGcmContext) {
+            return ((MultipartUploadGcmContext) uploadContext).getCipherLite(
+                    req.getPartNumber(), req.getPartSize(), req.isLastPart());
+        }
         return uploadContext.getCipherLite();
     }
     @Override
@@ -404,7 +507,7 @@ class S3CryptoModuleAE extends S3CryptoModuleBase<MultipartUploadCryptoContext>
         wrapper.setObjectContent(new S3ObjectInputStream(
                 new CipherLiteInputStream(objectContent,
                     cekMaterial.getCipherLite(),
-                    DEFAULT_BUFFER_SIZE),
+                    cryptoConfig.getCipherBufferSize()),
                     objectContent.getHttpRequest()));
         return wrapper;
     }
@@ -41,6 +41,7 @@ import com.ibm.cloud.objectstorage.AmazonServiceException;
 import com.ibm.cloud.objectstorage.AmazonWebServiceRequest;
 import com.ibm.cloud.objectstorage.SdkClientException;
 import com.ibm.cloud.objectstorage.auth.AWSCredentialsProvider;
+import com.ibm.cloud.objectstorage.internal.FileRegionInputStream;
 import com.ibm.cloud.objectstorage.internal.ReleasableInputStream;
 import com.ibm.cloud.objectstorage.internal.ResettableInputStream;
 import com.ibm.cloud.objectstorage.internal.SdkFilterInputStream;
@@ -222,6 +223,9 @@ public abstract class S3CryptoModuleBase<T extends MultipartUploadCryptoContext>
 
     @Override
     public final void abortMultipartUploadSecurely(AbortMultipartUploadRequest req) {
+        final T uploadContext = multipartUploadContexts.get(req.getUploadId());
+        if (uploadContext != null)
+            uploadContext.abort();
         s3.abortMultipartUpload(req);
         multipartUploadContexts.remove(req.getUploadId());
     }
@@ -265,7 +269,8 @@ public abstract class S3CryptoModuleBase<T extends MultipartUploadCryptoContext>
     }
 
     //// specific crypto module behavior for uploading parts.
-    abstract CipherLite cipherLiteForNextPart(T uploadContext);
+    abstract CipherLite cipherLiteForNextPart(T uploadContext,
+                                              UploadPartRequest req);
     abstract long computeLastPartSize(UploadPartRequest req);
     abstract <I extends CipherLiteInputStream> SdkFilterInputStream wrapForMultipart(
         I is, long partSize);
@@ -278,7 +283,9 @@ public abstract class S3CryptoModuleBase<T extends MultipartUploadCryptoContext>
      * previous blocks, parts uploaded with the AmazonS3EncryptionClient (as
      * opposed to the normal AmazonS3Client) must be uploaded serially, and in
      * order. Otherwise, the previous encryption context isn't available to use
-     * when encrypting the current part.
+     * when encrypting the current part. The exception is an upload initiated
+     * with a part size in an authenticated encryption mode, whose parts can be
+     * uploaded concurrently.
      */
     @Override
     public UploadPartResult uploadPartSecurely(UploadPartRequest req) {
@@ -300,9 +307,10 @@ public abstract class S3CryptoModuleBase<T extends MultipartUploadCryptoContext>
                 "No client-side information available on upload ID " + uploadId);
         }
         final UploadPartResult result;
-        // Checks the parts are uploaded in series
+        // Checks the parts are uploaded in series, unless they are encrypted
+        // independently
         uploadContext.beginPartUpload(req.getPartNumber());
-        CipherLite cipherLite = cipherLiteForNextPart(uploadContext);
+        CipherLite cipherLite = cipherLiteForNextPart(uploadContext, req);
         final File fileOrig = req.getFile();
         final InputStream isOrig = req.getInputStream();
         SdkFilterInputStream isCurr = null;
@@ -352,20 +360,27 @@ public abstract class S3CryptoModuleBase<T extends MultipartUploadCryptoContext>
                     throw new IllegalArgumentException(
                         "A File or InputStream must be specified when uploading part");
                 }
-                isCurr = isOrig;
+                isCurr = new InputSubstream(isOrig,
+                                            req.getFileOffset(),
+                                            req.getPartSize(),
+                                            req.isLastPart());
             } else {
-                isCurr = new ResettableInputStream(fileOrig);
+                FileRegionInputStream region = new FileRegionInputStream(fileOrig,
+                                                                         req.getFileOffset(),
+                                                                         req.getPartSize());
+                // As with InputSubstream, only the last part closes the file;
+                // the others keep it open for retries until it is released
+                if (!req.isLastPart()) {
+                    region.disableClose();
+                }
+                isCurr = region;
             }
-            isCurr = new InputSubstream(isCurr,
-                                        req.getFileOffset(),
-                                        req.getPartSize(),
-                                        req.isLastPart());
             return cipherLite.markSupported()
                    ? new CipherLiteInputStream(isCurr, cipherLite,
-                                               DEFAULT_BUFFER_SIZE,
+                                               cryptoConfig.getCipherBufferSize(),
                                                IS_MULTI_PART, req.isLastPart())
                    : new RenewableCipherLiteInputStream(isCurr, cipherLite,
-                                                        DEFAULT_BUFFER_SIZE,
+                                                        cryptoConfig.getCipherBufferSize(),
                                                         IS_MULTI_PART, req.isLastPart());
         } catch (Exception e) {
             cleanupDataSource(req, fileOrig, isOrig, isCurr, log);
@@ -653,10 +668,10 @@ public abstract class S3CryptoModuleBase<T extends MultipartUploadCryptoContext>
 
             if (cipherLite.markSupported()) {
                 return new CipherLiteInputStream(isCurr, cipherLite,
-                                                 DEFAULT_BUFFER_SIZE);
+                                                 cryptoConfig.getCipherBufferSize());
             } else {
                 return new RenewableCipherLiteInputStream(isCurr, cipherLite,
-                                                          DEFAULT_BUFFER_SIZE);
+                                                          cryptoConfig.getCipherBufferSize());
             }
         } catch (Exception e) {
             cleanupDataSource(req, fileOrig, isOrig, isCurr, log);
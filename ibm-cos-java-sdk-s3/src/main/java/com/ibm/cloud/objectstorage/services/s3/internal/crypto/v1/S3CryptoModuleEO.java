@@ -135,7 +135,7 @@ class S3CryptoModuleEO extends S3CryptoModuleBase<MultipartUploadCbcContext> {
 
     @Override
     final CipherLite cipherLiteForNextPart(
-            MultipartUploadCbcContext uploadContext) {
+            MultipartUploadCbcContext uploadContext, UploadPartRequest req) {
         CipherLite cipherLite = uploadContext.getCipherLite();
         byte[] nextIV = uploadContext.getNextInitializationVector();
         return cipherLite.createUsingIV(nextIV);
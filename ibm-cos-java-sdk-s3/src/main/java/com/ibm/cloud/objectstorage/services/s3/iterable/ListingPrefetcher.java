@@ -0,0 +1,275 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.iterable;
+
+import java.io.Closeable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.ibm.cloud.objectstorage.SdkClientException;
+import com.ibm.cloud.objectstorage.annotation.GuardedBy;
+import com.ibm.cloud.objectstorage.annotation.SdkTestInternalApi;
+
+/**
+ * Fetches the pages of a listing on a background thread, so that the next
+ * page is usually available by the time the consumer is done with the
+ * current one. Fetching waits once a given number of pages are waiting for
+ * the consumer.
+ * <p>
+ * A failed request ends the listing, and its exception is thrown to the
+ * consumer once it has taken the pages fetched before the failure.
+ * <p>
+ * Fetching pauses, and its thread is released, when the consumer has not
+ * taken a page for {@link #PAUSE_TIMEOUT_MILLIS}. Fetching resumes from the
+ * consumer's thread once it has taken the pages fetched so far. A consumer
+ * that abandons the listing without closing it therefore holds no thread and
+ * can be garbage collected.
+ *
+ * @param <L>
+ *            The type of the pages of the listing
+ */
+final class ListingPrefetcher<L> implements Closeable {
+
+    /**
+     * The list requests of a listing.
+     */
+    interface Listings<L> {
+
+        L first();
+
+        L next(L previous);
+
+        boolean isTruncated(L listing);
+    }
+
+    /** Ends the queue of pages, after the last page or a failure */
+    private static final Object END = new Object();
+
+    /** How long a fetched page waits for room in the queue before fetching pauses */
+    @SdkTestInternalApi
+    static final long PAUSE_TIMEOUT_MILLIS = 60 * 1000;
+
+    private final Listings<L> listings;
+    private final BlockingQueue<Object> pages;
+    private final ExecutorService executor;
+    private final long pauseTimeoutMillis;
+    private final Object lock = new Object();
+    private volatile Future<?> task;
+    private volatile boolean closed;
+    private boolean ended;
+
+    /** The page that found no room in the queue when fetching paused */
+    @GuardedBy("lock")
+    private Object pausedPage;
+
+    /**
+     * Starts fetching the pages of a listing.
+     *
+     * @param depth
+     *            The maximum number of fetched pages waiting for the
+     *            consumer.
+     * @param executorService
+     *            The executor service fetching the pages, or null to use
+     *            shared daemon threads.
+     */
+    ListingPrefetcher(Listings<L> listings, int depth, ExecutorService executorService) {
+        this(listings, depth, executorService, PAUSE_TIMEOUT_MILLIS);
+    }
+
+    @SdkTestInternalApi
+    ListingPrefetcher(Listings<L> listings, int depth, ExecutorService executorService, long pauseTimeoutMillis) {
+        this.listings = listings;
+        this.pages = new ArrayBlockingQueue<Object>(depth);
+        this.executor = executorService == null ? DefaultExecutor.INSTANCE : executorService;
+        this.pauseTimeoutMillis = pauseTimeoutMillis;
+        startFetching(null);
+    }
+
+    /**
+     * Fetches the pages following the given one, or from the first page if
+     * it is null.
+     */
+    private void startFetching(final L previous) {
+        task = executor.submit(new Runnable() {
+            @Override
+            public void run() {
+                fetch(previous);
+            }
+        });
+    }
+
+    private void fetch(L previous) {
+        try {
+            L listing = previous == null ? listings.first() : listings.next(previous);
+            if (!put(listing)) {
+                return;
+            }
+            while (!closed && listings.isTruncated(listing)) {
+                listing = listings.next(listing);
+                if (!put(listing)) {
+                    return;
+                }
+            }
+            put(END);
+        } catch (InterruptedException e) {
+            // Closed while waiting for the consumer
+        } catch (RuntimeException e) {
+            putFailure(e);
+        } catch (Error e) {
+            putFailure(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Adds a page to the queue, waiting for the consumer to make room.
+     *
+     * @return False if fetching must stop because the listing was closed or
+     *         the consumer did not make room in time, in which case the page
+     *         is kept for the consumer to take when it resumes fetching.
+     */
+    private boolean put(Object page) throws InterruptedException {
+        while (!closed) {
+            if (pages.offer(page, pauseTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+            synchronized (lock) {
+                // Checked under the lock so the consumer cannot miss the paused page
+                if (!closed && pages.remainingCapacity() == 0) {
+                    pausedPage = page;
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void putFailure(Throwable t) {
+        try {
+            put(new Failure(t));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the next page of the listing, waiting for it to be fetched if
+     * needed, or null once the listing has ended or was closed.
+     */
+    @SuppressWarnings("unchecked")
+    L take() {
+        if (ended) {
+            return null;
+        }
+        Object page;
+        synchronized (lock) {
+            page = pages.poll();
+            if (page == null && pausedPage != null) {
+                page = pausedPage;
+                pausedPage = null;
+                resumeAfter(page);
+            }
+        }
+        if (page == null) {
+            try {
+                page = pages.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new SdkClientException("Interrupted while listing objects", e);
+            }
+        }
+        if (page == END) {
+            ended = true;
+            return null;
+        }
+        if (page instanceof Failure) {
+            ended = true;
+            Throwable t = ((Failure) page).cause;
+            if (t instanceof Error) {
+                throw (Error) t;
+            }
+            throw (RuntimeException) t;
+        }
+        return (L) page;
+    }
+
+    /**
+     * Continues a paused listing after the page it paused on.
+     */
+    @SuppressWarnings("unchecked")
+    private void resumeAfter(Object page) {
+        if (closed || page == END || page instanceof Failure) {
+            return;
+        }
+        if (listings.isTruncated((L) page)) {
+            startFetching((L) page);
+        } else {
+            pages.offer(END);
+        }
+    }
+
+    /**
+     * Stops fetching pages, cancelling any request in progress. A consumer
+     * waiting for a page is given the end of the listing.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            task.cancel(true);
+            synchronized (lock) {
+                pausedPage = null;
+            }
+            // The fetching thread checks the flag before each page it adds, so
+            // at most one more page can be added once the flag is set
+            pages.clear();
+            while (!pages.offer(END)) {
+                pages.poll();
+            }
+        }
+    }
+
+    private static final class Failure {
+        final Throwable cause;
+
+        Failure(Throwable cause) {
+            this.cause = cause;
+        }
+    }
+
+    /**
+     * Threads shared by the listings not given an executor service, which
+     * exit when idle.
+     */
+    private static final class DefaultExecutor {
+        private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+        static final ExecutorService INSTANCE = new ThreadPoolExecutor(0, Integer.MAX_VALUE,
+                60, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), new ThreadFactory() {
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        Thread t = new Thread(r, "s3-list-prefetch-" + THREAD_COUNT.incrementAndGet());
+                        t.setDaemon(true);
+                        return t;
+                    }
+                });
+    }
+}
@@ -0,0 +1,684 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.iterable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.ibm.cloud.objectstorage.SdkClientException;
+import com.ibm.cloud.objectstorage.services.s3.AmazonS3;
+import com.ibm.cloud.objectstorage.services.s3.internal.Constants;
+import com.ibm.cloud.objectstorage.services.s3.model.ListObjectsV2Request;
+import com.ibm.cloud.objectstorage.services.s3.model.ListObjectsV2Result;
+import com.ibm.cloud.objectstorage.services.s3.model.S3ObjectSummary;
+import com.ibm.cloud.objectstorage.services.s3.model.S3ObjectSummaryField;
+
+/**
+ * Lists the objects of a bucket with several concurrent requests, for buckets
+ * too large to be listed a page at a time as {@link S3Objects} does. For
+ * example:
+ *
+ * <pre class="brush: java">
+ * try (Stream&lt;S3ObjectSummary&gt; objects = ParallelS3Objects.inBucket(s3, &quot;my-bucket&quot;)
+ *         .withDelimiter(&quot;/&quot;)
+ *         .withParallelism(16)
+ *         .stream()) {
+ *     objects.forEach(summary -&gt; System.out.println(summary.getKey()));
+ * }
+ * </pre>
+ * <p>
+ * The keyspace is split into ranges that are listed concurrently. When a
+ * delimiter is set, the common prefixes found under the listed prefix are
+ * each listed as a range of their own. Ranges are further split in two, by
+ * starting a listing after a key half way between the last key listed and
+ * the end of the range, whenever a listing thread would otherwise be idle.
+ * <p>
+ * Pages are fetched ahead of the consumer up to a bounded number per range,
+ * and only a bounded number of ranges are listed at a time, so memory use
+ * does not grow with the size of the bucket. Listing threads wait for the
+ * consumer when it falls behind.
+ * <p>
+ * Objects are returned in key order by default. Unordered output, enabled
+ * with {@link #withOrdered(boolean)}, returns objects from any range as soon
+ * as they are listed, so that a slow range does not hold back the others.
+ * <p>
+ * Streams should be closed when not consumed to the end, to stop the
+ * listing.
+ */
+public class ParallelS3Objects {
+
+    /** Default number of concurrent list requests */
+    public static final int DEFAULT_PARALLELISM = 8;
+
+    /** Pages fetched ahead of the consumer per range */
+    static final int PAGES_AHEAD = 2;
+
+    /**
+     * Ranges waiting to be listed, beyond which no further pages of common
+     * prefixes are fetched until the consumer catches up.
+     */
+    static final int MAX_QUEUED_RANGES = 1024;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private final AmazonS3 s3;
+    private final String bucketName;
+    private String prefix;
+    private String delimiter;
+    private Integer batchSize;
+    private int parallelism = DEFAULT_PARALLELISM;
+    private boolean ordered = true;
+    private Set<S3ObjectSummaryField> objectSummaryFields;
+    private ExecutorService executorService;
+
+    private ParallelS3Objects(AmazonS3 s3, String bucketName) {
+        this.s3 = s3;
+        this.bucketName = bucketName;
+    }
+
+    /**
+     * Constructs a parallel listing of all the objects in a bucket.
+     *
+     * @param s3
+     *            The Amazon S3 client.
+     * @param bucketName
+     *            The bucket name.
+     * @return A parallel listing of the objects.
+     */
+    public static ParallelS3Objects inBucket(AmazonS3 s3, String bucketName) {
+        return new ParallelS3Objects(s3, bucketName);
+    }
+
+    /**
+     * Constructs a parallel listing of the objects in a bucket where the key
+     * begins with the given prefix.
+     *
+     * @param s3
+     *            The Amazon S3 client.
+     * @param bucketName
+     *            The bucket name.
+     * @param prefix
+     *            The prefix.
+     * @return A parallel listing of the objects.
+     */
+    public static ParallelS3Objects withPrefix(AmazonS3 s3, String bucketName, String prefix) {
+        ParallelS3Objects objects = new ParallelS3Objects(s3, bucketName);
+        objects.prefix = prefix;
+        return objects;
+    }
+
+    /**
+     * Sets the delimiter used to discover the common prefixes under the
+     * listed prefix, which are then listed concurrently. All objects are
+     * listed whether or not a delimiter is set.
+     *
+     * @param delimiter
+     *            The delimiter, such as "/", or null to only split the
+     *            keyspace by key ranges.
+     */
+    public ParallelS3Objects withDelimiter(String delimiter) {
+        this.delimiter = delimiter;
+        return this;
+    }
+
+    /**
+     * Sets the batch size, i.e., how many {@link S3ObjectSummary}s will be
+     * fetched at once by each request.
+     *
+     * @param batchSize
+     *            How many object summaries to fetch at once.
+     */
+    public ParallelS3Objects withBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of concurrent list requests.
+     *
+     * @param parallelism
+     *            The maximum number of concurrent list requests.
+     */
+    public ParallelS3Objects withParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Sets whether objects are returned in key order, which is the default.
+     *
+     * @param ordered
+     *            False to return objects in the order they are listed.
+     */
+    public ParallelS3Objects withOrdered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    /**
+     * Sets the fields of the object summaries to populate.
+     *
+     * @see ListObjectsV2Request#setObjectSummaryFields(java.util.Collection)
+     */
+    public ParallelS3Objects withObjectSummaryFields(S3ObjectSummaryField... objectSummaryFields) {
+        this.objectSummaryFields = objectSummaryFields == null ? null
+                : objectSummaryFields.length == 0 ? EnumSet.noneOf(S3ObjectSummaryField.class)
+                : EnumSet.copyOf(Arrays.asList(objectSummaryFields));
+        return this;
+    }
+
+    /**
+     * Sets the executor service running the list requests. By default each
+     * listing uses its own threads, which exit once the listing is done.
+     *
+     * @param executorService
+     *            The executor service, which is not shut down by the listing.
+     */
+    public ParallelS3Objects withExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
+    public String getBucketName() {
+        return bucketName;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public String getDelimiter() {
+        return delimiter;
+    }
+
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    public AmazonS3 getS3() {
+        return s3;
+    }
+
+    /**
+     * Starts the listing and returns a spliterator over the listed objects.
+     * The listing is stopped if a request fails, in which case the error is
+     * thrown by the spliterator.
+     */
+    public Spliterator<S3ObjectSummary> spliterator() {
+        return new Lister();
+    }
+
+    /**
+     * Starts the listing and returns a sequential stream of the listed
+     * objects. Closing the stream stops the listing.
+     */
+    public Stream<S3ObjectSummary> stream() {
+        final Lister lister = new Lister();
+        return StreamSupport.stream(lister, false).onClose(new Runnable() {
+            @Override
+            public void run() {
+                lister.close();
+            }
+        });
+    }
+
+    /**
+     * A range of keys sharing a prefix, listed by its own sequence of list
+     * requests. Ranges created from a page of a delimited listing hold the
+     * objects of the page directly.
+     */
+    private static final class Range {
+        final String prefix;
+        final boolean delimited;
+        final String startAfter;
+        /** Last key of the range, or null if the range ends with the prefix */
+        String lastKey;
+        String continuationToken;
+        /** Last key listed so far */
+        String listedKey;
+        boolean started;
+        boolean fetching;
+        boolean done;
+        final ArrayDeque<List<S3ObjectSummary>> pages = new ArrayDeque<List<S3ObjectSummary>>();
+
+        Range(String prefix, boolean delimited, String startAfter, String lastKey) {
+            this.prefix = prefix;
+            this.delimited = delimited;
+            this.startAfter = startAfter;
+            this.lastKey = lastKey;
+        }
+
+        static Range listed(List<S3ObjectSummary> page) {
+            Range range = new Range(null, false, null, null);
+            range.started = true;
+            range.done = true;
+            range.pages.add(page);
+            return range;
+        }
+    }
+
+    private final class Lister implements Spliterator<S3ObjectSummary> {
+
+        /** Ranges in key order */
+        private final LinkedList<Range> ranges = new LinkedList<Range>();
+        private final ExecutorService executor;
+        private final boolean ownsExecutor;
+        private Iterator<S3ObjectSummary> current = Collections.<S3ObjectSummary>emptyList().iterator();
+        private int fetching;
+        private boolean closed;
+        private RuntimeException failure;
+
+        Lister() {
+            String listPrefix = prefix == null ? "" : prefix;
+            ranges.add(new Range(listPrefix, delimiter != null, null, null));
+            if (executorService != null) {
+                executor = executorService;
+                ownsExecutor = false;
+            } else {
+                ThreadPoolExecutor threads = new ThreadPoolExecutor(parallelism, parallelism,
+                        60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                            @Override
+                            public Thread newThread(Runnable r) {
+                                Thread t = new Thread(r, "s3-parallel-list-" + THREAD_COUNT.incrementAndGet());
+                                t.setDaemon(true);
+                                return t;
+                            }
+                        });
+                threads.allowCoreThreadTimeOut(true);
+                executor = threads;
+                ownsExecutor = true;
+            }
+            synchronized (this) {
+                schedule();
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super S3ObjectSummary> action) {
+            while (!current.hasNext()) {
+                current = nextPage();
+                if (current == null) {
+                    current = Collections.<S3ObjectSummary>emptyList().iterator();
+                    return false;
+                }
+            }
+            action.accept(current.next());
+            return true;
+        }
+
+        @Override
+        public Spliterator<S3ObjectSummary> trySplit() {
+            // Listing is already parallel
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return ordered ? ORDERED | NONNULL : NONNULL;
+        }
+
+        synchronized void close() {
+            if (!closed) {
+                closed = true;
+                ranges.clear();
+                if (ownsExecutor) {
+                    executor.shutdown();
+                }
+                notifyAll();
+            }
+        }
+
+        private synchronized Iterator<S3ObjectSummary> nextPage() {
+            while (true) {
+                if (failure != null) {
+                    RuntimeException e = failure;
+                    close();
+                    throw e;
+                }
+                if (closed) {
+                    return null;
+                }
+                for (Iterator<Range> it = ranges.iterator(); it.hasNext();) {
+                    Range range = it.next();
+                    if (!range.pages.isEmpty()) {
+                        List<S3ObjectSummary> page = range.pages.poll();
+                        if (range.done && range.pages.isEmpty()) {
+                            it.remove();
+                        }
+                        schedule();
+                        return page.iterator();
+                    }
+                    if (ordered) {
+                        break;
+                    }
+                }
+                if (ranges.isEmpty()) {
+                    close();
+                    return null;
+                }
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    close();
+                    throw new SdkClientException("Interrupted while listing objects", e);
+                }
+            }
+        }
+
+        /**
+         * Starts list requests until all listing threads are busy or no range
+         * can be listed further.
+         */
+        private void schedule() {
+            while (!closed && failure == null && fetching < parallelism) {
+                Range range = nextRange();
+                if (range == null) {
+                    return;
+                }
+                range.started = true;
+                range.fetching = true;
+                fetching++;
+                final Range fetched = range;
+                final ListObjectsV2Request request = newRequest(range);
+                try {
+                    executor.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            ListObjectsV2Result result = null;
+                            RuntimeException error = null;
+                            try {
+                                result = s3.listObjectsV2(request);
+                            } catch (RuntimeException e) {
+                                error = e;
+                            }
+                            listed(fetched, result, error);
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    fetching--;
+                    fail(e);
+                }
+            }
+        }
+
+        /**
+         * Picks the range to request the next page of. Ranges already started
+         * come first, then ranges not started yet in key order, and finally a
+         * new range split off the first range that can be split.
+         */
+        private Range nextRange() {
+            int active = 0;
+            Range pending = null;
+            Range splittable = null;
+            for (Range range : ranges) {
+                if (range.done) {
+                    continue;
+                }
+                if (!range.started) {
+                    if (pending == null) {
+                        pending = range;
+                    }
+                    continue;
+                }
+                active++;
+                if (!range.fetching && range.pages.size() < PAGES_AHEAD
+                        && (!range.delimited || ranges.size() < MAX_QUEUED_RANGES)) {
+                    return range;
+                }
+                if (splittable == null && !range.delimited && range.listedKey != null) {
+                    splittable = range;
+                }
+            }
+            int maxActive = 2 * parallelism;
+            if (active >= maxActive) {
+                return null;
+            }
+            if (pending != null) {
+                return pending;
+            }
+            return splittable == null ? null : split(splittable);
+        }
+
+        private Range split(Range range) {
+            String splitKey = splitKey(range.prefix, range.listedKey, range.lastKey);
+            if (splitKey == null) {
+                return null;
+            }
+            Range upper = new Range(range.prefix, false, splitKey, range.lastKey);
+            range.lastKey = splitKey;
+            ranges.add(ranges.indexOf(range) + 1, upper);
+            return upper;
+        }
+
+        private ListObjectsV2Request newRequest(Range range) {
+            ListObjectsV2Request request = new ListObjectsV2Request()
+                    .withBucketName(bucketName)
+                    .withPrefix(range.prefix.isEmpty() ? null : range.prefix)
+                    .withMaxKeys(batchSize)
+                    .withEncodingType(Constants.URL_ENCODING);
+            if (range.delimited) {
+                request.setDelimiter(delimiter);
+            }
+            if (range.continuationToken != null) {
+                request.setContinuationToken(range.continuationToken);
+            } else {
+                request.setStartAfter(range.startAfter);
+            }
+            request.setObjectSummaryFields(objectSummaryFields);
+            return request;
+        }
+
+        private synchronized void listed(Range range, ListObjectsV2Result result, RuntimeException error) {
+            fetching--;
+            range.fetching = false;
+            if (closed) {
+                return;
+            }
+            if (error != null) {
+                fail(error);
+                return;
+            }
+            if (range.delimited) {
+                listedDelimited(range, result);
+            } else {
+                List<S3ObjectSummary> page = new ArrayList<S3ObjectSummary>(result.getObjectSummaries().size());
+                for (S3ObjectSummary summary : result.getObjectSummaries()) {
+                    if (range.lastKey != null && compareKeys(summary.getKey(), range.lastKey) > 0) {
+                        // The rest of the page was split off into another range
+                        range.done = true;
+                        break;
+                    }
+                    page.add(summary);
+                }
+                if (!page.isEmpty()) {
+                    range.pages.add(page);
+                    range.listedKey = page.get(page.size() - 1).getKey();
+                }
+            }
+            if (!result.isTruncated() || result.getNextContinuationToken() == null) {
+                range.done = true;
+            } else {
+                range.continuationToken = result.getNextContinuationToken();
+            }
+            if (range.done && range.pages.isEmpty()) {
+                ranges.remove(range);
+            }
+            schedule();
+            notifyAll();
+        }
+
+        /**
+         * Adds the objects and common prefixes of a page of a delimited
+         * listing as ranges, in key order ahead of the delimited range.
+         */
+        private void listedDelimited(Range range, ListObjectsV2Result result) {
+            ListIterator<Range> it = ranges.listIterator(ranges.indexOf(range));
+            List<S3ObjectSummary> summaries = result.getObjectSummaries();
+            List<String> commonPrefixes = result.getCommonPrefixes();
+            List<S3ObjectSummary> page = null;
+            int s = 0;
+            int p = 0;
+            while (s < summaries.size() || p < commonPrefixes.size()) {
+                if (p == commonPrefixes.size() || (s < summaries.size()
+                        && compareKeys(summaries.get(s).getKey(), commonPrefixes.get(p)) < 0)) {
+                    if (page == null) {
+                        page = new ArrayList<S3ObjectSummary>();
+                    }
+                    page.add(summaries.get(s++));
+                } else {
+                    if (page != null) {
+                        it.add(Range.listed(page));
+                        page = null;
+                    }
+                    it.add(new Range(commonPrefixes.get(p++), false, null, null));
+                }
+            }
+            if (page != null) {
+                it.add(Range.listed(page));
+            }
+        }
+
+        private void fail(RuntimeException e) {
+            if (failure == null) {
+                failure = e;
+            }
+            if (ownsExecutor) {
+                executor.shutdown();
+            }
+            notifyAll();
+        }
+    }
+
+    /** Number of characters after the prefix considered when splitting */
+    private static final int SPLIT_DIGITS = 8;
+
+    /**
+     * Characters are mapped to digits 1 to 96: printable ASCII characters to
+     * 1 to 95 and all others to 96. Digit 0 stands for the end of the key.
+     */
+    private static final int SPLIT_BASE = 97;
+
+    /**
+     * Returns a key half way between the given keys, all of which start with
+     * the given prefix, or null if none could be found. The key is made of
+     * printable ASCII characters after the prefix, which sort the same in the
+     * UTF-8 binary order of S3 and in the order of {@link String}.
+     *
+     * @param lowerKey
+     *            The key the returned key must follow
+     * @param upperKey
+     *            The key the returned key must precede, or null if it only
+     *            needs to start with the prefix
+     */
+    static String splitKey(String prefix, String lowerKey, String upperKey) {
+        long lower = toNumber(lowerKey, prefix.length());
+        long upper = upperKey == null ? pow(SPLIT_BASE, SPLIT_DIGITS) : toNumber(upperKey, prefix.length());
+        if (upper - lower < 2) {
+            return null;
+        }
+        long middle = lower + (upper - lower) / 2;
+        char[] digits = new char[SPLIT_DIGITS];
+        for (int i = SPLIT_DIGITS - 1; i >= 0; i--) {
+            int digit = (int) (middle % SPLIT_BASE);
+            middle /= SPLIT_BASE;
+            digits[i] = (char) (digit == 0 ? 0 : digit == SPLIT_BASE - 1 ? 0x7F : 0x20 + digit - 1);
+        }
+        int length = 0;
+        while (length < SPLIT_DIGITS && digits[length] != 0) {
+            length++;
+        }
+        String key = prefix + new String(digits, 0, length);
+        if (compareKeys(key, lowerKey) <= 0 || (upperKey != null && compareKeys(key, upperKey) >= 0)) {
+            return null;
+        }
+        return key;
+    }
+
+    private static long toNumber(String key, int offset) {
+        long number = 0;
+        for (int i = 0; i < SPLIT_DIGITS; i++) {
+            int digit = 0;
+            if (offset + i < key.length()) {
+                char c = key.charAt(offset + i);
+                digit = c < 0x20 ? 1 : c > 0x7E ? SPLIT_BASE - 1 : c - 0x20 + 1;
+            }
+            number = number * SPLIT_BASE + digit;
+        }
+        return number;
+    }
+
+    private static long pow(int base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+
+    /**
+     * Compares keys by code point, which is the UTF-8 binary order of S3.
+     */
+    static int compareKeys(String a, String b) {
+        int i = 0;
+        int j = 0;
+        while (i < a.length() && j < b.length()) {
+            int ca = a.codePointAt(i);
+            int cb = b.codePointAt(j);
+            if (ca != cb) {
+                return ca < cb ? -1 : 1;
+            }
+            i += Character.charCount(ca);
+            j += Character.charCount(cb);
+        }
+        if (i < a.length()) {
+            return 1;
+        }
+        return j < b.length() ? -1 : 0;
+    }
+}
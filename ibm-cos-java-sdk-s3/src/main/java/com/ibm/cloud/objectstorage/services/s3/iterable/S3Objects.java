@@ -18,7 +18,10 @@ import com.ibm.cloud.objectstorage.services.s3.AmazonS3;
 import com.ibm.cloud.objectstorage.services.s3.model.ListObjectsRequest;
 import com.ibm.cloud.objectstorage.services.s3.model.ObjectListing;
 import com.ibm.cloud.objectstorage.services.s3.model.S3ObjectSummary;
+import java.io.Closeable;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Provides an easy way to iterate Amazon S3 objects in a "foreach" statement.
@@ -33,6 +36,11 @@ import java.util.Iterator;
  * The list of {@link S3ObjectSummary}s will be fetched lazily, a page at a
  * time, as they are needed. The size of the page can be controlled with the
  * {@link S3Objects#withBatchSize(int)} method.
+ * <p>
+ * With {@link S3Objects#withPrefetchDepth(int)}, the next pages are fetched
+ * on a background thread while the current one is being iterated. The
+ * iterators then implement {@link Closeable}, and should be closed when not
+ * iterated to the end, to stop fetching.
  */
 public class S3Objects implements Iterable<S3ObjectSummary> {
 
@@ -40,6 +48,8 @@ public class S3Objects implements Iterable<S3ObjectSummary> {
     private String prefix = null;
     private String bucketName;
     private Integer batchSize = null;
+    private int prefetchDepth = 0;
+    private ExecutorService executorService = null;
 
     private S3Objects(AmazonS3 s3, String bucketName) {
         this.s3 = s3;
@@ -90,10 +100,45 @@ public class S3Objects implements Iterable<S3ObjectSummary> {
         return this;
     }
 
+    /**
+     * Sets how many pages are fetched ahead of the iteration, on a background
+     * thread. By default pages are fetched by the iterating thread when the
+     * previous one is exhausted.
+     *
+     * @param prefetchDepth
+     *            How many pages may be waiting to be iterated, or 0 to fetch
+     *            pages when needed.
+     */
+    public S3Objects withPrefetchDepth(int prefetchDepth) {
+        if (prefetchDepth < 0) {
+            throw new IllegalArgumentException("prefetchDepth must not be negative");
+        }
+        this.prefetchDepth = prefetchDepth;
+        return this;
+    }
+
+    /**
+     * Sets the executor service fetching pages ahead of the iteration. By
+     * default shared daemon threads are used.
+     *
+     * @param executorService
+     *            The executor service, which is not shut down by the
+     *            iterators.
+     * @see #withPrefetchDepth(int)
+     */
+    public S3Objects withExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
     public Integer getBatchSize() {
         return batchSize;
     }
 
+    public int getPrefetchDepth() {
+        return prefetchDepth;
+    }
+
     public String getPrefix() {
         return prefix;
     }
@@ -106,12 +151,47 @@ public class S3Objects implements Iterable<S3ObjectSummary> {
         return s3;
     }
 
-    private class S3ObjectIterator implements Iterator<S3ObjectSummary> {
+    private ObjectListing listFirstBatch() {
+        ListObjectsRequest req = new ListObjectsRequest();
+        req.setBucketName(getBucketName());
+        req.setPrefix(getPrefix());
+        req.setMaxKeys(getBatchSize());
+        return getS3().listObjects(req);
+    }
+
+    private class S3ObjectIterator implements Iterator<S3ObjectSummary>, Closeable {
 
         private ObjectListing currentListing = null;
 
         private Iterator<S3ObjectSummary> currentIterator = null;
 
+        private final ListingPrefetcher<ObjectListing> prefetcher;
+
+        private boolean closed = false;
+
+        S3ObjectIterator() {
+            if (prefetchDepth > 0) {
+                prefetcher = new ListingPrefetcher<ObjectListing>(new ListingPrefetcher.Listings<ObjectListing>() {
+                    @Override
+                    public ObjectListing first() {
+                        return listFirstBatch();
+                    }
+
+                    @Override
+                    public ObjectListing next(ObjectListing previous) {
+                        return getS3().listNextBatchOfObjects(previous);
+                    }
+
+                    @Override
+                    public boolean isTruncated(ObjectListing listing) {
+                        return listing.isTruncated();
+                    }
+                }, prefetchDepth, executorService);
+            } else {
+                prefetcher = null;
+            }
+        }
+
         @Override
         public boolean hasNext() {
             prepareCurrentListing();
@@ -129,15 +209,31 @@ public class S3Objects implements Iterable<S3ObjectSummary> {
             throw new UnsupportedOperationException();
         }
 
+        /**
+         * Stops fetching pages ahead of the iteration, after which the
+         * iterator has no more elements.
+         */
+        @Override
+        public void close() {
+            closed = true;
+            currentIterator = Collections.<S3ObjectSummary>emptyList().iterator();
+            if (prefetcher != null) {
+                prefetcher.close();
+            }
+        }
+
         private void prepareCurrentListing() {
-            while (currentListing == null || (!currentIterator.hasNext() && currentListing.isTruncated())) {
-
-                if (currentListing == null) {
-                    ListObjectsRequest req = new ListObjectsRequest();
-                    req.setBucketName(getBucketName());
-                    req.setPrefix(getPrefix());
-                    req.setMaxKeys(getBatchSize());
-                    currentListing = getS3().listObjects(req);
+            while (!closed && (currentListing == null || (!currentIterator.hasNext() && currentListing.isTruncated()))) {
+
+                if (prefetcher != null) {
+                    ObjectListing listing = prefetcher.take();
+                    if (listing == null) {
+                        close();
+                        break;
+                    }
+                    currentListing = listing;
+                } else if (currentListing == null) {
+                    currentListing = listFirstBatch();
                 } else {
                     currentListing = getS3().listNextBatchOfObjects(currentListing);
                 }
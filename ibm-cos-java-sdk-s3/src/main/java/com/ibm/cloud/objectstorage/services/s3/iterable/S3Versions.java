@@ -14,7 +14,10 @@
  */
 package com.ibm.cloud.objectstorage.services.s3.iterable;
 
+import java.io.Closeable;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
 
 import com.ibm.cloud.objectstorage.services.s3.AmazonS3;
 import com.ibm.cloud.objectstorage.services.s3.model.ListVersionsRequest;
@@ -34,6 +37,11 @@ import com.ibm.cloud.objectstorage.services.s3.model.VersionListing;
  * The list of {@link S3VersionSummary}s will be fetched lazily, a page at a
  * time, as they are needed. The size of the page can be controlled with the
  * {@link S3Versions#withBatchSize(int)} method.
+ * <p>
+ * With {@link S3Versions#withPrefetchDepth(int)}, the next pages are fetched
+ * on a background thread while the current one is being iterated. The
+ * iterators then implement {@link Closeable}, and should be closed when not
+ * iterated to the end, to stop fetching.
  */
 public class S3Versions implements Iterable<S3VersionSummary> {
 
@@ -42,6 +50,8 @@ public class S3Versions implements Iterable<S3VersionSummary> {
     private String prefix;
     private String key;
     private Integer batchSize;
+    private int prefetchDepth;
+    private ExecutorService executorService;
 
     private S3Versions(AmazonS3 s3, String bucketName) {
         this.s3 = s3;
@@ -111,10 +121,45 @@ public class S3Versions implements Iterable<S3VersionSummary> {
         return this;
     }
 
+    /**
+     * Sets how many pages are fetched ahead of the iteration, on a background
+     * thread. By default pages are fetched by the iterating thread when the
+     * previous one is exhausted.
+     *
+     * @param prefetchDepth
+     *            How many pages may be waiting to be iterated, or 0 to fetch
+     *            pages when needed.
+     */
+    public S3Versions withPrefetchDepth(int prefetchDepth) {
+        if (prefetchDepth < 0) {
+            throw new IllegalArgumentException("prefetchDepth must not be negative");
+        }
+        this.prefetchDepth = prefetchDepth;
+        return this;
+    }
+
+    /**
+     * Sets the executor service fetching pages ahead of the iteration. By
+     * default shared daemon threads are used.
+     *
+     * @param executorService
+     *            The executor service, which is not shut down by the
+     *            iterators.
+     * @see #withPrefetchDepth(int)
+     */
+    public S3Versions withExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
     public Integer getBatchSize() {
         return batchSize;
     }
 
+    public int getPrefetchDepth() {
+        return prefetchDepth;
+    }
+
     public String getPrefix() {
         return prefix;
     }
@@ -131,11 +176,50 @@ public class S3Versions implements Iterable<S3VersionSummary> {
         return bucketName;
     }
 
-    private class VersionIterator implements Iterator<S3VersionSummary> {
+    private VersionListing listFirstBatch() {
+        ListVersionsRequest req = new ListVersionsRequest();
+        req.setBucketName(getBucketName());
+
+        if (getKey() != null) {
+            req.setPrefix(getKey());
+        } else {
+            req.setPrefix(getPrefix());
+        }
+
+        req.setMaxResults(getBatchSize());
+        return getS3().listVersions(req);
+    }
+
+    private class VersionIterator implements Iterator<S3VersionSummary>, Closeable {
 
         private VersionListing currentListing = null;
         private Iterator<S3VersionSummary> currentIterator = null;
         private S3VersionSummary nextSummary = null;
+        private final ListingPrefetcher<VersionListing> prefetcher;
+        private boolean closed = false;
+
+        VersionIterator() {
+            if (prefetchDepth > 0) {
+                prefetcher = new ListingPrefetcher<VersionListing>(new ListingPrefetcher.Listings<VersionListing>() {
+                    @Override
+                    public VersionListing first() {
+                        return listFirstBatch();
+                    }
+
+                    @Override
+                    public VersionListing next(VersionListing previous) {
+                        return getS3().listNextBatchOfVersions(previous);
+                    }
+
+                    @Override
+                    public boolean isTruncated(VersionListing listing) {
+                        return listing.isTruncated();
+                    }
+                }, prefetchDepth, executorService);
+            } else {
+                prefetcher = null;
+            }
+        }
 
         @Override
         public boolean hasNext() {
@@ -166,22 +250,33 @@ public class S3Versions implements Iterable<S3VersionSummary> {
             }
         }
 
+        /**
+         * Stops fetching pages ahead of the iteration, after which the
+         * iterator has no more elements.
+         */
+        @Override
+        public void close() {
+            closed = true;
+            nextSummary = null;
+            currentIterator = Collections.<S3VersionSummary>emptyList().iterator();
+            if (prefetcher != null) {
+                prefetcher.close();
+            }
+        }
+
         private void prepareCurrentListing() {
-            while (currentListing == null
+            while (!closed && (currentListing == null
                     || (!currentIterator.hasNext() && currentListing
-                            .isTruncated())) {
-                if (currentListing == null) {
-                    ListVersionsRequest req = new ListVersionsRequest();
-                    req.setBucketName(getBucketName());
-
-                    if (getKey() != null) {
-                        req.setPrefix(getKey());
-                    } else {
-                        req.setPrefix(getPrefix());
+                            .isTruncated()))) {
+                if (prefetcher != null) {
+                    VersionListing listing = prefetcher.take();
+                    if (listing == null) {
+                        close();
+                        break;
                     }
-
-                    req.setMaxResults(getBatchSize());
-                    currentListing = getS3().listVersions(req);
+                    currentListing = listing;
+                } else if (currentListing == null) {
+                    currentListing = listFirstBatch();
                 } else {
                     currentListing = getS3().listNextBatchOfVersions(
                             currentListing);
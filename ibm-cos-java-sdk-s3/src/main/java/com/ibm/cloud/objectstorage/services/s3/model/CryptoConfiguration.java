@@ -38,6 +38,16 @@ public class CryptoConfiguration implements Cloneable,Serializable {
     private static final long serialVersionUID = -8646831898339939580L;
 
     private static final SecureRandom SRAND = new SecureRandom();
+    /**
+     * The default size in bytes of the buffer used to encrypt or decrypt
+     * the content of objects.
+     */
+    public static final int DEFAULT_CIPHER_BUFFER_SIZE = 1024*2;    // 2K
+    /**
+     * The buffer size used to encrypt or decrypt must be a multiple of this
+     * number of bytes.
+     */
+    private static final int CIPHER_BUFFER_SIZE_UNIT = 512;
 
     private CryptoMode cryptoMode;
     private CryptoStorageMode storageMode;
@@ -52,6 +62,11 @@ public class CryptoConfiguration implements Cloneable,Serializable {
      * missing instruction file would always cause security exception.
      */
     private boolean ignoreMissingInstructionFile = true;
+    /**
+     * The size in bytes of the buffer used to encrypt or decrypt the content
+     * of objects.
+     */
+    private int cipherBufferSize = DEFAULT_CIPHER_BUFFER_SIZE;
     /**
      * @exclude
      * Used to specify the KMS region for the Amazon Web Services KMS client when such client
@@ -291,6 +306,45 @@ public class CryptoConfiguration implements Cloneable,Serializable {
         return this;
     }
 
+    /**
+     * Returns the size in bytes of the buffer used to encrypt or decrypt the
+     * content of objects. Default is 2K.
+     */
+    public int getCipherBufferSize() {
+        return cipherBufferSize;
+    }
+
+    /**
+     * Sets the size in bytes of the buffer used to encrypt or decrypt the
+     * content of objects, which is read and processed this many bytes at a
+     * time. Larger buffers, such as 64K to 256K, reduce the per-chunk
+     * overhead for large objects at the cost of memory held per open stream.
+     *
+     * @param cipherBufferSize
+     *            the buffer size, which must be a positive multiple of 512
+     *
+     * @throws IllegalArgumentException
+     *             if the buffer size is not a positive multiple of 512
+     */
+    public void setCipherBufferSize(int cipherBufferSize) {
+        if (cipherBufferSize <= 0 || cipherBufferSize % CIPHER_BUFFER_SIZE_UNIT != 0) {
+            throw new IllegalArgumentException("cipherBufferSize (" + cipherBufferSize
+                    + ") must be a positive multiple of " + CIPHER_BUFFER_SIZE_UNIT);
+        }
+        this.cipherBufferSize = cipherBufferSize;
+    }
+
+    /**
+     * Fluent API to set the size in bytes of the buffer used to encrypt or
+     * decrypt the content of objects.
+     *
+     * @see #setCipherBufferSize(int)
+     */
+    public CryptoConfiguration withCipherBufferSize(int cipherBufferSize) {
+        setCipherBufferSize(cipherBufferSize);
+        return this;
+    }
+
     /**
      * Checks if the crypto mode is supported by the runtime.
      *
@@ -369,6 +423,12 @@ public class CryptoConfiguration implements Cloneable,Serializable {
             boolean ignoreMissingInstructionFile) {
             throw new UnsupportedOperationException();
         }
+        @Override public void setCipherBufferSize(int cipherBufferSize) {
+            throw new UnsupportedOperationException();
+        }
+        @Override public CryptoConfiguration withCipherBufferSize(int cipherBufferSize) {
+            throw new UnsupportedOperationException();
+        }
         @Override public void setKmsRegion(Regions kmsRegion) {
             throw new UnsupportedOperationException();
         }
@@ -399,6 +459,7 @@ public class CryptoConfiguration implements Cloneable,Serializable {
         that.secureRandom = this.secureRandom;
         that.ignoreMissingInstructionFile = this.ignoreMissingInstructionFile;
         that.awskmsRegion = this.awskmsRegion;
+        that.cipherBufferSize = this.cipherBufferSize;
         return that;
     }
 
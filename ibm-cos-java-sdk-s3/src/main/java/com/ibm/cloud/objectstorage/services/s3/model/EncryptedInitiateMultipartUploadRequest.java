@@ -31,6 +31,7 @@ import com.ibm.cloud.objectstorage.services.s3.AmazonS3EncryptionClient;
  * <li>specify encryption material description on a per-request basis;</li>
  * <li>specify whether a new set of encryption material is to be created for the
  * upload or not;</li>
+ * <li>specify the size of the parts, so that they can be uploaded concurrently;</li>
  * </ul>
  * In particular, {@link EncryptedInitiateMultipartUploadRequest} is only
  * recognized by {@link AmazonS3EncryptionClient}.
@@ -51,6 +52,10 @@ public class EncryptedInitiateMultipartUploadRequest extends
      * otherwise. Default is true.
      */
     private boolean createEncryptionMaterial = true;
+    /**
+     * The size of all the parts but the last, or zero if unspecified.
+     */
+    private long partSize;
 
     public EncryptedInitiateMultipartUploadRequest(String bucketName, String key) {
         super(bucketName, key);
@@ -112,4 +117,45 @@ public class EncryptedInitiateMultipartUploadRequest extends
         this.createEncryptionMaterial = createEncryptionMaterial;
         return this;
     }
+
+    /**
+     * Returns the size of all the parts of the upload but the last, or zero if
+     * unspecified.
+     */
+    public long getPartSize() {
+        return partSize;
+    }
+
+    /**
+     * Sets the size of all the parts of the upload but the last, which must be
+     * a multiple of the cipher block size (16 bytes). Parts numbered from 1
+     * and of this size, except for the last part which may be shorter, are
+     * encrypted independently of each other in the authenticated encryption
+     * modes, so that they can be uploaded concurrently and in any order.
+     * <p>
+     * The uploaded object is the same as when its parts are uploaded in
+     * series, and is decrypted as usual. Ignored in the encryption only mode,
+     * whose parts must be uploaded in series.
+     *
+     * @param partSize
+     *            the size of all the parts but the last, or zero if
+     *            unspecified
+     *
+     * @see AmazonS3EncryptionClient#isParallelPartUploadSupported()
+     */
+    public void setPartSize(long partSize) {
+        this.partSize = partSize;
+    }
+
+    /**
+     * @param partSize
+     *            the size of all the parts but the last, or zero if
+     *            unspecified
+     *
+     * @see #setPartSize(long)
+     */
+    public EncryptedInitiateMultipartUploadRequest withPartSize(long partSize) {
+        setPartSize(partSize);
+        return this;
+    }
 }
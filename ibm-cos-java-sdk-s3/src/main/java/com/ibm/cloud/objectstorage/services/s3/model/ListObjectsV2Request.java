@@ -18,8 +18,12 @@ import com.ibm.cloud.objectstorage.AmazonWebServiceRequest;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Request to retrieve a listing of objects in an S3 bucket.
@@ -108,6 +112,12 @@ public class ListObjectsV2Request extends AmazonWebServiceRequest implements Ser
      */
     private String startAfter;
 
+    /**
+     * Optional client side parameter selecting the fields of the object
+     * summaries to populate. All fields are populated by default.
+     */
+    private Set<S3ObjectSummaryField> objectSummaryFields;
+
     
 //IBM unsupported
 //    private boolean isRequesterPays;
@@ -569,4 +579,53 @@ public class ListObjectsV2Request extends AmazonWebServiceRequest implements Ser
         setStartAfter(startAfter);
         return this;
     }
+
+    /**
+     * Returns the fields of the object summaries to populate, or null if all
+     * fields are populated.
+     *
+     * @return The fields of the object summaries to populate
+     * @see #setObjectSummaryFields(Collection)
+     */
+    public Set<S3ObjectSummaryField> getObjectSummaryFields() {
+        return objectSummaryFields;
+    }
+
+    /**
+     * Sets the fields of the object summaries to populate, besides the bucket
+     * name and key which are always populated. This is a client side setting
+     * that doesn't change the request sent to S3.
+     * <p>
+     * Selecting the fields puts the listing in a lightweight mode meant for
+     * jobs going over large numbers of keys. Fields that are not selected are
+     * left unset, the storage class and owner objects are shared by the
+     * summaries with equal values, and the last modified dates and ETags are
+     * only decoded when first accessed. Summaries should then be treated as
+     * read only.
+     *
+     * @param objectSummaryFields
+     *            The fields to populate, or null to populate all fields
+     */
+    public void setObjectSummaryFields(Collection<S3ObjectSummaryField> objectSummaryFields) {
+        this.objectSummaryFields = objectSummaryFields == null ? null
+                : objectSummaryFields.isEmpty() ? EnumSet.noneOf(S3ObjectSummaryField.class)
+                : EnumSet.copyOf(objectSummaryFields);
+    }
+
+    /**
+     * Sets the fields of the object summaries to populate, besides the bucket
+     * name and key which are always populated.
+     *
+     * @param objectSummaryFields
+     *            The fields to populate
+     *
+     * @return This {@link ListObjectsV2Request}, enabling additional method
+     *         calls to be chained together.
+     * @see #setObjectSummaryFields(Collection)
+     */
+    public ListObjectsV2Request withObjectSummaryFields(S3ObjectSummaryField... objectSummaryFields) {
+        setObjectSummaryFields(objectSummaryFields == null ? null
+                : Arrays.asList(objectSummaryFields));
+        return this;
+    }
 }
@@ -0,0 +1,41 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.model;
+
+/**
+ * Optional fields of the {@link S3ObjectSummary} objects of a listing. The
+ * bucket name and key of a summary are always populated.
+ *
+ * @see ListObjectsV2Request#setObjectSummaryFields(java.util.Collection)
+ */
+public enum S3ObjectSummaryField {
+
+    /** The size of the object, see {@link S3ObjectSummary#getSize()} */
+    SIZE,
+
+    /** The last modified date, see {@link S3ObjectSummary#getLastModified()} */
+    LAST_MODIFIED,
+
+    /** The ETag of the object, see {@link S3ObjectSummary#getETag()} */
+    ETAG,
+
+    /** The storage class, see {@link S3ObjectSummary#getStorageClass()} */
+    STORAGE_CLASS,
+
+    /**
+     * The owner, see {@link S3ObjectSummary#getOwner()}. Owners are only
+     * returned by S3 if requested with
+     * {@link ListObjectsV2Request#setFetchOwner(boolean)}.
+     */
+    OWNER
+}
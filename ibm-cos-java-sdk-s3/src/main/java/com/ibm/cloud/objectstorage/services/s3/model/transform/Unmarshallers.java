@@ -43,6 +43,7 @@ import com.ibm.cloud.objectstorage.services.s3.model.SetObjectRetentionResult;
 import com.ibm.cloud.objectstorage.transform.Unmarshaller;
 import java.io.InputStream;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Collection of unmarshallers for S3 XML responses.
@@ -95,8 +96,7 @@ public class Unmarshallers {
         }
 
         public ObjectListing unmarshall(InputStream in) throws Exception {
-            return new XmlResponsesSaxParser()
-                    .parseListBucketObjectsResponse(in, shouldSDKDecodeResponse).getObjectListing();
+            return XmlListResponsesStaxParser.parseListBucketObjectsResponse(in, shouldSDKDecodeResponse);
         }
     }
 
@@ -107,14 +107,26 @@ public class Unmarshallers {
             Unmarshaller<ListObjectsV2Result, InputStream> {
 
         private final boolean shouldSDKDecodeResponse;
+        private final Set<S3ObjectSummaryField> objectSummaryFields;
 
         public ListObjectsV2Unmarshaller(final boolean shouldSDKDecodeResponse) {
+            this(shouldSDKDecodeResponse, null);
+        }
+
+        /**
+         * @param objectSummaryFields
+         *            The fields of the object summaries to populate, or null
+         *            to populate all fields
+         */
+        public ListObjectsV2Unmarshaller(final boolean shouldSDKDecodeResponse,
+                final Set<S3ObjectSummaryField> objectSummaryFields) {
             this.shouldSDKDecodeResponse = shouldSDKDecodeResponse;
+            this.objectSummaryFields = objectSummaryFields;
         }
 
         public ListObjectsV2Result unmarshall(InputStream in) throws Exception {
-            return new XmlResponsesSaxParser()
-                    .parseListObjectsV2Response(in, shouldSDKDecodeResponse).getResult();
+            return XmlListResponsesStaxParser.parseListObjectsV2Response(in, shouldSDKDecodeResponse,
+                    objectSummaryFields);
         }
     }
 
@@ -150,8 +162,7 @@ public class Unmarshallers {
         }
 
         public VersionListing unmarshall(InputStream in) throws Exception {
-            return new XmlResponsesSaxParser()
-                    .parseListVersionsResponse(in, shouldSDKDecodeResponse).getListing();
+            return XmlListResponsesStaxParser.parseListVersionsResponse(in, shouldSDKDecodeResponse);
         }
     }
 
@@ -316,16 +327,14 @@ public class Unmarshallers {
     public static final class ListMultipartUploadsResultUnmarshaller implements
             Unmarshaller<MultipartUploadListing, InputStream> {
         public MultipartUploadListing unmarshall(InputStream in) throws Exception {
-            return new XmlResponsesSaxParser().parseListMultipartUploadsResponse(in)
-                .getListMultipartUploadsResult();
+            return XmlListResponsesStaxParser.parseListMultipartUploadsResponse(in);
         }
     }
 
     public static final class ListPartsResultUnmarshaller implements
         Unmarshaller<PartListing, InputStream> {
         public PartListing unmarshall(InputStream in) throws Exception {
-            return new XmlResponsesSaxParser().parseListPartsResponse(in)
-                .getListPartsResult();
+            return XmlListResponsesStaxParser.parseListPartsResponse(in);
         }
     }
 
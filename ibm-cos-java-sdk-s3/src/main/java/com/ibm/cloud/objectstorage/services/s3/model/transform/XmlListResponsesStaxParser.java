@@ -0,0 +1,714 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.model.transform;
+
+import static com.ibm.cloud.objectstorage.services.s3.model.transform.XmlResponsesSaxParser.checkForEmptyString;
+import static com.ibm.cloud.objectstorage.services.s3.model.transform.XmlResponsesSaxParser.decodeIfSpecified;
+import static com.ibm.cloud.objectstorage.services.s3.model.transform.XmlResponsesSaxParser.parseInt;
+import static com.ibm.cloud.objectstorage.services.s3.model.transform.XmlResponsesSaxParser.parseLong;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.ibm.cloud.objectstorage.SdkClientException;
+import com.ibm.cloud.objectstorage.annotation.SdkInternalApi;
+import com.ibm.cloud.objectstorage.services.s3.internal.Constants;
+import com.ibm.cloud.objectstorage.services.s3.internal.LazyS3ObjectSummary;
+import com.ibm.cloud.objectstorage.services.s3.internal.ServiceUtils;
+import com.ibm.cloud.objectstorage.services.s3.internal.XmlCarriageReturnEscapingInputStream;
+import com.ibm.cloud.objectstorage.services.s3.model.ListObjectsV2Request;
+import com.ibm.cloud.objectstorage.services.s3.model.ListObjectsV2Result;
+import com.ibm.cloud.objectstorage.services.s3.model.MultipartUpload;
+import com.ibm.cloud.objectstorage.services.s3.model.MultipartUploadListing;
+import com.ibm.cloud.objectstorage.services.s3.model.ObjectListing;
+import com.ibm.cloud.objectstorage.services.s3.model.Owner;
+import com.ibm.cloud.objectstorage.services.s3.model.PartListing;
+import com.ibm.cloud.objectstorage.services.s3.model.PartSummary;
+import com.ibm.cloud.objectstorage.services.s3.model.S3ObjectSummary;
+import com.ibm.cloud.objectstorage.services.s3.model.S3ObjectSummaryField;
+import com.ibm.cloud.objectstorage.services.s3.model.S3VersionSummary;
+import com.ibm.cloud.objectstorage.services.s3.model.VersionListing;
+import com.ibm.cloud.objectstorage.util.StringUtils;
+import com.ibm.cloud.objectstorage.util.XmlUtils;
+
+/**
+ * Pull parser for the list responses returned by S3, which are by far the
+ * largest and most frequently parsed documents. Each element is read straight
+ * into the model instead of going through the path tracking and text
+ * buffering of the SAX handlers in {@link XmlResponsesSaxParser}, which this
+ * parser otherwise matches result for result.
+ * <p>
+ * Documents are read with the XXE hardened, thread local factory of
+ * {@link XmlUtils}, and DOCTYPE declarations are rejected as they are by the
+ * SAX parser.
+ */
+@SdkInternalApi
+final class XmlListResponsesStaxParser {
+
+    private static final Log log = LogFactory.getLog(XmlListResponsesStaxParser.class);
+
+    private XmlListResponsesStaxParser() {
+    }
+
+    /**
+     * Parses the children of the root element of a document into a result.
+     */
+    private interface DocumentParser<T> {
+
+        /**
+         * Called with the reader positioned on the start of a child element of
+         * the root element, which must be consumed up to its end.
+         */
+        void parseElement(XMLStreamReader reader, String name, T result) throws XMLStreamException;
+
+        /**
+         * Called once the end of the root element has been reached.
+         */
+        void endDocument(T result);
+    }
+
+    /**
+     * Parses a ListBucket response XML document from an input stream.
+     */
+    static ObjectListing parseListBucketObjectsResponse(InputStream inputStream,
+            final boolean shouldSDKDecodeResponse) throws IOException {
+        return parse(inputStream, true, "ListBucketResult", new ObjectListing(),
+                new DocumentParser<ObjectListing>() {
+                    @Override
+                    public void parseElement(XMLStreamReader reader, String name, ObjectListing listing)
+                            throws XMLStreamException {
+                        if (name.equals("Contents")) {
+                            listing.getObjectSummaries().add(parseObjectSummary(reader,
+                                    listing.getBucketName(), shouldSDKDecodeResponse));
+                        } else if (name.equals("CommonPrefixes")) {
+                            parseCommonPrefixes(reader, listing.getCommonPrefixes(), false,
+                                    shouldSDKDecodeResponse);
+                        } else if (name.equals("Name")) {
+                            listing.setBucketName(reader.getElementText());
+                            if (log.isDebugEnabled()) {
+                                log.debug("Examining listing for bucket: " + listing.getBucketName());
+                            }
+                        } else if (name.equals("Prefix")) {
+                            listing.setPrefix(decodeIfSpecified(
+                                    checkForEmptyString(reader.getElementText()), shouldSDKDecodeResponse));
+                        } else if (name.equals("Marker")) {
+                            listing.setMarker(decodeIfSpecified(
+                                    checkForEmptyString(reader.getElementText()), shouldSDKDecodeResponse));
+                        } else if (name.equals("NextMarker")) {
+                            listing.setNextMarker(decodeIfSpecified(
+                                    reader.getElementText(), shouldSDKDecodeResponse));
+                        } else if (name.equals("MaxKeys")) {
+                            listing.setMaxKeys(parseInt(reader.getElementText()));
+                        } else if (name.equals("Delimiter")) {
+                            listing.setDelimiter(decodeIfSpecified(
+                                    checkForEmptyString(reader.getElementText()), shouldSDKDecodeResponse));
+                        } else if (name.equals("EncodingType")) {
+                            String encodingType = checkForEmptyString(reader.getElementText());
+                            listing.setEncodingType(shouldSDKDecodeResponse ? null : encodingType);
+                        } else if (name.equals("IsTruncated")) {
+                            listing.setTruncated(parseIsTruncated(reader.getElementText()));
+                        } else {
+                            skipElement(reader);
+                        }
+                    }
+
+                    @Override
+                    public void endDocument(ObjectListing listing) {
+                        /*
+                         * S3 only includes the NextMarker XML element if the
+                         * request specified a delimiter, but for consistency we'd
+                         * like to always give easy access to the next marker if
+                         * we're returning a list of results that's truncated.
+                         */
+                        if (listing.isTruncated() && listing.getNextMarker() == null) {
+                            String nextMarker = null;
+                            if (!listing.getObjectSummaries().isEmpty()) {
+                                nextMarker = listing.getObjectSummaries()
+                                        .get(listing.getObjectSummaries().size() - 1).getKey();
+                            } else if (!listing.getCommonPrefixes().isEmpty()) {
+                                nextMarker = listing.getCommonPrefixes()
+                                        .get(listing.getCommonPrefixes().size() - 1);
+                            } else {
+                                log.error("S3 response indicates truncated results, "
+                                        + "but contains no object summaries or "
+                                        + "common prefixes.");
+                            }
+                            listing.setNextMarker(nextMarker);
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Parses a ListBucketV2 response XML document from an input stream.
+     */
+    static ListObjectsV2Result parseListObjectsV2Response(InputStream inputStream,
+            final boolean shouldSDKDecodeResponse) throws IOException {
+        return parseListObjectsV2Response(inputStream, shouldSDKDecodeResponse, null);
+    }
+
+    /**
+     * Parses a ListBucketV2 response XML document from an input stream,
+     * populating only the given fields of the object summaries.
+     *
+     * @param objectSummaryFields
+     *            The fields of the object summaries to populate, or null to
+     *            fully populate the object summaries
+     * @see ListObjectsV2Request#setObjectSummaryFields(java.util.Collection)
+     */
+    static ListObjectsV2Result parseListObjectsV2Response(InputStream inputStream,
+            final boolean shouldSDKDecodeResponse, final Set<S3ObjectSummaryField> objectSummaryFields)
+            throws IOException {
+        final SharedValues sharedValues = objectSummaryFields == null ? null : new SharedValues();
+        return parse(inputStream, true, "ListBucketResult", new ListObjectsV2Result(),
+                new DocumentParser<ListObjectsV2Result>() {
+                    @Override
+                    public void parseElement(XMLStreamReader reader, String name, ListObjectsV2Result result)
+                            throws XMLStreamException {
+                        if (name.equals("Contents")) {
+                            result.getObjectSummaries().add(objectSummaryFields == null
+                                    ? parseObjectSummary(reader, result.getBucketName(), shouldSDKDecodeResponse)
+                                    : parseLazyObjectSummary(reader, result.getBucketName(),
+                                            shouldSDKDecodeResponse, objectSummaryFields, sharedValues));
+                        } else if (name.equals("CommonPrefixes")) {
+                            parseCommonPrefixes(reader, result.getCommonPrefixes(), false,
+                                    shouldSDKDecodeResponse);
+                        } else if (name.equals("Name")) {
+                            result.setBucketName(reader.getElementText());
+                            if (log.isDebugEnabled()) {
+                                log.debug("Examining listing for bucket: " + result.getBucketName());
+                            }
+                        } else if (name.equals("Prefix")) {
+                            result.setPrefix(decodeIfSpecified(
+                                    checkForEmptyString(reader.getElementText()), shouldSDKDecodeResponse));
+                        } else if (name.equals("MaxKeys")) {
+                            result.setMaxKeys(parseInt(reader.getElementText()));
+                        } else if (name.equals("NextContinuationToken")) {
+                            result.setNextContinuationToken(reader.getElementText());
+                        } else if (name.equals("ContinuationToken")) {
+                            result.setContinuationToken(reader.getElementText());
+                        } else if (name.equals("StartAfter")) {
+                            result.setStartAfter(decodeIfSpecified(
+                                    reader.getElementText(), shouldSDKDecodeResponse));
+                        } else if (name.equals("KeyCount")) {
+                            result.setKeyCount(parseInt(reader.getElementText()));
+                        } else if (name.equals("Delimiter")) {
+                            result.setDelimiter(decodeIfSpecified(
+                                    checkForEmptyString(reader.getElementText()), shouldSDKDecodeResponse));
+                        } else if (name.equals("EncodingType")) {
+                            result.setEncodingType(checkForEmptyString(reader.getElementText()));
+                        } else if (name.equals("IsTruncated")) {
+                            result.setTruncated(parseIsTruncated(reader.getElementText()));
+                        } else {
+                            skipElement(reader);
+                        }
+                    }
+
+                    @Override
+                    public void endDocument(ListObjectsV2Result result) {
+                        /*
+                         * S3 only includes the NextContinuationToken XML element if the
+                         * request specified a delimiter, but for consistency we'd
+                         * like to always give easy access to the next token if
+                         * we're returning a list of results that's truncated.
+                         */
+                        if (result.isTruncated() && result.getNextContinuationToken() == null) {
+                            String nextContinuationToken = null;
+                            if (!result.getObjectSummaries().isEmpty()) {
+                                nextContinuationToken = result.getObjectSummaries()
+                                        .get(result.getObjectSummaries().size() - 1).getKey();
+                            } else {
+                                log.error("S3 response indicates truncated results, "
+                                        + "but contains no object summaries.");
+                            }
+                            result.setNextContinuationToken(nextContinuationToken);
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Parses a ListVersions response XML document from an input stream.
+     */
+    static VersionListing parseListVersionsResponse(InputStream inputStream,
+            final boolean shouldSDKDecodeResponse) throws IOException {
+        return parse(inputStream, true, "ListVersionsResult", new VersionListing(),
+                new DocumentParser<VersionListing>() {
+                    @Override
+                    public void parseElement(XMLStreamReader reader, String name, VersionListing listing)
+                            throws XMLStreamException {
+                        if (name.equals("Version") || name.equals("DeleteMarker")) {
+                            listing.getVersionSummaries().add(parseVersionSummary(reader,
+                                    listing.getBucketName(), name.equals("DeleteMarker"),
+                                    shouldSDKDecodeResponse));
+                        } else if (name.equals("CommonPrefixes")) {
+                            parseCommonPrefixes(reader, listing.getCommonPrefixes(), true,
+                                    shouldSDKDecodeResponse);
+                        } else if (name.equals("Name")) {
+                            listing.setBucketName(reader.getElementText());
+                        } else if (name.equals("Prefix")) {
+                            listing.setPrefix(decodeIfSpecified(
+                                    checkForEmptyString(reader.getElementText()), shouldSDKDecodeResponse));
+                        } else if (name.equals("KeyMarker")) {
+                            listing.setKeyMarker(decodeIfSpecified(
+                                    checkForEmptyString(reader.getElementText()), shouldSDKDecodeResponse));
+                        } else if (name.equals("VersionIdMarker")) {
+                            listing.setVersionIdMarker(checkForEmptyString(reader.getElementText()));
+                        } else if (name.equals("MaxKeys")) {
+                            listing.setMaxKeys(Integer.parseInt(reader.getElementText()));
+                        } else if (name.equals("Delimiter")) {
+                            listing.setDelimiter(decodeIfSpecified(
+                                    checkForEmptyString(reader.getElementText()), shouldSDKDecodeResponse));
+                        } else if (name.equals("EncodingType")) {
+                            String encodingType = checkForEmptyString(reader.getElementText());
+                            listing.setEncodingType(shouldSDKDecodeResponse ? null : encodingType);
+                        } else if (name.equals("NextKeyMarker")) {
+                            listing.setNextKeyMarker(decodeIfSpecified(
+                                    checkForEmptyString(reader.getElementText()), shouldSDKDecodeResponse));
+                        } else if (name.equals("NextVersionIdMarker")) {
+                            listing.setNextVersionIdMarker(reader.getElementText());
+                        } else if (name.equals("IsTruncated")) {
+                            listing.setTruncated("true".equals(reader.getElementText()));
+                        } else {
+                            skipElement(reader);
+                        }
+                    }
+
+                    @Override
+                    public void endDocument(VersionListing listing) {
+                    }
+                });
+    }
+
+    /**
+     * Parses a ListMultipartUploads response XML document from an input
+     * stream.
+     */
+    static MultipartUploadListing parseListMultipartUploadsResponse(InputStream inputStream)
+            throws IOException {
+        return parse(inputStream, false, "ListMultipartUploadsResult", new MultipartUploadListing(),
+                new DocumentParser<MultipartUploadListing>() {
+                    @Override
+                    public void parseElement(XMLStreamReader reader, String name, MultipartUploadListing result)
+                            throws XMLStreamException {
+                        if (name.equals("Upload")) {
+                            result.getMultipartUploads().add(parseMultipartUpload(reader));
+                        } else if (name.equals("CommonPrefixes")) {
+                            while (nextChildElement(reader)) {
+                                if (reader.getLocalName().equals("Prefix")) {
+                                    result.getCommonPrefixes().add(reader.getElementText());
+                                } else {
+                                    skipElement(reader);
+                                }
+                            }
+                        } else if (name.equals("Bucket")) {
+                            result.setBucketName(reader.getElementText());
+                        } else if (name.equals("KeyMarker")) {
+                            result.setKeyMarker(checkForEmptyString(reader.getElementText()));
+                        } else if (name.equals("Delimiter")) {
+                            result.setDelimiter(checkForEmptyString(reader.getElementText()));
+                        } else if (name.equals("Prefix")) {
+                            result.setPrefix(checkForEmptyString(reader.getElementText()));
+                        } else if (name.equals("UploadIdMarker")) {
+                            result.setUploadIdMarker(checkForEmptyString(reader.getElementText()));
+                        } else if (name.equals("NextKeyMarker")) {
+                            result.setNextKeyMarker(checkForEmptyString(reader.getElementText()));
+                        } else if (name.equals("NextUploadIdMarker")) {
+                            result.setNextUploadIdMarker(checkForEmptyString(reader.getElementText()));
+                        } else if (name.equals("MaxUploads")) {
+                            result.setMaxUploads(Integer.parseInt(reader.getElementText()));
+                        } else if (name.equals("EncodingType")) {
+                            result.setEncodingType(checkForEmptyString(reader.getElementText()));
+                        } else if (name.equals("IsTruncated")) {
+                            result.setTruncated(Boolean.parseBoolean(reader.getElementText()));
+                        } else {
+                            skipElement(reader);
+                        }
+                    }
+
+                    @Override
+                    public void endDocument(MultipartUploadListing result) {
+                    }
+                });
+    }
+
+    /**
+     * Parses a ListParts response XML document from an input stream.
+     */
+    static PartListing parseListPartsResponse(InputStream inputStream) throws IOException {
+        return parse(inputStream, false, "ListPartsResult", new PartListing(),
+                new DocumentParser<PartListing>() {
+                    @Override
+                    public void parseElement(XMLStreamReader reader, String name, PartListing result)
+                            throws XMLStreamException {
+                        if (name.equals("Part")) {
+                            result.getParts().add(parsePartSummary(reader));
+                        } else if (name.equals("Bucket")) {
+                            result.setBucketName(reader.getElementText());
+                        } else if (name.equals("Key")) {
+                            result.setKey(reader.getElementText());
+                        } else if (name.equals("UploadId")) {
+                            result.setUploadId(reader.getElementText());
+                        } else if (name.equals("Owner")) {
+                            result.setOwner(parseOwner(reader, true));
+                        } else if (name.equals("Initiator")) {
+                            result.setInitiator(parseOwner(reader, true));
+                        } else if (name.equals("StorageClass")) {
+                            result.setStorageClass(reader.getElementText());
+                        } else if (name.equals("PartNumberMarker")) {
+                            result.setPartNumberMarker(parseInteger(reader.getElementText()));
+                        } else if (name.equals("NextPartNumberMarker")) {
+                            result.setNextPartNumberMarker(parseInteger(reader.getElementText()));
+                        } else if (name.equals("MaxParts")) {
+                            result.setMaxParts(parseInteger(reader.getElementText()));
+                        } else if (name.equals("EncodingType")) {
+                            result.setEncodingType(checkForEmptyString(reader.getElementText()));
+                        } else if (name.equals("IsTruncated")) {
+                            result.setTruncated(Boolean.parseBoolean(reader.getElementText()));
+                        } else {
+                            skipElement(reader);
+                        }
+                    }
+
+                    @Override
+                    public void endDocument(PartListing result) {
+                    }
+                });
+    }
+
+    private static S3ObjectSummary parseObjectSummary(XMLStreamReader reader, String bucketName,
+            boolean shouldSDKDecodeResponse) throws XMLStreamException {
+        S3ObjectSummary summary = new S3ObjectSummary();
+        summary.setBucketName(bucketName);
+        while (nextChildElement(reader)) {
+            String name = reader.getLocalName();
+            if (name.equals("Key")) {
+                summary.setKey(decodeIfSpecified(reader.getElementText(), shouldSDKDecodeResponse));
+            } else if (name.equals("LastModified")) {
+                summary.setLastModified(ServiceUtils.parseIso8601Date(reader.getElementText()));
+            } else if (name.equals("ETag")) {
+                summary.setETag(ServiceUtils.removeQuotes(reader.getElementText()));
+            } else if (name.equals("Size")) {
+                summary.setSize(parseLong(reader.getElementText()));
+            } else if (name.equals("StorageClass")) {
+                summary.setStorageClass(reader.getElementText());
+            } else if (name.equals("Owner")) {
+                summary.setOwner(parseOwner(reader, false));
+            } else {
+                skipElement(reader);
+            }
+        }
+        return summary;
+    }
+
+    private static S3ObjectSummary parseLazyObjectSummary(XMLStreamReader reader, String bucketName,
+            boolean shouldSDKDecodeResponse, Set<S3ObjectSummaryField> fields, SharedValues sharedValues)
+            throws XMLStreamException {
+        LazyS3ObjectSummary summary = new LazyS3ObjectSummary();
+        summary.setBucketName(bucketName);
+        while (nextChildElement(reader)) {
+            String name = reader.getLocalName();
+            if (name.equals("Key")) {
+                summary.setKey(decodeIfSpecified(reader.getElementText(), shouldSDKDecodeResponse));
+            } else if (name.equals("LastModified") && fields.contains(S3ObjectSummaryField.LAST_MODIFIED)) {
+                summary.setLastModifiedText(reader.getElementText());
+            } else if (name.equals("ETag") && fields.contains(S3ObjectSummaryField.ETAG)) {
+                summary.setETagText(reader.getElementText());
+            } else if (name.equals("Size") && fields.contains(S3ObjectSummaryField.SIZE)) {
+                summary.setSize(parseLong(reader.getElementText()));
+            } else if (name.equals("StorageClass") && fields.contains(S3ObjectSummaryField.STORAGE_CLASS)) {
+                summary.setStorageClass(sharedValues.storageClass(reader.getElementText()));
+            } else if (name.equals("Owner") && fields.contains(S3ObjectSummaryField.OWNER)) {
+                summary.setOwner(sharedValues.owner(parseOwner(reader, false)));
+            } else {
+                skipElement(reader);
+            }
+        }
+        return summary;
+    }
+
+    private static S3VersionSummary parseVersionSummary(XMLStreamReader reader, String bucketName,
+            boolean deleteMarker, boolean shouldSDKDecodeResponse) throws XMLStreamException {
+        S3VersionSummary summary = new S3VersionSummary();
+        summary.setBucketName(bucketName);
+        if (deleteMarker) {
+            summary.setIsDeleteMarker(true);
+        }
+        while (nextChildElement(reader)) {
+            String name = reader.getLocalName();
+            if (name.equals("Key")) {
+                summary.setKey(decodeIfSpecified(reader.getElementText(), shouldSDKDecodeResponse));
+            } else if (name.equals("VersionId")) {
+                summary.setVersionId(reader.getElementText());
+            } else if (name.equals("IsLatest")) {
+                summary.setIsLatest("true".equals(reader.getElementText()));
+            } else if (name.equals("LastModified")) {
+                summary.setLastModified(ServiceUtils.parseIso8601Date(reader.getElementText()));
+            } else if (name.equals("ETag")) {
+                summary.setETag(ServiceUtils.removeQuotes(reader.getElementText()));
+            } else if (name.equals("Size")) {
+                summary.setSize(Long.parseLong(reader.getElementText()));
+            } else if (name.equals("Owner")) {
+                summary.setOwner(parseOwner(reader, false));
+            } else if (name.equals("StorageClass")) {
+                summary.setStorageClass(reader.getElementText());
+            } else {
+                skipElement(reader);
+            }
+        }
+        return summary;
+    }
+
+    private static MultipartUpload parseMultipartUpload(XMLStreamReader reader) throws XMLStreamException {
+        MultipartUpload upload = new MultipartUpload();
+        while (nextChildElement(reader)) {
+            String name = reader.getLocalName();
+            if (name.equals("Key")) {
+                upload.setKey(reader.getElementText());
+            } else if (name.equals("UploadId")) {
+                upload.setUploadId(reader.getElementText());
+            } else if (name.equals("Owner")) {
+                upload.setOwner(parseOwner(reader, true));
+            } else if (name.equals("Initiator")) {
+                upload.setInitiator(parseOwner(reader, true));
+            } else if (name.equals("StorageClass")) {
+                upload.setStorageClass(reader.getElementText());
+            } else if (name.equals("Initiated")) {
+                upload.setInitiated(ServiceUtils.parseIso8601Date(reader.getElementText()));
+            } else {
+                skipElement(reader);
+            }
+        }
+        return upload;
+    }
+
+    private static PartSummary parsePartSummary(XMLStreamReader reader) throws XMLStreamException {
+        PartSummary part = new PartSummary();
+        while (nextChildElement(reader)) {
+            String name = reader.getLocalName();
+            if (name.equals("PartNumber")) {
+                part.setPartNumber(Integer.parseInt(reader.getElementText()));
+            } else if (name.equals("LastModified")) {
+                part.setLastModified(ServiceUtils.parseIso8601Date(reader.getElementText()));
+            } else if (name.equals("ETag")) {
+                part.setETag(ServiceUtils.removeQuotes(reader.getElementText()));
+            } else if (name.equals("Size")) {
+                part.setSize(Long.parseLong(reader.getElementText()));
+            } else {
+                skipElement(reader);
+            }
+        }
+        return part;
+    }
+
+    private static Owner parseOwner(XMLStreamReader reader, boolean emptyAsNull) throws XMLStreamException {
+        Owner owner = new Owner();
+        while (nextChildElement(reader)) {
+            String name = reader.getLocalName();
+            if (name.equals("ID")) {
+                String id = reader.getElementText();
+                owner.setId(emptyAsNull ? checkForEmptyString(id) : id);
+            } else if (name.equals("DisplayName")) {
+                String displayName = reader.getElementText();
+                owner.setDisplayName(emptyAsNull ? checkForEmptyString(displayName) : displayName);
+            } else {
+                skipElement(reader);
+            }
+        }
+        return owner;
+    }
+
+    private static void parseCommonPrefixes(XMLStreamReader reader, List<String> commonPrefixes,
+            boolean emptyAsNull, boolean shouldSDKDecodeResponse) throws XMLStreamException {
+        while (nextChildElement(reader)) {
+            if (reader.getLocalName().equals("Prefix")) {
+                String prefix = reader.getElementText();
+                commonPrefixes.add(decodeIfSpecified(emptyAsNull ? checkForEmptyString(prefix) : prefix,
+                        shouldSDKDecodeResponse));
+            } else {
+                skipElement(reader);
+            }
+        }
+    }
+
+    /**
+     * Values repeated across the summaries of a listing, which are shared by
+     * the summaries instead of each holding a copy.
+     */
+    private static final class SharedValues {
+        private final Map<String, String> storageClasses = new HashMap<String, String>();
+        private final Map<String, Owner> owners = new HashMap<String, Owner>();
+
+        String storageClass(String storageClass) {
+            String shared = storageClasses.get(storageClass);
+            if (shared == null) {
+                storageClasses.put(storageClass, storageClass);
+                shared = storageClass;
+            }
+            return shared;
+        }
+
+        Owner owner(Owner owner) {
+            if (owner.getId() == null) {
+                return owner;
+            }
+            Owner shared = owners.get(owner.getId());
+            if (shared == null) {
+                owners.put(owner.getId(), owner);
+                return owner;
+            }
+            return shared.equals(owner) ? shared : owner;
+        }
+    }
+
+    private static boolean parseIsTruncated(String text) {
+        String isTruncatedStr = StringUtils.lowerCase(text);
+        if (isTruncatedStr.startsWith("false")) {
+            return false;
+        } else if (isTruncatedStr.startsWith("true")) {
+            return true;
+        }
+        throw new IllegalStateException("Invalid value for IsTruncated field: " + isTruncatedStr);
+    }
+
+    private static Integer parseInteger(String text) {
+        text = checkForEmptyString(text);
+        if (text == null) return null;
+        return Integer.parseInt(text);
+    }
+
+    private static <T> T parse(InputStream inputStream, boolean sanitize, String rootElement, T result,
+            DocumentParser<T> parser) throws IOException {
+        if (log.isDebugEnabled()) {
+            log.debug("Parsing " + rootElement + " response document");
+        }
+        try {
+            XMLStreamReader reader = XmlUtils.getXmlInputFactory().createXMLStreamReader(
+                    sanitize ? new XmlCarriageReturnEscapingInputStream(inputStream) : inputStream,
+                    Constants.DEFAULT_ENCODING);
+            try {
+                if (startRootElement(reader, rootElement)) {
+                    while (nextChildElement(reader)) {
+                        parser.parseElement(reader, reader.getLocalName(), result);
+                    }
+                    parser.endDocument(result);
+                }
+                // Read to the end, so that malformed documents are still rejected
+                while (reader.hasNext()) {
+                    reader.next();
+                }
+            } finally {
+                reader.close();
+            }
+            return result;
+
+        } catch (XMLStreamException e) {
+            IOException ioe = findIOException(e);
+            if (ioe != null) {
+                throw ioe;
+            }
+            throw parseFailure(inputStream, rootElement, e);
+
+        } catch (RuntimeException e) {
+            throw parseFailure(inputStream, rootElement, e);
+        }
+    }
+
+    /**
+     * Moves the reader to the root element of the document.
+     *
+     * @return True if the root element is the expected one, false if it is
+     *         not and the document should be ignored.
+     */
+    private static boolean startRootElement(XMLStreamReader reader, String rootElement)
+            throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.DTD) {
+                throw new XMLStreamException("DOCTYPE is disallowed", reader.getLocation());
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                return rootElement.equals(reader.getLocalName());
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves the reader to the start of the next child element of the current
+     * element.
+     *
+     * @return True if there is a next child element, false if the end of the
+     *         current element was reached instead.
+     */
+    private static boolean nextChildElement(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves the reader past the end of the current element.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Returns the I/O error, such as a connection reset, that the given parse
+     * error was caused by, if any.
+     */
+    private static IOException findIOException(XMLStreamException e) {
+        Throwable cause = e.getNestedException() != null ? e.getNestedException() : e.getCause();
+        while (cause != null) {
+            if (cause instanceof IOException) {
+                return (IOException) cause;
+            }
+            cause = cause.getCause();
+        }
+        return null;
+    }
+
+    private static SdkClientException parseFailure(InputStream inputStream, String rootElement, Throwable t) {
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            if (log.isErrorEnabled()) {
+                log.error("Unable to close response InputStream up after XML parse failure", e);
+            }
+        }
+        return new SdkClientException("Failed to parse " + rootElement + " XML document", t);
+    }
+}
@@ -17,8 +17,6 @@
  */
 package com.ibm.cloud.objectstorage.services.s3.model.transform;
 
-import static com.ibm.cloud.objectstorage.util.StringUtils.UTF8;
-
 import com.ibm.cloud.objectstorage.services.s3.model.AbortIncompleteMultipartUpload;
 import com.ibm.cloud.objectstorage.services.s3.model.AccessControlList;
 import com.ibm.cloud.objectstorage.services.s3.model.AmazonS3Exception;
@@ -27,11 +25,8 @@ import com.ibm.cloud.objectstorage.services.s3.model.BucketAccelerateConfigurati
 import com.ibm.cloud.objectstorage.services.s3.model.BucketCrossOriginConfiguration;
 import com.ibm.cloud.objectstorage.services.s3.model.BucketLifecycleConfiguration;
 import com.ibm.cloud.objectstorage.services.s3.model.BucketLifecycleConfiguration.NoncurrentVersionExpiration;
-import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -89,6 +84,7 @@ import org.xml.sax.helpers.DefaultHandler;
 import org.xml.sax.helpers.XMLReaderFactory;
 
 import com.ibm.cloud.objectstorage.SdkClientException;
+import com.ibm.cloud.objectstorage.internal.SdkThreadLocalsRegistry;
 import com.ibm.cloud.objectstorage.services.s3.internal.Constants;
 import com.ibm.cloud.objectstorage.services.s3.internal.DeleteObjectsResponse;
 import com.ibm.cloud.objectstorage.services.s3.internal.ObjectExpirationResult;
@@ -96,6 +92,7 @@ import com.ibm.cloud.objectstorage.services.s3.internal.S3RequesterChargedResult
 import com.ibm.cloud.objectstorage.services.s3.internal.S3VersionResult;
 import com.ibm.cloud.objectstorage.services.s3.internal.ServerSideEncryptionResult;
 import com.ibm.cloud.objectstorage.services.s3.internal.ServiceUtils;
+import com.ibm.cloud.objectstorage.services.s3.internal.XmlCarriageReturnEscapingInputStream;
 import com.ibm.cloud.objectstorage.services.s3.model.BucketLifecycleConfiguration.NoncurrentVersionTransition;
 import com.ibm.cloud.objectstorage.services.s3.model.BucketLifecycleConfiguration.Rule;
 import com.ibm.cloud.objectstorage.services.s3.model.BucketLifecycleConfiguration.Transition;
@@ -168,7 +165,29 @@ import com.ibm.cloud.objectstorage.util.StringUtils;
 public class XmlResponsesSaxParser {
     private static final Log log = LogFactory.getLog(XmlResponsesSaxParser.class);
 
-    private XMLReader xr = null;
+    /**
+     * XXE hardened readers, reused for all documents parsed on a thread as
+     * creating one looks up the SAX driver and sets up all of its components.
+     */
+    private static final ThreadLocal<XMLReader> xmlReader = SdkThreadLocalsRegistry.register(
+            new ThreadLocal<XMLReader>() {
+                @Override
+                protected XMLReader initialValue() {
+                    try {
+                        XMLReader reader = XMLReaderFactory.createXMLReader();
+                        disableExternalResourceFetching(reader);
+                        return reader;
+                    } catch (SAXException e) {
+                        throw new SdkClientException("Couldn't initialize a SAX driver to create an XMLReader", e);
+                    }
+                }
+            });
+
+    /**
+     * Handler left on pooled readers between documents, so that they don't
+     * hold on to the results of the last document they parsed.
+     */
+    private static final DefaultHandler NO_OP_HANDLER = new DefaultHandler();
 
     private boolean sanitizeXmlDocument = true;
 
@@ -179,12 +198,7 @@ public class XmlResponsesSaxParser {
      */
     public XmlResponsesSaxParser() throws SdkClientException {
         // Ensure we can load the XML Reader.
-        try {
-            xr = XMLReaderFactory.createXMLReader();
-            disableExternalResourceFetching(xr);
-        } catch (SAXException e) {
-            throw new SdkClientException("Couldn't initialize a SAX driver to create an XMLReader", e);
-        }
+        xmlReader.get();
     }
 
     /**
@@ -208,11 +222,18 @@ public class XmlResponsesSaxParser {
                 log.debug("Parsing XML response document with handler: " + handler.getClass());
             }
 
-            BufferedReader breader = new BufferedReader(new InputStreamReader(inputStream,
-                    Constants.DEFAULT_ENCODING));
+            // The parser decodes and buffers the stream itself
+            InputSource source = new InputSource(inputStream);
+            source.setEncoding(Constants.DEFAULT_ENCODING);
+            XMLReader xr = xmlReader.get();
             xr.setContentHandler(handler);
             xr.setErrorHandler(handler);
-            xr.parse(new InputSource(breader));
+            try {
+                xr.parse(source);
+            } finally {
+                xr.setContentHandler(NO_OP_HANDLER);
+                xr.setErrorHandler(NO_OP_HANDLER);
+            }
 
         } catch (IOException e) {
             throw e;
@@ -241,52 +262,13 @@ public class XmlResponsesSaxParser {
                 log.debug("Sanitizing XML document destined for handler " + handler.getClass());
             }
 
-            InputStream sanitizedInputStream = null;
-
-            try {
-
-                /*
-                 * Read object listing XML document from input stream provided into a
-                 * string buffer, so we can replace troublesome characters before
-                 * sending the document to the XML parser.
-                 */
-                StringBuilder listingDocBuffer = new StringBuilder();
-                BufferedReader br = new BufferedReader(
-                        new InputStreamReader(inputStream, Constants.DEFAULT_ENCODING));
-
-                char[] buf = new char[8192];
-                int read = -1;
-                while ((read = br.read(buf)) != -1) {
-                    listingDocBuffer.append(buf, 0, read);
-                }
-                br.close();
-
-                /*
-                 * Replace any carriage return (\r) characters with explicit XML
-                 * character entities, to prevent the SAX parser from
-                 * misinterpreting 0x0D characters as 0x0A and being unable to
-                 * parse the XML.
-                 */
-                String listingDoc = listingDocBuffer.toString().replaceAll("\r", "&#013;");
-
-                sanitizedInputStream = new ByteArrayInputStream(
-                        listingDoc.getBytes(UTF8));
-
-            } catch (IOException e) {
-                throw e;
-
-            } catch (Throwable t) {
-                try {
-                    inputStream.close();
-                } catch (IOException e) {
-                    if (log.isErrorEnabled()) {
-                        log.error("Unable to close response InputStream after failure sanitizing XML document", e);
-                    }
-                }
-                throw new SdkClientException("Failed to sanitize XML document destined for handler "
-                        + handler.getClass(), t);
-            }
-            return sanitizedInputStream;
+            /*
+             * Replace any carriage return (\r) characters with explicit XML
+             * character entities as the document is read, to prevent the SAX
+             * parser from misinterpreting 0x0D characters as 0x0A and being
+             * unable to parse the XML.
+             */
+            return new XmlCarriageReturnEscapingInputStream(inputStream);
         }
     }
 
@@ -298,7 +280,7 @@ public class XmlResponsesSaxParser {
      * @throws SAXNotRecognizedException
      * @throws SAXNotSupportedException
      */
-    private void disableExternalResourceFetching(XMLReader reader) throws SAXNotRecognizedException, SAXNotSupportedException {
+    private static void disableExternalResourceFetching(XMLReader reader) throws SAXNotRecognizedException, SAXNotSupportedException {
         reader.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
         reader.setFeature("http://xml.org/sax/features/external-general-entities", false);
         reader.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
@@ -314,7 +296,7 @@ public class XmlResponsesSaxParser {
      * @return Null if the specified string was null, or empty, otherwise
      *         returns the string the caller passed in.
      */
-    private static String checkForEmptyString(String s) {
+    static String checkForEmptyString(String s) {
         if (s == null) return null;
         if (s.length() == 0) return null;
 
@@ -332,7 +314,7 @@ public class XmlResponsesSaxParser {
      * @return The integer value of the specified string, otherwise -1 if there
      *         were any problems parsing the string as an integer.
      */
-    private static int parseInt(String s) {
+    static int parseInt(String s) {
         try {
             return Integer.parseInt(s);
         } catch (NumberFormatException nfe) {
@@ -353,7 +335,7 @@ public class XmlResponsesSaxParser {
      * @return The long value of the specified string, otherwise -1 if there
      *         were any problems parsing the string as a long.
      */
-    private static long parseLong(String s) {
+    static long parseLong(String s) {
         try {
             return Long.parseLong(s);
         } catch (NumberFormatException nfe) {
@@ -367,7 +349,7 @@ public class XmlResponsesSaxParser {
      * Perform a url decode on the given value if specified.
      * Return value by default;
      */
-    private static String decodeIfSpecified(String value, boolean decode) {
+    static String decodeIfSpecified(String value, boolean decode) {
         return decode ? SdkHttpUtils.urlDecode(value) : value;
     }
 
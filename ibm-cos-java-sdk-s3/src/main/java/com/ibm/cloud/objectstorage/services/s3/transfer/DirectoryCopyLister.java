@@ -0,0 +1,142 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.transfer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.ibm.cloud.objectstorage.SdkClientException;
+import com.ibm.cloud.objectstorage.services.s3.AmazonS3;
+import com.ibm.cloud.objectstorage.services.s3.model.ListObjectsRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.ObjectListing;
+import com.ibm.cloud.objectstorage.services.s3.model.S3ObjectSummary;
+import com.ibm.cloud.objectstorage.services.s3.transfer.internal.MultipleFileCopyImpl;
+
+/**
+ * Lists the objects under a key prefix on its own thread, one page at a time,
+ * and starts the copy of each one as soon as it is listed, waiting whenever
+ * the directory copy has as many copies pending as it permits. The copies are
+ * started on an executor owned by the lister, which is shut down once the
+ * listing is over.
+ */
+abstract class DirectoryCopyLister implements Runnable {
+
+    private static final AtomicInteger threadCount = new AtomicInteger(0);
+
+    private final AmazonS3 s3;
+    private final String bucketName;
+    private final String keyPrefix;
+    private final String marker;
+    private final MultipleFileCopyImpl copy;
+    private final ExecutorService executorService;
+
+    /**
+     * @param marker          the key after which to list, or null to list
+     *                        from the start.
+     * @param executorService the executor to start the copies on, with as
+     *                        many threads as the copy permits pending copies.
+     *                        It is shut down once the listing is over, and
+     *                        the copies already started then run to
+     *                        completion.
+     */
+    DirectoryCopyLister(AmazonS3 s3, String bucketName, String keyPrefix, String marker,
+                        MultipleFileCopyImpl copy, ExecutorService executorService) {
+        this.s3 = s3;
+        this.bucketName = bucketName;
+        this.keyPrefix = keyPrefix;
+        this.marker = marker;
+        this.copy = copy;
+        this.executorService = executorService;
+    }
+
+    /**
+     * Copies the given object, or submits its multipart copy. Called from the
+     * executor of the lister once a permit was acquired.
+     */
+    protected abstract void startCopy(S3ObjectSummary summary) throws Exception;
+
+    /**
+     * Starts listing the source on a new daemon thread.
+     */
+    void start() {
+        Thread thread = new Thread(this);
+        thread.setDaemon(true);
+        thread.setName("S3TransferManagerCopyLister-" + threadCount.incrementAndGet());
+        thread.start();
+    }
+
+    @Override
+    public void run() {
+        try {
+            list();
+            copy.listingCompleted();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            copy.listingFailed(new SdkClientException("Interrupted while listing " + bucketName + "/"
+                    + keyPrefix, e));
+        } catch (Throwable t) {
+            copy.listingFailed(t);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * Lists the source until it is over, or until the copy was aborted or
+     * failed.
+     */
+    private void list() throws InterruptedException {
+        ObjectListing listing = null;
+        do {
+            if (listing == null) {
+                listing = s3.listObjects(new ListObjectsRequest().withBucketName(bucketName)
+                        .withPrefix(keyPrefix).withMarker(marker));
+            } else {
+                listing = s3.listNextBatchOfObjects(listing);
+            }
+            for (S3ObjectSummary summary : listing.getObjectSummaries()) {
+                if (!submit(summary)) {
+                    return;
+                }
+            }
+        } while (listing.isTruncated());
+    }
+
+    /**
+     * Waits for a permit and starts the copy of the given object from the
+     * executor. Returns false if the copy was aborted or failed instead.
+     */
+    private boolean submit(final S3ObjectSummary summary) throws InterruptedException {
+        if (!copy.awaitPermit(summary.getKey())) {
+            return false;
+        }
+        TransferProgress progress = copy.getProgress();
+        progress.setTotalBytesToTransfer(progress.getTotalBytesToTransfer() + summary.getSize());
+        try {
+            executorService.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        startCopy(summary);
+                    } catch (Throwable t) {
+                        copy.failedToStart(t);
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            copy.failedToStart(e);
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,218 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.transfer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.ibm.cloud.objectstorage.SdkClientException;
+import com.ibm.cloud.objectstorage.services.s3.AmazonS3;
+import com.ibm.cloud.objectstorage.services.s3.model.ListObjectsRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.ObjectListing;
+import com.ibm.cloud.objectstorage.services.s3.model.S3ObjectSummary;
+import com.ibm.cloud.objectstorage.services.s3.transfer.internal.StreamingMultipleFileDownloadImpl;
+
+/**
+ * Lists the objects of a virtual directory on its own thread, and starts the
+ * download of each one as soon as it is listed, waiting whenever the directory
+ * download has as many files pending as it permits.
+ * <p>
+ * The directory is listed without a delimiter, one page at a time, so all its
+ * subdirectories are covered by the same listing and the memory used does not
+ * depend on the number of objects. An object that is also a virtual directory
+ * is skipped, since a file and a directory can't have the same name. That can
+ * only be told from the keys listed after it, so an object is held back while
+ * the following keys extend its key with a character ordered before the
+ * delimiter.
+ */
+abstract class DirectoryDownloadLister implements Runnable {
+
+    private static final Log log = LogFactory.getLog(DirectoryDownloadLister.class);
+
+    private static final char DELIMITER = '/';
+
+    private static final AtomicInteger threadCount = new AtomicInteger(0);
+
+    private final AmazonS3 s3;
+    private final String bucketName;
+    private final String keyPrefix;
+    private final File destinationDirectory;
+    private final KeyFilter filter;
+    private final StreamingMultipleFileDownloadImpl download;
+    private final ExecutorService executorService;
+
+    /**
+     * Objects that may still turn out to be virtual directories, in listing
+     * order. The key of each one is a prefix of the key of the next.
+     */
+    private final Deque<S3ObjectSummary> undecided = new ArrayDeque<S3ObjectSummary>();
+
+    DirectoryDownloadLister(AmazonS3 s3, String bucketName, String keyPrefix, File destinationDirectory,
+                            KeyFilter filter, StreamingMultipleFileDownloadImpl download,
+                            ExecutorService executorService) {
+        this.s3 = s3;
+        this.bucketName = bucketName;
+        this.keyPrefix = keyPrefix;
+        this.destinationDirectory = destinationDirectory;
+        this.filter = filter;
+        this.download = download;
+        this.executorService = executorService;
+    }
+
+    /**
+     * Prepares and submits the download of the given object. Called from the
+     * thread pool of the transfer manager once a permit was acquired.
+     */
+    protected abstract void startDownload(S3ObjectSummary summary) throws Exception;
+
+    /**
+     * Starts listing the directory on a new daemon thread.
+     */
+    void start() {
+        Thread thread = new Thread(this);
+        thread.setDaemon(true);
+        thread.setName("S3TransferManagerDirectoryLister-" + threadCount.incrementAndGet());
+        thread.start();
+    }
+
+    @Override
+    public void run() {
+        try {
+            if (list()) {
+                // Whatever remains is not followed by any key of a subdirectory
+                while (!undecided.isEmpty()) {
+                    if (!submit(undecided.pollLast())) {
+                        break;
+                    }
+                }
+            }
+            download.listingCompleted();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            download.listingFailed(new SdkClientException("Interrupted while listing " + bucketName + "/"
+                    + keyPrefix, e));
+        } catch (Throwable t) {
+            download.listingFailed(t);
+        }
+    }
+
+    /**
+     * Lists the directory, and returns false if the listing was stopped
+     * because the download was aborted or failed.
+     */
+    private boolean list() throws InterruptedException {
+        ObjectListing listing = null;
+        do {
+            if (listing == null) {
+                listing = s3.listObjects(new ListObjectsRequest().withBucketName(bucketName).withPrefix(keyPrefix));
+            } else {
+                listing = s3.listNextBatchOfObjects(listing);
+            }
+            for (S3ObjectSummary summary : listing.getObjectSummaries()) {
+                if (!offer(summary)) {
+                    return false;
+                }
+            }
+        } while (listing.isTruncated());
+        return true;
+    }
+
+    /**
+     * Decides the objects held back that can be told apart from a virtual
+     * directory from the given key, then holds back the given object if it is
+     * to be downloaded.
+     */
+    private boolean offer(S3ObjectSummary summary) throws InterruptedException {
+        String key = summary.getKey();
+        while (!undecided.isEmpty()) {
+            String undecidedKey = undecided.peekLast().getKey();
+            if (!key.startsWith(undecidedKey) || key.charAt(undecidedKey.length()) > DELIMITER) {
+                // Keys of a subdirectory would have been listed before this one
+                if (!submit(undecided.pollLast())) {
+                    return false;
+                }
+            } else if (key.charAt(undecidedKey.length()) == DELIMITER) {
+                log.debug("Skipping download for object " + undecidedKey + " since it is also a virtual directory");
+                undecided.pollLast();
+            } else {
+                // Keys of a subdirectory may still follow, and so for the keys held back before
+                break;
+            }
+        }
+
+        if (!filter.shouldInclude(summary)) {
+            log.debug("Skipping " + key + " as it does not match filter.");
+            return true;
+        }
+
+        if (leavesRoot(destinationDirectory, key)) {
+            throw new SdkClientException("Cannot download key " + key +
+                    ", its relative path resolves outside the parent directory.");
+        }
+
+        if (key.equals(keyPrefix) || key.charAt(key.length() - 1) == DELIMITER) {
+            log.debug("Skipping download for object " + key + " since it is also a virtual directory");
+            return true;
+        }
+
+        undecided.addLast(summary);
+        return true;
+    }
+
+    /**
+     * Waits for a permit and starts the download of the given object from the
+     * thread pool. Returns false if the download was aborted or failed
+     * instead.
+     */
+    private boolean submit(final S3ObjectSummary summary) throws InterruptedException {
+        if (!download.awaitPermit()) {
+            return false;
+        }
+        TransferProgress progress = download.getProgress();
+        progress.setTotalBytesToTransfer(progress.getTotalBytesToTransfer() + summary.getSize());
+        try {
+            executorService.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        startDownload(summary);
+                    } catch (Throwable t) {
+                        download.failedToStart(t);
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            download.failedToStart(e);
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean leavesRoot(File localBaseDirectory, String key) {
+        try {
+            Path targetPath = new File(localBaseDirectory, key).getCanonicalFile().toPath();
+            Path rootPath = localBaseDirectory.getCanonicalFile().toPath();
+            return !targetPath.startsWith(rootPath);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to canonicalize paths",  e);
+        }
+    }
+}
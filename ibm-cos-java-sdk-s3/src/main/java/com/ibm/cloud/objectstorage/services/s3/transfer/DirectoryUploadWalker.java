@@ -0,0 +1,140 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.transfer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.EnumSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.ibm.cloud.objectstorage.services.s3.transfer.internal.StreamingMultipleFileUploadImpl;
+
+/**
+ * Walks a directory on its own thread, and starts the upload of each file as
+ * soon as it is found, waiting whenever the directory upload has as many files
+ * pending as it permits.
+ * <p>
+ * The directory is walked with {@link Files#walkFileTree}, which reads each
+ * directory lazily and provides the attributes of each file, so that the
+ * memory used does not depend on the number of files. Symbolic links are
+ * followed, and files or directories that can't be read are skipped.
+ */
+abstract class DirectoryUploadWalker implements Runnable {
+
+    private static final Log log = LogFactory.getLog(DirectoryUploadWalker.class);
+
+    private static final AtomicInteger threadCount = new AtomicInteger(0);
+
+    private final File directory;
+    private final boolean includeSubdirectories;
+    private final StreamingMultipleFileUploadImpl upload;
+    private final ExecutorService executorService;
+
+    DirectoryUploadWalker(File directory, boolean includeSubdirectories, StreamingMultipleFileUploadImpl upload,
+                          ExecutorService executorService) {
+        this.directory = directory;
+        this.includeSubdirectories = includeSubdirectories;
+        this.upload = upload;
+        this.executorService = executorService;
+    }
+
+    /**
+     * Uploads the given file. Called from the thread pool of the transfer
+     * manager once a permit was acquired. The file must be counted with
+     * {@link StreamingMultipleFileUploadImpl#startFile()} before it is
+     * uploaded; an exception thrown before that fails the directory upload.
+     */
+    protected abstract void startUpload(File file) throws Exception;
+
+    /**
+     * Starts walking the directory on a new daemon thread.
+     */
+    void start() {
+        Thread thread = new Thread(this);
+        thread.setDaemon(true);
+        thread.setName("S3TransferManagerDirectoryWalker-" + threadCount.incrementAndGet());
+        thread.start();
+    }
+
+    @Override
+    public void run() {
+        try {
+            Files.walkFileTree(directory.toPath(), EnumSet.of(FileVisitOption.FOLLOW_LINKS),
+                               includeSubdirectories ? Integer.MAX_VALUE : 1, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    // Only files can be uploaded
+                    if (attrs.isRegularFile() && !submit(file.toFile(), attrs.size())) {
+                        return FileVisitResult.TERMINATE;
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                    log.debug("Skipping " + file + " since it can't be read", exc);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            upload.walkCompleted();
+        } catch (Throwable t) {
+            if (t instanceof InterruptedIOException) {
+                Thread.currentThread().interrupt();
+            }
+            upload.walkFailed(t);
+        }
+    }
+
+    /**
+     * Waits for a permit and starts the upload of the given file from the
+     * thread pool. Returns false if the upload failed instead.
+     */
+    private boolean submit(final File file, long size) throws IOException {
+        try {
+            if (!upload.awaitPermit()) {
+                return false;
+            }
+        } catch (InterruptedException e) {
+            throw (IOException) new InterruptedIOException("Interrupted while walking " + directory).initCause(e);
+        }
+        TransferProgress progress = upload.getProgress();
+        progress.setTotalBytesToTransfer(progress.getTotalBytesToTransfer() + size);
+        try {
+            executorService.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        startUpload(file);
+                    } catch (Throwable t) {
+                        upload.failedToStart(t);
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            upload.failedToStart(e);
+            return false;
+        }
+        return true;
+    }
+}
@@ -23,20 +23,29 @@ import com.ibm.cloud.objectstorage.services.s3.AmazonS3;
 import com.ibm.cloud.objectstorage.services.s3.internal.FileLocks;
 import com.ibm.cloud.objectstorage.services.s3.internal.ServiceUtils;
 import com.ibm.cloud.objectstorage.services.s3.internal.ServiceUtils.RetryableS3DownloadTask;
+import com.ibm.cloud.objectstorage.services.s3.internal.crypto.v1.RangedDownloadGcmContext;
 import com.ibm.cloud.objectstorage.services.s3.model.GetObjectRequest;
 import com.ibm.cloud.objectstorage.services.s3.model.S3Object;
 import com.ibm.cloud.objectstorage.services.s3.transfer.Transfer.TransferState;
 import com.ibm.cloud.objectstorage.services.s3.transfer.exception.FileLockException;
 import com.ibm.cloud.objectstorage.services.s3.transfer.internal.AbstractDownloadCallable;
+import com.ibm.cloud.objectstorage.services.s3.transfer.internal.AdaptiveTransferController;
 import com.ibm.cloud.objectstorage.services.s3.transfer.internal.CompleteMultipartDownload;
+import com.ibm.cloud.objectstorage.services.s3.transfer.internal.CompleteRangedDownload;
+import com.ibm.cloud.objectstorage.services.s3.transfer.internal.DownloadBufferPool;
 import com.ibm.cloud.objectstorage.services.s3.transfer.internal.DownloadImpl;
 import com.ibm.cloud.objectstorage.services.s3.transfer.internal.DownloadMonitor;
 import com.ibm.cloud.objectstorage.services.s3.transfer.internal.DownloadS3ObjectCallable;
+import com.ibm.cloud.objectstorage.services.s3.transfer.internal.InFlightParts;
 import com.ibm.cloud.objectstorage.util.IOUtils;
 import java.io.File;
 import java.io.RandomAccessFile;
 import java.net.SocketException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -58,6 +67,9 @@ final class DownloadCallable extends AbstractDownloadCallable {
     private Integer lastFullyMergedPartNumber;
     private Long lastFullyMergedPartPosition;
     private final boolean resumeOnRetry;
+    private final DownloadBufferPool bufferPool;
+    private final AdaptiveTransferController adaptiveController;
+    private RangedDownloadGcmContext rangedDecryption;
     private long expectedFileLength;
 
     DownloadCallable(AmazonS3 s3, CountDownLatch latch,
@@ -66,7 +78,8 @@ final class DownloadCallable extends AbstractDownloadCallable {
                      long expectedFileLength, long timeout,
                      ScheduledExecutorService timedExecutor,
                      ExecutorService executor,
-                     Integer lastFullyDownloadedPartNumber, boolean isDownloadParallel, boolean resumeOnRetry) {
+                     Integer lastFullyDownloadedPartNumber, boolean isDownloadParallel, boolean resumeOnRetry,
+                     DownloadBufferPool bufferPool, AdaptiveTransferController adaptiveController) {
         super(constructCallableConfig(executor, dstfile, latch, download, isDownloadParallel, timedExecutor, timeout));
 
         if (s3 == null || req == null || download == null) {
@@ -80,6 +93,8 @@ final class DownloadCallable extends AbstractDownloadCallable {
         this.expectedFileLength = expectedFileLength;
         this.lastFullyMergedPartNumber = lastFullyDownloadedPartNumber;
         this.resumeOnRetry = resumeOnRetry;
+        this.bufferPool = bufferPool;
+        this.adaptiveController = adaptiveController;
     }
 
     DownloadCallable withLastFullyMergedPartPosition(Long lastFullyMergedPartPosition) {
@@ -87,6 +102,15 @@ final class DownloadCallable extends AbstractDownloadCallable {
         return this;
     }
 
+    /**
+     * Sets the context to download an encrypted object in ranges decrypted in
+     * parallel instead of in parts, or null.
+     */
+    DownloadCallable withRangedDecryption(RangedDownloadGcmContext rangedDecryption) {
+        this.rangedDecryption = rangedDecryption;
+        return this;
+    }
+
     @Override
     protected void downloadAsSingleObject() {
         S3Object s3Object = retryableDownloadS3ObjectToFile(dstfile,
@@ -96,7 +120,11 @@ final class DownloadCallable extends AbstractDownloadCallable {
 
     @Override
     protected void downloadInParallel() throws Exception {
-        downloadInParallel(ServiceUtils.getPartCount(req, s3));
+        if (rangedDecryption != null) {
+            downloadDecryptedRangesInParallel();
+        } else {
+            downloadInParallel(ServiceUtils.getPartCount(req, s3));
+        }
     }
 
     @Override
@@ -120,6 +148,8 @@ final class DownloadCallable extends AbstractDownloadCallable {
 
     /**
      * Downloads each part of the object into the different parts of the destination file in parallel.
+     * When a buffer pool is configured, all parts write through a single channel opened on the
+     * destination file, which is closed once every part has completed.
      */
     private void downloadInParallel(int partCount) throws Exception {
 
@@ -142,41 +172,143 @@ final class DownloadCallable extends AbstractDownloadCallable {
             throw new FileLockException("Fail to lock " + dstfile);
         }
 
+        InFlightParts inFlightParts = new InFlightParts();
+        FileChannel channel = null;
         try {
+            if (bufferPool != null) {
+                channel = FileChannel.open(dstfile.toPath(), StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+            }
+
             for (int i = lastFullyMergedPartNumber + 1; i <= partCount; i++) {
                 filePositionToWrite += previousPartLength;
 
-                GetObjectRequest getPartRequest = new GetObjectRequest(req.getBucketName(), req.getKey(),
-                                                                       req.getVersionId()).withUnmodifiedSinceConstraint(req.getUnmodifiedSinceConstraint())
-                                                                                          .withModifiedSinceConstraint(req.getModifiedSinceConstraint())
-                                                                                          .withResponseHeaders(req.getResponseHeaders()).withSSECustomerKey(req.getSSECustomerKey())
-                                                                                          .withGeneralProgressListener(req.getGeneralProgressListener());
-
-                getPartRequest.setMatchingETagConstraints(req.getMatchingETagConstraints());
-                getPartRequest.setNonmatchingETagConstraints(req.getNonmatchingETagConstraints());
-                getPartRequest.setRequesterPays(req.isRequesterPays());
-                getPartRequest.setRequestCredentialsProvider(req.getRequestCredentialsProvider());
+                GetObjectRequest getPartRequest = newPartRequest();
 
                 // Update the part number
                 getPartRequest.setPartNumber(i);
 
-                futures.add(executor.submit(new DownloadS3ObjectCallable(serviceCall(getPartRequest),
-                                                                         dstfile,
-                                                                         filePositionToWrite)));
+                DownloadS3ObjectCallable partCallable = channel == null
+                    ? new DownloadS3ObjectCallable(serviceCall(getPartRequest), dstfile, filePositionToWrite)
+                    : new DownloadS3ObjectCallable(serviceCall(getPartRequest), channel, bufferPool, filePositionToWrite);
+                partCallable.withInFlightParts(inFlightParts);
+                futures.add(adaptiveController == null
+                        ? executor.submit(partCallable)
+                        : adaptiveController.submit(executor, partCallable.withAdaptiveController(adaptiveController)));
 
                 previousPartLength = ServiceUtils.getPartSize(req, s3, i);
             }
 
             Future<File> future = executor.submit(new CompleteMultipartDownload(futures, dstfile, download,
-                                                                                ++lastFullyMergedPartNumber));
+                                                                                ++lastFullyMergedPartNumber, channel,
+                                                                                inFlightParts));
             ((DownloadMonitor) download.getMonitor()).setFuture(future);
 
         } catch (Exception exception){
+            inFlightParts.cancelAndAwait(futures);
+            IOUtils.closeQuietly(channel, LOG);
             FileLocks.unlock(dstfile);
             throw exception;
         }
     }
 
+    /**
+     * Downloads each range of the encrypted object into the different parts of the destination file in parallel,
+     * each range being decrypted on its own. The tag of the object is verified once every range has completed.
+     * A paused download starts over from the first range, since the tag can only be verified from all of them.
+     */
+    private void downloadDecryptedRangesInParallel() throws Exception {
+        createParentDirectoryIfNecessary(dstfile);
+
+        if (!FileLocks.lock(dstfile)) {
+            throw new FileLockException("Fail to lock " + dstfile);
+        }
+
+        InFlightParts inFlightParts = new InFlightParts();
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(dstfile.toPath(), StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                                       StandardOpenOption.TRUNCATE_EXISTING);
+            if (bufferPool == null) {
+                // Every range opens the destination file on its own
+                channel.close();
+                channel = null;
+            }
+
+            for (int i = 1; i <= rangedDecryption.getRangeCount(); i++) {
+                long position = rangedDecryption.getRangeStart(i);
+                Callable<S3Object> rangeCall = rangeCall(newRangeRequest(), i);
+                DownloadS3ObjectCallable rangeCallable = channel == null
+                    ? new DownloadS3ObjectCallable(rangeCall, dstfile, position)
+                    : new DownloadS3ObjectCallable(rangeCall, channel, bufferPool, position);
+                rangeCallable.withInFlightParts(inFlightParts);
+                futures.add(adaptiveController == null
+                        ? executor.submit(rangeCallable)
+                        : adaptiveController.submit(executor, rangeCallable.withAdaptiveController(adaptiveController)));
+            }
+
+            Future<File> future = executor.submit(new CompleteRangedDownload(futures, dstfile, download,
+                                                                             rangedDecryption, channel, inFlightParts));
+            ((DownloadMonitor) download.getMonitor()).setFuture(future);
+
+        } catch (Exception exception) {
+            inFlightParts.cancelAndAwait(futures);
+            IOUtils.closeQuietly(channel, LOG);
+            FileLocks.unlock(dstfile);
+            throw exception;
+        }
+    }
+
+    /**
+     * Returns a request for a part or a range of the object, with the same constraints as the original request.
+     */
+    private GetObjectRequest newPartRequest() {
+        GetObjectRequest getPartRequest = new GetObjectRequest(req.getBucketName(), req.getKey(),
+                                                               req.getVersionId()).withUnmodifiedSinceConstraint(req.getUnmodifiedSinceConstraint())
+                                                                                  .withModifiedSinceConstraint(req.getModifiedSinceConstraint())
+                                                                                  .withResponseHeaders(req.getResponseHeaders()).withSSECustomerKey(req.getSSECustomerKey())
+                                                                                  .withGeneralProgressListener(req.getGeneralProgressListener());
+
+        getPartRequest.setMatchingETagConstraints(req.getMatchingETagConstraints());
+        getPartRequest.setNonmatchingETagConstraints(req.getNonmatchingETagConstraints());
+        getPartRequest.setRequesterPays(req.isRequesterPays());
+        getPartRequest.setRequestCredentialsProvider(req.getRequestCredentialsProvider());
+        return getPartRequest;
+    }
+
+    /**
+     * Returns a request for a range of the encrypted object, which only matches the version of the object whose
+     * ranges are decrypted, so that a range cannot be retrieved from an object overwritten during the download.
+     */
+    private GetObjectRequest newRangeRequest() {
+        GetObjectRequest getRangeRequest = newPartRequest();
+        String eTag = rangedDecryption.getETag();
+        List<String> matchingETags = req.getMatchingETagConstraints();
+        // An original constraint excluding this ETag is kept, so that the ranges fail as the object would
+        if (eTag != null && (matchingETags == null || matchingETags.isEmpty() || matchingETags.contains(eTag))) {
+            getRangeRequest.setMatchingETagConstraints(new ArrayList<String>());
+            getRangeRequest.withMatchingETagConstraint(eTag);
+        }
+        return getRangeRequest;
+    }
+
+    /**
+     * Returns a Callable to retrieve the given range of the encrypted object with the given request.
+     */
+    private Callable<S3Object> rangeCall(final GetObjectRequest request, final int rangeNumber) {
+        return new Callable<S3Object>() {
+            @Override
+            public S3Object call() throws Exception {
+                S3Object range = rangedDecryption.getRange(request, rangeNumber);
+                if (range == null) {
+                    throw new SdkClientException("Range " + rangeNumber + " of " + req.getKey()
+                            + " does not meet the constraints of the request, the object may have been modified"
+                            + " during the download");
+                }
+                return range;
+            }
+        };
+    }
+
     /**
      * Returns a Callable to execute {@link AmazonS3#getObject(GetObjectRequest)} with given request.
      */
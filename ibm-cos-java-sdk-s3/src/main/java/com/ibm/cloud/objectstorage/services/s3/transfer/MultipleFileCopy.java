@@ -0,0 +1,49 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.transfer;
+
+/**
+ * Server-side copy of all the objects under a key prefix to another bucket or
+ * key prefix.
+ *
+ * @see TransferManager#copyDirectory(String, String, String, String, java.io.File)
+ */
+public interface MultipleFileCopy extends Transfer {
+
+    /**
+     * Returns the name of the bucket from which objects are copied.
+     */
+    public String getSourceBucketName();
+
+    /**
+     * Returns the key prefix of the objects being copied.
+     */
+    public String getSourcePrefix();
+
+    /**
+     * Returns the name of the bucket to which objects are copied.
+     */
+    public String getDestinationBucketName();
+
+    /**
+     * Returns the key prefix that replaces the source prefix in the keys of
+     * the copies.
+     */
+    public String getDestinationPrefix();
+
+    /**
+     * Stops starting new copies. Copies already started run to completion,
+     * after which this transfer is canceled.
+     */
+    public void abort();
+}
@@ -36,6 +36,7 @@ import com.ibm.cloud.objectstorage.services.s3.internal.FileLocks;
 import com.ibm.cloud.objectstorage.services.s3.internal.Mimetypes;
 import com.ibm.cloud.objectstorage.services.s3.internal.RequestCopyUtils;
 import com.ibm.cloud.objectstorage.services.s3.internal.ServiceUtils;
+import com.ibm.cloud.objectstorage.services.s3.internal.crypto.v1.RangedDownloadGcmContext;
 import com.ibm.cloud.objectstorage.services.s3.model.AbortMultipartUploadRequest;
 import com.ibm.cloud.objectstorage.services.s3.model.CannedAccessControlList;
 import com.ibm.cloud.objectstorage.services.s3.model.AmazonS3Exception;
@@ -57,11 +58,15 @@ import com.ibm.cloud.objectstorage.services.s3.model.S3ObjectInputStream;
 import com.ibm.cloud.objectstorage.services.s3.model.S3ObjectSummary;
 import com.ibm.cloud.objectstorage.services.s3.transfer.Transfer.TransferState;
 import com.ibm.cloud.objectstorage.services.s3.transfer.exception.FileLockException;
+import com.ibm.cloud.objectstorage.services.s3.transfer.internal.AdaptiveTransferController;
 import com.ibm.cloud.objectstorage.services.s3.transfer.internal.CopyCallable;
+import com.ibm.cloud.objectstorage.services.s3.transfer.internal.CopyCheckpoint;
 import com.ibm.cloud.objectstorage.services.s3.transfer.internal.CopyImpl;
 import com.ibm.cloud.objectstorage.services.s3.transfer.internal.CopyMonitor;
+import com.ibm.cloud.objectstorage.services.s3.transfer.internal.DownloadBufferPool;
 import com.ibm.cloud.objectstorage.services.s3.transfer.internal.DownloadImpl;
 import com.ibm.cloud.objectstorage.services.s3.transfer.internal.DownloadMonitor;
+import com.ibm.cloud.objectstorage.services.s3.transfer.internal.MultipleFileCopyImpl;
 import com.ibm.cloud.objectstorage.services.s3.transfer.internal.MultipleFileDownloadImpl;
 import com.ibm.cloud.objectstorage.services.s3.transfer.internal.MultipleFileTransferMonitor;
 import com.ibm.cloud.objectstorage.services.s3.transfer.internal.MultipleFileUploadImpl;
@@ -70,6 +75,8 @@ import com.ibm.cloud.objectstorage.services.s3.transfer.internal.PresignUrlDownl
 import com.ibm.cloud.objectstorage.services.s3.transfer.internal.PresignedUrlDownloadImpl;
 import com.ibm.cloud.objectstorage.services.s3.transfer.internal.S3ProgressListener;
 import com.ibm.cloud.objectstorage.services.s3.transfer.internal.S3ProgressListenerChain;
+import com.ibm.cloud.objectstorage.services.s3.transfer.internal.StreamingMultipleFileDownloadImpl;
+import com.ibm.cloud.objectstorage.services.s3.transfer.internal.StreamingMultipleFileUploadImpl;
 import com.ibm.cloud.objectstorage.services.s3.transfer.internal.TransferManagerUtils;
 import com.ibm.cloud.objectstorage.services.s3.transfer.internal.TransferProgressUpdatingListener;
 import com.ibm.cloud.objectstorage.services.s3.transfer.internal.TransferStateChangeListener;
@@ -169,6 +176,15 @@ public class TransferManager {
     /** The thread pool in which transfers are uploaded or downloaded. */
     private final ExecutorService executorService;
 
+    /** Buffers shared by parallel part downloads, created on first use from the configuration. */
+    private DownloadBufferPool downloadBufferPool;
+
+    /** Part size and concurrency controller shared by all transfers, created on first use when enabled. */
+    private AdaptiveTransferController adaptiveController;
+
+    /** Part size and concurrency controller of multipart copies, which run much faster than other transfers. */
+    private AdaptiveTransferController copyAdaptiveController;
+
     /**
      * Thread used for periodically checking transfers and updating their state, as well as enforcing
      * timeouts.
@@ -391,6 +407,71 @@ public class TransferManager {
         return s3;
     }
 
+    /**
+     * Returns the fraction of buffers requested by parallel part downloads that
+     * were served from the download buffer pool rather than newly allocated.
+     *
+     * @return The hit rate of the download buffer pool, between 0.0 and 1.0,
+     *         or 0.0 if no parallel download has used the pool yet.
+     * @see TransferManagerConfiguration#setDownloadBufferPoolSize(int)
+     */
+    public synchronized double getDownloadBufferPoolHitRate() {
+        return downloadBufferPool == null ? 0.0 : downloadBufferPool.getHitRate();
+    }
+
+    /**
+     * Returns the download buffer pool matching the current configuration,
+     * replacing the previous pool if the configuration has changed, or null
+     * if pooling is disabled.
+     */
+    private synchronized DownloadBufferPool resolveDownloadBufferPool() {
+        int poolSize = configuration.getDownloadBufferPoolSize();
+        if (poolSize == 0) {
+            return null;
+        }
+        int bufferSize = configuration.getDownloadBufferSize();
+        boolean direct = configuration.isDirectDownloadBuffers();
+        if (downloadBufferPool == null || !downloadBufferPool.matches(bufferSize, poolSize, direct)) {
+            downloadBufferPool = new DownloadBufferPool(bufferSize, poolSize, direct);
+        }
+        return downloadBufferPool;
+    }
+
+    /**
+     * Returns the adaptive transfer controller if adaptive transfers are
+     * enabled, replacing the previous controller if its maximum concurrency or
+     * minimum part size has changed, or null otherwise.
+     */
+    private synchronized AdaptiveTransferController resolveAdaptiveController() {
+        if (!configuration.isAdaptiveTransfers()) {
+            return null;
+        }
+        int maxConcurrency = configuration.getAdaptiveMaximumConcurrency();
+        long minimumPartSize = configuration.getMinimumUploadPartSize();
+        if (adaptiveController == null || !adaptiveController.matches(maxConcurrency, minimumPartSize)) {
+            adaptiveController = new AdaptiveTransferController(maxConcurrency, minimumPartSize);
+        }
+        return adaptiveController;
+    }
+
+    /**
+     * Returns the adaptive transfer controller of multipart copies if adaptive
+     * transfers are enabled, replacing the previous controller if its maximum
+     * concurrency or part size has changed, or null otherwise. Recommended
+     * part sizes are never smaller than the configured copy part size.
+     */
+    private synchronized AdaptiveTransferController resolveCopyAdaptiveController() {
+        if (!configuration.isAdaptiveTransfers()) {
+            return null;
+        }
+        int maxConcurrency = configuration.getAdaptiveMaximumConcurrency();
+        long partSize = configuration.getMultipartCopyPartSize();
+        if (copyAdaptiveController == null || !copyAdaptiveController.matches(maxConcurrency, partSize)) {
+            copyAdaptiveController = new AdaptiveTransferController(maxConcurrency, partSize);
+        }
+        return copyAdaptiveController;
+    }
+
     /**
      * <p>
      * Schedules a new transfer to upload data to Amazon S3. This method is
@@ -406,6 +487,8 @@ public class TransferManager {
      * contents in memory and upload the options as a traditional, single part
      * upload. Because the entire stream contents must be buffered in memory,
      * this can be very expensive, and should be avoided whenever possible.
+     * Alternatively, enable {@link TransferManagerConfiguration#setStreamingUploads(boolean)}
+     * to upload such streams in parts as they are read, with bounded memory.
      * </p>
      * <p>
      * Use the returned <code>Upload</code> object to query the progress of the
@@ -654,13 +737,7 @@ public class TransferManager {
         File file = TransferManagerUtils.getRequestFile(putObjectRequest);
 
         if ( file != null ) {
-            // Always set the content length, even if it's already set
-            metadata.setContentLength(file.length());
-
-            // Only set the content type if it hasn't already been set
-            if ( metadata.getContentType() == null ) {
-                metadata.setContentType(Mimetypes.getInstance().getMimetype(file));
-            }
+            setFileMetadata(metadata, file);
         } else {
             if (multipartUploadId != null) {
                 throw new IllegalArgumentException(
@@ -691,7 +768,7 @@ public class TransferManager {
          */
         UploadCallable uploadCallable = new UploadCallable(this, executorService,
                                                            upload, putObjectRequest, listenerChain, multipartUploadId,
-                                                           transferProgress);
+                                                           transferProgress, resolveAdaptiveController());
         UploadMonitor watcher = UploadMonitor.create(this, upload, executorService,
                                                      uploadCallable, putObjectRequest, listenerChain);
         upload.setMonitor(watcher);
@@ -699,6 +776,20 @@ public class TransferManager {
         return upload;
     }
 
+    /**
+     * Sets the content length of the metadata of a file upload, and its
+     * content type if it hasn't already been set.
+     */
+    private static void setFileMetadata(ObjectMetadata metadata, File file) {
+        // Always set the content length, even if it's already set
+        metadata.setContentLength(file.length());
+
+        // Only set the content type if it hasn't already been set
+        if ( metadata.getContentType() == null ) {
+            metadata.setContentType(Mimetypes.getInstance().getMimetype(file));
+        }
+    }
+
     /**
      * Schedules a new transfer to download data from Amazon S3 and save it to
      * the specified file. This method is non-blocking and returns immediately
@@ -1113,8 +1204,16 @@ public class TransferManager {
         }
 
         final long origStartingByte = startingByte;
-        final boolean isDownloadParallel = !configuration.isDisableParallelDownloads()
+        final boolean isPartDownloadParallel = !configuration.isDisableParallelDownloads()
                 && TransferManagerUtils.isDownloadParallelizable(s3, getObjectRequest, ServiceUtils.getPartCount(getObjectRequest, s3));
+        // Objects encrypted with AES/GCM are downloaded in ranges decrypted in parallel instead of parts
+        final RangedDownloadGcmContext rangedDecryption = isPartDownloadParallel
+                || configuration.isDisableParallelDownloads()
+                || objectMetadata.getContentLength() <= configuration.getEncryptedDownloadRangeSize()
+                ? null
+                : TransferManagerUtils.newRangedDecryptionContext(s3, getObjectRequest,
+                        configuration.getEncryptedDownloadRangeSize());
+        final boolean isDownloadParallel = isPartDownloadParallel || rangedDecryption != null;
 
         // We still pass the unfiltered listener chain into DownloadImpl
         final DownloadImpl download = new DownloadImpl(description, transferProgress, listenerChain, null,
@@ -1182,8 +1281,10 @@ public class TransferManager {
         DownloadCallable downloadCallable = new DownloadCallable(s3, latch,
                 getObjectRequest, resumeExistingDownload,
                 download, file, origStartingByte, fileLength, timeoutMillis, timedThreadPool,
-                executorService, lastFullyDownloadedPart, isDownloadParallel, resumeOnRetry)
-                .withLastFullyMergedPartPosition(lastFullyDownloadedPartPosition);
+                executorService, lastFullyDownloadedPart, isDownloadParallel, resumeOnRetry,
+                isDownloadParallel ? resolveDownloadBufferPool() : null, resolveAdaptiveController())
+                .withLastFullyMergedPartPosition(lastFullyDownloadedPartPosition)
+                .withRangedDecryption(rangedDecryption);
 
         return new PreparedDownloadContext(download, downloadCallable, latch);
     }
@@ -1293,7 +1394,9 @@ public class TransferManager {
         Future<File> future = executorService.submit(
             new PresignUrlDownloadCallable(executorService, destFile, latch, download, isDownloadParallel, timedThreadPool,
                                            downloadContext.getTimeoutMillis(), s3, request, perRequestDownloadSize,
-                                           startByte, endByte, downloadContext.isResumeOnRetry()));
+                                           startByte, endByte, downloadContext.isResumeOnRetry(),
+                                           isDownloadParallel ? resolveDownloadBufferPool() : null,
+                                           resolveAdaptiveController()));
 
         download.setMonitor(new DownloadMonitor(download, future));
         latch.countDown();
@@ -1360,6 +1463,28 @@ public class TransferManager {
      * keyPrefix given to the destination directory given. All virtual
      * subdirectories will be downloaded recursively.
      * <p>
+     * By default, the whole virtual directory is listed before any object is
+     * downloaded, and an error listing it, or a key whose relative path
+     * resolves outside the destination directory, is thrown by this method.
+     * </p>
+     * <p>
+     * When {@link TransferManagerConfiguration#setStreamingDirectoryDownloads(boolean)}
+     * is enabled, objects are downloaded while the virtual directory is still
+     * being listed, with at most
+     * {@link TransferManagerConfiguration#getDirectoryTransferQueueSize()}
+     * files queued or in progress. The total bytes to transfer then grows as
+     * objects are listed, and these errors fail the returned transfer instead
+     * of being thrown by this method.
+     * </p>
+     * <p>
+     * When streaming directory downloads are enabled and
+     * {@link TransferManagerConfiguration#setSmallObjectThreshold(long)}
+     * is set, objects at or below that size are downloaded with a single GET
+     * request and report progress only through the returned transfer. They
+     * have no {@link Download} of their own and cannot be paused or resumed
+     * individually.
+     * </p>
+     * <p>
      * If you are downloading <a href="http://aws.amazon.com/kms/">Amazon Web Services
      * KMS</a>-encrypted objects, you need to specify the correct region of the
      * bucket on your client and configure Amazon Web Services Signature Version 4 for added
@@ -1394,6 +1519,9 @@ public class TransferManager {
         if ( filter == null ) {
             filter = KeyFilter.INCLUDE_ALL;
         }
+        if ( configuration.isStreamingDirectoryDownloads() ) {
+            return streamDirectoryDownload(bucketName, keyPrefix, destinationDirectory, resumeOnRetry, filter);
+        }
         List<S3ObjectSummary> objectSummaries = new LinkedList<S3ObjectSummary>();
         Stack<String> commonPrefixes = new Stack<String>();
         commonPrefixes.add(keyPrefix);
@@ -1526,6 +1654,99 @@ public class TransferManager {
         }
     }
 
+    /**
+     * Downloads the objects of a virtual directory while it is being listed.
+     */
+    private MultipleFileDownload streamDirectoryDownload(String bucketName, String keyPrefix,
+                                                         final File destinationDirectory, final boolean resumeOnRetry,
+                                                         KeyFilter filter) {
+        /* This is the hook for adding additional progress listeners */
+        ProgressListenerChain additionalListeners = new ProgressListenerChain();
+
+        TransferProgress transferProgress = new TransferProgress();
+        /*
+         * Bind additional progress listeners to this
+         * MultipleFileTransferProgressUpdatingListener to receive
+         * ByteTransferred events from each single-file download implementation.
+         */
+        final ProgressListener listener = new MultipleFileTransferProgressUpdatingListener(
+                transferProgress, additionalListeners);
+
+        String description = "Downloading from " + bucketName + "/" + keyPrefix;
+        final StreamingMultipleFileDownloadImpl multipleFileDownload = new StreamingMultipleFileDownloadImpl(
+                description, transferProgress, additionalListeners, keyPrefix, bucketName,
+                configuration.getDirectoryTransferQueueSize());
+
+        final long smallObjectThreshold = configuration.getSmallObjectThreshold();
+        // Blocks the COMPLETE events of the single GET of each small object
+        final ProgressListener smallObjectListener = new ProgressListenerChain(new TransferCompletionFilter(),
+                                                                               listener);
+
+        // Objects are downloaded as soon as they are listed
+        new DirectoryDownloadLister(s3, bucketName, keyPrefix, destinationDirectory, filter, multipleFileDownload,
+                                    executorService) {
+            @Override
+            protected void startDownload(S3ObjectSummary summary) {
+                // TODO: non-standard delimiters
+                File f = new File(destinationDirectory, summary.getKey());
+                File parentFile = f.getParentFile();
+
+                // Other downloads may create the same parent directories concurrently
+                if ( !parentFile.mkdirs() && !parentFile.isDirectory() ) {
+                    throw new RuntimeException("Couldn't create parent directories for " + f.getAbsolutePath());
+                }
+
+                if (smallObjectThreshold > 0 && summary.getSize() <= smallObjectThreshold) {
+                    downloadSmallObject(summary, f);
+                    return;
+                }
+
+                // All the single-file downloads share the same
+                // MultipleFileTransferProgressUpdatingListener and
+                // state change listener of the directory download
+                GetObjectRequest req = new GetObjectRequest(summary.getBucketName(), summary.getKey())
+                        .<GetObjectRequest>withGeneralProgressListener(listener);
+
+                PreparedDownloadContext ctx = prepareDownload(req, f, multipleFileDownload.getStateChangeListener(),
+                                                              null, false, 0, null, 0L, resumeOnRetry, null);
+
+                // Keeps an abort from seeing the download before it is submitted
+                synchronized (multipleFileDownload) {
+                    if (multipleFileDownload.addDownload(ctx.getTransfer())) {
+                        try {
+                            submitDownload(ctx);
+                        } catch (RuntimeException e) {
+                            multipleFileDownload.failedToSubmit(ctx.getTransfer(), e);
+                        }
+                    }
+                }
+            }
+
+            /**
+             * Small objects are downloaded in a single GET, without the HEAD
+             * requests and the Download of their own that a single-file
+             * download needs.
+             */
+            private void downloadSmallObject(S3ObjectSummary summary, File f) {
+                if (!multipleFileDownload.startFile()) {
+                    return;
+                }
+                try {
+                    GetObjectRequest req = new GetObjectRequest(summary.getBucketName(), summary.getKey())
+                            .<GetObjectRequest>withGeneralProgressListener(smallObjectListener);
+                    appendSingleObjectUserAgent(req);
+                    s3.getObject(req, f);
+                } catch (Throwable t) {
+                    multipleFileDownload.fileDone(t);
+                    return;
+                }
+                multipleFileDownload.fileDone(null);
+            }
+        }.start();
+
+        return multipleFileDownload;
+    }
+
     /**
      * Uploads all files in the directory given to the bucket named, optionally
      * recursing for all subdirectories.
@@ -1643,6 +1864,16 @@ public class TransferManager {
      * just as when uploading individual files, so use with caution.
      * </p>
      * <p>
+     * When {@link TransferManagerConfiguration#setStreamingDirectoryUploads(boolean)}
+     * is enabled, files are uploaded while the directory is still being
+     * walked, with at most
+     * {@link TransferManagerConfiguration#getDirectoryTransferQueueSize()}
+     * files queued or in progress. The total bytes to transfer then grows as
+     * files are found. Files uploaded in a single request are only accounted
+     * for in the progress of the returned transfer, whose sub-transfers are the
+     * multipart uploads in progress.
+     * </p>
+     * <p>
      * If you are uploading <a href="http://aws.amazon.com/kms/">Amazon Web Services
      * KMS</a>-encrypted objects, you need to specify the correct region of the
      * bucket on your client and configure Amazon Web Services Signature Version 4 for added
@@ -1681,12 +1912,82 @@ public class TransferManager {
 
         assertNotObjectLambdaArn(bucketName, "uploadDirectory");
 
+        if ( configuration.isStreamingDirectoryUploads() ) {
+            return streamDirectoryUpload(bucketName, virtualDirectoryKeyPrefix, directory, includeSubdirectories,
+                                         metadataProvider, taggingProvider, cannedAclProvider);
+        }
+
         List<File> files = new LinkedList<File>();
         listFiles(directory, files, includeSubdirectories);
 
         return uploadFileList(bucketName, virtualDirectoryKeyPrefix, directory, files, metadataProvider, taggingProvider, cannedAclProvider);
     }
 
+    /**
+     * Uploads the files of a directory while it is being walked.
+     */
+    private MultipleFileUpload streamDirectoryUpload(final String bucketName, String virtualDirectoryKeyPrefix,
+            File directory, boolean includeSubdirectories, final ObjectMetadataProvider metadataProvider,
+            final ObjectTaggingProvider taggingProvider, final ObjectCannedAclProvider cannedAclProvider) {
+        final String keyPrefix = toVirtualDirectoryKeyPrefix(virtualDirectoryKeyPrefix);
+
+        /* This is the hook for adding additional progress listeners */
+        ProgressListenerChain additionalListeners = new ProgressListenerChain();
+        TransferProgress progress = new TransferProgress();
+        /*
+         * Bind additional progress listeners to this
+         * MultipleFileTransferProgressUpdatingListener to receive
+         * ByteTransferred events from each single-file upload.
+         */
+        final ProgressListener listener = new MultipleFileTransferProgressUpdatingListener(
+                progress, additionalListeners);
+
+        final StreamingMultipleFileUploadImpl multipleFileUpload = new StreamingMultipleFileUploadImpl(
+                "Uploading etc", progress, additionalListeners, keyPrefix, bucketName,
+                configuration.getDirectoryTransferQueueSize());
+        final int startingPosition = getKeyStartingPosition(directory);
+
+        // Files are uploaded as soon as they are found
+        new DirectoryUploadWalker(directory, includeSubdirectories, multipleFileUpload, executorService) {
+            @Override
+            protected void startUpload(File f) {
+                String key = f.getAbsolutePath()
+                        .substring(startingPosition)
+                        .replaceAll("\\\\", "/");
+                PutObjectRequest request = newFileUploadRequest(bucketName, keyPrefix, key, f,
+                        metadataProvider, taggingProvider, cannedAclProvider, listener);
+
+                if (!multipleFileUpload.startFile()) {
+                    return;
+                }
+                if (TransferManagerUtils.shouldUseMultipartUpload(request, configuration)) {
+                    // Holds the lock so that the upload can't be done before it is added
+                    synchronized (multipleFileUpload) {
+                        try {
+                            multipleFileUpload.addUpload((UploadImpl) doUpload(
+                                    request, multipleFileUpload.getStateChangeListener(), null, null));
+                        } catch (Throwable t) {
+                            multipleFileUpload.fileDone(t);
+                        }
+                    }
+                } else {
+                    // Files uploaded in a single request don't need an Upload of their own
+                    try {
+                        appendSingleObjectUserAgent(request);
+                        setFileMetadata(request.getMetadata(), f);
+                        s3.putObject(request);
+                    } catch (Throwable t) {
+                        multipleFileUpload.fileDone(t);
+                        return;
+                    }
+                    multipleFileUpload.fileDone(null);
+                }
+            }
+        }.start();
+
+        return multipleFileUpload;
+    }
+
     /**
      * Uploads all specified files to the bucket named, constructing
      * relative keys depending on the commonParentDirectory given.
@@ -1852,11 +2153,7 @@ public class TransferManager {
 
         assertNotObjectLambdaArn(bucketName, "uploadFileList");
 
-        if (virtualDirectoryKeyPrefix == null || virtualDirectoryKeyPrefix.length() == 0) {
-            virtualDirectoryKeyPrefix = "";
-        } else if ( !virtualDirectoryKeyPrefix.endsWith("/") ) {
-            virtualDirectoryKeyPrefix = virtualDirectoryKeyPrefix + "/";
-        }
+        virtualDirectoryKeyPrefix = toVirtualDirectoryKeyPrefix(virtualDirectoryKeyPrefix);
 
         /* This is the hook for adding additional progress listeners */
         ProgressListenerChain additionalListeners = new ProgressListenerChain();
@@ -1878,16 +2175,7 @@ public class TransferManager {
         if (files == null || files.isEmpty()) {
             multipleFileUpload.setState(TransferState.Completed);
         } else {
-            /*
-             * If the absolute path for the common/base directory does NOT end
-             * in a separator (which is the case for anything but root
-             * directories), then we know there's still a separator between the
-             * base directory and the rest of the file's path, so we increment
-             * the starting position by one.
-             */
-            int startingPosition = directory.getAbsolutePath().length();
-            if (!(directory.getAbsolutePath().endsWith(File.separator)))
-                startingPosition++;
+            int startingPosition = getKeyStartingPosition(directory);
 
             long totalSize = 0;
             for (File f : files) {
@@ -1899,41 +2187,12 @@ public class TransferManager {
                             .substring(startingPosition)
                             .replaceAll("\\\\", "/");
 
-                    UploadContext uploadContext = new UploadContext(f, bucketName, key);
-                    ObjectMetadata metadata = new ObjectMetadata();
-                    CannedAccessControlList cannedAcl = null;
-                    ObjectTagging objectTagging = null;
-
-                    // Invoke the callback if it's present.
-                    // The callback allows the user to customize the metadata
-                    // for each file being uploaded.
-                    if (metadataProvider != null) {
-                        metadataProvider.provideObjectMetadata(f, metadata);
-                    }
-                    // Invoke the callback if it's present.
-                    // The callback allows the user to customize the tags
-                    // for each file being uploaded.
-                    if (taggingProvider != null) {
-                        objectTagging = taggingProvider.provideObjectTags(uploadContext);
-                    }
-                    // Invoke the callback if it's present.
-                    // The callback allows the user to customize the canned
-                    // acl for each file being uploaded.
-                    if (cannedAclProvider != null) {
-                        cannedAcl = cannedAclProvider.provideObjectCannedAcl(f);
-                    }
-
                     // All the single-file uploads share the same
                     // MultipleFileTransferProgressUpdatingListener and
                     // MultipleFileTransferStateChangeListener
                     uploads.add((UploadImpl) doUpload(
-                            new PutObjectRequest(bucketName,
-                                    virtualDirectoryKeyPrefix + key, f)
-                                    .withMetadata(metadata)
-                                    .withTagging(objectTagging)
-                                    .withCannedAcl(cannedAcl)
-                                    .<PutObjectRequest> withGeneralProgressListener(
-                                            listener), transferListener, null, null));
+                            newFileUploadRequest(bucketName, virtualDirectoryKeyPrefix, key, f, metadataProvider,
+                                    taggingProvider, cannedAclProvider, listener), transferListener, null, null));
                 }
             }
             progress.setTotalBytesToTransfer(totalSize);
@@ -1964,6 +2223,75 @@ public class TransferManager {
         }
     }
 
+    /**
+     * Returns the key prefix of the virtual directory files are uploaded to,
+     * which is either empty or ends with a slash.
+     */
+    private static String toVirtualDirectoryKeyPrefix(String virtualDirectoryKeyPrefix) {
+        if (virtualDirectoryKeyPrefix == null || virtualDirectoryKeyPrefix.length() == 0) {
+            return "";
+        } else if ( !virtualDirectoryKeyPrefix.endsWith("/") ) {
+            return virtualDirectoryKeyPrefix + "/";
+        }
+        return virtualDirectoryKeyPrefix;
+    }
+
+    /**
+     * Returns the position in the absolute path of a file in the given
+     * directory at which its key starts.
+     */
+    private static int getKeyStartingPosition(File directory) {
+        /*
+         * If the absolute path for the common/base directory does NOT end
+         * in a separator (which is the case for anything but root
+         * directories), then we know there's still a separator between the
+         * base directory and the rest of the file's path, so we increment
+         * the starting position by one.
+         */
+        int startingPosition = directory.getAbsolutePath().length();
+        if (!(directory.getAbsolutePath().endsWith(File.separator)))
+            startingPosition++;
+        return startingPosition;
+    }
+
+    /**
+     * Returns the request to upload a file of a directory, customized by the
+     * callbacks that are present.
+     */
+    private static PutObjectRequest newFileUploadRequest(String bucketName, String virtualDirectoryKeyPrefix,
+            String key, File f, ObjectMetadataProvider metadataProvider, ObjectTaggingProvider taggingProvider,
+            ObjectCannedAclProvider cannedAclProvider, ProgressListener listener) {
+        UploadContext uploadContext = new UploadContext(f, bucketName, key);
+        ObjectMetadata metadata = new ObjectMetadata();
+        CannedAccessControlList cannedAcl = null;
+        ObjectTagging objectTagging = null;
+
+        // Invoke the callback if it's present.
+        // The callback allows the user to customize the metadata
+        // for each file being uploaded.
+        if (metadataProvider != null) {
+            metadataProvider.provideObjectMetadata(f, metadata);
+        }
+        // Invoke the callback if it's present.
+        // The callback allows the user to customize the tags
+        // for each file being uploaded.
+        if (taggingProvider != null) {
+            objectTagging = taggingProvider.provideObjectTags(uploadContext);
+        }
+        // Invoke the callback if it's present.
+        // The callback allows the user to customize the canned
+        // acl for each file being uploaded.
+        if (cannedAclProvider != null) {
+            cannedAcl = cannedAclProvider.provideObjectCannedAcl(f);
+        }
+
+        return new PutObjectRequest(bucketName, virtualDirectoryKeyPrefix + key, f)
+                .withMetadata(metadata)
+                .withTagging(objectTagging)
+                .withCannedAcl(cannedAcl)
+                .<PutObjectRequest> withGeneralProgressListener(listener);
+    }
+
     /**
      * <p>
      * Aborts any multipart uploads that were initiated before the specified date.
@@ -2309,7 +2637,8 @@ public class TransferManager {
         CopyImpl copy = new CopyImpl(description, transferProgress, listenerChain,
                                      stateChangeListener);
         CopyCallable copyCallable = new CopyCallable(this, executorService, copy, copyObjectRequest,
-                                                     metadata, listenerChain);
+                                                     metadata, listenerChain)
+                .withAdaptiveController(resolveCopyAdaptiveController());
         CopyMonitor watcher = CopyMonitor
                 .create(this, copy, executorService, copyCallable, copyObjectRequest,
                         listenerChain);
@@ -2317,6 +2646,132 @@ public class TransferManager {
         return copy;
     }
 
+    /**
+     * Copies all the objects under a key prefix to another bucket or key
+     * prefix, on the server side. This method is non-blocking and returns
+     * immediately (i.e. before the copy has finished).
+     *
+     * @see TransferManager#copyDirectory(String, String, String, String, File)
+     */
+    public MultipleFileCopy copyDirectory(String sourceBucketName, String sourcePrefix,
+                                          String destinationBucketName, String destinationPrefix) {
+        return copyDirectory(sourceBucketName, sourcePrefix, destinationBucketName, destinationPrefix, null);
+    }
+
+    /**
+     * <p>
+     * Copies all the objects under a key prefix to another bucket or key
+     * prefix, on the server side. The key of each copy is the key of the
+     * source object with the source prefix replaced by the destination prefix.
+     * This method is non-blocking and returns immediately (i.e. before the
+     * copy has finished).
+     * </p>
+     * <p>
+     * The source is listed one page at a time and each object is copied as
+     * soon as it is listed, so that the memory used does not depend on the
+     * number of objects. At most
+     * {@link TransferManagerConfiguration#getDirectoryTransferQueueSize()}
+     * objects are copied at a time. Objects up to the multipart copy threshold
+     * are copied in a single blocking request each, on threads dedicated to
+     * this copy, so that as many of them as the queue size permits are in
+     * flight at once; these threads go away once the copy is over. Larger
+     * objects are copied in parts on the thread pool of this
+     * <code>TransferManager</code>, which bounds the number of part copies in
+     * flight, and the size of these parts adapts to the observed throughput
+     * when adaptive transfers are enabled. The first copy
+     * that fails stops the listing, and the copies already started run to
+     * completion before the transfer fails.
+     * </p>
+     * <p>
+     * Within the same bucket, the source and destination prefixes must not
+     * overlap, since the listing would otherwise pick up the copies, or the
+     * copies overwrite objects yet to be copied.
+     * </p>
+     * <p>
+     * If a checkpoint file is given, it records the last key up to which
+     * every object has been copied. A copy restarted with the same arguments
+     * after a crash or a failure lists the source after that key, and copies
+     * again only the objects that were in flight.
+     * </p>
+     *
+     * @param sourceBucketName
+     *            The name of the bucket to copy objects from.
+     * @param sourcePrefix
+     *            The key prefix of the objects to copy. Use the null or empty
+     *            string to copy the entire bucket.
+     * @param destinationBucketName
+     *            The name of the bucket to copy objects to.
+     * @param destinationPrefix
+     *            The key prefix replacing the source prefix in the keys of the
+     *            copies. Use the null or empty string to strip the source
+     *            prefix.
+     * @param checkpointFile
+     *            The file recording how far the copy has got, or null.
+     * @return A new <code>MultipleFileCopy</code> object to use to check the
+     *         state of the copy.
+     * @throws IllegalArgumentException
+     *             If the checkpoint file was written by a different copy, or
+     *             if the source and destination prefixes overlap within the
+     *             same bucket.
+     */
+    public MultipleFileCopy copyDirectory(final String sourceBucketName, String sourcePrefix,
+                                          final String destinationBucketName, String destinationPrefix,
+                                          File checkpointFile) {
+        assertNotObjectLambdaArn(sourceBucketName, "copyDirectory");
+        assertNotObjectLambdaArn(destinationBucketName, "copyDirectory");
+        assertParameterNotNull(sourceBucketName, "The source bucket name must be specified.");
+        assertParameterNotNull(destinationBucketName, "The destination bucket name must be specified.");
+
+        final String keyPrefix = sourcePrefix == null ? "" : sourcePrefix;
+        final String newKeyPrefix = destinationPrefix == null ? "" : destinationPrefix;
+        if (sourceBucketName.equals(destinationBucketName)
+            && (newKeyPrefix.startsWith(keyPrefix) || keyPrefix.startsWith(newKeyPrefix))) {
+            throw new IllegalArgumentException("The source prefix " + keyPrefix + " and destination prefix "
+                                               + newKeyPrefix + " overlap in bucket " + sourceBucketName);
+        }
+        CopyCheckpoint checkpoint = checkpointFile == null
+                ? null
+                : CopyCheckpoint.load(checkpointFile, sourceBucketName, keyPrefix, destinationBucketName,
+                                      newKeyPrefix);
+
+        String description = "Copying objects from " + sourceBucketName + "/" + keyPrefix + " to "
+                             + destinationBucketName + "/" + newKeyPrefix;
+        final MultipleFileCopyImpl multipleFileCopy = new MultipleFileCopyImpl(
+                description, new TransferProgress(), new ProgressListenerChain(), sourceBucketName, keyPrefix,
+                destinationBucketName, newKeyPrefix, configuration.getDirectoryTransferQueueSize(), checkpoint);
+
+        new DirectoryCopyLister(s3, sourceBucketName, keyPrefix, checkpoint == null ? null : checkpoint.getMarker(),
+                                multipleFileCopy,
+                                TransferManagerUtils.createDirectoryCopyExecutorService(
+                                        configuration.getDirectoryTransferQueueSize())) {
+            @Override
+            protected void startCopy(S3ObjectSummary summary) {
+                String key = summary.getKey();
+                CopyObjectRequest request = new CopyObjectRequest(sourceBucketName, key, destinationBucketName,
+                        newKeyPrefix + key.substring(keyPrefix.length()));
+
+                if (!multipleFileCopy.startFile()) {
+                    return;
+                }
+                try {
+                    if (summary.getSize() > configuration.getMultipartCopyThreshold()) {
+                        copy(request, s3, multipleFileCopy.newStateChangeListener(key, summary.getSize()));
+                        return;
+                    }
+                    // Objects copied in a single request don't need a Copy of their own
+                    appendSingleObjectUserAgent(request);
+                    s3.copyObject(request);
+                } catch (Throwable t) {
+                    multipleFileCopy.fileDone(key, summary.getSize(), t);
+                    return;
+                }
+                multipleFileCopy.fileDone(key, summary.getSize(), null);
+            }
+        }.start();
+
+        return multipleFileCopy;
+    }
+
     /**
      * Resumes an upload operation. This upload operation uses the same
      * configuration {@link TransferManagerConfiguration} as the original
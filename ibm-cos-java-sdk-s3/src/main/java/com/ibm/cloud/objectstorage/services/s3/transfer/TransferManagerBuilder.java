@@ -63,6 +63,30 @@ public final class TransferManagerBuilder {
 
     private Boolean alwaysCalculateMultipartMd5;
 
+    private Integer downloadBufferSize;
+
+    private Integer downloadBufferPoolSize;
+
+    private Boolean directDownloadBuffers;
+
+    private Long encryptedDownloadRangeSize;
+
+    private Boolean adaptiveTransfers;
+
+    private Integer adaptiveMaximumConcurrency;
+
+    private Boolean streamingUploads;
+
+    private Integer streamingUploadConcurrency;
+
+    private Boolean streamingDirectoryDownloads;
+
+    private Boolean streamingDirectoryUploads;
+
+    private Integer directoryTransferQueueSize;
+
+    private Long smallObjectThreshold;
+
     /**
      * @return Create new instance of builder with all defaults set.
      */
@@ -450,6 +474,381 @@ public final class TransferManagerBuilder {
         return this;
     }
 
+    /**
+     * @return The size in bytes of the buffers through which parallel part
+     *         downloads are written to disk.
+     */
+    public Integer getDownloadBufferSize() {
+        return downloadBufferSize;
+    }
+
+    /**
+     * Sets the size in bytes of the buffers through which parallel part
+     * downloads are written to disk.
+     *
+     * @see TransferManagerConfiguration#setDownloadBufferSize(int)
+     * @param downloadBufferSize The download buffer size in bytes.
+     */
+    public void setDownloadBufferSize(Integer downloadBufferSize) {
+        this.downloadBufferSize = downloadBufferSize;
+    }
+
+    /**
+     * Sets the size in bytes of the buffers through which parallel part
+     * downloads are written to disk.
+     *
+     * @see TransferManagerConfiguration#setDownloadBufferSize(int)
+     * @param downloadBufferSize The download buffer size in bytes.
+     * @return This object for method chaining.
+     */
+    public TransferManagerBuilder withDownloadBufferSize(Integer downloadBufferSize) {
+        setDownloadBufferSize(downloadBufferSize);
+        return this;
+    }
+
+    /**
+     * @return The maximum number of idle download buffers kept for reuse.
+     */
+    public Integer getDownloadBufferPoolSize() {
+        return downloadBufferPoolSize;
+    }
+
+    /**
+     * Sets the maximum number of idle download buffers kept for reuse by
+     * parallel part downloads. Setting this value to 0 disables pooling.
+     *
+     * @see TransferManagerConfiguration#setDownloadBufferPoolSize(int)
+     * @param downloadBufferPoolSize The download buffer pool size.
+     */
+    public void setDownloadBufferPoolSize(Integer downloadBufferPoolSize) {
+        this.downloadBufferPoolSize = downloadBufferPoolSize;
+    }
+
+    /**
+     * Sets the maximum number of idle download buffers kept for reuse by
+     * parallel part downloads. Setting this value to 0 disables pooling.
+     *
+     * @see TransferManagerConfiguration#setDownloadBufferPoolSize(int)
+     * @param downloadBufferPoolSize The download buffer pool size.
+     * @return This object for method chaining.
+     */
+    public TransferManagerBuilder withDownloadBufferPoolSize(Integer downloadBufferPoolSize) {
+        setDownloadBufferPoolSize(downloadBufferPoolSize);
+        return this;
+    }
+
+    /**
+     * @return The size in bytes of the ranges in which encrypted objects are
+     *         downloaded in parallel.
+     */
+    public Long getEncryptedDownloadRangeSize() {
+        return encryptedDownloadRangeSize;
+    }
+
+    /**
+     * Sets the size in bytes of the ranges in which objects encrypted with
+     * AES/GCM are downloaded and decrypted in parallel.
+     *
+     * @see TransferManagerConfiguration#setEncryptedDownloadRangeSize(long)
+     * @param encryptedDownloadRangeSize The encrypted download range size in bytes.
+     */
+    public void setEncryptedDownloadRangeSize(Long encryptedDownloadRangeSize) {
+        this.encryptedDownloadRangeSize = encryptedDownloadRangeSize;
+    }
+
+    /**
+     * Sets the size in bytes of the ranges in which objects encrypted with
+     * AES/GCM are downloaded and decrypted in parallel.
+     *
+     * @see TransferManagerConfiguration#setEncryptedDownloadRangeSize(long)
+     * @param encryptedDownloadRangeSize The encrypted download range size in bytes.
+     * @return This object for method chaining.
+     */
+    public TransferManagerBuilder withEncryptedDownloadRangeSize(Long encryptedDownloadRangeSize) {
+        setEncryptedDownloadRangeSize(encryptedDownloadRangeSize);
+        return this;
+    }
+
+    /**
+     * @return true if pooled download buffers are allocated outside of the Java heap.
+     */
+    public Boolean isDirectDownloadBuffers() {
+        return directDownloadBuffers;
+    }
+
+    /**
+     * Sets the option to allocate pooled download buffers outside of the Java
+     * heap. By default, the value is set to false.
+     *
+     * @see TransferManagerConfiguration#setDirectDownloadBuffers(boolean)
+     * @param directDownloadBuffers boolean value to use direct buffers.
+     */
+    public void setDirectDownloadBuffers(Boolean directDownloadBuffers) {
+        this.directDownloadBuffers = directDownloadBuffers;
+    }
+
+    /**
+     * Sets the option to allocate pooled download buffers outside of the Java
+     * heap. By default, the value is set to false.
+     *
+     * @see TransferManagerConfiguration#setDirectDownloadBuffers(boolean)
+     * @param directDownloadBuffers boolean value to use direct buffers.
+     * @return This object for method chaining.
+     */
+    public TransferManagerBuilder withDirectDownloadBuffers(Boolean directDownloadBuffers) {
+        setDirectDownloadBuffers(directDownloadBuffers);
+        return this;
+    }
+
+    /**
+     * @return true if part sizes and the number of parts in flight are adapted
+     *         to the observed throughput and latency.
+     */
+    public Boolean isAdaptiveTransfers() {
+        return adaptiveTransfers;
+    }
+
+    /**
+     * Sets the option to adapt part sizes and the number of parts in flight to
+     * the observed throughput and latency. By default, the value is set to false.
+     *
+     * @see TransferManagerConfiguration#setAdaptiveTransfers(boolean)
+     * @param adaptiveTransfers boolean value to enable adaptive transfers.
+     */
+    public void setAdaptiveTransfers(Boolean adaptiveTransfers) {
+        this.adaptiveTransfers = adaptiveTransfers;
+    }
+
+    /**
+     * Sets the option to adapt part sizes and the number of parts in flight to
+     * the observed throughput and latency. By default, the value is set to false.
+     *
+     * @see TransferManagerConfiguration#setAdaptiveTransfers(boolean)
+     * @param adaptiveTransfers boolean value to enable adaptive transfers.
+     * @return This object for method chaining.
+     */
+    public TransferManagerBuilder withAdaptiveTransfers(Boolean adaptiveTransfers) {
+        setAdaptiveTransfers(adaptiveTransfers);
+        return this;
+    }
+
+    /**
+     * @return The maximum number of parts in flight when adaptive transfers are enabled.
+     */
+    public Integer getAdaptiveMaximumConcurrency() {
+        return adaptiveMaximumConcurrency;
+    }
+
+    /**
+     * Sets the maximum number of parts in flight when adaptive transfers are enabled.
+     *
+     * @see TransferManagerConfiguration#setAdaptiveMaximumConcurrency(int)
+     * @param adaptiveMaximumConcurrency The maximum number of parts in flight.
+     */
+    public void setAdaptiveMaximumConcurrency(Integer adaptiveMaximumConcurrency) {
+        this.adaptiveMaximumConcurrency = adaptiveMaximumConcurrency;
+    }
+
+    /**
+     * Sets the maximum number of parts in flight when adaptive transfers are enabled.
+     *
+     * @see TransferManagerConfiguration#setAdaptiveMaximumConcurrency(int)
+     * @param adaptiveMaximumConcurrency The maximum number of parts in flight.
+     * @return This object for method chaining.
+     */
+    public TransferManagerBuilder withAdaptiveMaximumConcurrency(Integer adaptiveMaximumConcurrency) {
+        setAdaptiveMaximumConcurrency(adaptiveMaximumConcurrency);
+        return this;
+    }
+
+    /**
+     * @return true if uploads from streams are read and uploaded one part at a time.
+     */
+    public Boolean isStreamingUploads() {
+        return streamingUploads;
+    }
+
+    /**
+     * Sets the option to upload streams one part at a time. By default, the
+     * value is set to false.
+     *
+     * @see TransferManagerConfiguration#setStreamingUploads(boolean)
+     * @param streamingUploads boolean value to enable streaming uploads.
+     */
+    public void setStreamingUploads(Boolean streamingUploads) {
+        this.streamingUploads = streamingUploads;
+    }
+
+    /**
+     * Sets the option to upload streams one part at a time. By default, the
+     * value is set to false.
+     *
+     * @see TransferManagerConfiguration#setStreamingUploads(boolean)
+     * @param streamingUploads boolean value to enable streaming uploads.
+     * @return This object for method chaining.
+     */
+    public TransferManagerBuilder withStreamingUploads(Boolean streamingUploads) {
+        setStreamingUploads(streamingUploads);
+        return this;
+    }
+
+    /**
+     * @return The maximum number of parts of a streaming upload held in memory.
+     */
+    public Integer getStreamingUploadConcurrency() {
+        return streamingUploadConcurrency;
+    }
+
+    /**
+     * Sets the maximum number of parts of a streaming upload held in memory.
+     *
+     * @see TransferManagerConfiguration#setStreamingUploadConcurrency(int)
+     * @param streamingUploadConcurrency The maximum number of parts in memory per streaming upload.
+     */
+    public void setStreamingUploadConcurrency(Integer streamingUploadConcurrency) {
+        this.streamingUploadConcurrency = streamingUploadConcurrency;
+    }
+
+    /**
+     * Sets the maximum number of parts of a streaming upload held in memory.
+     *
+     * @see TransferManagerConfiguration#setStreamingUploadConcurrency(int)
+     * @param streamingUploadConcurrency The maximum number of parts in memory per streaming upload.
+     * @return This object for method chaining.
+     */
+    public TransferManagerBuilder withStreamingUploadConcurrency(Integer streamingUploadConcurrency) {
+        setStreamingUploadConcurrency(streamingUploadConcurrency);
+        return this;
+    }
+
+    /**
+     * @return true if the objects of a directory download are downloaded while
+     *         the virtual directory is still being listed.
+     */
+    public Boolean isStreamingDirectoryDownloads() {
+        return streamingDirectoryDownloads;
+    }
+
+    /**
+     * Sets the option to download the objects of a virtual directory while it
+     * is being listed. By default, the value is set to false.
+     *
+     * @see TransferManagerConfiguration#setStreamingDirectoryDownloads(boolean)
+     * @param streamingDirectoryDownloads boolean value to enable streaming directory downloads.
+     */
+    public void setStreamingDirectoryDownloads(Boolean streamingDirectoryDownloads) {
+        this.streamingDirectoryDownloads = streamingDirectoryDownloads;
+    }
+
+    /**
+     * Sets the option to download the objects of a virtual directory while it
+     * is being listed. By default, the value is set to false.
+     *
+     * @see TransferManagerConfiguration#setStreamingDirectoryDownloads(boolean)
+     * @param streamingDirectoryDownloads boolean value to enable streaming directory downloads.
+     * @return This object for method chaining.
+     */
+    public TransferManagerBuilder withStreamingDirectoryDownloads(Boolean streamingDirectoryDownloads) {
+        setStreamingDirectoryDownloads(streamingDirectoryDownloads);
+        return this;
+    }
+
+    /**
+     * @return true if the files of a directory upload are uploaded while the
+     *         directory is still being walked.
+     */
+    public Boolean isStreamingDirectoryUploads() {
+        return streamingDirectoryUploads;
+    }
+
+    /**
+     * Sets the option to upload the files of a directory while it is being
+     * walked. By default, the value is set to false.
+     *
+     * @see TransferManagerConfiguration#setStreamingDirectoryUploads(boolean)
+     * @param streamingDirectoryUploads boolean value to enable streaming directory uploads.
+     */
+    public void setStreamingDirectoryUploads(Boolean streamingDirectoryUploads) {
+        this.streamingDirectoryUploads = streamingDirectoryUploads;
+    }
+
+    /**
+     * Sets the option to upload the files of a directory while it is being
+     * walked. By default, the value is set to false.
+     *
+     * @see TransferManagerConfiguration#setStreamingDirectoryUploads(boolean)
+     * @param streamingDirectoryUploads boolean value to enable streaming directory uploads.
+     * @return This object for method chaining.
+     */
+    public TransferManagerBuilder withStreamingDirectoryUploads(Boolean streamingDirectoryUploads) {
+        setStreamingDirectoryUploads(streamingDirectoryUploads);
+        return this;
+    }
+
+    /**
+     * @return The maximum number of files of a directory transfer that are
+     *         queued or in progress at a time.
+     */
+    public Integer getDirectoryTransferQueueSize() {
+        return directoryTransferQueueSize;
+    }
+
+    /**
+     * Sets the maximum number of files of a directory transfer that are queued
+     * or in progress at a time, while the directory is still being listed.
+     *
+     * @see TransferManagerConfiguration#setDirectoryTransferQueueSize(int)
+     * @param directoryTransferQueueSize The maximum number of pending files per directory transfer.
+     */
+    public void setDirectoryTransferQueueSize(Integer directoryTransferQueueSize) {
+        this.directoryTransferQueueSize = directoryTransferQueueSize;
+    }
+
+    /**
+     * Sets the maximum number of files of a directory transfer that are queued
+     * or in progress at a time, while the directory is still being listed.
+     *
+     * @see TransferManagerConfiguration#setDirectoryTransferQueueSize(int)
+     * @param directoryTransferQueueSize The maximum number of pending files per directory transfer.
+     * @return This object for method chaining.
+     */
+    public TransferManagerBuilder withDirectoryTransferQueueSize(Integer directoryTransferQueueSize) {
+        setDirectoryTransferQueueSize(directoryTransferQueueSize);
+        return this;
+    }
+
+    /**
+     * @return The size threshold, in bytes, at or below which the objects of
+     *         a directory download are downloaded in a single request.
+     */
+    public Long getSmallObjectThreshold() {
+        return smallObjectThreshold;
+    }
+
+    /**
+     * Sets the size threshold, in bytes, at or below which the objects of a
+     * directory download are downloaded in a single request.
+     *
+     * @see TransferManagerConfiguration#setSmallObjectThreshold(long)
+     * @param smallObjectThreshold The small object threshold, or 0 to disable it.
+     */
+    public void setSmallObjectThreshold(Long smallObjectThreshold) {
+        this.smallObjectThreshold = smallObjectThreshold;
+    }
+
+    /**
+     * Sets the size threshold, in bytes, at or below which the objects of a
+     * directory download are downloaded in a single request.
+     *
+     * @see TransferManagerConfiguration#setSmallObjectThreshold(long)
+     * @param smallObjectThreshold The small object threshold, or 0 to disable it.
+     * @return This object for method chaining.
+     */
+    public TransferManagerBuilder withSmallObjectThreshold(Long smallObjectThreshold) {
+        setSmallObjectThreshold(smallObjectThreshold);
+        return this;
+    }
+
     private TransferManagerConfiguration resolveConfiguration() {
         TransferManagerConfiguration configuration = new TransferManagerConfiguration();
         if (this.minimumUploadPartSize != null) {
@@ -470,6 +869,42 @@ public final class TransferManagerBuilder {
         if (this.alwaysCalculateMultipartMd5 != null) {
             configuration.setAlwaysCalculateMultipartMd5(alwaysCalculateMultipartMd5);
         }
+        if (this.downloadBufferSize != null) {
+            configuration.setDownloadBufferSize(downloadBufferSize);
+        }
+        if (this.downloadBufferPoolSize != null) {
+            configuration.setDownloadBufferPoolSize(downloadBufferPoolSize);
+        }
+        if (this.directDownloadBuffers != null) {
+            configuration.setDirectDownloadBuffers(directDownloadBuffers);
+        }
+        if (this.encryptedDownloadRangeSize != null) {
+            configuration.setEncryptedDownloadRangeSize(encryptedDownloadRangeSize);
+        }
+        if (this.adaptiveTransfers != null) {
+            configuration.setAdaptiveTransfers(adaptiveTransfers);
+        }
+        if (this.adaptiveMaximumConcurrency != null) {
+            configuration.setAdaptiveMaximumConcurrency(adaptiveMaximumConcurrency);
+        }
+        if (this.streamingUploads != null) {
+            configuration.setStreamingUploads(streamingUploads);
+        }
+        if (this.streamingUploadConcurrency != null) {
+            configuration.setStreamingUploadConcurrency(streamingUploadConcurrency);
+        }
+        if (this.streamingDirectoryDownloads != null) {
+            configuration.setStreamingDirectoryDownloads(streamingDirectoryDownloads);
+        }
+        if (this.streamingDirectoryUploads != null) {
+            configuration.setStreamingDirectoryUploads(streamingDirectoryUploads);
+        }
+        if (this.directoryTransferQueueSize != null) {
+            configuration.setDirectoryTransferQueueSize(directoryTransferQueueSize);
+        }
+        if (this.smallObjectThreshold != null) {
+            configuration.setSmallObjectThreshold(smallObjectThreshold);
+        }
         return configuration;
     }
 
@@ -45,6 +45,34 @@ public class TransferManagerConfiguration {
     @SdkTestInternalApi
     static final long DEFAULT_MINIMUM_COPY_PART_SIZE = 100 * MB;
 
+    /** Default size of the buffers used to write parallel part downloads to disk. */
+    @SdkTestInternalApi
+    static final int DEFAULT_DOWNLOAD_BUFFER_SIZE = 2 * MB;
+
+    /** Default size of the ranges in which encrypted objects are downloaded in parallel. */
+    @SdkTestInternalApi
+    static final long DEFAULT_ENCRYPTED_DOWNLOAD_RANGE_SIZE = 8 * MB;
+
+    /** Default number of idle download buffers retained for reuse. */
+    @SdkTestInternalApi
+    static final int DEFAULT_DOWNLOAD_BUFFER_POOL_SIZE = 10;
+
+    /** Default maximum number of parts in flight for adaptive transfers. */
+    @SdkTestInternalApi
+    static final int DEFAULT_ADAPTIVE_MAXIMUM_CONCURRENCY = 64;
+
+    /** Default maximum number of parts of a streaming upload held in memory. */
+    @SdkTestInternalApi
+    static final int DEFAULT_STREAMING_UPLOAD_CONCURRENCY = 4;
+
+    /** Default maximum number of files of a directory transfer queued or in progress. */
+    @SdkTestInternalApi
+    static final int DEFAULT_DIRECTORY_TRANSFER_QUEUE_SIZE = 1000;
+
+    /** Default size threshold, in bytes, at or below which directory downloads use a single GET; disabled. */
+    @SdkTestInternalApi
+    static final long DEFAULT_SMALL_OBJECT_THRESHOLD = 0;
+
     /**
      * The minimum part size for upload parts. Decreasing the minimum part size
      * will cause multipart uploads to be split into a larger number of smaller
@@ -111,6 +139,77 @@ public class TransferManagerConfiguration {
      */
     private boolean alwaysCalculateMultipartMd5 = false;
 
+    /**
+     * The size in bytes of the buffers through which parallel part downloads
+     * are written to the destination file.
+     */
+    private int downloadBufferSize = DEFAULT_DOWNLOAD_BUFFER_SIZE;
+
+    /**
+     * The maximum number of idle download buffers kept for reuse by later
+     * parts. Setting this to 0 disables pooling, in which case every part
+     * allocates its own buffer and opens its own handle to the destination file.
+     */
+    private int downloadBufferPoolSize = DEFAULT_DOWNLOAD_BUFFER_POOL_SIZE;
+
+    /**
+     * Option to allocate pooled download buffers outside of the Java heap.
+     * By default, the value is set to false.
+     */
+    private boolean directDownloadBuffers = false;
+
+    /**
+     * The size in bytes of the ranges in which objects encrypted with AES/GCM
+     * are downloaded and decrypted in parallel through an encryption client.
+     */
+    private long encryptedDownloadRangeSize = DEFAULT_ENCRYPTED_DOWNLOAD_RANGE_SIZE;
+
+    /**
+     * Option to adapt part sizes and the number of parts in flight to the
+     * observed throughput and latency. By default, the value is set to false.
+     */
+    private boolean adaptiveTransfers = false;
+
+    /**
+     * The maximum number of parts in flight when adaptive transfers are enabled.
+     */
+    private int adaptiveMaximumConcurrency = DEFAULT_ADAPTIVE_MAXIMUM_CONCURRENCY;
+
+    /**
+     * Option to upload streams one part at a time, uploading each part while
+     * the next is read. By default, the value is set to false.
+     */
+    private boolean streamingUploads = false;
+
+    /**
+     * The maximum number of parts of a streaming upload held in memory.
+     */
+    private int streamingUploadConcurrency = DEFAULT_STREAMING_UPLOAD_CONCURRENCY;
+
+    /**
+     * Option to download the objects of a virtual directory while it is being
+     * listed. By default, the value is set to false.
+     */
+    private boolean streamingDirectoryDownloads = false;
+
+    /**
+     * Option to upload the files of a directory while it is being walked. By
+     * default, the value is set to false.
+     */
+    private boolean streamingDirectoryUploads = false;
+
+    /**
+     * The maximum number of files of a directory transfer that are queued or
+     * in progress at a time.
+     */
+    private int directoryTransferQueueSize = DEFAULT_DIRECTORY_TRANSFER_QUEUE_SIZE;
+
+    /**
+     * The size threshold, in bytes, at or below which the objects of a
+     * directory download are downloaded in a single request.
+     */
+    private long smallObjectThreshold = DEFAULT_SMALL_OBJECT_THRESHOLD;
+
     /**
      * Returns the minimum part size for upload parts.
      * Decreasing the minimum part size causes
@@ -327,4 +426,379 @@ public class TransferManagerConfiguration {
         this.alwaysCalculateMultipartMd5 = alwaysCalculateMultipartMd5;
     }
 
+    /**
+     * Returns the size in bytes of the buffers through which parallel part
+     * downloads are written to the destination file.
+     *
+     * @return The download buffer size in bytes.
+     */
+    public int getDownloadBufferSize() {
+        return downloadBufferSize;
+    }
+
+    /**
+     * Sets the size in bytes of the buffers through which parallel part
+     * downloads are written to the destination file. Larger buffers mean fewer
+     * writes per part, at the cost of holding more memory per concurrent part.
+     *
+     * @param downloadBufferSize
+     *            The download buffer size in bytes.
+     */
+    public void setDownloadBufferSize(int downloadBufferSize) {
+        if (downloadBufferSize <= 0) {
+            throw new IllegalArgumentException("downloadBufferSize must be positive");
+        }
+        this.downloadBufferSize = downloadBufferSize;
+    }
+
+    /**
+     * Returns the maximum number of idle download buffers kept for reuse by
+     * parallel part downloads.
+     *
+     * @return The download buffer pool size, 0 if pooling is disabled.
+     */
+    public int getDownloadBufferPoolSize() {
+        return downloadBufferPoolSize;
+    }
+
+    /**
+     * Sets the maximum number of idle download buffers kept for reuse by
+     * parallel part downloads. While pooling is enabled, all parts of a download
+     * are also written through a single channel on the destination file instead
+     * of opening the file once per part.
+     * <p>
+     * A pool as large as the number of transfer threads lets every concurrent
+     * part reuse a buffer. Setting this value to 0 disables pooling.
+     * </p>
+     *
+     * @param downloadBufferPoolSize
+     *            The download buffer pool size.
+     */
+    public void setDownloadBufferPoolSize(int downloadBufferPoolSize) {
+        if (downloadBufferPoolSize < 0) {
+            throw new IllegalArgumentException("downloadBufferPoolSize must not be negative");
+        }
+        this.downloadBufferPoolSize = downloadBufferPoolSize;
+    }
+
+    /**
+     * Returns true if pooled download buffers are allocated outside of the Java heap.
+     *
+     * @return true if direct buffers are used, otherwise false.
+     */
+    public boolean isDirectDownloadBuffers() {
+        return directDownloadBuffers;
+    }
+
+    /**
+     * Sets the option to allocate pooled download buffers outside of the Java
+     * heap. By default, the value is set to false.
+     * <p>
+     * Direct buffers are written to the file without an intermediate copy but
+     * count against the maximum direct memory of the JVM
+     * (<code>-XX:MaxDirectMemorySize</code>). At most
+     * {@link #getDownloadBufferPoolSize()} direct buffers are allocated; parts
+     * that find the pool empty beyond that use heap buffers.
+     * </p>
+     *
+     * @param directDownloadBuffers boolean value to use direct buffers.
+     */
+    public void setDirectDownloadBuffers(boolean directDownloadBuffers) {
+        this.directDownloadBuffers = directDownloadBuffers;
+    }
+
+    /**
+     * Returns the size in bytes of the ranges in which objects encrypted with
+     * AES/GCM are downloaded and decrypted in parallel.
+     *
+     * @return The encrypted download range size in bytes.
+     */
+    public long getEncryptedDownloadRangeSize() {
+        return encryptedDownloadRangeSize;
+    }
+
+    /**
+     * Sets the size in bytes of the ranges in which objects encrypted with
+     * AES/GCM are downloaded and decrypted in parallel through an encryption
+     * client. Objects no larger than a range are downloaded in a single
+     * request.
+     * <p>
+     * Each range is decrypted on its own, and the authentication tag of the
+     * object is verified once all of them are downloaded.
+     * </p>
+     *
+     * @param encryptedDownloadRangeSize
+     *            The encrypted download range size in bytes, which must be a
+     *            multiple of 16, the cipher block size.
+     */
+    public void setEncryptedDownloadRangeSize(long encryptedDownloadRangeSize) {
+        if (encryptedDownloadRangeSize <= 0 || encryptedDownloadRangeSize % 16 != 0) {
+            throw new IllegalArgumentException("encryptedDownloadRangeSize must be a positive multiple of 16");
+        }
+        this.encryptedDownloadRangeSize = encryptedDownloadRangeSize;
+    }
+
+    /**
+     * Returns true if part sizes and the number of parts in flight are adapted
+     * to the observed throughput and latency.
+     *
+     * @return true if adaptive transfers are enabled, otherwise false.
+     */
+    public boolean isAdaptiveTransfers() {
+        return adaptiveTransfers;
+    }
+
+    /**
+     * Sets the option to adapt part sizes and the number of parts in flight to
+     * the observed throughput and latency. By default, the value is set to false.
+     *
+     * <p>
+     * When enabled, the number of upload and download parts in flight starts
+     * low and grows while parts keep completing quickly. It shrinks when the
+     * service throttles requests or when parts slow down because the link is
+     * saturated. New multipart uploads use parts sized so that each takes a
+     * couple of seconds at the observed throughput, but never smaller than the
+     * minimum upload part size. Resumed uploads keep their original part size.
+     * </p>
+     * <p>
+     * Parts beyond the current limit are queued without holding a thread of
+     * the transfer manager's executor, and are handed to it as parts in flight
+     * complete. The executor should still have at least as many threads as
+     * {@link #getAdaptiveMaximumConcurrency()} for the limit to be reachable.
+     * </p>
+     *
+     * @param adaptiveTransfers boolean value to enable adaptive transfers.
+     */
+    public void setAdaptiveTransfers(boolean adaptiveTransfers) {
+        this.adaptiveTransfers = adaptiveTransfers;
+    }
+
+    /**
+     * Returns the maximum number of parts in flight when adaptive transfers are enabled.
+     *
+     * @return The maximum number of parts in flight.
+     */
+    public int getAdaptiveMaximumConcurrency() {
+        return adaptiveMaximumConcurrency;
+    }
+
+    /**
+     * Sets the maximum number of parts in flight when adaptive transfers are
+     * enabled. The limit applies to all transfers of a transfer manager together.
+     *
+     * @param adaptiveMaximumConcurrency
+     *            The maximum number of parts in flight.
+     */
+    public void setAdaptiveMaximumConcurrency(int adaptiveMaximumConcurrency) {
+        if (adaptiveMaximumConcurrency <= 0) {
+            throw new IllegalArgumentException("adaptiveMaximumConcurrency must be positive");
+        }
+        this.adaptiveMaximumConcurrency = adaptiveMaximumConcurrency;
+    }
+
+    /**
+     * Returns true if uploads from streams are read and uploaded one part at
+     * a time instead of being buffered in full or uploaded serially.
+     *
+     * @return true if streaming uploads are enabled, otherwise false.
+     */
+    public boolean isStreamingUploads() {
+        return streamingUploads;
+    }
+
+    /**
+     * Sets the option to upload streams one part at a time. By default, the
+     * value is set to false.
+     *
+     * <p>
+     * When enabled, an upload from an {@link java.io.InputStream} whose content
+     * length is unknown, or larger than the multipart upload threshold, is read
+     * into buffers of the part size, and every part is uploaded as soon as its
+     * buffer is full, while the next part is read. At most
+     * {@link #getStreamingUploadConcurrency()} parts are held in memory, which
+     * caps the memory used by such an upload at the part size times that
+     * number. A stream that ends within its first part is uploaded with a
+     * single request.
+     * </p>
+     * <p>
+     * Streams of unknown length are split into parts of the minimum upload
+     * part size, so they can be at most 10,000 times that size. Uploads through
+     * an encryption client are not affected by this option.
+     * </p>
+     *
+     * @param streamingUploads boolean value to enable streaming uploads.
+     */
+    public void setStreamingUploads(boolean streamingUploads) {
+        this.streamingUploads = streamingUploads;
+    }
+
+    /**
+     * Returns the maximum number of parts of a streaming upload held in memory,
+     * and so uploaded concurrently.
+     *
+     * @return The maximum number of parts in memory per streaming upload.
+     */
+    public int getStreamingUploadConcurrency() {
+        return streamingUploadConcurrency;
+    }
+
+    /**
+     * Sets the maximum number of parts of a streaming upload held in memory,
+     * including the part being read from the stream.
+     * <p>
+     * Streams of unknown length start with parts of the minimum upload part
+     * size and double the part size after every 1000 parts, so that streams
+     * of up to 5 TB fit within the 10000 part limit. Memory use therefore
+     * grows with the stream, up to this number times the size of the parts
+     * being uploaded at the time.
+     * </p>
+     *
+     * @param streamingUploadConcurrency
+     *            The maximum number of parts in memory per streaming upload.
+     */
+    public void setStreamingUploadConcurrency(int streamingUploadConcurrency) {
+        if (streamingUploadConcurrency <= 0) {
+            throw new IllegalArgumentException("streamingUploadConcurrency must be positive");
+        }
+        this.streamingUploadConcurrency = streamingUploadConcurrency;
+    }
+
+    /**
+     * Returns true if the objects of a directory download are downloaded while
+     * the virtual directory is still being listed.
+     *
+     * @return true if streaming directory downloads are enabled, otherwise
+     *         false.
+     */
+    public boolean isStreamingDirectoryDownloads() {
+        return streamingDirectoryDownloads;
+    }
+
+    /**
+     * Sets the option to download the objects of a virtual directory while it
+     * is being listed. By default, the value is set to false.
+     *
+     * <p>
+     * By default, a directory download lists the whole virtual directory,
+     * keeping every object summary in memory, before it starts any download.
+     * When enabled, the virtual directory is listed on a separate thread and
+     * each object is downloaded as soon as it is listed, with at most
+     * {@link #getDirectoryTransferQueueSize()} files queued or in progress.
+     * The total bytes to transfer of the directory download then grows as
+     * objects are listed, and an error listing the virtual directory, or a key
+     * whose relative path resolves outside the destination directory, fails
+     * the returned transfer instead of being thrown by
+     * {@link TransferManager#downloadDirectory(String, String, java.io.File)}.
+     * </p>
+     *
+     * @param streamingDirectoryDownloads boolean value to enable streaming
+     *            directory downloads.
+     */
+    public void setStreamingDirectoryDownloads(boolean streamingDirectoryDownloads) {
+        this.streamingDirectoryDownloads = streamingDirectoryDownloads;
+    }
+
+    /**
+     * Returns true if the files of a directory upload are uploaded while the
+     * directory is still being walked.
+     *
+     * @return true if streaming directory uploads are enabled, otherwise
+     *         false.
+     */
+    public boolean isStreamingDirectoryUploads() {
+        return streamingDirectoryUploads;
+    }
+
+    /**
+     * Sets the option to upload the files of a directory while it is being
+     * walked. By default, the value is set to false.
+     *
+     * <p>
+     * By default, a directory upload lists every file of the directory before
+     * it starts any upload, and each file gets an {@link Upload} of its own,
+     * returned by {@link MultipleFileUpload#getSubTransfers()}. When enabled,
+     * the directory is walked on a separate thread and each file is uploaded as
+     * soon as it is found, with at most {@link #getDirectoryTransferQueueSize()}
+     * files queued or in progress. Files at or below the multipart upload
+     * threshold are then uploaded in a single request without an
+     * {@link Upload} of their own: they only report progress through the
+     * directory upload, and are not among its sub-transfers.
+     * </p>
+     *
+     * @param streamingDirectoryUploads boolean value to enable streaming
+     *            directory uploads.
+     */
+    public void setStreamingDirectoryUploads(boolean streamingDirectoryUploads) {
+        this.streamingDirectoryUploads = streamingDirectoryUploads;
+    }
+
+    /**
+     * Returns the maximum number of files of a directory transfer that are
+     * queued or in progress at a time.
+     *
+     * @return The maximum number of pending files per directory transfer.
+     */
+    public int getDirectoryTransferQueueSize() {
+        return directoryTransferQueueSize;
+    }
+
+    /**
+     * Sets the maximum number of files of a directory transfer that are queued
+     * or in progress at a time.
+     * <p>
+     * When files are transferred while the directory is still being listed, the
+     * listing waits whenever this many files are pending, so that the memory
+     * used by a directory transfer does not depend on the number of files.
+     * </p>
+     *
+     * @param directoryTransferQueueSize
+     *            The maximum number of pending files per directory transfer.
+     */
+    public void setDirectoryTransferQueueSize(int directoryTransferQueueSize) {
+        if (directoryTransferQueueSize <= 0) {
+            throw new IllegalArgumentException("directoryTransferQueueSize must be positive");
+        }
+        this.directoryTransferQueueSize = directoryTransferQueueSize;
+    }
+
+    /**
+     * Returns the size threshold, in bytes, at or below which the objects of a
+     * directory download are downloaded in a single request.
+     *
+     * @return The small object threshold.
+     */
+    public long getSmallObjectThreshold() {
+        return smallObjectThreshold;
+    }
+
+    /**
+     * Sets the size threshold, in bytes, at or below which the objects of a
+     * directory download are downloaded in a single request.
+     * <p>
+     * The threshold only applies when
+     * {@link #setStreamingDirectoryDownloads(boolean) streaming directory
+     * downloads} are enabled. Small objects are downloaded with a single GET request on the transfer
+     * thread pool, without the requests for the object metadata, the
+     * individual {@link Download} and the monitoring that a single file
+     * download needs. They only report progress through the directory
+     * download, and cannot be paused or resumed individually. Objects larger
+     * than the threshold, and all objects when the threshold is 0, are
+     * downloaded as before. Files of a streaming directory upload at or below
+     * the multipart upload threshold are always uploaded this way.
+     * </p>
+     * <p>
+     * By default, the value is 0, so every object of a directory download
+     * gets a download of its own.
+     * </p>
+     *
+     * @param smallObjectThreshold
+     *            The small object threshold, or 0 to disable it.
+     */
+    public void setSmallObjectThreshold(long smallObjectThreshold) {
+        if (smallObjectThreshold < 0) {
+            throw new IllegalArgumentException("smallObjectThreshold must not be negative");
+        }
+        this.smallObjectThreshold = smallObjectThreshold;
+    }
+
 }
@@ -14,17 +14,23 @@
  */
 package com.ibm.cloud.objectstorage.services.s3.transfer;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 /**
- * Describes the progress of a transfer.
+ * Describes the progress of a transfer. The counters are updated without
+ * locking, as every part of every transfer in progress updates them.
  */
 public final class TransferProgress {
 
     private static final Log log = LogFactory.getLog(TransferProgress.class);
-    private volatile long bytesTransferred = 0;
+    private final AtomicLong bytesTransferred = new AtomicLong();
     private volatile long totalBytesToTransfer = -1;
+    private final AtomicLong objectsTransferred = new AtomicLong();
+    private final long startNanos = System.nanoTime();
+    private volatile long lastObjectNanos = startNanos;
 
     /**
      * @deprecated Replaced by {@link #getBytesTransferred()}
@@ -39,7 +45,7 @@ public final class TransferProgress {
      * @return The number of bytes completed in the associated transfer.
      */
     public long getBytesTransferred() {
-        return bytesTransferred;
+        return bytesTransferred.get();
     }
 
     /**
@@ -58,7 +64,7 @@ public final class TransferProgress {
      * @deprecated Replaced by {@link #getPercentTransferred()}
      */
     @Deprecated
-    public synchronized double getPercentTransfered() {
+    public double getPercentTransfered() {
         return getPercentTransferred();
     }
 
@@ -69,24 +75,33 @@ public final class TransferProgress {
      * @return A percentage of the number of bytes transferred out of the total
      *         number of bytes to transfer; or -1.0 if the total length is not known.
      */
-    public synchronized double getPercentTransferred() {
-        if (getBytesTransferred() < 0) return 0;
+    public double getPercentTransferred() {
+        long bytesTransferred = getBytesTransferred();
+        if (bytesTransferred < 0) return 0;
 
+        long totalBytesToTransfer = this.totalBytesToTransfer;
         return totalBytesToTransfer < 0
              ? -1.0 
              : ((double)bytesTransferred / (double)totalBytesToTransfer) * (double)100;
     }
 
-    public synchronized void updateProgress(long bytes) {
-        this.bytesTransferred += bytes;
-        if (totalBytesToTransfer > -1
-        &&  this.bytesTransferred > this.totalBytesToTransfer) {
-            this.bytesTransferred = this.totalBytesToTransfer;
-            if (log.isDebugEnabled()) {
-                log.debug("Number of bytes transferred is more than the actual total bytes to transfer. Total number of bytes to Transfer : "
-                        + totalBytesToTransfer
-                        + ". Bytes Transferred : "
-                        + (bytesTransferred + bytes));
+    public void updateProgress(long bytes) {
+        while (true) {
+            long current = bytesTransferred.get();
+            long updated = current + bytes;
+            long totalBytesToTransfer = this.totalBytesToTransfer;
+            boolean capped = totalBytesToTransfer > -1 && updated > totalBytesToTransfer;
+            if (capped) {
+                updated = totalBytesToTransfer;
+            }
+            if (bytesTransferred.compareAndSet(current, updated)) {
+                if (capped && log.isDebugEnabled()) {
+                    log.debug("Number of bytes transferred is more than the actual total bytes to transfer. Total number of bytes to Transfer : "
+                            + totalBytesToTransfer
+                            + ". Bytes Transferred : "
+                            + (current + bytes));
+                }
+                return;
             }
         }
     }
@@ -94,4 +109,31 @@ public final class TransferProgress {
     public void setTotalBytesToTransfer(long totalBytesToTransfer) {
         this.totalBytesToTransfer = totalBytesToTransfer;
     }
+
+    /**
+     * Returns the number of objects completed in the associated transfer. Only
+     * transfers of multiple files count objects.
+     *
+     * @return The number of objects completed in the associated transfer.
+     */
+    public long getObjectsTransferred() {
+        return objectsTransferred.get();
+    }
+
+    /**
+     * Returns the average number of objects completed per second, from the
+     * start of the associated transfer to the last object completed.
+     *
+     * @return The number of objects completed per second, or 0 if no object
+     *         has completed yet.
+     */
+    public double getObjectsPerSecond() {
+        long elapsedNanos = lastObjectNanos - startNanos;
+        return elapsedNanos <= 0 ? 0 : objectsTransferred.get() * 1e9 / elapsedNanos;
+    }
+
+    public void updateObjectsTransferred(long objects) {
+        objectsTransferred.addAndGet(objects);
+        lastObjectNanos = System.nanoTime();
+    }
 }
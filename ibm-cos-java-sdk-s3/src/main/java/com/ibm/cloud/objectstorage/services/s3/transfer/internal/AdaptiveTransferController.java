@@ -0,0 +1,392 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.transfer.internal;
+
+import static com.ibm.cloud.objectstorage.services.s3.internal.Constants.GB;
+import static com.ibm.cloud.objectstorage.services.s3.internal.Constants.MAXIMUM_UPLOAD_PARTS;
+
+import com.ibm.cloud.objectstorage.AmazonServiceException;
+import com.ibm.cloud.objectstorage.annotation.SdkInternalApi;
+import com.ibm.cloud.objectstorage.annotation.SdkTestInternalApi;
+import com.ibm.cloud.objectstorage.annotation.ThreadSafe;
+import com.ibm.cloud.objectstorage.retry.RetryUtils;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Controls how many parts of uploads and downloads are in flight at the same
+ * time, and how large new upload parts should be, based on the throughput and
+ * latency observed for completed parts.
+ * <p>
+ * The number of parts in flight follows AIMD congestion control. It starts
+ * low and doubles for every window of completed parts (a window being as many
+ * parts as the current limit) until the first sign of congestion, then grows
+ * by one part per window. It is halved when the service throttles a part
+ * (503 SlowDown and the like), and cut by a quarter when the time a part takes
+ * per byte exceeds twice the best recently observed, which happens when
+ * requests queue up on a saturated link or are retried by the client after a
+ * throttling response. At most one decrease is applied per window, since all
+ * parts in flight tend to observe the same congestion.
+ * <p>
+ * New upload parts are sized so that each takes about
+ * {@link #TARGET_PART_DURATION_NANOS} at the observed per-part throughput,
+ * which keeps the per-request overhead small on fast links without creating
+ * parts that take minutes to retry on slow ones.
+ * <p>
+ * Parts are admitted without blocking any thread: a part submitted while the
+ * limit is reached is queued here, and handed to its executor by the
+ * {@link #release(long, long) release} of a part in flight.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class AdaptiveTransferController {
+    private static final Log LOG = LogFactory.getLog(AdaptiveTransferController.class);
+
+    /** Number of parts allowed in flight before any part has completed. */
+    static final int INITIAL_CONCURRENCY = 2;
+
+    /** Time an upload part should take at the observed throughput. */
+    static final long TARGET_PART_DURATION_NANOS = 2000000000L;
+
+    /** Largest part size S3 accepts. */
+    static final long MAXIMUM_PART_SIZE = 5 * GB;
+
+    /** Parts smaller than this are dominated by request overhead and not sampled. */
+    static final long MINIMUM_SAMPLE_BYTES = 256 * 1024;
+
+    /** Ratio over the best observed time per byte that is treated as congestion. */
+    static final double LATENCY_TOLERANCE = 2.0;
+
+    /** Growth applied to the best observed time per byte for every sample, so it follows a slower link. */
+    private static final double LATENCY_FLOOR_DECAY = 1.01;
+
+    /** Weight of a new sample in the per-part throughput average. */
+    private static final double THROUGHPUT_SMOOTHING = 0.2;
+
+    private final int maxConcurrency;
+    private final long minimumPartSize;
+
+    private int concurrencyLimit;
+    private int inFlight;
+    private boolean slowStart = true;
+    private int completedInWindow;
+    private boolean decreasedInWindow;
+
+    private double minNanosPerByte = Double.MAX_VALUE;
+    private double bytesPerSecondPerPart;
+
+    /** Parts submitted while the limit was reached, in submission order. */
+    private final Queue<PartTask<?>> pending = new ArrayDeque<PartTask<?>>();
+
+    /**
+     * @param maxConcurrency
+     *            The upper bound for the number of parts in flight.
+     * @param minimumPartSize
+     *            The lower bound for recommended upload part sizes.
+     */
+    public AdaptiveTransferController(int maxConcurrency, long minimumPartSize) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive");
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.minimumPartSize = minimumPartSize;
+        this.concurrencyLimit = Math.min(INITIAL_CONCURRENCY, maxConcurrency);
+    }
+
+    /**
+     * Hands a part to the given executor once it may be put in flight, which
+     * is at once unless the limit is reached. This method never blocks.
+     * <p>
+     * When the part runs, it must call {@link #release(long, long)} or
+     * {@link #release(Throwable)} exactly once. A part that never runs,
+     * because it is canceled or the executor rejects it, gives its slot back
+     * on its own.
+     * </p>
+     * <p>
+     * Running the returned future directly puts the part in flight at once,
+     * even above the limit. This lets a caller that waits for the part run it
+     * itself when the executor has no thread to spare.
+     * </p>
+     *
+     * @return The future of the part.
+     */
+    public <T> RunnableFuture<T> submit(Executor executor, Callable<T> part) {
+        PartTask<T> task = new PartTask<T>(executor, part, new AtomicBoolean());
+        synchronized (this) {
+            if (inFlight >= concurrencyLimit || !pending.isEmpty()) {
+                pending.add(task);
+                return task;
+            }
+            inFlight++;
+            task.admitted = true;
+        }
+        try {
+            executor.execute(task);
+        } catch (RuntimeException e) {
+            // Gives the slot back, and leaves the caller to handle the rejection
+            task.reject(e);
+            throw e;
+        }
+        return task;
+    }
+
+    /**
+     * Releases a part that completed successfully, and starts the parts that
+     * may then be put in flight.
+     *
+     * @param bytes
+     *            The number of bytes transferred by the part.
+     * @param elapsedNanos
+     *            The time the part took, including any retries.
+     */
+    public void release(long bytes, long elapsedNanos) {
+        List<PartTask<?>> admitted;
+        synchronized (this) {
+            inFlight--;
+            sample(bytes, elapsedNanos);
+            admitted = admitPending();
+        }
+        execute(admitted);
+    }
+
+    /**
+     * Releases a part that failed, and starts the parts that may then be put
+     * in flight.
+     *
+     * @param failure
+     *            The cause of the failure, used to detect throttling.
+     */
+    public void release(Throwable failure) {
+        List<PartTask<?>> admitted;
+        synchronized (this) {
+            inFlight--;
+            if (isThrottlingFailure(failure)) {
+                decrease(0.5, "throttling");
+            }
+            admitted = admitPending();
+        }
+        execute(admitted);
+    }
+
+    /**
+     * Returns the recommended size of the parts of a new upload, or 0 if no
+     * part has been sampled yet. The recommendation never exceeds what is
+     * needed to keep every allowed part in flight busy, and never requires
+     * more than {@link com.ibm.cloud.objectstorage.services.s3.internal.Constants#MAXIMUM_UPLOAD_PARTS} parts.
+     *
+     * @param contentLength
+     *            The size of the object to upload, or -1 if unknown.
+     */
+    public synchronized long recommendPartSize(long contentLength) {
+        if (bytesPerSecondPerPart == 0) {
+            return 0;
+        }
+        long partSize = (long) (bytesPerSecondPerPart * TARGET_PART_DURATION_NANOS / 1e9);
+        if (contentLength > 0) {
+            partSize = Math.min(partSize, ceilDiv(contentLength, concurrencyLimit));
+            partSize = Math.max(partSize, ceilDiv(contentLength, MAXIMUM_UPLOAD_PARTS));
+        }
+        return Math.min(MAXIMUM_PART_SIZE, Math.max(minimumPartSize, partSize));
+    }
+
+    /**
+     * @return True if this controller was created with the given settings.
+     */
+    public boolean matches(int maxConcurrency, long minimumPartSize) {
+        return this.maxConcurrency == maxConcurrency && this.minimumPartSize == minimumPartSize;
+    }
+
+    /**
+     * @return The number of parts currently allowed in flight.
+     */
+    public synchronized int getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    /**
+     * @return The average throughput of a single part in bytes per second,
+     *         or 0 if no part has been sampled yet.
+     */
+    public synchronized double getBytesPerSecondPerPart() {
+        return bytesPerSecondPerPart;
+    }
+
+    @SdkTestInternalApi
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    @SdkTestInternalApi
+    synchronized int getPending() {
+        return pending.size();
+    }
+
+    private void sample(long bytes, long elapsedNanos) {
+        if (bytes >= MINIMUM_SAMPLE_BYTES && elapsedNanos > 0) {
+            double nanosPerByte = (double) elapsedNanos / bytes;
+            minNanosPerByte = Math.min(minNanosPerByte * LATENCY_FLOOR_DECAY, nanosPerByte);
+            double bytesPerSecond = 1e9 / nanosPerByte;
+            bytesPerSecondPerPart = bytesPerSecondPerPart == 0
+                    ? bytesPerSecond
+                    : bytesPerSecondPerPart + THROUGHPUT_SMOOTHING * (bytesPerSecond - bytesPerSecondPerPart);
+            if (nanosPerByte > LATENCY_TOLERANCE * minNanosPerByte) {
+                decrease(0.75, "latency");
+                return;
+            }
+        }
+        if (++completedInWindow >= concurrencyLimit) {
+            completedInWindow = 0;
+            decreasedInWindow = false;
+            concurrencyLimit = Math.min(maxConcurrency, slowStart ? concurrencyLimit * 2 : concurrencyLimit + 1);
+        }
+    }
+
+    /**
+     * Takes the pending parts that fit within the limit. They are started by
+     * the caller once it no longer holds the lock.
+     */
+    private List<PartTask<?>> admitPending() {
+        if (pending.isEmpty() || inFlight >= concurrencyLimit) {
+            return Collections.emptyList();
+        }
+        List<PartTask<?>> admitted = new ArrayList<PartTask<?>>();
+        while (inFlight < concurrencyLimit && !pending.isEmpty()) {
+            PartTask<?> task = pending.poll();
+            task.admitted = true;
+            inFlight++;
+            admitted.add(task);
+        }
+        return admitted;
+    }
+
+    /**
+     * Puts a part run by its caller in flight, unless it already is or will
+     * never run.
+     */
+    private synchronized void admit(PartTask<?> task) {
+        // A part completed before it ran has given back its slot, or is about to
+        if (!task.admitted && !task.isDone()) {
+            pending.remove(task);
+            task.admitted = true;
+            inFlight++;
+        }
+    }
+
+    /**
+     * Gives back the slot of a part that will never run.
+     */
+    private void abandon(PartTask<?> task) {
+        List<PartTask<?>> admitted;
+        synchronized (this) {
+            if (!task.admitted) {
+                pending.remove(task);
+                return;
+            }
+            inFlight--;
+            admitted = admitPending();
+        }
+        execute(admitted);
+    }
+
+    private void execute(List<PartTask<?>> tasks) {
+        for (PartTask<?> task : tasks) {
+            execute(task);
+        }
+    }
+
+    private static void execute(PartTask<?> task) {
+        try {
+            task.executor.execute(task);
+        } catch (RuntimeException e) {
+            // Fails the future, which gives the slot back
+            task.reject(e);
+        }
+    }
+
+    private void decrease(double factor, String reason) {
+        slowStart = false;
+        completedInWindow = 0;
+        if (decreasedInWindow) {
+            return;
+        }
+        decreasedInWindow = true;
+        concurrencyLimit = Math.max(1, (int) (concurrencyLimit * factor));
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Reduced parts in flight to " + concurrencyLimit + " due to " + reason);
+        }
+    }
+
+    private static boolean isThrottlingFailure(Throwable failure) {
+        if (!(failure instanceof AmazonServiceException)) {
+            return false;
+        }
+        AmazonServiceException ase = (AmazonServiceException) failure;
+        return ase.getStatusCode() == 503 || RetryUtils.isThrottlingException(ase);
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+
+    /**
+     * A part waiting for, or holding, a slot. Either the part itself or the
+     * completion of a part that never ran claims the task, so that its slot
+     * is given back exactly once.
+     */
+    private final class PartTask<T> extends FutureTask<T> {
+        private final Executor executor;
+        private final AtomicBoolean claimed;
+
+        /** Whether the part holds a slot; guarded by the controller. */
+        private boolean admitted;
+
+        PartTask(Executor executor, final Callable<T> part, final AtomicBoolean claimed) {
+            super(new Callable<T>() {
+                @Override
+                public T call() throws Exception {
+                    // The part releases its slot itself once it has run
+                    return claimed.compareAndSet(false, true) ? part.call() : null;
+                }
+            });
+            this.executor = executor;
+            this.claimed = claimed;
+        }
+
+        @Override
+        public void run() {
+            admit(this);
+            super.run();
+        }
+
+        @Override
+        protected void done() {
+            if (claimed.compareAndSet(false, true)) {
+                abandon(this);
+            }
+        }
+
+        void reject(Throwable cause) {
+            setException(cause);
+        }
+    }
+}
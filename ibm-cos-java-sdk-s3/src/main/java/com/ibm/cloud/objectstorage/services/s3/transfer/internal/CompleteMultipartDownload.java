@@ -18,26 +18,51 @@ import com.ibm.cloud.objectstorage.SdkClientException;
 import com.ibm.cloud.objectstorage.annotation.SdkInternalApi;
 import com.ibm.cloud.objectstorage.services.s3.internal.FileLocks;
 import com.ibm.cloud.objectstorage.services.s3.transfer.Transfer;
+import com.ibm.cloud.objectstorage.util.IOUtils;
+import java.io.Closeable;
 import java.io.File;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 
 /**
  * Helper class to merge all the individual part files into a destinationFile.
  */
 @SdkInternalApi
 public class CompleteMultipartDownload implements Callable<File> {
+    private static final Log LOG = LogFactory.getLog(CompleteMultipartDownload.class);
+
     private final List<Future<Long>> partFiles;
     private final File destinationFile;
     private final DownloadImpl download;
+    private final Closeable destinationChannel;
+    private final InFlightParts inFlightParts;
     private Integer currentPartNumber;
 
     public CompleteMultipartDownload(List<Future<Long>> files, File destinationFile, DownloadImpl download, Integer currentPartNumber) {
+        this(files, destinationFile, download, currentPartNumber, null, null);
+    }
+
+    /**
+     * @param destinationChannel the channel shared by the part downloads, or
+     *                           null, closed once every part has completed or
+     *                           failed.
+     * @param inFlightParts      the tracker the part downloads register with,
+     *                           or null. When a part fails, the other parts are
+     *                           stopped before the destination file is closed
+     *                           and unlocked.
+     */
+    public CompleteMultipartDownload(List<Future<Long>> files, File destinationFile, DownloadImpl download,
+                                     Integer currentPartNumber, Closeable destinationChannel,
+                                     InFlightParts inFlightParts) {
         this.partFiles = files;
         this.destinationFile = destinationFile;
         this.download = download;
         this.currentPartNumber = currentPartNumber;
+        this.destinationChannel = destinationChannel;
+        this.inFlightParts = inFlightParts;
     }
 
     @Override
@@ -53,6 +78,7 @@ public class CompleteMultipartDownload implements Callable<File> {
             cleanUpAfterException();
             throw new SdkClientException("Unable to complete multipart download. Individual part download failed.", exception);
         } finally {
+            IOUtils.closeQuietly(destinationChannel, LOG);
             FileLocks.unlock(destinationFile);
         }
 
@@ -60,8 +86,12 @@ public class CompleteMultipartDownload implements Callable<File> {
     }
 
     private void cleanUpAfterException()  {
-        for (Future<Long> file : partFiles) {
-            file.cancel(false);
+        if (inFlightParts != null) {
+            inFlightParts.cancelAndAwait(partFiles);
+        } else {
+            for (Future<Long> file : partFiles) {
+                file.cancel(false);
+            }
         }
         download.setState(Transfer.TransferState.Failed);
     }
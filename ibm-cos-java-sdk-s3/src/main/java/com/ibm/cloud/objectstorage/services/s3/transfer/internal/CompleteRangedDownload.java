@@ -0,0 +1,93 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.transfer.internal;
+
+import com.ibm.cloud.objectstorage.SdkClientException;
+import com.ibm.cloud.objectstorage.annotation.SdkInternalApi;
+import com.ibm.cloud.objectstorage.services.s3.internal.FileLocks;
+import com.ibm.cloud.objectstorage.services.s3.internal.crypto.v1.RangedDownloadGcmContext;
+import com.ibm.cloud.objectstorage.services.s3.transfer.Transfer;
+import com.ibm.cloud.objectstorage.util.IOUtils;
+import java.io.Closeable;
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Helper class to complete the download of an encrypted object in ranges
+ * decrypted in parallel, by verifying the tag of the object once all the
+ * ranges are written to the destination file. The destination file is deleted
+ * if the download fails, since its content can't be trusted.
+ */
+@SdkInternalApi
+public class CompleteRangedDownload implements Callable<File> {
+    private static final Log LOG = LogFactory.getLog(CompleteRangedDownload.class);
+
+    private final List<Future<Long>> ranges;
+    private final File destinationFile;
+    private final DownloadImpl download;
+    private final RangedDownloadGcmContext rangedDecryption;
+    private final Closeable destinationChannel;
+    private final InFlightParts inFlightParts;
+
+    /**
+     * @param destinationChannel the channel shared by the range downloads, or
+     *                           null, closed once every range has completed or
+     *                           failed.
+     * @param inFlightParts      the tracker the range downloads register with.
+     *                           When a range fails, the other ranges are
+     *                           stopped before the destination file is
+     *                           deleted and unlocked.
+     */
+    public CompleteRangedDownload(List<Future<Long>> ranges, File destinationFile, DownloadImpl download,
+                                  RangedDownloadGcmContext rangedDecryption, Closeable destinationChannel,
+                                  InFlightParts inFlightParts) {
+        this.ranges = ranges;
+        this.destinationFile = destinationFile;
+        this.download = download;
+        this.rangedDecryption = rangedDecryption;
+        this.destinationChannel = destinationChannel;
+        this.inFlightParts = inFlightParts;
+    }
+
+    @Override
+    public File call() throws Exception {
+        boolean completed = false;
+        try {
+            for (Future<Long> range : ranges) {
+                range.get();
+            }
+            rangedDecryption.verify();
+            completed = true;
+            download.setState(Transfer.TransferState.Completed);
+        } catch (SecurityException exception) {
+            download.setState(Transfer.TransferState.Failed);
+            throw exception;
+        } catch (Exception exception) {
+            inFlightParts.cancelAndAwait(ranges);
+            download.setState(Transfer.TransferState.Failed);
+            throw new SdkClientException("Unable to complete ranged download. Individual range download failed.", exception);
+        } finally {
+            IOUtils.closeQuietly(destinationChannel, LOG);
+            if (!completed && !destinationFile.delete()) {
+                LOG.warn("Unable to delete " + destinationFile + " after the failed download");
+            }
+            FileLocks.unlock(destinationFile);
+        }
+
+        return destinationFile;
+    }
+}
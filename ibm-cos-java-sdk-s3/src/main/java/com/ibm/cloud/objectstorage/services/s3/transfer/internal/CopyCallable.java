@@ -93,6 +93,9 @@ public class CopyCallable implements Callable<CopyResult> {
 
     private final ProgressListenerChain listenerChain;
 
+    /** Sizes the parts and gates when each is copied, if not null. */
+    private AdaptiveTransferController adaptiveController;
+
     public CopyCallable(TransferManager transferManager,
             ExecutorService threadPool, CopyImpl copy,
             CopyObjectRequest copyObjectRequest, ObjectMetadata metadata,
@@ -106,6 +109,15 @@ public class CopyCallable implements Callable<CopyResult> {
         this.copy = copy;
     }
 
+    /**
+     * Sizes the parts of a multipart copy from the throughput observed for
+     * the parts already copied, and gates when each part is copied.
+     */
+    public CopyCallable withAdaptiveController(AdaptiveTransferController adaptiveController) {
+        this.adaptiveController = adaptiveController;
+        return this;
+    }
+
     List<Future<PartETag>> getFutures() {
         return futures;
     }
@@ -189,6 +201,10 @@ public class CopyCallable implements Callable<CopyResult> {
         long optimalPartSize = TransferManagerUtils
                 .calculateOptimalPartSizeForCopy(copyObjectRequest,
                         configuration, contentLengthOfSource);
+        if (adaptiveController != null) {
+            optimalPartSize = Math.max(optimalPartSize,
+                    adaptiveController.recommendPartSize(contentLengthOfSource));
+        }
         log.debug("Calculated optimal part size: " + optimalPartSize);
         return optimalPartSize;
     }
@@ -203,7 +219,10 @@ public class CopyCallable implements Callable<CopyResult> {
                 throw new CancellationException(
                         "TransferManager has been shutdown");
             CopyPartRequest request = requestFactory.getNextCopyPartRequest();
-            futures.add(threadPool.submit(new CopyPartCallable(s3, request)));
+            CopyPartCallable part = new CopyPartCallable(s3, request, adaptiveController);
+            futures.add(adaptiveController == null
+                    ? threadPool.submit(part)
+                    : adaptiveController.submit(threadPool, part));
         }
     }
 
@@ -0,0 +1,188 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.transfer.internal;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.ibm.cloud.objectstorage.SdkClientException;
+import com.ibm.cloud.objectstorage.annotation.GuardedBy;
+import com.ibm.cloud.objectstorage.annotation.SdkInternalApi;
+import com.ibm.cloud.objectstorage.annotation.ThreadSafe;
+import com.ibm.cloud.objectstorage.util.IOUtils;
+
+/**
+ * Records how far a directory copy has got in a file, so that a copy
+ * restarted after a crash lists the source from where it left off.
+ * <p>
+ * Objects are copied concurrently and complete out of order, so the file
+ * holds the marker of the listing: the last key such that every object listed
+ * up to it has been copied. Only the keys listed after the marker are kept in
+ * memory. A restarted copy copies again the objects that were in flight, which
+ * is harmless as copies are idempotent. The file is rewritten at most once per
+ * {@link #WRITE_INTERVAL_NANOS} while the marker moves, and when the copy is
+ * done, by replacing it atomically.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class CopyCheckpoint {
+    private static final Log log = LogFactory.getLog(CopyCheckpoint.class);
+
+    static final long WRITE_INTERVAL_NANOS = 1000000000L;
+
+    private static final String SOURCE_BUCKET_NAME = "sourceBucketName";
+    private static final String SOURCE_PREFIX = "sourcePrefix";
+    private static final String DESTINATION_BUCKET_NAME = "destinationBucketName";
+    private static final String DESTINATION_PREFIX = "destinationPrefix";
+    private static final String MARKER = "marker";
+
+    private final File file;
+    private final Properties properties;
+
+    /** Keys listed after the marker and not copied yet, or copied out of order, in listing order. */
+    @GuardedBy("this")
+    private final Deque<String> listedKeys = new ArrayDeque<String>();
+
+    @GuardedBy("this")
+    private final Set<String> copiedKeys = new HashSet<String>();
+
+    @GuardedBy("this")
+    private boolean markerChanged;
+
+    @GuardedBy("this")
+    private long lastWriteNanos = System.nanoTime();
+
+    private CopyCheckpoint(File file, Properties properties) {
+        this.file = file;
+        this.properties = properties;
+    }
+
+    /**
+     * Returns the checkpoint of a directory copy stored in the given file, or
+     * a new one if the file doesn't exist.
+     *
+     * @throws IllegalArgumentException
+     *             If the file is the checkpoint of a different directory copy.
+     * @throws SdkClientException
+     *             If the file could not be read.
+     */
+    public static CopyCheckpoint load(File file, String sourceBucketName, String sourcePrefix,
+                                      String destinationBucketName, String destinationPrefix) {
+        Properties expected = new Properties();
+        expected.setProperty(SOURCE_BUCKET_NAME, sourceBucketName);
+        expected.setProperty(SOURCE_PREFIX, sourcePrefix);
+        expected.setProperty(DESTINATION_BUCKET_NAME, destinationBucketName);
+        expected.setProperty(DESTINATION_PREFIX, destinationPrefix);
+        if (!file.exists()) {
+            return new CopyCheckpoint(file, expected);
+        }
+
+        Properties properties = new Properties();
+        InputStream in = null;
+        try {
+            in = new FileInputStream(file);
+            properties.load(in);
+        } catch (IOException e) {
+            throw new SdkClientException("Unable to read the copy checkpoint " + file, e);
+        } finally {
+            IOUtils.closeQuietly(in, log);
+        }
+        for (String name : expected.stringPropertyNames()) {
+            if (!expected.getProperty(name).equals(properties.getProperty(name))) {
+                throw new IllegalArgumentException("The copy checkpoint " + file
+                        + " was written by a copy with a different " + name);
+            }
+        }
+        return new CopyCheckpoint(file, properties);
+    }
+
+    /**
+     * Returns the key after which the source should be listed, or null to
+     * list it from the start.
+     */
+    public synchronized String getMarker() {
+        return properties.getProperty(MARKER);
+    }
+
+    /**
+     * Records that an object was listed and is about to be copied. Must be
+     * called in listing order.
+     */
+    public synchronized void listed(String key) {
+        listedKeys.addLast(key);
+    }
+
+    /**
+     * Records that an object was copied, moving the marker past every object
+     * listed before it that was also copied.
+     */
+    public synchronized void copied(String key) {
+        if (!key.equals(listedKeys.peekFirst())) {
+            copiedKeys.add(key);
+            return;
+        }
+        String marker = listedKeys.pollFirst();
+        while (!listedKeys.isEmpty() && copiedKeys.remove(listedKeys.peekFirst())) {
+            marker = listedKeys.pollFirst();
+        }
+        properties.setProperty(MARKER, marker);
+        markerChanged = true;
+        if (System.nanoTime() - lastWriteNanos >= WRITE_INTERVAL_NANOS) {
+            write();
+        }
+    }
+
+    /**
+     * Writes the marker if it has moved since it was last written. Errors are
+     * logged, since the copy itself isn't affected.
+     */
+    public synchronized void flush() {
+        if (markerChanged) {
+            write();
+        }
+    }
+
+    @GuardedBy("this")
+    private void write() {
+        lastWriteNanos = System.nanoTime();
+        File temp = new File(file.getPath() + ".tmp");
+        OutputStream out = null;
+        try {
+            out = new FileOutputStream(temp);
+            properties.store(out, "Directory copy checkpoint");
+            out.close();
+            out = null;
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            markerChanged = false;
+        } catch (IOException e) {
+            log.warn("Unable to write the copy checkpoint " + file, e);
+        } finally {
+            IOUtils.closeQuietly(out, log);
+        }
+    }
+}
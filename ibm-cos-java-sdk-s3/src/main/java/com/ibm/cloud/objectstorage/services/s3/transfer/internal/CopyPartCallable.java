@@ -31,13 +31,43 @@ public class CopyPartCallable implements Callable<PartETag> {
     private final AmazonS3 s3;
     /** Copy part request to be initiated.*/
     private final CopyPartRequest request;
+    /** Is told how long the part took, if not null.*/
+    private final AdaptiveTransferController adaptiveController;
 
     public CopyPartCallable(AmazonS3 s3, CopyPartRequest request) {
+        this(s3, request, null);
+    }
+
+    /**
+     * @param adaptiveController if not null, is told how long the part took. The
+     *                           part must then be submitted through
+     *                           {@link AdaptiveTransferController#submit}.
+     */
+    public CopyPartCallable(AmazonS3 s3, CopyPartRequest request,
+                            AdaptiveTransferController adaptiveController) {
         this.s3 = s3;
         this.request = request;
+        this.adaptiveController = adaptiveController;
     }
 
     public PartETag call() throws Exception {
-        return s3.copyPart(request).getPartETag();
+        if (adaptiveController == null) {
+            return s3.copyPart(request).getPartETag();
+        }
+
+        long startNanos = System.nanoTime();
+        PartETag partETag;
+        try {
+            partETag = s3.copyPart(request).getPartETag();
+        } catch (RuntimeException e) {
+            adaptiveController.release(e);
+            throw e;
+        } catch (Error e) {
+            adaptiveController.release(e);
+            throw e;
+        }
+        adaptiveController.release(request.getLastByte() - request.getFirstByte() + 1,
+                System.nanoTime() - startNanos);
+        return partETag;
     }
 }
@@ -0,0 +1,164 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.transfer.internal;
+
+import com.ibm.cloud.objectstorage.annotation.SdkInternalApi;
+import com.ibm.cloud.objectstorage.annotation.ThreadSafe;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded pool of equally sized {@link ByteBuffer}s used to copy the content
+ * of part downloads into the destination file.
+ * <p>
+ * {@link #acquire()} never blocks: when the pool is empty a new buffer is
+ * allocated and counted as a miss. Buffers handed back through
+ * {@link #release(ByteBuffer)} are kept for reuse as long as the pool holds
+ * fewer than its capacity, otherwise they are left to the garbage collector.
+ * <p>
+ * A pool of direct buffers allocates at most {@link #getCapacity()} of them,
+ * so the direct memory it holds stays bounded however many parts run at once.
+ * Misses beyond that are served with heap buffers, which are not retained.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DownloadBufferPool {
+
+    private final BlockingQueue<ByteBuffer> buffers;
+    private final int bufferSize;
+    private final int capacity;
+    private final boolean direct;
+
+    private final AtomicInteger directAllocated = new AtomicInteger();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param bufferSize
+     *            The size in bytes of every buffer handed out by the pool.
+     * @param capacity
+     *            The maximum number of idle buffers retained by the pool.
+     * @param direct
+     *            True to allocate up to <code>capacity</code> direct
+     *            buffers, false for heap buffers only.
+     */
+    public DownloadBufferPool(int bufferSize, int capacity, boolean direct) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be positive");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.bufferSize = bufferSize;
+        this.capacity = capacity;
+        this.direct = direct;
+        this.buffers = new ArrayBlockingQueue<ByteBuffer>(capacity);
+    }
+
+    /**
+     * Returns a cleared buffer of {@link #getBufferSize()} bytes, reusing an
+     * idle one when available. The returned buffer may be a heap buffer even
+     * if this pool was created for direct buffers.
+     */
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.poll();
+        if (buffer != null) {
+            hits.incrementAndGet();
+            return buffer;
+        }
+        misses.incrementAndGet();
+        if (direct && reserveDirectBuffer()) {
+            return ByteBuffer.allocateDirect(bufferSize);
+        }
+        return ByteBuffer.allocate(bufferSize);
+    }
+
+    private boolean reserveDirectBuffer() {
+        for (;;) {
+            int allocated = directAllocated.get();
+            if (allocated >= capacity) {
+                return false;
+            }
+            if (directAllocated.compareAndSet(allocated, allocated + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Hands a buffer previously obtained from {@link #acquire()} back to the
+     * pool. The caller must not use the buffer afterwards.
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer == null || buffer.capacity() != bufferSize || buffer.isDirect() != direct) {
+            return;
+        }
+        buffer.clear();
+        buffers.offer(buffer);
+    }
+
+    /**
+     * @return True if this pool was created with the given settings.
+     */
+    public boolean matches(int bufferSize, int capacity, boolean direct) {
+        return this.bufferSize == bufferSize && this.capacity == capacity && this.direct == direct;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public boolean isDirect() {
+        return direct;
+    }
+
+    /**
+     * @return The number of idle buffers currently held by the pool.
+     */
+    public int getIdleCount() {
+        return buffers.size();
+    }
+
+    /**
+     * @return The number of {@link #acquire()} calls served from the pool.
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return The number of {@link #acquire()} calls that had to allocate a
+     *         new buffer.
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * @return The fraction of {@link #acquire()} calls served from the pool,
+     *         between 0.0 and 1.0, or 0.0 if no buffer has been acquired yet.
+     */
+    public double getHitRate() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+}
@@ -12,7 +12,6 @@
  * express or implied. See the License for the specific language governing
  * permissions and limitations under the License.
  */
-
 package com.ibm.cloud.objectstorage.services.s3.transfer.internal;
 
 import static com.ibm.cloud.objectstorage.services.s3.internal.Constants.MB;
@@ -22,16 +21,26 @@ import com.ibm.cloud.objectstorage.services.s3.model.S3Object;
 import com.ibm.cloud.objectstorage.services.s3.model.S3ObjectInputStream;
 import com.ibm.cloud.objectstorage.util.IOUtils;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 /**
  * Helper class to get a partial objects from s3, write the data to the specified position
  * and return the final position of the file.
+ * <p>
+ * When created with a shared {@link FileChannel} and a {@link DownloadBufferPool},
+ * the part is written with positional writes to the channel, which is owned and
+ * closed by the caller, through a buffer borrowed from the pool. Otherwise the
+ * destination file is opened for the lifetime of this part.
  */
 @SdkInternalApi
 public class DownloadS3ObjectCallable implements Callable<Long> {
@@ -40,18 +49,95 @@ public class DownloadS3ObjectCallable implements Callable<Long> {
 
     private final Callable<S3Object> serviceCall;
     private final File destinationFile;
+    private final FileChannel sharedChannel;
+    private final DownloadBufferPool bufferPool;
     private final long position;
+    private AdaptiveTransferController adaptiveController;
+    private InFlightParts inFlightParts;
 
     public DownloadS3ObjectCallable(Callable<S3Object> serviceCall,
                                     File destinationFile,
                                     long position) {
         this.serviceCall = serviceCall;
         this.destinationFile = destinationFile;
+        this.sharedChannel = null;
+        this.bufferPool = null;
         this.position = position;
     }
 
+    public DownloadS3ObjectCallable(Callable<S3Object> serviceCall,
+                                    FileChannel sharedChannel,
+                                    DownloadBufferPool bufferPool,
+                                    long position) {
+        if (sharedChannel == null || bufferPool == null) {
+            throw new IllegalArgumentException("sharedChannel and bufferPool must not be null");
+        }
+        this.serviceCall = serviceCall;
+        this.destinationFile = null;
+        this.sharedChannel = sharedChannel;
+        this.bufferPool = bufferPool;
+        this.position = position;
+    }
+
+    /**
+     * Sets the controller which is told how long the part took. The part must
+     * then be submitted through {@link AdaptiveTransferController#submit}.
+     */
+    public DownloadS3ObjectCallable withAdaptiveController(AdaptiveTransferController adaptiveController) {
+        this.adaptiveController = adaptiveController;
+        return this;
+    }
+
+    /**
+     * Sets the tracker the part registers with while it writes to the
+     * destination file. The part doesn't write anything once the download
+     * is over.
+     */
+    public DownloadS3ObjectCallable withInFlightParts(InFlightParts inFlightParts) {
+        this.inFlightParts = inFlightParts;
+        return this;
+    }
+
     @Override
     public Long call() throws Exception {
+        if (adaptiveController == null) {
+            return download();
+        }
+
+        long startNanos = System.nanoTime();
+        long filePosition;
+        try {
+            filePosition = download();
+        } catch (Exception e) {
+            adaptiveController.release(e);
+            throw e;
+        } catch (Error e) {
+            adaptiveController.release(e);
+            throw e;
+        }
+        adaptiveController.release(filePosition - position, System.nanoTime() - startNanos);
+        return filePosition;
+    }
+
+    private long download() throws Exception {
+        if (inFlightParts == null) {
+            return write();
+        }
+        if (!inFlightParts.enter()) {
+            throw new CancellationException("The download is already over");
+        }
+        try {
+            return write();
+        } finally {
+            inFlightParts.exit();
+        }
+    }
+
+    private long write() throws Exception {
+        if (sharedChannel != null) {
+            return writeToSharedChannel();
+        }
+
         RandomAccessFile randomAccessFile = new RandomAccessFile(destinationFile, "rw");
         FileChannel channel = randomAccessFile.getChannel();
         channel.position(position);
@@ -85,4 +171,57 @@ public class DownloadS3ObjectCallable implements Callable<Long> {
         }
         return filePosition;
     }
-}
\ No newline at end of file
+
+    private long writeToSharedChannel() throws Exception {
+        S3ObjectInputStream objectContent = null;
+        ByteBuffer buffer = null;
+        long filePosition = position;
+
+        try {
+            S3Object object = serviceCall.call();
+
+            objectContent = object.getObjectContent();
+            ReadableByteChannel source = Channels.newChannel(objectContent);
+            buffer = bufferPool.acquire();
+
+            boolean endOfStream = false;
+            while (!endOfStream) {
+                endOfStream = fill(objectContent, source, buffer);
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    filePosition += sharedChannel.write(buffer, filePosition);
+                }
+                buffer.clear();
+            }
+        } finally {
+            IOUtils.closeQuietly(objectContent, LOG);
+            bufferPool.release(buffer);
+        }
+        return filePosition;
+    }
+
+    /**
+     * Reads from the object content until the buffer is full or the end of
+     * the stream is reached, so that every write to the file covers as much
+     * of the buffer as possible.
+     *
+     * @return true if the end of the stream was reached.
+     */
+    private static boolean fill(InputStream in, ReadableByteChannel source, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            int bytesRead;
+            if (buffer.hasArray()) {
+                bytesRead = in.read(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+                if (bytesRead > 0) {
+                    buffer.position(buffer.position() + bytesRead);
+                }
+            } else {
+                bytesRead = source.read(buffer);
+            }
+            if (bytesRead < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.transfer.internal;
+
+import com.ibm.cloud.objectstorage.annotation.SdkInternalApi;
+import com.ibm.cloud.objectstorage.annotation.ThreadSafe;
+import java.util.List;
+import java.util.concurrent.Future;
+
+/**
+ * Keeps track of the parts of a download that are writing to the destination
+ * file, so that the file is only closed and unlocked once none of them can
+ * write to it anymore.
+ * <p>
+ * A canceled future completes at once, even if its part is still running, so
+ * waiting on the futures of the parts isn't enough once one of them fails.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class InFlightParts {
+
+    private int running;
+    private boolean closed;
+
+    /**
+     * Registers a part that is about to write to the destination file.
+     *
+     * @return false if the download is already over, in which case the part
+     *         must not write anything.
+     */
+    public synchronized boolean enter() {
+        if (closed) {
+            return false;
+        }
+        running++;
+        return true;
+    }
+
+    /**
+     * Deregisters a part that was registered by {@link #enter()}, once it
+     * doesn't write to the destination file anymore.
+     */
+    public synchronized void exit() {
+        running--;
+        if (running == 0) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Cancels the given parts, interrupting those that are running, and waits
+     * until none of them writes to the destination file. Parts that haven't
+     * started yet won't be allowed to.
+     */
+    public void cancelAndAwait(List<? extends Future<?>> parts) {
+        synchronized (this) {
+            closed = true;
+        }
+        for (Future<?> part : parts) {
+            part.cancel(true);
+        }
+
+        boolean interrupted = false;
+        synchronized (this) {
+            while (running > 0) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.transfer.internal;
+
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.ibm.cloud.objectstorage.AmazonClientException;
+import com.ibm.cloud.objectstorage.AmazonServiceException;
+import com.ibm.cloud.objectstorage.annotation.SdkInternalApi;
+import com.ibm.cloud.objectstorage.event.ProgressListenerChain;
+import com.ibm.cloud.objectstorage.services.s3.transfer.Copy;
+import com.ibm.cloud.objectstorage.services.s3.transfer.MultipleFileCopy;
+import com.ibm.cloud.objectstorage.services.s3.transfer.Transfer;
+import com.ibm.cloud.objectstorage.services.s3.transfer.TransferProgress;
+
+/**
+ * Server-side copy of the objects under a key prefix, copied while the source
+ * is still being listed.
+ * <p>
+ * The listing waits for a permit before starting each copy, so that the number
+ * of copies in flight is bounded and the memory used does not depend on the
+ * number of objects. The first copy that fails stops the listing, so that the
+ * checkpoint, if any, can't fall behind by more than the copies in flight. The
+ * transfer is done once the listing is over and every copy it started is done.
+ */
+@SdkInternalApi
+public class MultipleFileCopyImpl extends MultipleFileTransfer<Copy> implements MultipleFileCopy {
+
+    private final String sourceBucketName;
+    private final String sourcePrefix;
+    private final String destinationBucketName;
+    private final String destinationPrefix;
+
+    private final PendingFileTransfers pendingFiles;
+
+    /** Records the objects copied, or null. */
+    private final CopyCheckpoint checkpoint;
+
+    /**
+     * @param maxPendingCopies the maximum number of copies queued or in
+     *                         progress at a time.
+     * @param checkpoint       records the objects copied, or null.
+     */
+    public MultipleFileCopyImpl(String description, TransferProgress transferProgress,
+            ProgressListenerChain progressListenerChain, String sourceBucketName, String sourcePrefix,
+            String destinationBucketName, String destinationPrefix, int maxPendingCopies,
+            CopyCheckpoint checkpoint) {
+        super(description, transferProgress, progressListenerChain, Collections.<Copy>emptyList());
+        this.sourceBucketName = sourceBucketName;
+        this.sourcePrefix = sourcePrefix;
+        this.destinationBucketName = destinationBucketName;
+        this.destinationPrefix = destinationPrefix;
+        this.pendingFiles = new PendingFileTransfers(this, maxPendingCopies);
+        this.checkpoint = checkpoint;
+        // The total grows as objects are listed
+        transferProgress.setTotalBytesToTransfer(0);
+        setMonitor(pendingFiles.getMonitor());
+    }
+
+    @Override
+    public String getSourceBucketName() {
+        return sourceBucketName;
+    }
+
+    @Override
+    public String getSourcePrefix() {
+        return sourcePrefix;
+    }
+
+    @Override
+    public String getDestinationBucketName() {
+        return destinationBucketName;
+    }
+
+    @Override
+    public String getDestinationPrefix() {
+        return destinationPrefix;
+    }
+
+    /**
+     * Waits until another copy can be started, and records the object to copy
+     * in the checkpoint. Returns false if no more copies should be started,
+     * because the transfer was aborted or failed.
+     */
+    public boolean awaitPermit(String key) throws InterruptedException {
+        if (!pendingFiles.awaitPermit()) {
+            return false;
+        }
+        if (checkpoint != null) {
+            checkpoint.listed(key);
+        }
+        return true;
+    }
+
+    /**
+     * Marks an object, handed over after a permit was acquired, as started.
+     * Returns false, releasing the permit, if it should not be copied because
+     * the transfer was aborted or failed, in which case it is done.
+     */
+    public boolean startFile() {
+        if (!pendingFiles.start()) {
+            return false;
+        }
+        pendingFiles.fileStarted();
+        return true;
+    }
+
+    /**
+     * Notifies that a started object copied in a single request is done, or
+     * that its multipart copy could not be started.
+     *
+     * @param bytes the size of the object.
+     * @param cause the error that failed the copy, or null.
+     */
+    public void fileDone(String key, long bytes, Throwable cause) {
+        if (cause != null) {
+            pendingFiles.stopAfterFailure();
+            pendingFiles.fileDone(null, TransferState.Failed, cause);
+            return;
+        }
+        copied(key, bytes);
+        pendingFiles.fileDone(null, TransferState.Completed, null);
+    }
+
+    /**
+     * Returns the listener to register with the multipart copy of the given
+     * object, which notifies this transfer once the copy is done.
+     */
+    public TransferStateChangeListener newStateChangeListener(final String key, final long bytes) {
+        return new SubTransferStateChangeListener(key, bytes);
+    }
+
+    /**
+     * Fails this transfer because a copy could not be submitted after a
+     * permit was acquired. Copies already started run to completion, but no
+     * more are started.
+     */
+    public void failedToStart(Throwable cause) {
+        pendingFiles.failedToStart(cause);
+    }
+
+    /**
+     * Notifies this transfer that the listing is over and that no more copies
+     * will be started.
+     */
+    public void listingCompleted() {
+        pendingFiles.listingCompleted();
+    }
+
+    /**
+     * Fails this transfer because the source could not be listed.
+     */
+    public void listingFailed(Throwable cause) {
+        pendingFiles.listingFailed(cause);
+    }
+
+    @Override
+    public void abort() {
+        pendingFiles.abort();
+    }
+
+    @Override
+    public void waitForCompletion()
+            throws AmazonClientException, AmazonServiceException, InterruptedException {
+        try {
+            getMonitor().getFuture().get();
+        } catch (ExecutionException e) {
+            rethrowExecutionException(e);
+        }
+    }
+
+    /**
+     * Writes the checkpoint, then sets the final state from the listing and
+     * the copies that failed or were canceled. Assumes the listing and all
+     * copies are done.
+     */
+    @Override
+    public void collateFinalState() {
+        if (checkpoint != null) {
+            checkpoint.flush();
+        }
+        pendingFiles.collateFinalState();
+    }
+
+    private void copied(String key, long bytes) {
+        getProgress().updateProgress(bytes);
+        if (checkpoint != null) {
+            checkpoint.copied(key);
+        }
+    }
+
+    private final class SubTransferStateChangeListener implements TransferStateChangeListener {
+        private final String key;
+        private final long bytes;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private SubTransferStateChangeListener(String key, long bytes) {
+            this.key = key;
+            this.bytes = bytes;
+        }
+
+        @Override
+        public void transferStateChanged(Transfer transfer, TransferState state) {
+            switch (state) {
+            case InProgress:
+                pendingFiles.fileStarted();
+                break;
+            case Completed:
+                if (done.compareAndSet(false, true)) {
+                    copied(key, bytes);
+                    pendingFiles.fileDone((AbstractTransfer) transfer, state, null);
+                }
+                break;
+            case Failed:
+            case Canceled:
+                if (done.compareAndSet(false, true)) {
+                    pendingFiles.stopAfterFailure();
+                    pendingFiles.fileDone((AbstractTransfer) transfer, state, null);
+                }
+                break;
+            default:
+                break;
+            }
+        }
+    }
+}
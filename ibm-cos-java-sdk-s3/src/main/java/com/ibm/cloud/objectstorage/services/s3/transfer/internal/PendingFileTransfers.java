@@ -0,0 +1,308 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.transfer.internal;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.ibm.cloud.objectstorage.annotation.GuardedBy;
+import com.ibm.cloud.objectstorage.services.s3.transfer.Transfer.TransferState;
+
+/**
+ * Keeps track of the files of a directory transfer that are queued or in
+ * progress, while the directory is still being listed.
+ * <p>
+ * The listing acquires a permit for each file before handing it over to be
+ * started, and the permit is released once that file is done, so that at most a given
+ * number of files are pending and the memory used does not depend on the
+ * number of files. Only counts and the first file that failed or was canceled
+ * are kept. The directory transfer is done once the listing is over and no
+ * file is pending.
+ * <p>
+ * State is guarded by the lock of the directory transfer.
+ */
+final class PendingFileTransfers {
+
+    private final MultipleFileTransfer<?> transfer;
+
+    private final Semaphore permits;
+
+    private final CountDownLatch finished = new CountDownLatch(1);
+
+    private final TransferMonitor monitor = new PendingFileTransfersMonitor();
+
+    @GuardedBy("transfer")
+    private int pending;
+
+    /** Whether no more files are started, because the transfer was aborted or failed. */
+    @GuardedBy("transfer")
+    private boolean stopped;
+
+    @GuardedBy("transfer")
+    private boolean aborted;
+
+    @GuardedBy("transfer")
+    private boolean listingCompleted;
+
+    /** The first error of the listing, or of a file without a transfer of its own. */
+    @GuardedBy("transfer")
+    private Throwable failure;
+
+    @GuardedBy("transfer")
+    private AbstractTransfer failedTransfer;
+
+    @GuardedBy("transfer")
+    private AbstractTransfer canceledTransfer;
+
+    PendingFileTransfers(MultipleFileTransfer<?> transfer, int maxPending) {
+        this.transfer = transfer;
+        this.permits = new Semaphore(maxPending);
+    }
+
+    TransferMonitor getMonitor() {
+        return monitor;
+    }
+
+    /**
+     * Waits until the transfer of another file can be started, and counts
+     * that file as pending. Returns false if no more files should be started,
+     * because the transfer was aborted or failed.
+     */
+    boolean awaitPermit() throws InterruptedException {
+        permits.acquire();
+        synchronized (transfer) {
+            if (stopped) {
+                permits.release();
+                return false;
+            }
+            pending++;
+            return true;
+        }
+    }
+
+    /**
+     * Checks that a pending file can start, right before its transfer is
+     * submitted. Returns false, and counts the file as done, if it should not
+     * start because the transfer was aborted or failed.
+     */
+    boolean start() {
+        synchronized (transfer) {
+            if (stopped) {
+                pending--;
+                permits.release();
+                completeIfDone();
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Moves the directory transfer to InProgress when the first file starts.
+     */
+    void fileStarted() {
+        synchronized (transfer) {
+            if (finished.getCount() > 0 && transfer.getState() != TransferState.InProgress) {
+                transfer.setState(TransferState.InProgress);
+            }
+        }
+    }
+
+    /**
+     * Notifies that the transfer of a pending file is done.
+     *
+     * @param subTransfer the transfer of the file, or null if it has none.
+     * @param cause the error that failed a file without a transfer of its own.
+     */
+    void fileDone(AbstractTransfer subTransfer, TransferState state, Throwable cause) {
+        synchronized (transfer) {
+            pending--;
+            permits.release();
+            if (cause != null) {
+                if (failure == null) {
+                    failure = cause;
+                }
+            } else if (state == TransferState.Failed && failedTransfer == null) {
+                failedTransfer = subTransfer;
+            } else if (state == TransferState.Canceled && canceledTransfer == null) {
+                canceledTransfer = subTransfer;
+            } else if (state == TransferState.Completed) {
+                transfer.getProgress().updateObjectsTransferred(1);
+            }
+            completeIfDone();
+        }
+    }
+
+    /**
+     * Fails the directory transfer because a pending file could not be
+     * started. Files already started run to completion, but no more are
+     * started.
+     */
+    void failedToStart(Throwable cause) {
+        synchronized (transfer) {
+            pending--;
+            permits.release();
+            stop(cause);
+            completeIfDone();
+        }
+    }
+
+    /**
+     * Notifies that the listing is over and that no more files will be
+     * started.
+     */
+    void listingCompleted() {
+        synchronized (transfer) {
+            listingCompleted = true;
+            completeIfDone();
+        }
+    }
+
+    /**
+     * Fails the directory transfer because the directory could not be listed.
+     */
+    void listingFailed(Throwable cause) {
+        synchronized (transfer) {
+            stop(cause);
+            listingCompleted();
+        }
+    }
+
+    /**
+     * Stops the listing after a file failed. Files already started run to
+     * completion, after which the directory transfer fails.
+     */
+    void stopAfterFailure() {
+        synchronized (transfer) {
+            stop(null);
+        }
+    }
+
+    /**
+     * Stops the listing, and cancels the directory transfer once the files
+     * already started are done.
+     */
+    void abort() {
+        synchronized (transfer) {
+            aborted = true;
+            stop(null);
+        }
+    }
+
+    /**
+     * Sets the final state of the directory transfer from the listing and the
+     * files that failed or were canceled. Assumes they are all done.
+     */
+    void collateFinalState() {
+        synchronized (transfer) {
+            if (failure != null || failedTransfer != null) {
+                transfer.setState(TransferState.Failed);
+            } else if (aborted || canceledTransfer != null) {
+                transfer.setState(TransferState.Canceled);
+            } else {
+                transfer.setState(TransferState.Completed);
+            }
+        }
+    }
+
+    @GuardedBy("transfer")
+    private void stop(Throwable cause) {
+        if (failure == null) {
+            failure = cause;
+        }
+        if (!stopped) {
+            stopped = true;
+            // Wakes up the listing if it waits for a permit
+            permits.release();
+        }
+    }
+
+    @GuardedBy("transfer")
+    private void completeIfDone() {
+        if (listingCompleted && pending == 0 && finished.getCount() > 0) {
+            transfer.collateFinalState();
+            finished.countDown();
+        }
+    }
+
+    /**
+     * Returns the result of the directory transfer once it is done, or throws
+     * the error of the listing or of the first file that failed or was
+     * canceled.
+     */
+    private Object result() throws InterruptedException, ExecutionException {
+        Throwable cause;
+        AbstractTransfer unsuccessfulTransfer;
+        synchronized (transfer) {
+            cause = failure;
+            unsuccessfulTransfer = failedTransfer != null ? failedTransfer : canceledTransfer;
+        }
+        if (cause != null) {
+            throw new ExecutionException(cause);
+        }
+        if (unsuccessfulTransfer != null) {
+            return unsuccessfulTransfer.getMonitor().getFuture().get();
+        }
+        return transfer.getState();
+    }
+
+    private final class PendingFileTransfersMonitor implements TransferMonitor {
+
+        private final Future<Object> future = new Future<Object>() {
+
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                return false;
+            }
+
+            @Override
+            public Object get() throws InterruptedException, ExecutionException {
+                finished.await();
+                return result();
+            }
+
+            @Override
+            public Object get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException,
+                    TimeoutException {
+                if (!finished.await(timeout, unit)) {
+                    throw new TimeoutException();
+                }
+                return result();
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return transfer.getState() == TransferState.Canceled;
+            }
+
+            @Override
+            public boolean isDone() {
+                return finished.getCount() == 0;
+            }
+        };
+
+        @Override
+        public Future<?> getFuture() {
+            return future;
+        }
+
+        @Override
+        public boolean isDone() {
+            return finished.getCount() == 0;
+        }
+    }
+}
@@ -28,8 +28,11 @@ import com.ibm.cloud.objectstorage.services.s3.model.PresignedUrlDownloadRequest
 import com.ibm.cloud.objectstorage.services.s3.model.S3Object;
 import com.ibm.cloud.objectstorage.services.s3.transfer.Transfer;
 import com.ibm.cloud.objectstorage.services.s3.transfer.exception.FileLockException;
+import com.ibm.cloud.objectstorage.util.IOUtils;
 import java.io.File;
 import java.net.SocketException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
@@ -51,12 +54,24 @@ public class PresignUrlDownloadCallable extends AbstractDownloadCallable {
     private final Long startByte;
     private final Long endByte;
     private final boolean resumeOnRetry;
+    private final DownloadBufferPool bufferPool;
+    private final AdaptiveTransferController adaptiveController;
     private long expectedFileLength;
+    private FileChannel channel;
 
     public PresignUrlDownloadCallable(ExecutorService executor, File dstfile, CountDownLatch latch, PresignedUrlDownloadImpl download,
                                       boolean isDownloadParallel, ScheduledExecutorService timedExecutor, long timeout,
                                       AmazonS3 s3, PresignedUrlDownloadRequest request, long perRequestDownloadSize,
                                       Long startByte, Long endByte, boolean resumeOnRetry) {
+        this(executor, dstfile, latch, download, isDownloadParallel, timedExecutor, timeout, s3, request,
+             perRequestDownloadSize, startByte, endByte, resumeOnRetry, null, null);
+    }
+
+    public PresignUrlDownloadCallable(ExecutorService executor, File dstfile, CountDownLatch latch, PresignedUrlDownloadImpl download,
+                                      boolean isDownloadParallel, ScheduledExecutorService timedExecutor, long timeout,
+                                      AmazonS3 s3, PresignedUrlDownloadRequest request, long perRequestDownloadSize,
+                                      Long startByte, Long endByte, boolean resumeOnRetry, DownloadBufferPool bufferPool,
+                                      AdaptiveTransferController adaptiveController) {
 
         super(constructCallableConfig(executor, dstfile, latch, download, isDownloadParallel, timedExecutor, timeout));
 
@@ -70,6 +85,8 @@ public class PresignUrlDownloadCallable extends AbstractDownloadCallable {
         this.startByte = startByte;
         this.endByte = endByte;
         this.resumeOnRetry = resumeOnRetry;
+        this.bufferPool = bufferPool;
+        this.adaptiveController = adaptiveController;
         // only used when resuming download
         this.expectedFileLength = 0L;
     }
@@ -219,6 +236,15 @@ public class PresignUrlDownloadCallable extends AbstractDownloadCallable {
         long currentEnd = 0L;
         long filePositionToWrite = 0L;
 
+        try {
+            if (bufferPool != null) {
+                channel = FileChannel.open(dstfile.toPath(), StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+            }
+        } catch (Exception exception) {
+            FileLocks.unlock(dstfile);
+            throw exception;
+        }
+
         while (currentStart <= endByte) {
             // end is inclusive in setRange, so reduce size by 1
             currentEnd = currentStart + perRequestDownloadSize - 1;
@@ -231,9 +257,12 @@ public class PresignUrlDownloadCallable extends AbstractDownloadCallable {
             rangeRequest.setRange(currentStart, currentEnd);
 
             Callable<S3Object> s3Object = serviceCall(rangeRequest);
-            futures.add(executor.submit(new DownloadS3ObjectCallable(s3Object,
-                                                                     dstfile,
-                                                                     filePositionToWrite)));
+            DownloadS3ObjectCallable partCallable = channel == null
+                ? new DownloadS3ObjectCallable(s3Object, dstfile, filePositionToWrite)
+                : new DownloadS3ObjectCallable(s3Object, channel, bufferPool, filePositionToWrite);
+            futures.add(adaptiveController == null
+                    ? executor.submit(partCallable)
+                    : adaptiveController.submit(executor, partCallable.withAdaptiveController(adaptiveController)));
 
             filePositionToWrite += perRequestDownloadSize;
             currentStart = currentEnd + 1;
@@ -268,6 +297,7 @@ public class PresignUrlDownloadCallable extends AbstractDownloadCallable {
 
                     download.setState(Transfer.TransferState.Completed);
                 } finally {
+                    IOUtils.closeQuietly(channel, LOG);
                     FileLocks.unlock(dstfile);
                 }
 
@@ -0,0 +1,204 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.transfer.internal;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import com.ibm.cloud.objectstorage.AmazonClientException;
+import com.ibm.cloud.objectstorage.AmazonServiceException;
+import com.ibm.cloud.objectstorage.annotation.SdkInternalApi;
+import com.ibm.cloud.objectstorage.event.ProgressListenerChain;
+import com.ibm.cloud.objectstorage.services.s3.transfer.Transfer;
+import com.ibm.cloud.objectstorage.services.s3.transfer.TransferProgress;
+
+/**
+ * Multiple file download of a virtual directory whose files are downloaded
+ * while the directory is still being listed.
+ * <p>
+ * Only the downloads that are queued or in progress are held, and the listing
+ * waits for a permit before starting each one, so that the memory used does
+ * not depend on the number of files. The transfer is done once the listing is
+ * over and every download it started is done.
+ */
+@SdkInternalApi
+public class StreamingMultipleFileDownloadImpl extends MultipleFileDownloadImpl {
+
+    private final Set<DownloadImpl> pendingDownloads;
+
+    private final PendingFileTransfers pendingFiles;
+
+    private final TransferStateChangeListener stateChangeListener = new SubTransferStateChangeListener();
+
+    /**
+     * @param maxPendingDownloads the maximum number of downloads queued or in
+     *                            progress at a time.
+     */
+    public StreamingMultipleFileDownloadImpl(String description, TransferProgress transferProgress,
+            ProgressListenerChain progressListenerChain, String keyPrefix, String bucketName,
+            int maxPendingDownloads) {
+        this(description, transferProgress, progressListenerChain, keyPrefix, bucketName,
+                Collections.newSetFromMap(new ConcurrentHashMap<DownloadImpl, Boolean>()), maxPendingDownloads);
+    }
+
+    private StreamingMultipleFileDownloadImpl(String description, TransferProgress transferProgress,
+            ProgressListenerChain progressListenerChain, String keyPrefix, String bucketName,
+            Set<DownloadImpl> pendingDownloads, int maxPendingDownloads) {
+        super(description, transferProgress, progressListenerChain, keyPrefix, bucketName, pendingDownloads);
+        this.pendingDownloads = pendingDownloads;
+        this.pendingFiles = new PendingFileTransfers(this, maxPendingDownloads);
+        // The total grows as objects are listed
+        transferProgress.setTotalBytesToTransfer(0);
+        setMonitor(pendingFiles.getMonitor());
+    }
+
+    /**
+     * Returns the listener to register with every download of this transfer.
+     */
+    public TransferStateChangeListener getStateChangeListener() {
+        return stateChangeListener;
+    }
+
+    /**
+     * Waits until another download can be started. Returns false if no more
+     * downloads should be started, because the transfer was aborted or failed.
+     */
+    public boolean awaitPermit() throws InterruptedException {
+        return pendingFiles.awaitPermit();
+    }
+
+    /**
+     * Adds a download, prepared after a permit was acquired, to the downloads
+     * of this transfer. Returns false, releasing the permit, if the download
+     * should not be submitted because the transfer was aborted or failed, in
+     * which case it is done.
+     */
+    public synchronized boolean addDownload(DownloadImpl download) {
+        if (!pendingFiles.start()) {
+            return false;
+        }
+        pendingDownloads.add(download);
+        return true;
+    }
+
+    /**
+     * Marks a small object, handed over after a permit was acquired, as
+     * started. Small objects are downloaded in a single request without a
+     * download of their own. Returns false, releasing the permit, if it should
+     * not be downloaded because the transfer was aborted or failed, in which
+     * case it is done.
+     */
+    public boolean startFile() {
+        if (!pendingFiles.start()) {
+            return false;
+        }
+        pendingFiles.fileStarted();
+        return true;
+    }
+
+    /**
+     * Notifies that a started small object is done.
+     *
+     * @param cause the error that failed the download, or null.
+     */
+    public void fileDone(Throwable cause) {
+        pendingFiles.fileDone(null, cause == null ? TransferState.Completed : TransferState.Failed, cause);
+    }
+
+    /**
+     * Fails this transfer because a download that was added could not be
+     * submitted.
+     */
+    public synchronized void failedToSubmit(DownloadImpl download, Throwable cause) {
+        if (pendingDownloads.remove(download)) {
+            pendingFiles.fileDone(download, TransferState.Failed, cause);
+        }
+    }
+
+    /**
+     * Fails this transfer because a download could not be prepared after a
+     * permit was acquired. Downloads already started run to completion, but no
+     * more are started.
+     */
+    public void failedToStart(Throwable cause) {
+        pendingFiles.failedToStart(cause);
+    }
+
+    /**
+     * Notifies this transfer that the listing is over and that no more
+     * downloads will be started.
+     */
+    public void listingCompleted() {
+        pendingFiles.listingCompleted();
+    }
+
+    /**
+     * Fails this transfer because the directory could not be listed.
+     */
+    public void listingFailed(Throwable cause) {
+        pendingFiles.listingFailed(cause);
+    }
+
+    /**
+     * Aborts all outstanding downloads, and stops the listing.
+     */
+    @Override
+    public void abort() throws IOException {
+        pendingFiles.abort();
+        super.abort();
+    }
+
+    @Override
+    public void waitForCompletion()
+            throws AmazonClientException, AmazonServiceException, InterruptedException {
+        try {
+            getMonitor().getFuture().get();
+        } catch (ExecutionException e) {
+            rethrowExecutionException(e);
+        }
+    }
+
+    /**
+     * Sets the final state from the listing and the downloads that failed or
+     * were canceled. Assumes the listing and all downloads are done.
+     */
+    @Override
+    public void collateFinalState() {
+        pendingFiles.collateFinalState();
+    }
+
+    private final class SubTransferStateChangeListener implements TransferStateChangeListener {
+        @Override
+        public void transferStateChanged(Transfer transfer, TransferState state) {
+            switch (state) {
+            case InProgress:
+                pendingFiles.fileStarted();
+                break;
+            case Completed:
+            case Failed:
+            case Canceled:
+                synchronized (StreamingMultipleFileDownloadImpl.this) {
+                    if (pendingDownloads.remove(transfer)) {
+                        pendingFiles.fileDone((DownloadImpl) transfer, state, null);
+                    }
+                }
+                break;
+            default:
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.transfer.internal;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import com.ibm.cloud.objectstorage.AmazonClientException;
+import com.ibm.cloud.objectstorage.AmazonServiceException;
+import com.ibm.cloud.objectstorage.annotation.SdkInternalApi;
+import com.ibm.cloud.objectstorage.event.ProgressListenerChain;
+import com.ibm.cloud.objectstorage.services.s3.transfer.Transfer;
+import com.ibm.cloud.objectstorage.services.s3.transfer.TransferProgress;
+
+/**
+ * Multiple file upload of a directory whose files are uploaded while the
+ * directory is still being walked.
+ * <p>
+ * Files uploaded in a single request have no {@link UploadImpl} of their own:
+ * their bytes are counted by the progress of this transfer, and only the first
+ * error is kept. Only the multipart uploads in progress are held, and are the
+ * sub-transfers of this transfer. The walk waits for a permit before starting
+ * each file, so that the memory used does not depend on the number of files.
+ */
+@SdkInternalApi
+public class StreamingMultipleFileUploadImpl extends MultipleFileUploadImpl {
+
+    private final Set<UploadImpl> pendingUploads;
+
+    private final PendingFileTransfers pendingFiles;
+
+    private final TransferStateChangeListener stateChangeListener = new SubTransferStateChangeListener();
+
+    /**
+     * @param maxPendingFiles the maximum number of files queued or in progress
+     *                        at a time.
+     */
+    public StreamingMultipleFileUploadImpl(String description, TransferProgress transferProgress,
+            ProgressListenerChain progressListenerChain, String keyPrefix, String bucketName,
+            int maxPendingFiles) {
+        this(description, transferProgress, progressListenerChain, keyPrefix, bucketName,
+                Collections.newSetFromMap(new ConcurrentHashMap<UploadImpl, Boolean>()), maxPendingFiles);
+    }
+
+    private StreamingMultipleFileUploadImpl(String description, TransferProgress transferProgress,
+            ProgressListenerChain progressListenerChain, String keyPrefix, String bucketName,
+            Set<UploadImpl> pendingUploads, int maxPendingFiles) {
+        super(description, transferProgress, progressListenerChain, keyPrefix, bucketName, pendingUploads);
+        this.pendingUploads = pendingUploads;
+        this.pendingFiles = new PendingFileTransfers(this, maxPendingFiles);
+        // The total grows as files are found
+        transferProgress.setTotalBytesToTransfer(0);
+        setMonitor(pendingFiles.getMonitor());
+    }
+
+    /**
+     * Returns the listener to register with every multipart upload of this
+     * transfer.
+     */
+    public TransferStateChangeListener getStateChangeListener() {
+        return stateChangeListener;
+    }
+
+    /**
+     * Waits until another file can be started. Returns false if no more files
+     * should be started, because the transfer failed.
+     */
+    public boolean awaitPermit() throws InterruptedException {
+        return pendingFiles.awaitPermit();
+    }
+
+    /**
+     * Marks a file, handed over after a permit was acquired, as started.
+     * Returns false, releasing the permit, if it should not be uploaded
+     * because the transfer failed, in which case it is done.
+     */
+    public boolean startFile() {
+        if (!pendingFiles.start()) {
+            return false;
+        }
+        pendingFiles.fileStarted();
+        return true;
+    }
+
+    /**
+     * Notifies that a started file uploaded in a single request is done, or
+     * that its multipart upload could not be created.
+     *
+     * @param cause the error that failed the upload, or null.
+     */
+    public void fileDone(Throwable cause) {
+        pendingFiles.fileDone(null, cause == null ? TransferState.Completed : TransferState.Failed, cause);
+    }
+
+    /**
+     * Adds the multipart upload of a started file to the uploads of this
+     * transfer. Must be called holding the lock of this transfer from before
+     * the upload is submitted, so that it can't be done before it is added.
+     */
+    public synchronized void addUpload(UploadImpl upload) {
+        pendingUploads.add(upload);
+    }
+
+    /**
+     * Fails this transfer because a file could not be started after a permit
+     * was acquired. Files already started run to completion, but no more are
+     * started.
+     */
+    public void failedToStart(Throwable cause) {
+        pendingFiles.failedToStart(cause);
+    }
+
+    /**
+     * Notifies this transfer that the walk is over and that no more files
+     * will be started.
+     */
+    public void walkCompleted() {
+        pendingFiles.listingCompleted();
+    }
+
+    /**
+     * Fails this transfer because the directory could not be walked.
+     */
+    public void walkFailed(Throwable cause) {
+        pendingFiles.listingFailed(cause);
+    }
+
+    @Override
+    public void waitForCompletion()
+            throws AmazonClientException, AmazonServiceException, InterruptedException {
+        try {
+            getMonitor().getFuture().get();
+        } catch (ExecutionException e) {
+            rethrowExecutionException(e);
+        }
+    }
+
+    /**
+     * Sets the final state from the walk and the files that failed or were
+     * canceled. Assumes the walk and all files are done.
+     */
+    @Override
+    public void collateFinalState() {
+        pendingFiles.collateFinalState();
+    }
+
+    private final class SubTransferStateChangeListener implements TransferStateChangeListener {
+        @Override
+        public void transferStateChanged(Transfer transfer, TransferState state) {
+            switch (state) {
+            case InProgress:
+                pendingFiles.fileStarted();
+                break;
+            case Completed:
+            case Failed:
+            case Canceled:
+                synchronized (StreamingMultipleFileUploadImpl.this) {
+                    if (pendingUploads.remove(transfer)) {
+                        pendingFiles.fileDone((UploadImpl) transfer, state, null);
+                    }
+                }
+                break;
+            default:
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.transfer.internal;
+
+import static com.ibm.cloud.objectstorage.services.s3.internal.Constants.MAXIMUM_UPLOAD_PARTS;
+
+import com.ibm.cloud.objectstorage.SdkClientException;
+import com.ibm.cloud.objectstorage.annotation.SdkInternalApi;
+import com.ibm.cloud.objectstorage.annotation.SdkTestInternalApi;
+import com.ibm.cloud.objectstorage.services.s3.AmazonS3;
+import com.ibm.cloud.objectstorage.services.s3.internal.Constants;
+import com.ibm.cloud.objectstorage.services.s3.model.PartETag;
+import com.ibm.cloud.objectstorage.services.s3.model.UploadPartRequest;
+import com.ibm.cloud.objectstorage.util.Md5Utils;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RunnableFuture;
+
+/**
+ * Uploads the parts of a multipart upload from a stream of unknown length.
+ * <p>
+ * The stream is read one part at a time into reusable buffers, and every part
+ * is submitted to the thread pool as soon as its buffer is full. At most
+ * {@code maxPartsInMemory} buffers exist at any time, so memory use is capped
+ * at the current part size times that number however long the stream is.
+ * <p>
+ * Since the length of the stream is not known up front, the part size doubles
+ * after every {@link #PARTS_PER_PART_SIZE} parts, up to {@code maxPartSize}.
+ * Starting from the 5 MB minimum part size this lets a stream grow to the
+ * 5 TB maximum object size within {@link Constants#MAXIMUM_UPLOAD_PARTS}
+ * parts while small streams keep small parts. A stream that needs more parts
+ * than that even at the maximum part size fails with an
+ * {@link SdkClientException}.
+ * <p>
+ * When every buffer is taken, the reading thread waits for the oldest part
+ * in flight. If that part has not been picked up by the thread pool yet, the
+ * reading thread uploads it itself, so an upload never waits on a pool whose
+ * threads are all busy waiting in the same way.
+ */
+@SdkInternalApi
+public class StreamingPartUploader {
+    /** Number of parts uploaded at one part size before the part size doubles. */
+    @SdkTestInternalApi
+    static final int PARTS_PER_PART_SIZE = 1000;
+
+    private final AmazonS3 s3;
+    private final ExecutorService threadPool;
+    private final UploadPartRequestFactory requestFactory;
+    private final InputStream input;
+    private final int maxPartSize;
+    private final int partsPerPartSize;
+    private final int maxPartsInMemory;
+    private final boolean calculateMd5;
+    private final AdaptiveTransferController adaptiveController;
+
+    private final Queue<byte[]> freeBuffers = new ConcurrentLinkedQueue<byte[]>();
+    private final List<RunnableFuture<PartETag>> parts = new ArrayList<RunnableFuture<PartETag>>();
+    private int partSize;
+    private int allocatedBuffers;
+    private int oldestPendingPart;
+
+    /**
+     * @param partSize
+     *            The size of the first {@link #PARTS_PER_PART_SIZE} parts.
+     * @param maxPartSize
+     *            The size beyond which the part size no longer grows.
+     */
+    public StreamingPartUploader(AmazonS3 s3, ExecutorService threadPool, UploadPartRequestFactory requestFactory,
+            InputStream input, int partSize, int maxPartSize, int maxPartsInMemory, boolean calculateMd5,
+            AdaptiveTransferController adaptiveController) {
+        this(s3, threadPool, requestFactory, input, partSize, maxPartSize, PARTS_PER_PART_SIZE, maxPartsInMemory,
+                calculateMd5, adaptiveController);
+    }
+
+    @SdkTestInternalApi
+    StreamingPartUploader(AmazonS3 s3, ExecutorService threadPool, UploadPartRequestFactory requestFactory,
+            InputStream input, int partSize, int maxPartSize, int partsPerPartSize, int maxPartsInMemory,
+            boolean calculateMd5, AdaptiveTransferController adaptiveController) {
+        if (maxPartsInMemory <= 0) {
+            throw new IllegalArgumentException("maxPartsInMemory must be positive");
+        }
+        if (maxPartSize < partSize) {
+            throw new IllegalArgumentException("maxPartSize must not be less than partSize");
+        }
+        this.s3 = s3;
+        this.threadPool = threadPool;
+        this.requestFactory = requestFactory;
+        this.input = input;
+        this.partSize = partSize;
+        this.maxPartSize = maxPartSize;
+        this.partsPerPartSize = partsPerPartSize;
+        this.maxPartsInMemory = maxPartsInMemory;
+        this.calculateMd5 = calculateMd5;
+        this.adaptiveController = adaptiveController;
+    }
+
+    /**
+     * Reads the rest of the stream and submits its parts, starting with a
+     * part that has already been read. Returns once the last part has been
+     * submitted; the returned futures complete as the parts are uploaded.
+     *
+     * @param firstPart
+     *            A buffer of the part size holding the beginning of the stream.
+     * @param firstPartLength
+     *            The number of bytes in the first part.
+     */
+    public List<Future<PartETag>> uploadParts(byte[] firstPart, int firstPartLength) throws Exception {
+        allocatedBuffers = 1;
+        byte[] buffer = firstPart;
+        int length = firstPartLength;
+        try {
+            while (true) {
+                boolean isLastPart = length < buffer.length;
+                if (length > 0) {
+                    submit(buffer, length, isLastPart);
+                } else {
+                    freeBuffers.add(buffer);
+                }
+                if (isLastPart) {
+                    break;
+                }
+                if (Thread.currentThread().isInterrupted() || threadPool.isShutdown()) {
+                    throw new CancellationException("TransferManager has been shutdown");
+                }
+                growPartSize();
+                buffer = nextBuffer();
+                length = readFully(input, buffer);
+            }
+        } catch (Exception e) {
+            for (RunnableFuture<PartETag> part : parts) {
+                part.cancel(true);
+            }
+            throw e;
+        }
+        return new ArrayList<Future<PartETag>>(parts);
+    }
+
+    /**
+     * Reads from the stream until the buffer is full or the stream ends.
+     *
+     * @return The number of bytes read, less than the buffer length only if
+     *         the end of the stream was reached.
+     */
+    public static int readFully(InputStream input, byte[] buffer) throws IOException {
+        int total = 0;
+        while (total < buffer.length) {
+            int read = input.read(buffer, total, buffer.length - total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    /**
+     * Doubles the part size, up to the maximum, once the current size has
+     * been used for its share of parts.
+     */
+    private void growPartSize() {
+        if (partSize < maxPartSize && parts.size() % partsPerPartSize == 0) {
+            partSize = (int) Math.min((long) partSize * 2, maxPartSize);
+        }
+    }
+
+    private void submit(final byte[] buffer, final int length, boolean isLastPart) {
+        if (parts.size() >= MAXIMUM_UPLOAD_PARTS) {
+            throw new SdkClientException("The stream is larger than " + MAXIMUM_UPLOAD_PARTS
+                    + " parts, the last of which were " + partSize + " bytes, and cannot be uploaded"
+                    + " without a known content length");
+        }
+        final UploadPartRequest request = requestFactory.getNextUploadPartRequest(
+                new ByteArrayInputStream(buffer, 0, length), length, isLastPart);
+        Callable<PartETag> upload = new Callable<PartETag>() {
+            @Override
+            public PartETag call() throws Exception {
+                try {
+                    if (calculateMd5) {
+                        request.withMD5Digest(Md5Utils.md5AsBase64(new ByteArrayInputStream(buffer, 0, length)));
+                    }
+                    return new UploadPartCallable(s3, request, false, adaptiveController).call();
+                } finally {
+                    freeBuffers.add(buffer);
+                }
+            }
+        };
+        if (adaptiveController == null) {
+            RunnableFuture<PartETag> part = new FutureTask<PartETag>(upload);
+            parts.add(part);
+            threadPool.execute(part);
+        } else {
+            parts.add(adaptiveController.submit(threadPool, upload));
+        }
+    }
+
+    /**
+     * Returns a buffer to read the next part into, waiting for (or running)
+     * the oldest pending part when all buffers are in use.
+     */
+    private byte[] nextBuffer() throws InterruptedException, ExecutionException {
+        while (true) {
+            byte[] buffer = freeBuffers.poll();
+            if (buffer != null) {
+                if (buffer.length == partSize) {
+                    return buffer;
+                }
+                // Left over from a smaller part size
+                allocatedBuffers--;
+                continue;
+            }
+            if (allocatedBuffers < maxPartsInMemory) {
+                allocatedBuffers++;
+                return new byte[partSize];
+            }
+            RunnableFuture<PartETag> oldest = parts.get(oldestPendingPart++);
+            // No-op if a pool thread has already started the part
+            oldest.run();
+            oldest.get();
+        }
+    }
+}
@@ -18,8 +18,10 @@ import static com.ibm.cloud.objectstorage.services.s3.internal.Constants.MAXIMUM
 
 import com.ibm.cloud.objectstorage.services.s3.AmazonS3;
 import com.ibm.cloud.objectstorage.services.s3.AmazonS3Encryption;
+import com.ibm.cloud.objectstorage.services.s3.AmazonS3EncryptionClient;
 import com.ibm.cloud.objectstorage.services.s3.AmazonS3EncryptionV2;
 import com.ibm.cloud.objectstorage.services.s3.Headers;
+import com.ibm.cloud.objectstorage.services.s3.internal.crypto.v1.RangedDownloadGcmContext;
 import com.ibm.cloud.objectstorage.services.s3.model.CopyObjectRequest;
 import com.ibm.cloud.objectstorage.services.s3.model.GetObjectRequest;
 import com.ibm.cloud.objectstorage.services.s3.model.ObjectMetadata;
@@ -30,8 +32,11 @@ import com.ibm.cloud.objectstorage.services.s3.transfer.TransferManagerConfigura
 import com.ibm.cloud.objectstorage.util.ValidationUtils;
 import java.io.File;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
@@ -60,6 +65,32 @@ public class TransferManagerUtils {
         return (ThreadPoolExecutor)Executors.newFixedThreadPool(10, threadFactory);
     }
 
+    /**
+     * Returns a new thread pool for the copies of a directory copy, with as
+     * many threads as the given number of copies in flight. The threads are
+     * only created when needed, and go away once they have been idle for a
+     * minute.
+     *
+     * @param maxCopies
+     *            The maximum number of copies in flight.
+     * @return A new thread pool for the copies of a directory copy.
+     */
+    public static ThreadPoolExecutor createDirectoryCopyExecutorService(int maxCopies) {
+        ThreadFactory threadFactory = new ThreadFactory() {
+            private final AtomicInteger threadCount = new AtomicInteger(0);
+
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r);
+                thread.setName("s3-transfer-manager-copy-worker-" + threadCount.incrementAndGet());
+                return thread;
+            }
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxCopies, maxCopies, 60L, TimeUnit.SECONDS,
+                                                             new LinkedBlockingQueue<Runnable>(), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     /**
      * Returns true if the specified upload request can use parallel part
      * uploads for increased performance.
@@ -81,6 +112,48 @@ public class TransferManagerUtils {
         return (getRequestFile(putObjectRequest) != null);
     }
 
+    /**
+     * Returns true if the given encryption client encrypts the parts of an
+     * upload initiated with a part size independently of each other, so that
+     * they can be uploaded in parallel.
+     *
+     * @param s3
+     *            The client to check.
+     *
+     * @return True if the parts of an encrypted upload can be uploaded in
+     *         parallel.
+     */
+    @SuppressWarnings("deprecation")
+    public static boolean isParallelPartEncryptionSupported(final AmazonS3 s3) {
+        return s3 instanceof AmazonS3EncryptionClient
+            && ((AmazonS3EncryptionClient) s3).isParallelPartUploadSupported();
+    }
+
+    /**
+     * Returns a context to download the object of the given request through
+     * the given encryption client in ranges decrypted in parallel, or null if
+     * the client is not an encryption client, or the object can only be
+     * decrypted as a whole.
+     *
+     * @param s3
+     *            The client to download with.
+     * @param getObjectRequest
+     *            The request for the whole object.
+     * @param rangeSize
+     *            The size of the ranges, a multiple of 16.
+     *
+     * @return The context of the ranged download, or null.
+     */
+    @SuppressWarnings("deprecation")
+    public static RangedDownloadGcmContext newRangedDecryptionContext(final AmazonS3 s3,
+            final GetObjectRequest getObjectRequest, long rangeSize) {
+        if (!(s3 instanceof AmazonS3EncryptionClient) || getObjectRequest.getRange() != null
+            || getObjectRequest.getPartNumber() != null) {
+            return null;
+        }
+        return ((AmazonS3EncryptionClient) s3).newRangedDownloadContext(getObjectRequest, rangeSize);
+    }
+
     /**
      * Returns the size of the data in this request, otherwise -1 if the content
      * length is unknown.
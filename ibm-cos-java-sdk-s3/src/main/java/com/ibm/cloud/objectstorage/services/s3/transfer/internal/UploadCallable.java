@@ -28,6 +28,7 @@ import com.ibm.cloud.objectstorage.services.s3.model.EncryptedInitiateMultipartU
 import com.ibm.cloud.objectstorage.services.s3.model.EncryptedPutObjectRequest;
 import com.ibm.cloud.objectstorage.services.s3.model.InitiateMultipartUploadRequest;
 import com.ibm.cloud.objectstorage.services.s3.model.ListPartsRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.ObjectMetadata;
 import com.ibm.cloud.objectstorage.services.s3.model.PartETag;
 import com.ibm.cloud.objectstorage.services.s3.model.PartListing;
 import com.ibm.cloud.objectstorage.services.s3.model.PartSummary;
@@ -42,8 +43,10 @@ import com.ibm.cloud.objectstorage.services.s3.transfer.TransferProgress;
 import com.ibm.cloud.objectstorage.services.s3.transfer.internal.future.CompletedFuture;
 import com.ibm.cloud.objectstorage.services.s3.transfer.internal.future.CompositeFuture;
 import com.ibm.cloud.objectstorage.services.s3.transfer.internal.future.DelegatingFuture;
+import com.ibm.cloud.objectstorage.services.s3.transfer.internal.future.FailedFuture;
 import com.ibm.cloud.objectstorage.services.s3.transfer.internal.future.FutureImpl;
 import com.ibm.cloud.objectstorage.services.s3.transfer.model.UploadResult;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -56,6 +59,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -73,6 +77,7 @@ public class UploadCallable implements Callable<UploadResult> {
     private final DelegatingFuture<List<PartETag>> partsFuture = new DelegatingFuture<List<PartETag>>();
     private final ProgressListenerChain listener;
     private final TransferProgress transferProgress;
+    private final AdaptiveTransferController adaptiveController;
 
     /**
      * ETags retrieved from Amazon S3 for a multi-part upload id. These parts
@@ -89,17 +94,38 @@ public class UploadCallable implements Callable<UploadResult> {
      */
     private final int MULTIPART_UPLOAD_ID_RETRIEVAL_TIMEOUT_SECONDS = 30;
 
+    /** Largest part, and so buffer, a streaming upload reads into memory at once. */
+    private static final long MAXIMUM_STREAMING_PART_SIZE = Integer.MAX_VALUE - 8;
+
     private PersistableUpload persistableUpload;
 
     private final AtomicReference<State> state = new AtomicReference<State>(State.BEFORE_INITIATE);
 
     private final AtomicBoolean abortRequestSent = new AtomicBoolean(false);
 
+    /**
+     * Set when a streaming upload turned out to fit in a single part and was
+     * sent with a single request.
+     */
+    private volatile boolean streamedInOneChunk;
+
     public UploadCallable(TransferManager transferManager,
             ExecutorService threadPool, UploadImpl upload,
             PutObjectRequest origReq,
             ProgressListenerChain progressListenerChain, String uploadId,
             TransferProgress transferProgress) {
+        this(transferManager, threadPool, upload, origReq, progressListenerChain, uploadId, transferProgress, null);
+    }
+
+    /**
+     * @param adaptiveController if not null, sizes the parts of new uploads and
+     *                           gates how many parts are in flight.
+     */
+    public UploadCallable(TransferManager transferManager,
+            ExecutorService threadPool, UploadImpl upload,
+            PutObjectRequest origReq,
+            ProgressListenerChain progressListenerChain, String uploadId,
+            TransferProgress transferProgress, AdaptiveTransferController adaptiveController) {
         this.s3 = transferManager.getAmazonS3Client();
         this.configuration = transferManager.getConfiguration();
 
@@ -108,6 +134,7 @@ public class UploadCallable implements Callable<UploadResult> {
         this.listener = progressListenerChain;
         this.upload = upload;
         this.transferProgress = transferProgress;
+        this.adaptiveController = adaptiveController;
 
         // We only have an upload ID if we are resuming a multipart upload.
         if (uploadId != null) {
@@ -136,13 +163,31 @@ public class UploadCallable implements Callable<UploadResult> {
      * @return True if this UploadCallable is processing a multipart upload.
      */
     public boolean isMultipartUpload() {
+        if (isStreamingUpload()) {
+            return !streamedInOneChunk;
+        }
         return TransferManagerUtils.shouldUseMultipartUpload(origReq, configuration);
     }
 
+    /**
+     * Returns true if the request's stream is uploaded in parts read one at a
+     * time, see {@link TransferManagerConfiguration#setStreamingUploads(boolean)}.
+     */
+    private boolean isStreamingUpload() {
+        if (!configuration.isStreamingUploads() || origReq.getInputStream() == null
+            || s3 instanceof AmazonS3Encryption || s3 instanceof AmazonS3EncryptionV2) {
+            return false;
+        }
+        long contentLength = TransferManagerUtils.getContentLength(origReq);
+        return contentLength < 0 || contentLength > configuration.getMultipartUploadThreshold();
+    }
+
     public UploadResult call() throws Exception {
         try {
             upload.setState(TransferState.InProgress);
-            if (isMultipartUpload()) {
+            if (isStreamingUpload()) {
+                return uploadStreamInParts();
+            } else if (isMultipartUpload()) {
                 publishProgress(listener, ProgressEventType.TRANSFER_STARTED_EVENT);
                 return uploadInParts();
             } else {
@@ -163,14 +208,18 @@ public class UploadCallable implements Callable<UploadResult> {
      * Uploads the given request in a single chunk and returns the result.
      */
     private UploadResult uploadInOneChunk() {
+        return uploadInOneChunk(origReq);
+    }
+
+    private UploadResult uploadInOneChunk(PutObjectRequest request) {
         // Not a multipart upload, so no multipart upload ID.
         multipartUploadId.complete(null);
 
-        PutObjectResult putObjectResult = s3.putObject(origReq);
+        PutObjectResult putObjectResult = s3.putObject(request);
 
         UploadResult uploadResult = new UploadResult();
-        uploadResult.setBucketName(origReq.getBucketName());
-        uploadResult.setKey(origReq.getKey());
+        uploadResult.setBucketName(request.getBucketName());
+        uploadResult.setKey(request.getKey());
         uploadResult.setETag(putObjectResult.getETag());
         uploadResult.setVersionId(putObjectResult.getVersionId());
         return uploadResult;
@@ -179,12 +228,13 @@ public class UploadCallable implements Callable<UploadResult> {
     /**
      * Captures the state of the upload.
      */
-    private void captureUploadStateIfPossible(String multipartUploadId) {
+    private void captureUploadStateIfPossible(String multipartUploadId, long partSize) {
         if (origReq.getSSECustomerKey() == null) {
+            // Adaptively sized parts must be resumed with the size they were started with
             persistableUpload = new PersistableUpload(origReq.getBucketName(),
                     origReq.getKey(), origReq.getFile()
                             .getAbsolutePath(), multipartUploadId,
-                    configuration.getMinimumUploadPartSize(),
+                    adaptiveController == null ? configuration.getMinimumUploadPartSize() : partSize,
                     configuration.getMultipartUploadThreshold());
             notifyPersistableTransferAvailability();
         }
@@ -209,18 +259,27 @@ public class UploadCallable implements Callable<UploadResult> {
      */
     private UploadResult uploadInParts() throws Exception {
         boolean isUsingEncryption = s3 instanceof AmazonS3Encryption || s3 instanceof AmazonS3EncryptionV2;
+        // Parts of a file can be encrypted independently of each other by some encryption clients
+        boolean isEncryptingPartsInParallel = isUsingEncryption
+                && TransferManagerUtils.isParallelPartEncryptionSupported(s3)
+                && TransferManagerUtils.isUploadParallelizable(origReq, false);
         long optimalPartSize = getOptimalPartSize(isUsingEncryption);
 
         try {
             // Get a multipart upload ID, either using one we already have (e.g. because of a resume), or creating a new one.
             String uploadId = multipartUploadId.isDone() ? multipartUploadId.get()
-                                                         : initiateMultipartUpload(origReq, isUsingEncryption);
+                                                         : initiateMultipartUpload(origReq, isUsingEncryption,
+                                                                 isEncryptingPartsInParallel ? optimalPartSize : 0);
 
             UploadPartRequestFactory requestFactory = new UploadPartRequestFactory(origReq, uploadId, optimalPartSize);
 
-            if (TransferManagerUtils.isUploadParallelizable(origReq, isUsingEncryption)) {
-                captureUploadStateIfPossible(uploadId);
-                uploadPartsInParallel(requestFactory, uploadId);
+            if (isEncryptingPartsInParallel
+                    || TransferManagerUtils.isUploadParallelizable(origReq, isUsingEncryption)) {
+                if (!isUsingEncryption) {
+                    // The encryption context of an upload cannot be resumed
+                    captureUploadStateIfPossible(uploadId, optimalPartSize);
+                }
+                uploadPartsInParallel(requestFactory, uploadId, isEncryptingPartsInParallel);
                 return null;
             } else {
                 return uploadPartsInSeries(requestFactory, uploadId);
@@ -241,6 +300,70 @@ public class UploadCallable implements Callable<UploadResult> {
         }
     }
 
+    /**
+     * Reads the request's stream one part at a time and uploads the parts
+     * concurrently as they are read, holding at most
+     * {@link TransferManagerConfiguration#getStreamingUploadConcurrency()}
+     * parts in memory. The part size starts at the size computed for an
+     * unknown length and grows as parts are uploaded, up to
+     * {@link #MAXIMUM_STREAMING_PART_SIZE}. A stream that ends within its
+     * first part is sent with a single request instead.
+     */
+    private UploadResult uploadStreamInParts() throws Exception {
+        InputStream input = origReq.getInputStream();
+        try {
+            // The part size can only be derived from the content length when it is known
+            int partSize = (int) Math.min(TransferManagerUtils.calculateOptimalPartSize(origReq, configuration),
+                    MAXIMUM_STREAMING_PART_SIZE);
+            byte[] firstPart = new byte[partSize];
+            int firstPartLength = StreamingPartUploader.readFully(input, firstPart);
+
+            if (firstPartLength < partSize) {
+                streamedInOneChunk = true;
+                return uploadBufferInOneChunk(firstPart, firstPartLength);
+            }
+
+            publishProgress(listener, ProgressEventType.TRANSFER_STARTED_EVENT);
+            String uploadId = initiateMultipartUpload(origReq, false, 0);
+            List<Future<PartETag>> futures = new ArrayList<Future<PartETag>>();
+            try {
+                futures = new StreamingPartUploader(s3, threadPool,
+                        new UploadPartRequestFactory(origReq, uploadId, partSize), input, partSize,
+                        (int) MAXIMUM_STREAMING_PART_SIZE, configuration.getStreamingUploadConcurrency(), shouldCalculatePartMd5(), adaptiveController)
+                        .uploadParts(firstPart, firstPartLength);
+            } finally {
+                partsFuture.setDelegate(new CompositeFuture<PartETag>(futures));
+            }
+            return null;
+        } catch (Exception e) {
+            publishProgress(listener, ProgressEventType.TRANSFER_FAILED_EVENT);
+
+            if (multipartUploadId.isDone()) {
+                abortMultipartUpload(multipartUploadId.get());
+            }
+            throw e;
+        } finally {
+            try {
+                input.close();
+            } catch (Exception e) {
+                log.warn("Unable to cleanly close input stream: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Uploads a stream that has been read completely into a buffer with a
+     * single request, now that its length is known.
+     */
+    private UploadResult uploadBufferInOneChunk(byte[] buffer, int length) {
+        ObjectMetadata metadata = origReq.getMetadata() == null ? new ObjectMetadata() : origReq.getMetadata().clone();
+        metadata.setContentLength(length);
+        PutObjectRequest request = origReq.clone()
+                .withInputStream(new ByteArrayInputStream(buffer, 0, length))
+                .withMetadata(metadata);
+        return uploadInOneChunk(request);
+    }
+
     void safelyAbortMultipartUpload(Future<?> future) {
         if (multipartUploadId.isDone()) {
             state.set(State.ABORTED);
@@ -288,10 +411,15 @@ public class UploadCallable implements Callable<UploadResult> {
     }
 
     /**
-     * Computes and returns the optimal part size for the upload.
+     * Computes and returns the optimal part size for the upload. Resumed
+     * uploads keep the part size recorded when they were paused.
      */
     private long getOptimalPartSize(boolean isUsingEncryption) {
         long optimalPartSize = TransferManagerUtils.calculateOptimalPartSize(origReq, configuration);
+        if (adaptiveController != null && !multipartUploadId.isDone()) {
+            optimalPartSize = Math.max(optimalPartSize,
+                    adaptiveController.recommendPartSize(TransferManagerUtils.getContentLength(origReq)));
+        }
         if (isUsingEncryption && optimalPartSize % 32 > 0) {
             // When using encryption, parts must line up correctly along cipher block boundaries
             optimalPartSize = optimalPartSize - (optimalPartSize % 32) + 32 ;
@@ -344,13 +472,18 @@ public class UploadCallable implements Callable<UploadResult> {
 
     /**
      * Submits a callable for each part to upload to our thread pool and records its corresponding Future.
+     *
+     * @param isEncryptingPartsInParallel true if the last part appends a tag
+     *        computed from the other parts, in which case it is only submitted
+     *        once they are uploaded, so that it never waits for them.
      */
     private void uploadPartsInParallel(UploadPartRequestFactory requestFactory,
-            String uploadId) {
+            String uploadId, boolean isEncryptingPartsInParallel) {
 
         Map<Integer,PartSummary> partNumbers = identifyExistingPartsForResume(uploadId);
 
         List<Future<PartETag>> futures = new ArrayList<Future<PartETag>>();
+        LastPart lastPart = isEncryptingPartsInParallel ? new LastPart() : null;
         try {
             while (requestFactory.hasMoreRequests()) {
                 if (threadPool.isShutdown()) throw new CancellationException("TransferManager has been shutdown");
@@ -362,13 +495,94 @@ public class UploadCallable implements Callable<UploadResult> {
                     transferProgress.updateProgress(summary.getSize());
                     continue;
                 }
-                futures.add(threadPool.submit(new UploadPartCallable(s3, request, shouldCalculatePartMd5())));
+                UploadPartCallable part = new UploadPartCallable(s3, request, shouldCalculatePartMd5(),
+                        adaptiveController);
+                if (lastPart == null) {
+                    futures.add(submitPart(part));
+                } else if (request.isLastPart()) {
+                    futures.add(lastPart.submitAfterOtherParts(part));
+                } else {
+                    futures.add(submitPart(lastPart.beforeLastPart(part)));
+                }
             }
         } finally {
             partsFuture.setDelegate(new CompositeFuture<PartETag>(futures));
         }
     }
 
+    private Future<PartETag> submitPart(Callable<PartETag> part) {
+        return adaptiveController == null
+                ? threadPool.submit(part)
+                : adaptiveController.submit(threadPool, part);
+    }
+
+    /**
+     * The last part of an upload whose parts are encrypted in parallel, which
+     * is submitted once all the other parts are uploaded, and so have been
+     * encrypted. Submitted earlier, it would hold its thread at its end until
+     * the other parts are encrypted, and could hold the only thread they can
+     * run on. The last part is not uploaded if another part fails.
+     */
+    private final class LastPart {
+        private final DelegatingFuture<PartETag> future = new DelegatingFuture<PartETag>();
+        /** The parts to upload before the last one, plus one until the last one is known. */
+        private final AtomicInteger remainingParts = new AtomicInteger(1);
+        private final AtomicBoolean failed = new AtomicBoolean();
+        private volatile Callable<PartETag> part;
+
+        /**
+         * Returns a callable uploading the given part, which must be uploaded
+         * before the last one.
+         */
+        Callable<PartETag> beforeLastPart(final Callable<PartETag> otherPart) {
+            remainingParts.incrementAndGet();
+            return new Callable<PartETag>() {
+                @Override
+                public PartETag call() throws Exception {
+                    PartETag partETag;
+                    try {
+                        partETag = otherPart.call();
+                    } catch (Exception e) {
+                        fail(e);
+                        throw e;
+                    } catch (Error e) {
+                        fail(e);
+                        throw e;
+                    }
+                    partDone();
+                    return partETag;
+                }
+            };
+        }
+
+        /**
+         * Submits the last part once all the parts passed to
+         * {@link #beforeLastPart(Callable)} are uploaded, returning its
+         * future.
+         */
+        Future<PartETag> submitAfterOtherParts(Callable<PartETag> lastPart) {
+            part = lastPart;
+            partDone();
+            return future;
+        }
+
+        private void partDone() {
+            if (remainingParts.decrementAndGet() == 0 && !failed.get()) {
+                try {
+                    future.setDelegateIfUnset(submitPart(part));
+                } catch (RuntimeException e) {
+                    future.setDelegateIfUnset(new FailedFuture<PartETag>(e));
+                }
+            }
+        }
+
+        private void fail(Throwable cause) {
+            if (failed.compareAndSet(false, true)) {
+                future.setDelegateIfUnset(new FailedFuture<PartETag>(cause));
+            }
+        }
+    }
+
     private Map<Integer, PartSummary> identifyExistingPartsForResume(
             String uploadId) {
         Map<Integer, PartSummary> partNumbers = new HashMap<Integer, PartSummary>();
@@ -399,16 +613,22 @@ public class UploadCallable implements Callable<UploadResult> {
     /**
      * Initiates a multipart upload and returns the upload id
      * @param isUsingEncryption
+     * @param encryptedPartSize the size of the parts to encrypt independently
+     *        of each other, or zero to encrypt them in series
      */
-    private String initiateMultipartUpload(PutObjectRequest origReq, boolean isUsingEncryption) {
+    private String initiateMultipartUpload(PutObjectRequest origReq, boolean isUsingEncryption,
+            long encryptedPartSize) {
 
         InitiateMultipartUploadRequest req = null;
-        if (isUsingEncryption && origReq instanceof EncryptedPutObjectRequest) {
+        if (isUsingEncryption && (origReq instanceof EncryptedPutObjectRequest || encryptedPartSize > 0)) {
             req = new EncryptedInitiateMultipartUploadRequest(
                     origReq.getBucketName(), origReq.getKey()).withCannedACL(
                     origReq.getCannedAcl()).withObjectMetadata(origReq.getMetadata());
-            ((EncryptedInitiateMultipartUploadRequest) req)
-                    .setMaterialsDescription(((EncryptedPutObjectRequest) origReq).getMaterialsDescription());
+            if (origReq instanceof EncryptedPutObjectRequest) {
+                ((EncryptedInitiateMultipartUploadRequest) req)
+                        .setMaterialsDescription(((EncryptedPutObjectRequest) origReq).getMaterialsDescription());
+            }
+            ((EncryptedInitiateMultipartUploadRequest) req).setPartSize(encryptedPartSize);
         } else {
             req = new InitiateMultipartUploadRequest(origReq.getBucketName(), origReq.getKey())
                 .withCannedACL(origReq.getCannedAcl())
@@ -14,14 +14,13 @@
  */
 package com.ibm.cloud.objectstorage.services.s3.transfer.internal;
 
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.concurrent.Callable;
 
 import com.ibm.cloud.objectstorage.SdkClientException;
+import com.ibm.cloud.objectstorage.internal.FileRegionInputStream;
 import com.ibm.cloud.objectstorage.internal.SdkThreadLocalsRegistry;
 import com.ibm.cloud.objectstorage.services.s3.AmazonS3;
 import com.ibm.cloud.objectstorage.services.s3.model.PartETag;
@@ -29,7 +28,7 @@ import com.ibm.cloud.objectstorage.services.s3.model.UploadPartRequest;
 import com.ibm.cloud.objectstorage.util.BinaryUtils;
 
 public class UploadPartCallable implements Callable<PartETag> {
-    private static final int MAX_SKIPS = 100;
+    private static final int MD5_BUFFER_SIZE = 64 * 1024;
     private static final ThreadLocal<MessageDigest> MD5_DIGEST;
     static {
         MD5_DIGEST = SdkThreadLocalsRegistry.register(new ThreadLocal<MessageDigest>() {
@@ -46,65 +45,76 @@ public class UploadPartCallable implements Callable<PartETag> {
     private final AmazonS3 s3;
     private final UploadPartRequest request;
     private final boolean calculateMd5;
+    private final AdaptiveTransferController adaptiveController;
 
     public UploadPartCallable(AmazonS3 s3, UploadPartRequest request) {
         this(s3, request, false);
     }
 
     public UploadPartCallable(AmazonS3 s3, UploadPartRequest request, boolean calculateMd5) {
+        this(s3, request, calculateMd5, null);
+    }
+
+    /**
+     * @param adaptiveController if not null, is told how long the part took. The
+     *                           part must then be submitted through
+     *                           {@link AdaptiveTransferController#submit}.
+     */
+    public UploadPartCallable(AmazonS3 s3, UploadPartRequest request, boolean calculateMd5,
+                              AdaptiveTransferController adaptiveController) {
         this.s3 = s3;
         this.request = request;
         this.calculateMd5 = calculateMd5;
+        this.adaptiveController = adaptiveController;
     }
 
     public PartETag call() throws Exception {
         if (calculateMd5) {
             request.withMD5Digest(computedMd5());
         }
-        PartETag partETag = s3.uploadPart(request).getPartETag();
+        if (adaptiveController == null) {
+            return s3.uploadPart(request).getPartETag();
+        }
+
+        long startNanos = System.nanoTime();
+        PartETag partETag;
+        try {
+            partETag = s3.uploadPart(request).getPartETag();
+        } catch (RuntimeException e) {
+            adaptiveController.release(e);
+            throw e;
+        } catch (Error e) {
+            adaptiveController.release(e);
+            throw e;
+        }
+        adaptiveController.release(request.getPartSize(), System.nanoTime() - startNanos);
         return partETag;
     }
 
 
     private String computedMd5() {
-        FileInputStream fileStream = null;
+        FileRegionInputStream regionStream = null;
         try {
-            fileStream = new FileInputStream(request.getFile());
-            skipBytes(fileStream, request.getFileOffset());
-            return BinaryUtils.toBase64(computeMd5Bytes(fileStream, request.getPartSize()));
+            regionStream = new FileRegionInputStream(request.getFile(), request.getFileOffset(),
+                    request.getPartSize());
+            return BinaryUtils.toBase64(computeMd5Bytes(regionStream));
         } catch (IOException e) {
             throw new SdkClientException(e);
         } finally {
-            if (fileStream != null) {
-                try {
-                    fileStream.close();
-                } catch (IOException ignored) {
-                }
+            if (regionStream != null) {
+                regionStream.release();
             }
         }
     }
 
-    private static byte[] computeMd5Bytes(InputStream is, long remaining) throws IOException {
-        byte readBuff[] = new byte[4096];
+    private static byte[] computeMd5Bytes(FileRegionInputStream is) throws IOException {
+        byte readBuff[] = new byte[(int) Math.max(1, Math.min(MD5_BUFFER_SIZE, is.getRemaining()))];
         MessageDigest digest = MD5_DIGEST.get();
         digest.reset();
         int read;
-        while (remaining > 0 && (read = is.read(readBuff)) != -1) {
-            int updateLen = (int) Math.min(remaining, read);
-            digest.update(readBuff, 0, updateLen);
-            remaining -= updateLen;
+        while ((read = is.read(readBuff)) != -1) {
+            digest.update(readBuff, 0, read);
         }
         return digest.digest();
     }
-
-    private void skipBytes(FileInputStream fs, long n) throws IOException {
-        long skippedSoFar = 0;
-        for (int skips = 0; skips < MAX_SKIPS && skippedSoFar < n; ++skips) {
-            skippedSoFar += fs.skip(n - skippedSoFar);
-        }
-        if (skippedSoFar != n) {
-            throw new SdkClientException(String.format("Unable to skip to offset %d in file %s after %d attempts",
-                    n, request.getFile().getAbsolutePath(), MAX_SKIPS));
-        }
-    }
 }
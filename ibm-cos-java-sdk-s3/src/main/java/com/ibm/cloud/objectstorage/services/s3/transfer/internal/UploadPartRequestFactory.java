@@ -23,6 +23,7 @@ import com.ibm.cloud.objectstorage.services.s3.model.UploadPartRequest;
 import com.ibm.cloud.objectstorage.services.s3.transfer.TransferManager;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.InputStream;
 
 /**
  * Factory for creating all the individual UploadPartRequest objects for a
@@ -98,14 +99,42 @@ public class UploadPartRequestFactory {
                 .withPartNumber(partNumber++)
                 .withPartSize(partSize);
         }
+        offset += partSize;
+        remainingBytes -= partSize;
+
+        return configure(req, isLastPart);
+    }
+
+    /**
+     * Creates the request for the next part from content that has already been
+     * read from the original request's stream, for uploads whose total length
+     * is not known in advance.
+     *
+     * @param content
+     *            The content of the part.
+     * @param partSize
+     *            The number of bytes in the content.
+     * @param isLastPart
+     *            True if the content ends with the end of the original stream.
+     */
+    public synchronized UploadPartRequest getNextUploadPartRequest(InputStream content, long partSize,
+            boolean isLastPart) {
+        UploadPartRequest req = new UploadPartRequest()
+            .withBucketName(bucketName)
+            .withKey(key)
+            .withUploadId(uploadId)
+            .withInputStream(content)
+            .withPartNumber(partNumber++)
+            .withPartSize(partSize);
+        return configure(req, isLastPart);
+    }
+
+    private UploadPartRequest configure(UploadPartRequest req, boolean isLastPart) {
         req.withRequesterPays(origReq.isRequesterPays());
         TransferManager.appendMultipartUserAgent(req);
 
         if (sseCustomerKey != null) req.setSSECustomerKey(sseCustomerKey);
 
-        offset += partSize;
-        remainingBytes -= partSize;
-
         req.setLastPart(isLastPart);
 
         req.withGeneralProgressListener(origReq.getGeneralProgressListener())
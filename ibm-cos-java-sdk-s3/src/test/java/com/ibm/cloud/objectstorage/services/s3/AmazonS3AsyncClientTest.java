@@ -0,0 +1,304 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ibm.cloud.objectstorage.ClientConfiguration;
+import com.ibm.cloud.objectstorage.SdkClientException;
+import com.ibm.cloud.objectstorage.auth.AWSStaticCredentialsProvider;
+import com.ibm.cloud.objectstorage.auth.BasicAWSCredentials;
+import com.ibm.cloud.objectstorage.client.builder.AwsClientBuilder.EndpointConfiguration;
+import com.ibm.cloud.objectstorage.http.exception.HttpRequestTimeoutException;
+import com.ibm.cloud.objectstorage.http.jdk.JdkHttpClientFactory;
+import com.ibm.cloud.objectstorage.http.timers.client.ClientExecutionTimeoutException;
+import com.ibm.cloud.objectstorage.services.s3.model.AmazonS3Exception;
+import com.ibm.cloud.objectstorage.services.s3.model.GetObjectMetadataRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.GetObjectRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.ObjectMetadata;
+import com.ibm.cloud.objectstorage.services.s3.model.PutObjectRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.PutObjectResult;
+import com.ibm.cloud.objectstorage.util.BinaryUtils;
+import com.ibm.cloud.objectstorage.util.Md5Utils;
+import com.ibm.cloud.objectstorage.util.StringUtils;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+public class AmazonS3AsyncClientTest {
+
+	private HttpServer server;
+
+	private final LinkedBlockingQueue<CannedResponse> responses = new LinkedBlockingQueue<CannedResponse>();
+
+	private final List<String> requests = Collections.synchronizedList(new ArrayList<String>());
+
+	private AmazonS3Async client;
+
+	private volatile long responseDelayMillis;
+
+	@Before
+	public void setUp() throws IOException {
+		assumeTrue(JdkHttpClientFactory.isSupported());
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/", new HttpHandler() {
+			@Override
+			public void handle(HttpExchange exchange) throws IOException {
+				byte[] requestBody = readFully(exchange);
+				if (responseDelayMillis > 0) {
+					try {
+						Thread.sleep(responseDelayMillis);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				requests.add(exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath() + " "
+						+ new String(requestBody, StringUtils.UTF8));
+				CannedResponse response = responses.poll();
+				if (response == null) {
+					response = new CannedResponse(500, null, null);
+				}
+				if (response.etag != null) {
+					exchange.getResponseHeaders().add("ETag", "\"" + response.etag + "\"");
+				}
+				byte[] body = response.body == null ? new byte[0] : response.body.getBytes(StringUtils.UTF8);
+				boolean head = "HEAD".equals(exchange.getRequestMethod());
+				exchange.sendResponseHeaders(response.status, head || body.length == 0 ? -1 : body.length);
+				OutputStream out = exchange.getResponseBody();
+				if (!head) {
+					out.write(body);
+				}
+				out.close();
+			}
+		});
+		server.start();
+
+		client = AmazonS3AsyncClientBuilder.standard().withS3Client(newS3Client(new JdkHttpClientFactory())).build();
+	}
+
+	@After
+	public void tearDown() {
+		if (client != null) {
+			client.shutdown();
+		}
+		if (server != null) {
+			server.stop(0);
+		}
+	}
+
+	/**
+	 * Test the future is completed with the unmarshalled response
+	 */
+	@Test
+	public void testFutureCompletesWithResult() throws Exception {
+		responses.add(new CannedResponse(200, "0123456789abcdef0123456789abcdef", null));
+
+		ObjectMetadata metadata = client.getObjectMetadataAsync(new GetObjectMetadataRequest("bucket", "key"))
+				.get(5, TimeUnit.SECONDS);
+
+		assertEquals("0123456789abcdef0123456789abcdef", metadata.getETag());
+		assertEquals("HEAD /bucket/key ", requests.get(0));
+	}
+
+	/**
+	 * Test service errors are surfaced as the cause of the failed future
+	 */
+	@Test
+	public void testFutureCompletesExceptionally() throws Exception {
+		responses.add(new CannedResponse(404, null, null));
+
+		try {
+			client.getObjectMetadataAsync(new GetObjectMetadataRequest("bucket", "key")).get(5, TimeUnit.SECONDS);
+			fail("Expected ExecutionException");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof AmazonS3Exception);
+			assertEquals(404, ((AmazonS3Exception) e.getCause()).getStatusCode());
+		}
+	}
+
+	/**
+	 * Test unmet constraints complete the future with null like the
+	 * synchronous client
+	 */
+	@Test
+	public void testUnmetConstraintCompletesWithNull() throws Exception {
+		responses.add(new CannedResponse(412, null, null));
+
+		assertNull(client.getObjectAsync(new GetObjectRequest("bucket", "key").withMatchingETagConstraint("etag"))
+				.get(5, TimeUnit.SECONDS));
+	}
+
+	/**
+	 * Test the content of an upload is sent and validated against the
+	 * returned ETag
+	 */
+	@Test
+	public void testPutObjectSendsContent() throws Exception {
+		byte[] content = "hello world".getBytes(StringUtils.UTF8);
+		String etag = BinaryUtils.toHex(Md5Utils.computeMD5Hash(content));
+		responses.add(new CannedResponse(200, etag, null));
+		ObjectMetadata metadata = new ObjectMetadata();
+		metadata.setContentLength(content.length);
+
+		PutObjectResult result = client.putObjectAsync(
+				new PutObjectRequest("bucket", "key", new ByteArrayInputStream(content), metadata))
+				.get(5, TimeUnit.SECONDS);
+
+		assertEquals(etag, result.getETag());
+		// Over plain HTTP the content is sent with chunked SigV4 payload signing
+		assertTrue(requests.get(0), requests.get(0).startsWith("PUT /bucket/key "));
+		assertTrue(requests.get(0), requests.get(0).contains("hello world"));
+	}
+
+	/**
+	 * Test retryable errors are retried without the caller having to wait
+	 */
+	@Test
+	public void testRetryableErrorIsRetried() throws Exception {
+		responses.add(new CannedResponse(503, null, null));
+		responses.add(new CannedResponse(200, "0123456789abcdef0123456789abcdef", null));
+
+		client.getObjectMetadataAsync(new GetObjectMetadataRequest("bucket", "key")).get(10, TimeUnit.SECONDS);
+
+		assertEquals(2, requests.size());
+	}
+
+	/**
+	 * Test the request timeout aborts a request and fails the future with the
+	 * exception of the synchronous client
+	 */
+	@Test
+	public void testRequestTimeoutFailsFuture() throws Exception {
+		client.shutdown();
+		client = AmazonS3AsyncClientBuilder.standard().withS3Client(newS3Client(new ClientConfiguration()
+				.withTlsKeyManagersProvider(null)
+				.withHttpClientFactory(new JdkHttpClientFactory())
+				.withRequestTimeout(200)
+				.withMaxErrorRetry(0))).build();
+		responseDelayMillis = 2000;
+
+		try {
+			client.getObjectMetadataAsync(new GetObjectMetadataRequest("bucket", "key")).get(1, TimeUnit.SECONDS);
+			fail("Expected ExecutionException");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof SdkClientException);
+			assertTrue(e.getCause().getCause() instanceof HttpRequestTimeoutException);
+		}
+	}
+
+	/**
+	 * Test the client execution timeout fails the future with the exception
+	 * of the synchronous client
+	 */
+	@Test
+	public void testClientExecutionTimeoutFailsFuture() throws Exception {
+		client.shutdown();
+		client = AmazonS3AsyncClientBuilder.standard().withS3Client(newS3Client(new ClientConfiguration()
+				.withTlsKeyManagersProvider(null)
+				.withHttpClientFactory(new JdkHttpClientFactory())
+				.withClientExecutionTimeout(200))).build();
+		responseDelayMillis = 2000;
+
+		try {
+			client.getObjectMetadataAsync(new GetObjectMetadataRequest("bucket", "key")).get(1, TimeUnit.SECONDS);
+			fail("Expected ExecutionException");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof ClientExecutionTimeoutException);
+		}
+	}
+
+	/**
+	 * Test invalid requests fail the future instead of throwing
+	 */
+	@Test
+	public void testInvalidRequestFailsFuture() throws Exception {
+		try {
+			client.getObjectMetadataAsync(new GetObjectMetadataRequest(null, "key")).get(5, TimeUnit.SECONDS);
+			fail("Expected ExecutionException");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof IllegalArgumentException);
+		}
+		assertTrue(requests.isEmpty());
+	}
+
+	/**
+	 * Test a client with a blocking transport is rejected
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testBlockingTransportIsRejected() {
+		AmazonS3 s3 = newS3Client((JdkHttpClientFactory) null);
+		try {
+			AmazonS3AsyncClientBuilder.standard().withS3Client(s3).build();
+		} finally {
+			s3.shutdown();
+		}
+	}
+
+	private AmazonS3 newS3Client(JdkHttpClientFactory httpClientFactory) {
+		return newS3Client(new ClientConfiguration()
+				.withTlsKeyManagersProvider(null)
+				.withHttpClientFactory(httpClientFactory));
+	}
+
+	private AmazonS3 newS3Client(ClientConfiguration clientConfiguration) {
+		return AmazonS3ClientBuilder.standard()
+				.withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("akid", "skid")))
+				.withEndpointConfiguration(new EndpointConfiguration(
+						"http://localhost:" + server.getAddress().getPort(), "us-east-1"))
+				.withPathStyleAccessEnabled(true)
+				.withClientConfiguration(clientConfiguration)
+				.build();
+	}
+
+	private static byte[] readFully(HttpExchange exchange) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[1024];
+		int read;
+		while ((read = exchange.getRequestBody().read(buffer)) != -1) {
+			out.write(buffer, 0, read);
+		}
+		return out.toByteArray();
+	}
+
+	private static final class CannedResponse {
+		private final int status;
+		private final String etag;
+		private final String body;
+
+		private CannedResponse(int status, String etag, String body) {
+			this.status = status;
+			this.etag = etag;
+			this.body = body;
+		}
+	}
+}
@@ -1,6 +1,8 @@
 package com.ibm.cloud.objectstorage.services.s3;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
@@ -70,6 +72,31 @@ public class AmazonS3ClientTest {
 		assertEquals(defaultRequest.getHeaders().get(Headers.IBM_SERVICE_INSTANCE_ID), null);
 	}
 	
+	/**
+	 * Test virtual-hosted-style requests are reported as not sent to the host
+	 * of the endpoint, so that connections to it are not warmed up
+	 * 
+	 */	
+	@Test
+	public void testVirtualHostedRequestsAreNotSentToEndpointHost() {
+		AmazonS3Client s3Client = new AmazonS3Client(new BasicAWSCredentials("987654321", "123456789"));
+
+		assertFalse(s3Client.sendsRequestsToEndpointHost());
+	}
+
+	/**
+	 * Test path-style requests are reported as sent to the host of the
+	 * endpoint
+	 * 
+	 */	
+	@Test
+	public void testPathStyleRequestsAreSentToEndpointHost() {
+		AmazonS3Client s3Client = new AmazonS3Client(new BasicAWSCredentials("987654321", "123456789"));
+		s3Client.setS3ClientOptions(S3ClientOptions.builder().setPathStyleAccess(true).build());
+
+		assertTrue(s3Client.sendsRequestsToEndpointHost());
+	}
+	
 	/**
 	 * TokenMangerUtilTest Util class to provide a runtime implementation of TokenManger
 	 * for IAM tests
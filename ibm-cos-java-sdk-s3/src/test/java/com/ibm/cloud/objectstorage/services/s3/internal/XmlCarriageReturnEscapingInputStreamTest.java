@@ -0,0 +1,95 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+
+import org.junit.Test;
+
+import com.ibm.cloud.objectstorage.services.s3.model.ListObjectsV2Result;
+import com.ibm.cloud.objectstorage.services.s3.model.transform.XmlResponsesSaxParser;
+import com.ibm.cloud.objectstorage.util.StringUtils;
+
+public class XmlCarriageReturnEscapingInputStreamTest {
+
+	/**
+	 * Test that carriage returns are escaped and other characters, including
+	 * multi-byte ones, are left unchanged
+	 */
+	@Test
+	public void testEscapesCarriageReturns() throws Exception {
+		String document = "<Key>a\rb\r\né中\r</Key>\r";
+
+		assertEquals("<Key>a&#013;b&#013;\né中&#013;</Key>&#013;", readAll(document, 8192));
+	}
+
+	/**
+	 * Test that escape sequences split across reads are written completely
+	 */
+	@Test
+	public void testEscapesCarriageReturnsWithSmallReads() throws Exception {
+		String document = "\r\r<Key>a\rb</Key>\r";
+
+		assertEquals("&#013;&#013;<Key>a&#013;b</Key>&#013;", readAll(document, 1));
+		assertEquals("&#013;&#013;<Key>a&#013;b</Key>&#013;", readAll(document, 4));
+	}
+
+	/**
+	 * Test that documents larger than the internal buffer are streamed through
+	 */
+	@Test
+	public void testLargeDocument() throws Exception {
+		StringBuilder document = new StringBuilder();
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 10000; i++) {
+			document.append("line ").append(i).append('\r');
+			expected.append("line ").append(i).append("&#013;");
+		}
+
+		assertEquals(expected.toString(), readAll(document.toString(), 5000));
+	}
+
+	/**
+	 * Test that listing keys containing carriage returns are parsed intact
+	 */
+	@Test
+	public void testParseListingWithCarriageReturnInKey() throws Exception {
+		String listing = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+				+ "<ListBucketResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">"
+				+ "<Name>bucket</Name><KeyCount>1</KeyCount><MaxKeys>1000</MaxKeys><IsTruncated>false</IsTruncated>"
+				+ "<Contents><Key>key\rwith\r\ncarriage returns</Key><Size>1</Size></Contents>"
+				+ "</ListBucketResult>";
+
+		ListObjectsV2Result result = new XmlResponsesSaxParser().parseListObjectsV2Response(
+				new ByteArrayInputStream(listing.getBytes(StringUtils.UTF8)), false).getResult();
+
+		assertEquals("key\rwith\r\ncarriage returns", result.getObjectSummaries().get(0).getKey());
+	}
+
+	private static String readAll(String document, int readSize) throws Exception {
+		InputStream in = new XmlCarriageReturnEscapingInputStream(
+				new ByteArrayInputStream(document.getBytes(StringUtils.UTF8)));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[readSize];
+		int read;
+		while ((read = in.read(buffer)) != -1) {
+			out.write(buffer, 0, read);
+		}
+		in.close();
+		return new String(out.toByteArray(), StringUtils.UTF8);
+	}
+}
@@ -0,0 +1,174 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.internal.crypto;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.Provider;
+import java.security.Security;
+import java.util.Random;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ibm.cloud.objectstorage.services.s3.model.CryptoConfiguration;
+
+public class CipherLiteInputStreamTest {
+
+	private static final int[] BUFFER_SIZES = { 512, 2048, 64 * 1024, 256 * 1024 };
+
+	private final Provider provider = Security.getProvider("SunJCE");
+	private SecretKey key;
+	private byte[] plaintext;
+
+	@Before
+	public void setUp() {
+		Random random = new Random(42);
+		byte[] keyBytes = new byte[32];
+		random.nextBytes(keyBytes);
+		key = new SecretKeySpec(keyBytes, "AES");
+		plaintext = new byte[300 * 1024 + 7];
+		random.nextBytes(plaintext);
+	}
+
+	/**
+	 * Test that content encrypted and decrypted with AES/CTR through the stream
+	 * matches the cipher for every buffer size
+	 */
+	@Test
+	public void shouldMatchCipherWithCtrForAllBufferSizes() throws Exception {
+		assertRoundTrip(ContentCryptoScheme.AES_CTR);
+	}
+
+	/**
+	 * Test that content encrypted and decrypted with AES/CBC, which buffers
+	 * partial blocks and pads, matches the cipher for every buffer size
+	 */
+	@Test
+	public void shouldMatchCipherWithCbcForAllBufferSizes() throws Exception {
+		assertRoundTrip(ContentCryptoScheme.AES_CBC);
+	}
+
+	/**
+	 * Test that content encrypted and decrypted with AES/GCM through the stream
+	 * matches the cipher for every buffer size
+	 */
+	@Test
+	public void shouldMatchCipherWithGcmForAllBufferSizes() throws Exception {
+		byte[] iv = new byte[12];
+		Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding", provider);
+		cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(128, iv));
+		byte[] expected = cipher.doFinal(plaintext);
+		for (int bufferSize : BUFFER_SIZES) {
+			byte[] ciphertext = read(newGcm(Cipher.ENCRYPT_MODE, iv), plaintext, bufferSize);
+			assertArrayEquals("buffer size " + bufferSize, expected, ciphertext);
+			assertArrayEquals("buffer size " + bufferSize, plaintext,
+					read(newGcm(Cipher.DECRYPT_MODE, iv), ciphertext, bufferSize));
+		}
+	}
+
+	/**
+	 * Test that the stream re-encrypts the same bytes after a reset with
+	 * AES/GCM, where the reused buffer holds the output of the auxiliary
+	 * cipher
+	 */
+	@Test
+	public void shouldReencryptAfterResetWithGcm() throws Exception {
+		byte[] iv = new byte[12];
+		CipherLiteInputStream in = new CipherLiteInputStream(new ByteArrayInputStream(plaintext),
+				newGcm(Cipher.ENCRYPT_MODE, iv), 64 * 1024);
+		in.mark(plaintext.length);
+		byte[] first = new byte[100 * 1024];
+		readFully(in, first);
+		in.reset();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[10000];
+		for (int read; (read = in.read(buffer)) != -1;) {
+			out.write(buffer, 0, read);
+		}
+		byte[] ciphertext = out.toByteArray();
+		for (int i = 0; i < first.length; i++) {
+			assertEquals(first[i], ciphertext[i]);
+		}
+		Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding", provider);
+		cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(128, iv));
+		assertArrayEquals(cipher.doFinal(plaintext), ciphertext);
+	}
+
+	/**
+	 * Test that the cipher buffer size must be a positive multiple of 512
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectCipherBufferSizeNotMultipleOf512() {
+		new CryptoConfiguration().setCipherBufferSize(1000);
+	}
+
+	/**
+	 * Test that the cipher buffer size is copied to the read-only configuration
+	 */
+	@Test
+	public void shouldCopyCipherBufferSizeToReadOnlyConfiguration() {
+		CryptoConfiguration config = new CryptoConfiguration().withCipherBufferSize(256 * 1024);
+		assertEquals(256 * 1024, config.readOnly().getCipherBufferSize());
+		assertEquals(CryptoConfiguration.DEFAULT_CIPHER_BUFFER_SIZE,
+				new CryptoConfiguration().getCipherBufferSize());
+	}
+
+	private void assertRoundTrip(ContentCryptoScheme scheme) throws Exception {
+		byte[] iv = new byte[scheme.getIVLengthInBytes()];
+		new Random(7).nextBytes(iv);
+		Cipher cipher = Cipher.getInstance(scheme.getCipherAlgorithm());
+		cipher.init(Cipher.ENCRYPT_MODE, key, new IvParameterSpec(iv));
+		byte[] expected = cipher.doFinal(plaintext);
+		for (int bufferSize : BUFFER_SIZES) {
+			byte[] ciphertext = read(scheme.createCipherLite(key, iv, Cipher.ENCRYPT_MODE), plaintext, bufferSize);
+			assertArrayEquals("buffer size " + bufferSize, expected, ciphertext);
+			assertArrayEquals("buffer size " + bufferSize, plaintext,
+					read(scheme.createCipherLite(key, iv, Cipher.DECRYPT_MODE), ciphertext, bufferSize));
+		}
+	}
+
+	private GCMCipherLite newGcm(int mode, byte[] iv) throws Exception {
+		Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding", provider);
+		cipher.init(mode, key, new GCMParameterSpec(128, iv));
+		return new GCMCipherLite(cipher, key, mode);
+	}
+
+	private static byte[] read(CipherLite cipherLite, byte[] input, int bufferSize) throws IOException {
+		CipherLiteInputStream in = new CipherLiteInputStream(new ByteArrayInputStream(input), cipherLite,
+				bufferSize);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[3000];
+		for (int read; (read = in.read(buffer)) != -1;) {
+			out.write(buffer, 0, read);
+		}
+		in.close();
+		return out.toByteArray();
+	}
+
+	private static void readFully(CipherLiteInputStream in, byte[] buffer) throws IOException {
+		for (int offset = 0; offset < buffer.length;) {
+			offset += in.read(buffer, offset, buffer.length - offset);
+		}
+	}
+}
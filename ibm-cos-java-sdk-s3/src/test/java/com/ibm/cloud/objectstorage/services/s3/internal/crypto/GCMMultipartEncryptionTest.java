@@ -0,0 +1,233 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.internal.crypto;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.Provider;
+import java.security.Security;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ibm.cloud.objectstorage.SdkClientException;
+
+public class GCMMultipartEncryptionTest {
+
+	private static final int PART_SIZE = 4096;
+
+	private final Provider provider = Security.getProvider("SunJCE");
+	private SecretKey key;
+	private byte[] iv;
+
+	@Before
+	public void setUp() {
+		Random random = new Random(42);
+		byte[] keyBytes = new byte[32];
+		random.nextBytes(keyBytes);
+		key = new SecretKeySpec(keyBytes, "AES");
+		iv = new byte[12];
+		random.nextBytes(iv);
+	}
+
+	/**
+	 * Test that parts encrypted concurrently and out of order add up to the
+	 * ciphertext and tag of a single AES/GCM encryption
+	 */
+	@Test
+	public void shouldMatchSingleEncryptionWhenEncryptingPartsConcurrently() throws Exception {
+		byte[] plaintext = plaintext(7 * PART_SIZE + 1234);
+		final GCMMultipartEncryption encryption = newEncryption();
+		final List<byte[]> parts = split(plaintext);
+		final byte[][] ciphertexts = new byte[parts.size()][];
+
+		List<Integer> order = new ArrayList<Integer>();
+		for (int i = 0; i < parts.size(); i++) {
+			order.add(i);
+		}
+		Collections.shuffle(order, new Random(7));
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures = new ArrayList<Future<?>>();
+			for (final int i : order) {
+				futures.add(executor.submit(new Callable<Void>() {
+					@Override
+					public Void call() throws IOException {
+						ciphertexts[i] = encryptPart(encryption, i + 1, parts.get(i), i == parts.size() - 1);
+						return null;
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		for (byte[] ciphertext : ciphertexts) {
+			out.write(ciphertext);
+		}
+		assertArrayEquals(encryptWithGcm(plaintext), out.toByteArray());
+		assertArrayEquals(plaintext, decryptWithGcm(out.toByteArray()));
+	}
+
+	/**
+	 * Test that an upload of a single part, shorter than a block, matches a
+	 * single AES/GCM encryption
+	 */
+	@Test
+	public void shouldMatchSingleEncryptionForSinglePart() throws Exception {
+		byte[] plaintext = plaintext(5);
+		byte[] ciphertext = encryptPart(newEncryption(), 1, plaintext, true);
+		assertArrayEquals(encryptWithGcm(plaintext), ciphertext);
+	}
+
+	/**
+	 * Test that a recreated part cipher encrypts the part the same way again
+	 */
+	@Test
+	public void shouldEncryptRetriedPartTheSameWay() throws Exception {
+		byte[] plaintext = plaintext(2 * PART_SIZE + 100);
+		GCMMultipartEncryption encryption = newEncryption();
+		List<byte[]> parts = split(plaintext);
+
+		CipherLite first = encryption.newPartCipherLite(1, PART_SIZE, false);
+		byte[] partial = first.update(parts.get(0), 0, 100);
+		byte[] retried = encrypt(first.recreate(), parts.get(0), false);
+		assertArrayEquals(partial, Arrays.copyOf(retried, 100));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		out.write(retried);
+		out.write(encryptPart(encryption, 2, parts.get(1), false));
+		out.write(encryptPart(encryption, 3, parts.get(2), true));
+		assertArrayEquals(encryptWithGcm(plaintext), out.toByteArray());
+	}
+
+	/**
+	 * Test that a part other than the last must be of the part size
+	 */
+	@Test(expected = SdkClientException.class)
+	public void shouldRejectPartNotOfPartSize() {
+		newEncryption().newPartCipherLite(2, PART_SIZE - 16, false);
+	}
+
+	/**
+	 * Test that aborting the upload fails the last part waiting for the
+	 * other parts
+	 */
+	@Test
+	public void shouldFailLastPartWhenAborted() throws Exception {
+		final GCMMultipartEncryption encryption = newEncryption();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<byte[]> lastPart = executor.submit(new Callable<byte[]>() {
+				@Override
+				public byte[] call() throws IOException {
+					return encryptPart(encryption, 2, plaintext(10), true);
+				}
+			});
+			Thread.sleep(100);
+			assertFalse(lastPart.isDone());
+			encryption.abort();
+			try {
+				lastPart.get();
+				fail("Expected SdkClientException");
+			} catch (ExecutionException expected) {
+				assertEquals(SdkClientException.class, expected.getCause().getClass());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * The default provider only initializes AES/GCM with GCM parameters
+	 */
+	private GCMMultipartEncryption newEncryption() {
+		try {
+			Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding", provider);
+			cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(128, iv));
+			return new GCMMultipartEncryption(new GCMCipherLite(cipher, key, Cipher.ENCRYPT_MODE), PART_SIZE);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Encrypts a part the way the encryption client reads it
+	 */
+	private static byte[] encryptPart(GCMMultipartEncryption encryption, int partNumber, byte[] part,
+			boolean lastPart) throws IOException {
+		return encrypt(encryption.newPartCipherLite(partNumber, part.length, lastPart), part, lastPart);
+	}
+
+	private static byte[] encrypt(CipherLite cipherLite, byte[] part, boolean lastPart) throws IOException {
+		CipherLiteInputStream in = new CipherLiteInputStream(new ByteArrayInputStream(part), cipherLite, 1024,
+				true, lastPart);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[700];
+		for (int read; (read = in.read(buffer)) != -1;) {
+			out.write(buffer, 0, read);
+		}
+		return out.toByteArray();
+	}
+
+	private byte[] encryptWithGcm(byte[] plaintext) throws Exception {
+		Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding", provider);
+		cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(128, iv));
+		return cipher.doFinal(plaintext);
+	}
+
+	private byte[] decryptWithGcm(byte[] ciphertext) throws Exception {
+		Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding", provider);
+		cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(128, iv));
+		return cipher.doFinal(ciphertext);
+	}
+
+	private static List<byte[]> split(byte[] plaintext) {
+		List<byte[]> parts = new ArrayList<byte[]>();
+		for (int offset = 0; offset < plaintext.length; offset += PART_SIZE) {
+			parts.add(Arrays.copyOfRange(plaintext, offset, Math.min(offset + PART_SIZE, plaintext.length)));
+		}
+		return parts;
+	}
+
+	private static byte[] plaintext(int length) {
+		byte[] plaintext = new byte[length];
+		new Random(length).nextBytes(plaintext);
+		return plaintext;
+	}
+}
@@ -0,0 +1,189 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.internal.crypto;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.Provider;
+import java.security.Security;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class GCMRangeDecryptionTest {
+
+	private static final int RANGE_SIZE = 4096;
+
+	private final Provider provider = Security.getProvider("SunJCE");
+	private SecretKey key;
+	private byte[] iv;
+
+	@Before
+	public void setUp() {
+		Random random = new Random(42);
+		byte[] keyBytes = new byte[32];
+		random.nextBytes(keyBytes);
+		key = new SecretKeySpec(keyBytes, "AES");
+		iv = new byte[12];
+		random.nextBytes(iv);
+	}
+
+	/**
+	 * Test that ranges decrypted concurrently and out of order add up to the
+	 * plaintext, and that the tag of the whole content is verified
+	 */
+	@Test
+	public void shouldDecryptRangesConcurrentlyAndVerifyTag() throws Exception {
+		byte[] plaintext = plaintext(7 * RANGE_SIZE + 1234);
+		final byte[] ciphertext = encryptWithGcm(plaintext);
+		final GCMRangeDecryption decryption = newDecryption(plaintext.length);
+		assertEquals(8, decryption.getRangeCount());
+		final byte[][] decrypted = new byte[decryption.getRangeCount()][];
+
+		List<Integer> order = new ArrayList<Integer>();
+		for (int i = 1; i <= decryption.getRangeCount(); i++) {
+			order.add(i);
+		}
+		Collections.shuffle(order, new Random(7));
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures = new ArrayList<Future<?>>();
+			for (final int rangeNumber : order) {
+				futures.add(executor.submit(new Callable<Void>() {
+					@Override
+					public Void call() throws IOException {
+						decrypted[rangeNumber - 1] = decryptRange(decryption, ciphertext, rangeNumber);
+						return null;
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		for (byte[] range : decrypted) {
+			out.write(range);
+		}
+		assertArrayEquals(plaintext, out.toByteArray());
+		decryption.verify();
+	}
+
+	/**
+	 * Test that an empty content, of which the only range is the tag, is
+	 * verified
+	 */
+	@Test
+	public void shouldVerifyEmptyContent() throws Exception {
+		byte[] ciphertext = encryptWithGcm(new byte[0]);
+		GCMRangeDecryption decryption = newDecryption(0);
+		assertArrayEquals(new long[] { 0, 15 }, decryption.getCiphertextRange(1));
+		assertEquals(0, decryptRange(decryption, ciphertext, 1).length);
+		decryption.verify();
+	}
+
+	/**
+	 * Test that a modified ciphertext fails the verification
+	 */
+	@Test(expected = SecurityException.class)
+	public void shouldFailVerificationWhenCiphertextIsModified() throws Exception {
+		byte[] plaintext = plaintext(2 * RANGE_SIZE + 100);
+		byte[] ciphertext = encryptWithGcm(plaintext);
+		ciphertext[RANGE_SIZE + 5] ^= 1;
+		GCMRangeDecryption decryption = newDecryption(plaintext.length);
+		for (int rangeNumber = 1; rangeNumber <= decryption.getRangeCount(); rangeNumber++) {
+			decryptRange(decryption, ciphertext, rangeNumber);
+		}
+		decryption.verify();
+	}
+
+	/**
+	 * Test that a range which is not entirely decrypted fails the verification
+	 */
+	@Test(expected = SecurityException.class)
+	public void shouldFailVerificationWhenRangeIsTruncated() throws Exception {
+		byte[] plaintext = plaintext(2 * RANGE_SIZE + 100);
+		byte[] ciphertext = encryptWithGcm(plaintext);
+		GCMRangeDecryption decryption = newDecryption(plaintext.length);
+		decryptRange(decryption, Arrays.copyOf(ciphertext, RANGE_SIZE - 16), 1);
+		decryptRange(decryption, ciphertext, 2);
+		decryptRange(decryption, ciphertext, 3);
+		decryption.verify();
+	}
+
+	/**
+	 * The default provider only initializes AES/GCM with GCM parameters
+	 */
+	private GCMRangeDecryption newDecryption(long contentLength) {
+		try {
+			Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding", provider);
+			cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(128, iv));
+			return new GCMRangeDecryption(new GCMCipherLite(cipher, key, Cipher.DECRYPT_MODE), contentLength,
+					RANGE_SIZE);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Decrypts a range the way a ranged download reads it
+	 */
+	private static byte[] decryptRange(GCMRangeDecryption decryption, byte[] ciphertext, int rangeNumber)
+			throws IOException {
+		long[] range = decryption.getCiphertextRange(rangeNumber);
+		int end = (int) Math.min(range[1] + 1, ciphertext.length);
+		byte[] input = Arrays.copyOfRange(ciphertext, (int) Math.min(range[0], end), end);
+		CipherLiteInputStream in = new CipherLiteInputStream(new ByteArrayInputStream(input),
+				decryption.newRangeCipherLite(rangeNumber), 1024);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[700];
+		for (int read; (read = in.read(buffer)) != -1;) {
+			out.write(buffer, 0, read);
+		}
+		in.close();
+		return out.toByteArray();
+	}
+
+	private byte[] encryptWithGcm(byte[] plaintext) throws Exception {
+		Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding", provider);
+		cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(128, iv));
+		return cipher.doFinal(plaintext);
+	}
+
+	private static byte[] plaintext(int length) {
+		byte[] plaintext = new byte[length];
+		new Random(length).nextBytes(plaintext);
+		return plaintext;
+	}
+}
@@ -0,0 +1,133 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.internal.crypto.v1;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ibm.cloud.objectstorage.services.s3.internal.crypto.CipherLite;
+import com.ibm.cloud.objectstorage.services.s3.internal.crypto.CipherLiteInputStream;
+import com.ibm.cloud.objectstorage.services.s3.internal.crypto.ContentCryptoScheme;
+import com.ibm.cloud.objectstorage.services.s3.model.CryptoConfiguration;
+import com.ibm.cloud.objectstorage.services.s3.model.CryptoMode;
+import com.ibm.cloud.objectstorage.services.s3.model.UploadPartRequest;
+
+public class S3CryptoModuleBaseTest {
+
+	private static final int PART_SIZE = 1000;
+
+	private final SecretKey key = new SecretKeySpec(new byte[16], "AES");
+	private final byte[] iv = new byte[ContentCryptoScheme.AES_CTR.getIVLengthInBytes()];
+
+	private S3CryptoModuleEO module;
+	private File file;
+	private byte[] content;
+
+	@Before
+	public void setUp() throws IOException {
+		module = new S3CryptoModuleEO(null, null,
+				new CryptoConfiguration(CryptoMode.EncryptionOnly).readOnly());
+		content = new byte[3 * PART_SIZE];
+		new Random(42).nextBytes(content);
+		file = File.createTempFile("crypto-module", ".dat");
+		FileOutputStream out = new FileOutputStream(file);
+		try {
+			out.write(content);
+		} finally {
+			out.close();
+		}
+	}
+
+	@After
+	public void tearDown() {
+		file.delete();
+	}
+
+	/**
+	 * Test that a middle part of a file can be read again after a failed
+	 * attempt closed its stream, as the retry of the part does
+	 */
+	@Test
+	public void testMiddlePartIsRetriedAfterClose() throws Exception {
+		Cipher cipher = Cipher.getInstance(ContentCryptoScheme.AES_CTR.getCipherAlgorithm());
+		cipher.init(Cipher.ENCRYPT_MODE, key, new IvParameterSpec(iv));
+		byte[] expected = cipher.doFinal(content, PART_SIZE, PART_SIZE);
+
+		CipherLiteInputStream in = module.newMultipartS3CipherInputStream(part(2, false), cipherLite());
+		try {
+			in.mark(PART_SIZE);
+			in.read(new byte[100]);
+			in.close();
+
+			in.reset();
+			assertArrayEquals(expected, readFully(in));
+		} finally {
+			in.release();
+		}
+	}
+
+	/**
+	 * Test that the last part closes its file when its stream is closed
+	 */
+	@Test
+	public void testLastPartClosesFile() throws Exception {
+		CipherLiteInputStream in = module.newMultipartS3CipherInputStream(part(3, true), cipherLite());
+		in.mark(PART_SIZE);
+		in.close();
+
+		in.reset();
+		try {
+			in.read(new byte[100]);
+			fail("Expected the file to be closed");
+		} catch (IOException expected) {
+		}
+	}
+
+	private CipherLite cipherLite() throws Exception {
+		return ContentCryptoScheme.AES_CTR.createCipherLite(key, iv, Cipher.ENCRYPT_MODE);
+	}
+
+	private UploadPartRequest part(int partNumber, boolean lastPart) {
+		return new UploadPartRequest()
+				.withFile(file)
+				.withFileOffset((long) (partNumber - 1) * PART_SIZE)
+				.withPartSize(PART_SIZE)
+				.withPartNumber(partNumber)
+				.withLastPart(lastPart);
+	}
+
+	private static byte[] readFully(InputStream in) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[256];
+		for (int read; (read = in.read(buffer)) != -1;) {
+			out.write(buffer, 0, read);
+		}
+		return out.toByteArray();
+	}
+}
@@ -0,0 +1,100 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.iterable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class ListingPrefetcherTest {
+
+	private static final int PAGES = 5;
+
+	private final AtomicInteger fetched = new AtomicInteger();
+	private final ThreadPoolExecutor executor = new ThreadPoolExecutor(0, 1, 0, TimeUnit.MILLISECONDS,
+			new SynchronousQueue<Runnable>());
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Test that fetching releases its thread when the consumer stops taking
+	 * pages, and resumes where it stopped once the consumer comes back
+	 */
+	@Test
+	public void testFetchingPausesAndResumes() throws Exception {
+		ListingPrefetcher<Integer> prefetcher = new ListingPrefetcher<Integer>(new CountingListings(), 1, executor,
+				50);
+
+		// One page is queued and one waits for room until fetching pauses
+		waitForIdle();
+		assertEquals(2, fetched.get());
+
+		for (int i = 0; i < PAGES; i++) {
+			assertEquals(Integer.valueOf(i), prefetcher.take());
+		}
+		assertNull(prefetcher.take());
+		assertEquals(PAGES, fetched.get());
+	}
+
+	/**
+	 * Test that a listing closed while paused does not resume
+	 */
+	@Test
+	public void testClosedWhilePaused() throws Exception {
+		ListingPrefetcher<Integer> prefetcher = new ListingPrefetcher<Integer>(new CountingListings(), 1, executor,
+				50);
+		waitForIdle();
+
+		prefetcher.close();
+		assertNull(prefetcher.take());
+		Thread.sleep(100);
+		assertEquals(2, fetched.get());
+		assertEquals(1, executor.getCompletedTaskCount());
+	}
+
+	private void waitForIdle() throws InterruptedException {
+		for (int i = 0; i < 100 && (fetched.get() < 2 || executor.getActiveCount() > 0); i++) {
+			Thread.sleep(20);
+		}
+		assertEquals(0, executor.getActiveCount());
+	}
+
+	private class CountingListings implements ListingPrefetcher.Listings<Integer> {
+		@Override
+		public Integer first() {
+			fetched.incrementAndGet();
+			return 0;
+		}
+
+		@Override
+		public Integer next(Integer previous) {
+			fetched.incrementAndGet();
+			return previous + 1;
+		}
+
+		@Override
+		public boolean isTruncated(Integer listing) {
+			return listing + 1 < PAGES;
+		}
+	}
+}
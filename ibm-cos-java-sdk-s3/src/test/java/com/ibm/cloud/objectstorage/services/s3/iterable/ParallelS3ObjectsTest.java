@@ -0,0 +1,226 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.iterable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.ibm.cloud.objectstorage.services.s3.AmazonS3;
+import com.ibm.cloud.objectstorage.services.s3.model.AmazonS3Exception;
+import com.ibm.cloud.objectstorage.services.s3.model.ListObjectsV2Request;
+import com.ibm.cloud.objectstorage.services.s3.model.ListObjectsV2Result;
+import com.ibm.cloud.objectstorage.services.s3.model.S3ObjectSummary;
+
+public class ParallelS3ObjectsTest {
+
+	private final TreeSet<String> keys = new TreeSet<String>();
+	private final AtomicInteger rangeRequests = new AtomicInteger();
+	private volatile String failingPrefix;
+	private AmazonS3 s3;
+
+	@Before
+	public void setUp() {
+		for (int i = 0; i < 400; i++) {
+			keys.add(String.format("a/%04d", i));
+		}
+		for (int i = 0; i < 150; i++) {
+			keys.add(String.format("b/c/%03d", i));
+			keys.add(String.format("b/d/%03d", i));
+		}
+		keys.add("b");
+		keys.add("c.txt");
+		for (int i = 0; i < 500; i++) {
+			keys.add(String.format("flat-%d", i * 7919 % 100000));
+		}
+		s3 = mock(AmazonS3.class);
+		when(s3.listObjectsV2(any(ListObjectsV2Request.class))).thenAnswer(new Answer<ListObjectsV2Result>() {
+			@Override
+			public ListObjectsV2Result answer(InvocationOnMock invocation) {
+				return list((ListObjectsV2Request) invocation.getArguments()[0]);
+			}
+		});
+	}
+
+	/**
+	 * Test that all objects are listed once and in key order when ranges are
+	 * split by key
+	 */
+	@Test
+	public void shouldListAllObjectsInOrder() {
+		List<String> listed = keys(ParallelS3Objects.inBucket(s3, "bucket")
+				.withBatchSize(25)
+				.withParallelism(4)
+				.stream());
+
+		assertEquals(new ArrayList<String>(keys), listed);
+		assertTrue(rangeRequests.get() > 0);
+	}
+
+	/**
+	 * Test that all objects are listed once and in key order when ranges are
+	 * discovered with a delimiter
+	 */
+	@Test
+	public void shouldListAllObjectsInOrderWithDelimiter() {
+		List<String> listed = keys(ParallelS3Objects.withPrefix(s3, "bucket", "b")
+				.withDelimiter("/")
+				.withBatchSize(10)
+				.withParallelism(3)
+				.stream());
+
+		assertEquals(new ArrayList<String>(keys.subSet("b", "c")), listed);
+	}
+
+	/**
+	 * Test that all objects are listed once when order is not required
+	 */
+	@Test
+	public void shouldListAllObjectsUnordered() {
+		List<String> listed = keys(ParallelS3Objects.inBucket(s3, "bucket")
+				.withDelimiter("/")
+				.withBatchSize(20)
+				.withParallelism(8)
+				.withOrdered(false)
+				.stream());
+
+		assertEquals(keys.size(), listed.size());
+		assertEquals(keys, new HashSet<String>(listed));
+	}
+
+	/**
+	 * Test that a failed list request is thrown to the consumer
+	 */
+	@Test
+	public void shouldThrowListFailure() {
+		failingPrefix = "b/";
+		Stream<S3ObjectSummary> stream = ParallelS3Objects.inBucket(s3, "bucket")
+				.withDelimiter("/")
+				.withBatchSize(10)
+				.stream();
+		try {
+			stream.count();
+			fail("Expected AmazonS3Exception");
+		} catch (AmazonS3Exception expected) {
+			assertEquals("failed", expected.getErrorMessage());
+		} finally {
+			stream.close();
+		}
+	}
+
+	/**
+	 * Test that split keys fall strictly between their bounds
+	 */
+	@Test
+	public void shouldComputeSplitKeyBetweenBounds() {
+		String key = ParallelS3Objects.splitKey("p/", "p/a", "p/z");
+		assertTrue(key.startsWith("p/"));
+		assertTrue(key.compareTo("p/a") > 0 && key.compareTo("p/z") < 0);
+
+		key = ParallelS3Objects.splitKey("", "flat-9", null);
+		assertTrue(key.compareTo("flat-9") > 0);
+
+		assertNull(ParallelS3Objects.splitKey("", "a", "a "));
+		assertTrue(ParallelS3Objects.compareKeys("\uFFFF", "\uD83D\uDE00") < 0);
+	}
+
+	private static List<String> keys(Stream<S3ObjectSummary> stream) {
+		try {
+			List<String> keys = new ArrayList<String>();
+			for (Iterator<S3ObjectSummary> it = stream.iterator(); it.hasNext();) {
+				keys.add(it.next().getKey());
+			}
+			return keys;
+		} finally {
+			stream.close();
+		}
+	}
+
+	/**
+	 * Lists the fake bucket, using the last listed key as continuation token
+	 */
+	private ListObjectsV2Result list(ListObjectsV2Request request) {
+		String prefix = request.getPrefix() == null ? "" : request.getPrefix();
+		if (failingPrefix != null && prefix.startsWith(failingPrefix)) {
+			throw new AmazonS3Exception("failed");
+		}
+		if (request.getStartAfter() != null) {
+			rangeRequests.incrementAndGet();
+		}
+		String after = request.getContinuationToken() != null ? request.getContinuationToken()
+				: request.getStartAfter();
+		int maxKeys = request.getMaxKeys() == null ? 1000 : request.getMaxKeys();
+		String delimiter = request.getDelimiter();
+
+		ListObjectsV2Result result = new ListObjectsV2Result();
+		Set<String> tail = after == null ? keys : keys.tailSet(after, false);
+		String last = null;
+		int count = 0;
+		for (String key : tail) {
+			if (!key.startsWith(prefix)) {
+				if (key.compareTo(prefix) > 0) {
+					break;
+				}
+				continue;
+			}
+			int index = delimiter == null ? -1 : key.indexOf(delimiter, prefix.length());
+			if (index >= 0) {
+				String commonPrefix = key.substring(0, index + delimiter.length());
+				if (last != null && last.startsWith(commonPrefix)) {
+					last = key;
+					continue;
+				}
+				if (count == maxKeys) {
+					result.setTruncated(true);
+					break;
+				}
+				result.getCommonPrefixes().add(commonPrefix);
+			} else {
+				if (count == maxKeys) {
+					result.setTruncated(true);
+					break;
+				}
+				S3ObjectSummary summary = new S3ObjectSummary();
+				summary.setBucketName(request.getBucketName());
+				summary.setKey(key);
+				result.getObjectSummaries().add(summary);
+			}
+			count++;
+			last = key;
+		}
+		if (result.isTruncated()) {
+			result.setNextContinuationToken(last);
+		}
+		Collections.sort(result.getCommonPrefixes());
+		return result;
+	}
+}
@@ -0,0 +1,153 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.iterable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.ibm.cloud.objectstorage.services.s3.AmazonS3;
+import com.ibm.cloud.objectstorage.services.s3.model.AmazonS3Exception;
+import com.ibm.cloud.objectstorage.services.s3.model.ListObjectsRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.ObjectListing;
+import com.ibm.cloud.objectstorage.services.s3.model.S3ObjectSummary;
+
+public class S3ObjectsTest {
+
+	private static final int PAGE_SIZE = 10;
+	private static final int PAGES = 20;
+
+	private final AtomicInteger fetched = new AtomicInteger();
+	private volatile int failingPage = -1;
+	private AmazonS3 s3;
+
+	@Before
+	public void setUp() {
+		s3 = mock(AmazonS3.class);
+		when(s3.listObjects(any(ListObjectsRequest.class))).thenAnswer(new Answer<ObjectListing>() {
+			@Override
+			public ObjectListing answer(InvocationOnMock invocation) {
+				return page(0);
+			}
+		});
+		when(s3.listNextBatchOfObjects(any(ObjectListing.class))).thenAnswer(new Answer<ObjectListing>() {
+			@Override
+			public ObjectListing answer(InvocationOnMock invocation) {
+				ObjectListing previous = (ObjectListing) invocation.getArguments()[0];
+				return page(Integer.parseInt(previous.getNextMarker()));
+			}
+		});
+	}
+
+	/**
+	 * Test that all objects are iterated in order when pages are prefetched
+	 */
+	@Test
+	public void shouldIterateAllObjectsWithPrefetch() {
+		List<String> keys = new ArrayList<String>();
+		for (S3ObjectSummary summary : S3Objects.inBucket(s3, "bucket").withPrefetchDepth(2)) {
+			keys.add(summary.getKey());
+		}
+
+		assertEquals(PAGE_SIZE * PAGES, keys.size());
+		for (int i = 0; i < keys.size(); i++) {
+			assertEquals(key(i), keys.get(i));
+		}
+		assertEquals(PAGES, fetched.get());
+	}
+
+	/**
+	 * Test that a failed page is thrown after the pages fetched before it
+	 */
+	@Test
+	public void shouldThrowFailureAfterPreviousPages() {
+		failingPage = 3;
+		int count = 0;
+		try {
+			for (S3ObjectSummary summary : S3Objects.inBucket(s3, "bucket").withPrefetchDepth(4)) {
+				assertEquals(key(count++), summary.getKey());
+			}
+			fail("Expected AmazonS3Exception");
+		} catch (AmazonS3Exception expected) {
+			assertEquals("failed", expected.getErrorMessage());
+		}
+		assertEquals(3 * PAGE_SIZE, count);
+	}
+
+	/**
+	 * Test that fetching stops once the bounded queue is full and that
+	 * closing the iterator ends the iteration
+	 */
+	@Test
+	public void shouldStopFetchingWhenClosed() throws IOException, InterruptedException {
+		Iterator<S3ObjectSummary> it = S3Objects.inBucket(s3, "bucket").withPrefetchDepth(2).iterator();
+		assertEquals(key(0), it.next().getKey());
+
+		// The first page is being iterated, two are queued and one waits to be queued
+		waitForFetched(4);
+		Thread.sleep(100);
+		assertEquals(4, fetched.get());
+
+		assertTrue(it instanceof Closeable);
+		((Closeable) it).close();
+		assertFalse(it.hasNext());
+		Thread.sleep(100);
+		assertTrue(fetched.get() <= 5);
+	}
+
+	private void waitForFetched(int pages) throws InterruptedException {
+		for (int i = 0; i < 100 && fetched.get() < pages; i++) {
+			Thread.sleep(50);
+		}
+	}
+
+	private ObjectListing page(int page) {
+		if (page == failingPage) {
+			throw new AmazonS3Exception("failed");
+		}
+		fetched.incrementAndGet();
+		ObjectListing listing = new ObjectListing();
+		listing.setBucketName("bucket");
+		for (int i = page * PAGE_SIZE; i < (page + 1) * PAGE_SIZE; i++) {
+			S3ObjectSummary summary = new S3ObjectSummary();
+			summary.setBucketName("bucket");
+			summary.setKey(key(i));
+			listing.getObjectSummaries().add(summary);
+		}
+		if (page + 1 < PAGES) {
+			listing.setTruncated(true);
+			listing.setNextMarker(Integer.toString(page + 1));
+		}
+		return listing;
+	}
+
+	private static String key(int i) {
+		return String.format("key-%04d", i);
+	}
+}
@@ -0,0 +1,93 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.iterable;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.ibm.cloud.objectstorage.services.s3.AmazonS3;
+import com.ibm.cloud.objectstorage.services.s3.model.ListVersionsRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.S3VersionSummary;
+import com.ibm.cloud.objectstorage.services.s3.model.VersionListing;
+
+public class S3VersionsTest {
+
+	/**
+	 * Test that only the versions of the given key are iterated, in order,
+	 * when pages are prefetched
+	 */
+	@Test
+	public void shouldIterateKeyVersionsWithPrefetch() {
+		AmazonS3 s3 = mock(AmazonS3.class);
+		when(s3.listVersions(any(ListVersionsRequest.class))).thenAnswer(new Answer<VersionListing>() {
+			@Override
+			public VersionListing answer(InvocationOnMock invocation) {
+				return page(0);
+			}
+		});
+		when(s3.listNextBatchOfVersions(any(VersionListing.class))).thenAnswer(new Answer<VersionListing>() {
+			@Override
+			public VersionListing answer(InvocationOnMock invocation) {
+				VersionListing previous = (VersionListing) invocation.getArguments()[0];
+				return page(Integer.parseInt(previous.getNextVersionIdMarker()));
+			}
+		});
+
+		List<String> versionIds = new ArrayList<String>();
+		for (S3VersionSummary summary : S3Versions.forKey(s3, "bucket", "key").withPrefetchDepth(1)) {
+			assertEquals("key", summary.getKey());
+			versionIds.add(summary.getVersionId());
+		}
+
+		assertEquals(15, versionIds.size());
+		for (int i = 0; i < versionIds.size(); i++) {
+			assertEquals(Integer.toString(i), versionIds.get(i));
+		}
+	}
+
+	/**
+	 * Returns five versions of "key" followed, on the last page, by a
+	 * version of "key1"
+	 */
+	private static VersionListing page(int page) {
+		VersionListing listing = new VersionListing();
+		listing.setBucketName("bucket");
+		for (int i = page * 5; i < (page + 1) * 5; i++) {
+			listing.getVersionSummaries().add(version("key", i));
+		}
+		if (page < 2) {
+			listing.setTruncated(true);
+			listing.setNextVersionIdMarker(Integer.toString(page + 1));
+		} else {
+			listing.getVersionSummaries().add(version("key1", 0));
+		}
+		return listing;
+	}
+
+	private static S3VersionSummary version(String key, int versionId) {
+		S3VersionSummary summary = new S3VersionSummary();
+		summary.setBucketName("bucket");
+		summary.setKey(key);
+		summary.setVersionId(Integer.toString(versionId));
+		return summary;
+	}
+}
@@ -0,0 +1,339 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.model.transform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.ibm.cloud.objectstorage.SdkClientException;
+import com.ibm.cloud.objectstorage.services.s3.model.ListObjectsV2Result;
+import com.ibm.cloud.objectstorage.services.s3.model.MultipartUpload;
+import com.ibm.cloud.objectstorage.services.s3.model.MultipartUploadListing;
+import com.ibm.cloud.objectstorage.services.s3.model.ObjectListing;
+import com.ibm.cloud.objectstorage.services.s3.model.Owner;
+import com.ibm.cloud.objectstorage.services.s3.model.PartListing;
+import com.ibm.cloud.objectstorage.services.s3.model.PartSummary;
+import com.ibm.cloud.objectstorage.services.s3.model.S3ObjectSummary;
+import com.ibm.cloud.objectstorage.services.s3.model.S3ObjectSummaryField;
+import com.ibm.cloud.objectstorage.services.s3.model.S3VersionSummary;
+import com.ibm.cloud.objectstorage.services.s3.model.VersionListing;
+import com.ibm.cloud.objectstorage.util.StringUtils;
+
+public class XmlListResponsesStaxParserTest {
+
+	private static final String LIST_BUCKET_RESULT = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+			+ "<ListBucketResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">"
+			+ "<Name>bucket</Name><Prefix>dir%2F</Prefix><Marker></Marker><MaxKeys>2</MaxKeys>"
+			+ "<Delimiter>%2F</Delimiter><EncodingType>url</EncodingType><IsTruncated>true</IsTruncated>"
+			+ "<Contents><Key>dir%2Fa%20b</Key><LastModified>2019-06-18T13:46:42.638Z</LastModified>"
+			+ "<ETag>&quot;etag-1&quot;</ETag><Size>10</Size><Unknown><Nested>x</Nested></Unknown>"
+			+ "<Owner><ID>owner-id</ID><DisplayName>owner</DisplayName></Owner>"
+			+ "<StorageClass>STANDARD</StorageClass></Contents>"
+			+ "<Contents><Key>dir%2Fline\r\nbreak</Key><Size>not-a-number</Size></Contents>"
+			+ "<CommonPrefixes><Prefix>dir%2Fsub%2F</Prefix></CommonPrefixes>"
+			+ "</ListBucketResult>";
+
+	private static final String LIST_VERSIONS_RESULT = "<ListVersionsResult>"
+			+ "<Name>bucket</Name><Prefix></Prefix><KeyMarker>a</KeyMarker><VersionIdMarker></VersionIdMarker>"
+			+ "<NextKeyMarker>c</NextKeyMarker><NextVersionIdMarker>v3</NextVersionIdMarker>"
+			+ "<MaxKeys>2</MaxKeys><IsTruncated>true</IsTruncated>"
+			+ "<Version><Key>b</Key><VersionId>v1</VersionId><IsLatest>true</IsLatest>"
+			+ "<LastModified>2019-06-18T13:46:42.638Z</LastModified><ETag>\"etag\"</ETag><Size>5</Size>"
+			+ "<Owner><ID>owner-id</ID><DisplayName></DisplayName></Owner><StorageClass>STANDARD</StorageClass></Version>"
+			+ "<DeleteMarker><Key>c</Key><VersionId>v2</VersionId><IsLatest>false</IsLatest>"
+			+ "<LastModified>2019-06-18T13:46:42.638Z</LastModified></DeleteMarker>"
+			+ "<CommonPrefixes><Prefix>p/</Prefix></CommonPrefixes>"
+			+ "</ListVersionsResult>";
+
+	private static final String LIST_MULTIPART_UPLOADS_RESULT = "<ListMultipartUploadsResult>"
+			+ "<Bucket>bucket</Bucket><KeyMarker></KeyMarker><UploadIdMarker></UploadIdMarker>"
+			+ "<NextKeyMarker>b</NextKeyMarker><NextUploadIdMarker>u2</NextUploadIdMarker>"
+			+ "<MaxUploads>1</MaxUploads><IsTruncated>true</IsTruncated>"
+			+ "<Upload><Key>a</Key><UploadId>u1</UploadId>"
+			+ "<Initiator><ID>initiator-id</ID><DisplayName></DisplayName></Initiator>"
+			+ "<Owner><ID>owner-id</ID><DisplayName>owner</DisplayName></Owner>"
+			+ "<StorageClass>STANDARD</StorageClass><Initiated>2019-06-18T13:46:42.638Z</Initiated></Upload>"
+			+ "<CommonPrefixes><Prefix>p/</Prefix></CommonPrefixes>"
+			+ "</ListMultipartUploadsResult>";
+
+	private static final String LIST_PARTS_RESULT = "<ListPartsResult>"
+			+ "<Bucket>bucket</Bucket><Key>key</Key><UploadId>u1</UploadId>"
+			+ "<Owner><ID>owner-id</ID><DisplayName>owner</DisplayName></Owner>"
+			+ "<Initiator><ID>initiator-id</ID><DisplayName></DisplayName></Initiator>"
+			+ "<StorageClass>STANDARD</StorageClass><PartNumberMarker>1</PartNumberMarker>"
+			+ "<NextPartNumberMarker>3</NextPartNumberMarker><MaxParts>2</MaxParts><IsTruncated>true</IsTruncated>"
+			+ "<Part><PartNumber>2</PartNumber><LastModified>2019-06-18T13:46:42.638Z</LastModified>"
+			+ "<ETag>\"etag-2\"</ETag><Size>10485760</Size></Part>"
+			+ "<Part><PartNumber>3</PartNumber><LastModified>2019-06-18T13:46:43.638Z</LastModified>"
+			+ "<ETag>\"etag-3\"</ETag><Size>1</Size></Part>"
+			+ "</ListPartsResult>";
+
+	/**
+	 * Test that ListObjects responses are parsed as the SAX handler parses them
+	 */
+	@Test
+	public void shouldParseListObjectsLikeSaxParser() throws Exception {
+		for (boolean decode : new boolean[] { true, false }) {
+			ObjectListing expected = new XmlResponsesSaxParser()
+					.parseListBucketObjectsResponse(stream(LIST_BUCKET_RESULT), decode).getObjectListing();
+			ObjectListing actual = XmlListResponsesStaxParser
+					.parseListBucketObjectsResponse(stream(LIST_BUCKET_RESULT), decode);
+
+			assertEquals(expected.getBucketName(), actual.getBucketName());
+			assertEquals(expected.getPrefix(), actual.getPrefix());
+			assertEquals(expected.getMarker(), actual.getMarker());
+			assertEquals(expected.getNextMarker(), actual.getNextMarker());
+			assertEquals(expected.getMaxKeys(), actual.getMaxKeys());
+			assertEquals(expected.getDelimiter(), actual.getDelimiter());
+			assertEquals(expected.getEncodingType(), actual.getEncodingType());
+			assertEquals(expected.isTruncated(), actual.isTruncated());
+			assertEquals(expected.getCommonPrefixes(), actual.getCommonPrefixes());
+			assertObjectSummariesEqual(expected.getObjectSummaries(), actual.getObjectSummaries());
+		}
+
+		ObjectListing listing = XmlListResponsesStaxParser
+				.parseListBucketObjectsResponse(stream(LIST_BUCKET_RESULT), true);
+		assertEquals("dir/a b", listing.getObjectSummaries().get(0).getKey());
+		assertEquals("dir/line\r\nbreak", listing.getObjectSummaries().get(1).getKey());
+		assertEquals("dir/line\r\nbreak", listing.getNextMarker());
+		assertEquals(-1, listing.getObjectSummaries().get(1).getSize());
+		assertNull(listing.getMarker());
+	}
+
+	/**
+	 * Test that ListObjectsV2 responses are parsed as the SAX handler parses them
+	 */
+	@Test
+	public void shouldParseListObjectsV2LikeSaxParser() throws Exception {
+		String document = LIST_BUCKET_RESULT.replace("<Marker></Marker>",
+				"<ContinuationToken>token</ContinuationToken><KeyCount>2</KeyCount><StartAfter>a%2Fb</StartAfter>");
+		for (boolean decode : new boolean[] { true, false }) {
+			ListObjectsV2Result expected = new XmlResponsesSaxParser()
+					.parseListObjectsV2Response(stream(document), decode).getResult();
+			ListObjectsV2Result actual = XmlListResponsesStaxParser
+					.parseListObjectsV2Response(stream(document), decode);
+
+			assertEquals(expected.getBucketName(), actual.getBucketName());
+			assertEquals(expected.getPrefix(), actual.getPrefix());
+			assertEquals(expected.getContinuationToken(), actual.getContinuationToken());
+			assertEquals(expected.getNextContinuationToken(), actual.getNextContinuationToken());
+			assertEquals(expected.getStartAfter(), actual.getStartAfter());
+			assertEquals(expected.getKeyCount(), actual.getKeyCount());
+			assertEquals(expected.getMaxKeys(), actual.getMaxKeys());
+			assertEquals(expected.getDelimiter(), actual.getDelimiter());
+			assertEquals(expected.getEncodingType(), actual.getEncodingType());
+			assertEquals(expected.isTruncated(), actual.isTruncated());
+			assertEquals(expected.getCommonPrefixes(), actual.getCommonPrefixes());
+			assertObjectSummariesEqual(expected.getObjectSummaries(), actual.getObjectSummaries());
+		}
+	}
+
+	/**
+	 * Test that only the selected fields of the object summaries are populated,
+	 * and that repeated values are shared
+	 */
+	@Test
+	public void shouldPopulateSelectedObjectSummaryFields() throws Exception {
+		String document = LIST_BUCKET_RESULT.replace("<Size>not-a-number</Size>",
+				"<Size>20</Size><LastModified>2019-06-18T13:46:43.638Z</LastModified><ETag>\"etag-2\"</ETag>"
+						+ "<Owner><ID>owner-id</ID><DisplayName>owner</DisplayName></Owner>"
+						+ "<StorageClass>STANDARD</StorageClass>");
+		ListObjectsV2Result expected = XmlListResponsesStaxParser.parseListObjectsV2Response(stream(document), true);
+		ListObjectsV2Result actual = XmlListResponsesStaxParser.parseListObjectsV2Response(stream(document), true,
+				EnumSet.of(S3ObjectSummaryField.LAST_MODIFIED, S3ObjectSummaryField.ETAG,
+						S3ObjectSummaryField.STORAGE_CLASS, S3ObjectSummaryField.OWNER));
+
+		assertEquals(expected.getNextContinuationToken(), actual.getNextContinuationToken());
+		assertEquals(expected.getCommonPrefixes(), actual.getCommonPrefixes());
+		assertEquals(2, actual.getObjectSummaries().size());
+		for (int i = 0; i < 2; i++) {
+			S3ObjectSummary e = expected.getObjectSummaries().get(i);
+			S3ObjectSummary a = actual.getObjectSummaries().get(i);
+			assertEquals(e.getBucketName(), a.getBucketName());
+			assertEquals(e.getKey(), a.getKey());
+			assertEquals(e.getLastModified(), a.getLastModified());
+			assertEquals(e.getETag(), a.getETag());
+			assertEquals(e.getStorageClass(), a.getStorageClass());
+			assertOwnersEqual(e.getOwner(), a.getOwner());
+			assertEquals(0, a.getSize());
+		}
+		S3ObjectSummary first = actual.getObjectSummaries().get(0);
+		S3ObjectSummary second = actual.getObjectSummaries().get(1);
+		assertSame(first.getStorageClass(), second.getStorageClass());
+		assertSame(first.getOwner(), second.getOwner());
+
+		ListObjectsV2Result keysOnly = XmlListResponsesStaxParser.parseListObjectsV2Response(stream(document), true,
+				EnumSet.noneOf(S3ObjectSummaryField.class));
+		S3ObjectSummary summary = keysOnly.getObjectSummaries().get(0);
+		assertEquals("dir/a b", summary.getKey());
+		assertEquals("bucket", summary.getBucketName());
+		assertNull(summary.getLastModified());
+		assertNull(summary.getETag());
+		assertNull(summary.getStorageClass());
+		assertNull(summary.getOwner());
+	}
+
+	/**
+	 * Test that ListVersions responses are parsed as the SAX handler parses them
+	 */
+	@Test
+	public void shouldParseListVersionsLikeSaxParser() throws Exception {
+		VersionListing expected = new XmlResponsesSaxParser()
+				.parseListVersionsResponse(stream(LIST_VERSIONS_RESULT), false).getListing();
+		VersionListing actual = XmlListResponsesStaxParser
+				.parseListVersionsResponse(stream(LIST_VERSIONS_RESULT), false);
+
+		assertEquals(expected.getBucketName(), actual.getBucketName());
+		assertEquals(expected.getPrefix(), actual.getPrefix());
+		assertEquals(expected.getKeyMarker(), actual.getKeyMarker());
+		assertEquals(expected.getVersionIdMarker(), actual.getVersionIdMarker());
+		assertEquals(expected.getNextKeyMarker(), actual.getNextKeyMarker());
+		assertEquals(expected.getNextVersionIdMarker(), actual.getNextVersionIdMarker());
+		assertEquals(expected.getMaxKeys(), actual.getMaxKeys());
+		assertEquals(expected.isTruncated(), actual.isTruncated());
+		assertEquals(expected.getCommonPrefixes(), actual.getCommonPrefixes());
+		assertEquals(expected.getVersionSummaries().size(), actual.getVersionSummaries().size());
+		for (int i = 0; i < expected.getVersionSummaries().size(); i++) {
+			S3VersionSummary e = expected.getVersionSummaries().get(i);
+			S3VersionSummary a = actual.getVersionSummaries().get(i);
+			assertEquals(e.getBucketName(), a.getBucketName());
+			assertEquals(e.getKey(), a.getKey());
+			assertEquals(e.getVersionId(), a.getVersionId());
+			assertEquals(e.isLatest(), a.isLatest());
+			assertEquals(e.isDeleteMarker(), a.isDeleteMarker());
+			assertEquals(e.getLastModified(), a.getLastModified());
+			assertEquals(e.getETag(), a.getETag());
+			assertEquals(e.getSize(), a.getSize());
+			assertEquals(e.getStorageClass(), a.getStorageClass());
+			assertOwnersEqual(e.getOwner(), a.getOwner());
+		}
+		assertTrue(actual.getVersionSummaries().get(1).isDeleteMarker());
+	}
+
+	/**
+	 * Test that ListMultipartUploads and ListParts responses are parsed as the
+	 * SAX handlers parse them
+	 */
+	@Test
+	public void shouldParseMultipartListingsLikeSaxParser() throws Exception {
+		MultipartUploadListing expectedUploads = new XmlResponsesSaxParser()
+				.parseListMultipartUploadsResponse(stream(LIST_MULTIPART_UPLOADS_RESULT))
+				.getListMultipartUploadsResult();
+		MultipartUploadListing actualUploads = XmlListResponsesStaxParser
+				.parseListMultipartUploadsResponse(stream(LIST_MULTIPART_UPLOADS_RESULT));
+
+		assertEquals(expectedUploads.getBucketName(), actualUploads.getBucketName());
+		assertEquals(expectedUploads.getKeyMarker(), actualUploads.getKeyMarker());
+		assertEquals(expectedUploads.getUploadIdMarker(), actualUploads.getUploadIdMarker());
+		assertEquals(expectedUploads.getNextKeyMarker(), actualUploads.getNextKeyMarker());
+		assertEquals(expectedUploads.getNextUploadIdMarker(), actualUploads.getNextUploadIdMarker());
+		assertEquals(expectedUploads.getMaxUploads(), actualUploads.getMaxUploads());
+		assertEquals(expectedUploads.isTruncated(), actualUploads.isTruncated());
+		assertEquals(expectedUploads.getCommonPrefixes(), actualUploads.getCommonPrefixes());
+		MultipartUpload expectedUpload = expectedUploads.getMultipartUploads().get(0);
+		MultipartUpload actualUpload = actualUploads.getMultipartUploads().get(0);
+		assertEquals(expectedUpload.getKey(), actualUpload.getKey());
+		assertEquals(expectedUpload.getUploadId(), actualUpload.getUploadId());
+		assertEquals(expectedUpload.getStorageClass(), actualUpload.getStorageClass());
+		assertEquals(expectedUpload.getInitiated(), actualUpload.getInitiated());
+		assertOwnersEqual(expectedUpload.getOwner(), actualUpload.getOwner());
+		assertOwnersEqual(expectedUpload.getInitiator(), actualUpload.getInitiator());
+
+		PartListing expectedParts = new XmlResponsesSaxParser()
+				.parseListPartsResponse(stream(LIST_PARTS_RESULT)).getListPartsResult();
+		PartListing actualParts = XmlListResponsesStaxParser.parseListPartsResponse(stream(LIST_PARTS_RESULT));
+
+		assertEquals(expectedParts.getBucketName(), actualParts.getBucketName());
+		assertEquals(expectedParts.getKey(), actualParts.getKey());
+		assertEquals(expectedParts.getUploadId(), actualParts.getUploadId());
+		assertEquals(expectedParts.getStorageClass(), actualParts.getStorageClass());
+		assertEquals(expectedParts.getPartNumberMarker(), actualParts.getPartNumberMarker());
+		assertEquals(expectedParts.getNextPartNumberMarker(), actualParts.getNextPartNumberMarker());
+		assertEquals(expectedParts.getMaxParts(), actualParts.getMaxParts());
+		assertEquals(expectedParts.isTruncated(), actualParts.isTruncated());
+		assertOwnersEqual(expectedParts.getOwner(), actualParts.getOwner());
+		assertOwnersEqual(expectedParts.getInitiator(), actualParts.getInitiator());
+		assertEquals(expectedParts.getParts().size(), actualParts.getParts().size());
+		for (int i = 0; i < expectedParts.getParts().size(); i++) {
+			PartSummary e = expectedParts.getParts().get(i);
+			PartSummary a = actualParts.getParts().get(i);
+			assertEquals(e.getPartNumber(), a.getPartNumber());
+			assertEquals(e.getLastModified(), a.getLastModified());
+			assertEquals(e.getETag(), a.getETag());
+			assertEquals(e.getSize(), a.getSize());
+		}
+		assertEquals(Integer.valueOf(1), actualParts.getPartNumberMarker());
+	}
+
+	/**
+	 * Test that documents declaring a DOCTYPE and malformed documents are
+	 * rejected
+	 */
+	@Test
+	public void shouldRejectDoctypeAndMalformedDocuments() throws Exception {
+		String doctype = "<?xml version=\"1.0\"?><!DOCTYPE foo [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]>"
+				+ "<ListBucketResult><Name>&xxe;</Name></ListBucketResult>";
+		for (String document : new String[] { doctype, "<ListBucketResult><Name>bucket</Name>",
+				"<ListBucketResult><IsTruncated>maybe</IsTruncated></ListBucketResult>" }) {
+			try {
+				XmlListResponsesStaxParser.parseListBucketObjectsResponse(stream(document), false);
+				fail("Expected SdkClientException for " + document);
+			} catch (SdkClientException expected) {
+			}
+		}
+
+		ObjectListing listing = XmlListResponsesStaxParser
+				.parseListBucketObjectsResponse(stream("<Error><Code>x</Code></Error>"), false);
+		assertNull(listing.getBucketName());
+		assertFalse(listing.isTruncated());
+	}
+
+	private static void assertObjectSummariesEqual(List<S3ObjectSummary> expected, List<S3ObjectSummary> actual) {
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			S3ObjectSummary e = expected.get(i);
+			S3ObjectSummary a = actual.get(i);
+			assertEquals(e.getBucketName(), a.getBucketName());
+			assertEquals(e.getKey(), a.getKey());
+			assertEquals(e.getLastModified(), a.getLastModified());
+			assertEquals(e.getETag(), a.getETag());
+			assertEquals(e.getSize(), a.getSize());
+			assertEquals(e.getStorageClass(), a.getStorageClass());
+			assertOwnersEqual(e.getOwner(), a.getOwner());
+		}
+	}
+
+	private static void assertOwnersEqual(Owner expected, Owner actual) {
+		if (expected == null) {
+			assertNull(actual);
+			return;
+		}
+		assertEquals(expected.getId(), actual.getId());
+		assertEquals(expected.getDisplayName(), actual.getDisplayName());
+	}
+
+	private static InputStream stream(String document) {
+		return new ByteArrayInputStream(document.getBytes(StringUtils.UTF8));
+	}
+}
@@ -0,0 +1,139 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.transfer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.ibm.cloud.objectstorage.AmazonServiceException;
+import com.ibm.cloud.objectstorage.event.ProgressListenerChain;
+import com.ibm.cloud.objectstorage.services.s3.AmazonS3;
+import com.ibm.cloud.objectstorage.services.s3.model.ListObjectsRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.ObjectListing;
+import com.ibm.cloud.objectstorage.services.s3.model.S3ObjectSummary;
+import com.ibm.cloud.objectstorage.services.s3.transfer.Transfer.TransferState;
+import com.ibm.cloud.objectstorage.services.s3.transfer.internal.MultipleFileCopyImpl;
+
+public class DirectoryCopyListerTest {
+
+	private final List<String> started = Collections.synchronizedList(new ArrayList<String>());
+	private AmazonS3 s3;
+	private ExecutorService executorService;
+
+	@Before
+	public void setUp() {
+		s3 = mock(AmazonS3.class);
+		executorService = Executors.newSingleThreadExecutor();
+	}
+
+	@After
+	public void tearDown() {
+		executorService.shutdownNow();
+	}
+
+	/**
+	 * Test that every object listed across pages after the marker is copied,
+	 * and that the bytes and objects copied are counted
+	 */
+	@Test
+	public void testObjectsAreCopiedFromTheMarker() throws Exception {
+		ObjectListing first = listing(true, "src/a", "src/b");
+		ObjectListing second = listing(false, "src/c");
+		ArgumentCaptor<ListObjectsRequest> request = ArgumentCaptor.forClass(ListObjectsRequest.class);
+		when(s3.listObjects(request.capture())).thenReturn(first);
+		when(s3.listNextBatchOfObjects(first)).thenReturn(second);
+		MultipleFileCopyImpl copy = copy(10);
+
+		lister(copy, "src/0", null).run();
+		copy.waitForCompletion();
+
+		assertEquals("src/0", request.getValue().getMarker());
+		assertEquals(TransferState.Completed, copy.getState());
+		assertEquals(Arrays.asList("src/a", "src/b", "src/c"), started);
+		assertEquals(3, copy.getProgress().getObjectsTransferred());
+		assertEquals(copy.getProgress().getTotalBytesToTransfer(), copy.getProgress().getBytesTransferred());
+	}
+
+	/**
+	 * Test that the first copy that fails stops the listing and fails the
+	 * directory copy with its error
+	 */
+	@Test
+	public void testFailedCopyStopsListing() throws Exception {
+		when(s3.listObjects(any(ListObjectsRequest.class))).thenReturn(
+				listing(false, "src/a", "src/b", "src/c"));
+		AmazonServiceException error = new AmazonServiceException("copy failed");
+		MultipleFileCopyImpl copy = copy(1);
+
+		lister(copy, null, error).run();
+
+		try {
+			copy.waitForCompletion();
+			fail("Expected the copy error");
+		} catch (AmazonServiceException e) {
+			assertSame(error, e);
+		}
+		assertEquals(TransferState.Failed, copy.getState());
+		assertEquals(Arrays.asList("src/a"), started);
+	}
+
+	private MultipleFileCopyImpl copy(int maxPendingCopies) {
+		return new MultipleFileCopyImpl("test", new TransferProgress(), new ProgressListenerChain(), "source",
+				"src/", "destination", "dst/", maxPendingCopies, null);
+	}
+
+	/**
+	 * Returns a lister whose copies complete at once, or fail with the given
+	 * error
+	 */
+	private DirectoryCopyLister lister(final MultipleFileCopyImpl copy, String marker, final Exception error) {
+		return new DirectoryCopyLister(s3, "source", "src/", marker, copy, executorService) {
+			@Override
+			protected void startCopy(S3ObjectSummary summary) {
+				if (copy.startFile()) {
+					started.add(summary.getKey());
+					copy.fileDone(summary.getKey(), summary.getSize(), error);
+				}
+			}
+		};
+	}
+
+	private static ObjectListing listing(boolean truncated, String... keys) {
+		ObjectListing listing = new ObjectListing();
+		for (String key : keys) {
+			S3ObjectSummary summary = new S3ObjectSummary();
+			summary.setBucketName("source");
+			summary.setKey(key);
+			summary.setSize(key.length() + 3);
+			listing.getObjectSummaries().add(summary);
+		}
+		listing.setTruncated(truncated);
+		return listing;
+	}
+}
@@ -0,0 +1,250 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.transfer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.ibm.cloud.objectstorage.AmazonServiceException;
+import com.ibm.cloud.objectstorage.event.ProgressListenerChain;
+import com.ibm.cloud.objectstorage.services.s3.AmazonS3;
+import com.ibm.cloud.objectstorage.services.s3.model.ListObjectsRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.ObjectListing;
+import com.ibm.cloud.objectstorage.services.s3.model.S3ObjectSummary;
+import com.ibm.cloud.objectstorage.services.s3.transfer.Transfer.TransferState;
+import com.ibm.cloud.objectstorage.services.s3.transfer.internal.DownloadImpl;
+import com.ibm.cloud.objectstorage.services.s3.transfer.internal.StreamingMultipleFileDownloadImpl;
+
+public class DirectoryDownloadListerTest {
+
+	private final File destination = new File(System.getProperty("java.io.tmpdir"), "directory-download");
+	private final List<String> started = Collections.synchronizedList(new ArrayList<String>());
+	private AmazonS3 s3;
+	private ExecutorService executorService;
+
+	@Before
+	public void setUp() {
+		s3 = mock(AmazonS3.class);
+		executorService = Executors.newSingleThreadExecutor();
+	}
+
+	@After
+	public void tearDown() {
+		executorService.shutdownNow();
+	}
+
+	/**
+	 * Test that every object listed across pages is started, except objects
+	 * that are also virtual directories, directory markers and the prefix
+	 * itself, and that the total bytes grow with the listing
+	 */
+	@Test
+	public void testObjectsThatAreVirtualDirectoriesAreSkipped() throws Exception {
+		ObjectListing first = listing(true, "dir/", "dir/a", "dir/a!");
+		ObjectListing second = listing(false, "dir/a!/x", "dir/a.txt", "dir/a/b", "dir/b", "dir/c/", "dir/c/d");
+		when(s3.listObjects(any(ListObjectsRequest.class))).thenReturn(first);
+		when(s3.listNextBatchOfObjects(first)).thenReturn(second);
+		StreamingMultipleFileDownloadImpl download = download(10);
+
+		lister(download, true).run();
+		download.waitForCompletion();
+
+		assertEquals(TransferState.Completed, download.getState());
+		Collections.sort(started);
+		assertEquals(Arrays.asList("dir/a!/x", "dir/a.txt", "dir/a/b", "dir/b", "dir/c/d"), started);
+		assertEquals(11 + 12 + 10 + 8 + 10, download.getProgress().getTotalBytesToTransfer());
+	}
+
+	/**
+	 * Test that the listing waits while the directory download has as many
+	 * files pending as it permits, and stops when the download is aborted
+	 */
+	@Test
+	public void testListingWaitsForPendingDownloadsAndStopsOnAbort() throws Exception {
+		when(s3.listObjects(any(ListObjectsRequest.class))).thenReturn(
+				listing(false, "dir/a", "dir/b", "dir/c", "dir/d"));
+		StreamingMultipleFileDownloadImpl download = download(2);
+		Thread listing = new Thread(lister(download, false));
+		listing.start();
+
+		listing.join(200);
+		executorService.shutdown();
+		executorService.awaitTermination(1, TimeUnit.SECONDS);
+		assertEquals(Arrays.asList("dir/a", "dir/b"), started);
+		assertFalse(download.isDone());
+
+		download.abort();
+		listing.join(1000);
+		assertFalse(listing.isAlive());
+		assertEquals(2, started.size());
+		assertEquals(TransferState.Canceled, download.getState());
+	}
+
+	/**
+	 * Test that a failed listing fails the directory download with its error
+	 */
+	@Test
+	public void testListingErrorFailsDownload() throws Exception {
+		AmazonServiceException error = new AmazonServiceException("listing failed");
+		when(s3.listObjects(any(ListObjectsRequest.class))).thenThrow(error);
+		StreamingMultipleFileDownloadImpl download = download(10);
+
+		lister(download, true).run();
+
+		try {
+			download.waitForCompletion();
+			fail("Expected the listing error");
+		} catch (AmazonServiceException e) {
+			assertSame(error, e);
+		}
+		assertEquals(TransferState.Failed, download.getState());
+	}
+
+	/**
+	 * Test that small objects downloaded without a download of their own
+	 * complete the directory download and are counted as objects transferred
+	 */
+	@Test
+	public void testSmallObjectsAreCountedAsObjectsTransferred() throws Exception {
+		when(s3.listObjects(any(ListObjectsRequest.class))).thenReturn(
+				listing(false, "dir/a", "dir/b", "dir/c"));
+		final StreamingMultipleFileDownloadImpl download = download(2);
+
+		new DirectoryDownloadLister(s3, "bucket", "dir/", destination, KeyFilter.INCLUDE_ALL, download,
+				executorService) {
+			@Override
+			protected void startDownload(S3ObjectSummary summary) {
+				if (download.startFile()) {
+					started.add(summary.getKey());
+					download.fileDone(null);
+				}
+			}
+		}.run();
+		download.waitForCompletion();
+
+		assertEquals(TransferState.Completed, download.getState());
+		assertEquals(Arrays.asList("dir/a", "dir/b", "dir/c"), started);
+		assertEquals(3, download.getProgress().getObjectsTransferred());
+		assertTrue(download.getProgress().getObjectsPerSecond() > 0);
+	}
+
+	/**
+	 * Test that a download still queued on the thread pool when the listing
+	 * completes keeps the directory download pending until it is done
+	 */
+	@Test
+	public void testQueuedDownloadKeepsDirectoryDownloadPending() throws Exception {
+		when(s3.listObjects(any(ListObjectsRequest.class))).thenReturn(listing(false, "dir/a"));
+		final CountDownLatch blocked = new CountDownLatch(1);
+		executorService.execute(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					blocked.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		});
+		StreamingMultipleFileDownloadImpl download = download(10);
+
+		lister(download, true).run();
+
+		assertFalse(download.isDone());
+		blocked.countDown();
+		download.waitForCompletion();
+		assertEquals(TransferState.Completed, download.getState());
+		assertEquals(Arrays.asList("dir/a"), started);
+	}
+
+	private StreamingMultipleFileDownloadImpl download(int maxPendingDownloads) {
+		return new StreamingMultipleFileDownloadImpl("test", new TransferProgress(), new ProgressListenerChain(),
+				"dir/", "bucket", maxPendingDownloads);
+	}
+
+	/**
+	 * Returns a lister whose downloads complete at once, or are only added to
+	 * the directory download if they should stay in progress
+	 */
+	private DirectoryDownloadLister lister(final StreamingMultipleFileDownloadImpl download,
+			final boolean complete) {
+		return new DirectoryDownloadLister(s3, "bucket", "dir/", destination, KeyFilter.INCLUDE_ALL, download,
+				executorService) {
+			@Override
+			protected void startDownload(S3ObjectSummary summary) {
+				DownloadImpl file = mockDownload(download);
+				synchronized (download) {
+					if (download.addDownload(file)) {
+						started.add(summary.getKey());
+					}
+				}
+				if (complete) {
+					file.notifyStateChangeListeners(TransferState.Completed);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Returns a download that notifies the directory download of its state
+	 * changes
+	 */
+	private static DownloadImpl mockDownload(final StreamingMultipleFileDownloadImpl download) {
+		final DownloadImpl file = mock(DownloadImpl.class);
+		doAnswer(new Answer<Void>() {
+			@Override
+			public Void answer(InvocationOnMock invocation) {
+				download.getStateChangeListener().transferStateChanged(file,
+						(TransferState) invocation.getArguments()[0]);
+				return null;
+			}
+		}).when(file).notifyStateChangeListeners(any(TransferState.class));
+		return file;
+	}
+
+	private static ObjectListing listing(boolean truncated, String... keys) {
+		ObjectListing listing = new ObjectListing();
+		for (String key : keys) {
+			S3ObjectSummary summary = new S3ObjectSummary();
+			summary.setBucketName("bucket");
+			summary.setKey(key);
+			summary.setSize(key.length() + 3);
+			listing.getObjectSummaries().add(summary);
+		}
+		listing.setTruncated(truncated);
+		return listing;
+	}
+}
@@ -0,0 +1,178 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.transfer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.ibm.cloud.objectstorage.event.ProgressListenerChain;
+import com.ibm.cloud.objectstorage.services.s3.transfer.Transfer.TransferState;
+import com.ibm.cloud.objectstorage.services.s3.transfer.internal.StreamingMultipleFileUploadImpl;
+
+public class DirectoryUploadWalkerTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final List<String> started = Collections.synchronizedList(new ArrayList<String>());
+	private ExecutorService executorService;
+
+	@Before
+	public void setUp() throws IOException {
+		executorService = Executors.newFixedThreadPool(2);
+		write("a", 10);
+		write("b", 20);
+		folder.newFolder("sub", "deeper");
+		write("sub/c", 30);
+		write("sub/deeper/d", 40);
+	}
+
+	@After
+	public void tearDown() {
+		executorService.shutdownNow();
+	}
+
+	/**
+	 * Test that every file of the directory and its subdirectories is
+	 * uploaded, and that the total bytes grow with the walk
+	 */
+	@Test
+	public void testFilesOfSubdirectoriesAreUploaded() throws Exception {
+		StreamingMultipleFileUploadImpl upload = upload(10);
+
+		walker(upload, true, null).run();
+		upload.waitForCompletion();
+
+		assertEquals(TransferState.Completed, upload.getState());
+		Collections.sort(started);
+		assertEquals(Arrays.asList("a", "b", "c", "d"), started);
+		assertEquals(100, upload.getProgress().getTotalBytesToTransfer());
+	}
+
+	/**
+	 * Test that only the files directly in the directory are uploaded without
+	 * subdirectories
+	 */
+	@Test
+	public void testSubdirectoriesAreSkipped() throws Exception {
+		StreamingMultipleFileUploadImpl upload = upload(10);
+
+		walker(upload, false, null).run();
+		upload.waitForCompletion();
+
+		Collections.sort(started);
+		assertEquals(Arrays.asList("a", "b"), started);
+		assertEquals(30, upload.getProgress().getTotalBytesToTransfer());
+	}
+
+	/**
+	 * Test that the walk waits while the directory upload has as many files
+	 * pending as it permits
+	 */
+	@Test
+	public void testWalkWaitsForPendingFiles() throws Exception {
+		final StreamingMultipleFileUploadImpl upload = upload(2);
+		// Files are started but never done
+		DirectoryUploadWalker walker = new DirectoryUploadWalker(folder.getRoot(), true, upload, executorService) {
+			@Override
+			protected void startUpload(File file) {
+				assertTrue(upload.startFile());
+				started.add(file.getName());
+			}
+		};
+		Thread walk = new Thread(walker);
+		walk.start();
+
+		walk.join(200);
+		executorService.shutdown();
+		executorService.awaitTermination(1, TimeUnit.SECONDS);
+		assertTrue(walk.isAlive());
+		assertEquals(2, started.size());
+		assertFalse(upload.isDone());
+
+		upload.fileDone(null);
+		upload.fileDone(null);
+		walk.join(1000);
+		assertFalse(walk.isAlive());
+	}
+
+	/**
+	 * Test that a file that can't be started fails the directory upload with
+	 * its error, and stops the walk
+	 */
+	@Test
+	public void testFileThatCannotBeStartedFailsUpload() throws Exception {
+		RuntimeException error = new RuntimeException("no metadata");
+		StreamingMultipleFileUploadImpl upload = upload(1);
+
+		walker(upload, true, error).run();
+
+		try {
+			upload.waitForCompletion();
+			fail("Expected the error of the file");
+		} catch (Exception e) {
+			assertSame(error, e.getCause());
+		}
+		assertEquals(TransferState.Failed, upload.getState());
+		assertTrue(started.isEmpty());
+	}
+
+	private StreamingMultipleFileUploadImpl upload(int maxPendingFiles) {
+		return new StreamingMultipleFileUploadImpl("test", new TransferProgress(), new ProgressListenerChain(),
+				"", "bucket", maxPendingFiles);
+	}
+
+	private DirectoryUploadWalker walker(final StreamingMultipleFileUploadImpl upload,
+			boolean includeSubdirectories, final RuntimeException error) {
+		return new DirectoryUploadWalker(folder.getRoot(), includeSubdirectories, upload, executorService) {
+			@Override
+			protected void startUpload(File file) {
+				if (error != null) {
+					throw error;
+				}
+				assertTrue(upload.startFile());
+				started.add(file.getName());
+				upload.fileDone(null);
+			}
+		};
+	}
+
+	private void write(String path, int length) throws IOException {
+		FileOutputStream out = new FileOutputStream(new File(folder.getRoot(), path));
+		try {
+			out.write(new byte[length]);
+		} finally {
+			out.close();
+		}
+	}
+}
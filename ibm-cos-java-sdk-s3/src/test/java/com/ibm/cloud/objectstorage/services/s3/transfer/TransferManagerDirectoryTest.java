@@ -0,0 +1,253 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.transfer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.ibm.cloud.objectstorage.AmazonServiceException;
+import com.ibm.cloud.objectstorage.client.builder.ExecutorFactory;
+import com.ibm.cloud.objectstorage.services.s3.AmazonS3;
+import com.ibm.cloud.objectstorage.services.s3.model.CopyObjectRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.CopyObjectResult;
+import com.ibm.cloud.objectstorage.services.s3.model.ListObjectsRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.ObjectListing;
+import com.ibm.cloud.objectstorage.services.s3.model.PutObjectRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.PutObjectResult;
+import com.ibm.cloud.objectstorage.services.s3.model.S3ObjectSummary;
+import com.ibm.cloud.objectstorage.services.s3.transfer.Transfer.TransferState;
+
+public class TransferManagerDirectoryTest {
+
+	private final File destination = new File(System.getProperty("java.io.tmpdir"), "directory-transfer");
+	private AmazonS3 s3;
+	private TransferManager tm;
+
+	@Before
+	public void setUp() {
+		s3 = mock(AmazonS3.class);
+	}
+
+	@After
+	public void tearDown() {
+		if (tm != null) {
+			tm.shutdownNow(false);
+		}
+	}
+
+	/**
+	 * Test that by default a key resolving outside the destination directory
+	 * is rejected by downloadDirectory itself
+	 */
+	@Test
+	public void testEscapingKeyIsThrownByDefault() {
+		when(s3.listObjects(any(ListObjectsRequest.class))).thenReturn(listing("dir/../../escape"));
+		tm = TransferManagerBuilder.standard().withS3Client(s3).build();
+
+		try {
+			tm.downloadDirectory("bucket", "dir/", destination);
+			fail("Expected the key to be rejected");
+		} catch (RuntimeException e) {
+			assertTrue(e.getMessage().contains("resolves outside the parent directory"));
+		}
+	}
+
+	/**
+	 * Test that by default a failed listing is thrown by downloadDirectory
+	 * itself
+	 */
+	@Test
+	public void testListingErrorIsThrownByDefault() {
+		AmazonServiceException error = new AmazonServiceException("listing failed");
+		when(s3.listObjects(any(ListObjectsRequest.class))).thenThrow(error);
+		tm = TransferManagerBuilder.standard().withS3Client(s3).build();
+
+		try {
+			tm.downloadDirectory("bucket", "dir/", destination);
+			fail("Expected the listing error");
+		} catch (AmazonServiceException e) {
+			assertSame(error, e);
+		}
+	}
+
+	/**
+	 * Test that a key resolving outside the destination directory fails the
+	 * returned transfer when streaming directory downloads are enabled
+	 */
+	@Test
+	public void testEscapingKeyFailsStreamingDownload() throws Exception {
+		when(s3.listObjects(any(ListObjectsRequest.class))).thenReturn(listing("dir/../../escape"));
+		tm = TransferManagerBuilder.standard().withS3Client(s3).withStreamingDirectoryDownloads(true).build();
+
+		MultipleFileDownload download = tm.downloadDirectory("bucket", "dir/", destination);
+
+		try {
+			download.waitForCompletion();
+			fail("Expected the key to be rejected");
+		} catch (RuntimeException e) {
+			assertTrue(e.getMessage().contains("resolves outside the parent directory"));
+		}
+		assertEquals(TransferState.Failed, download.getState());
+	}
+
+	/**
+	 * Test that by default every file of a directory upload gets an upload of
+	 * its own, returned as a sub-transfer
+	 */
+	@Test
+	public void testEveryFileIsSubTransferByDefault() throws Exception {
+		File directory = directory("a.txt", "b.txt");
+		when(s3.putObject(any(PutObjectRequest.class))).thenReturn(new PutObjectResult());
+		tm = TransferManagerBuilder.standard().withS3Client(s3).build();
+
+		MultipleFileUpload upload = tm.uploadDirectory("bucket", "dir", directory, false);
+		upload.waitForCompletion();
+
+		assertEquals(TransferState.Completed, upload.getState());
+		Set<String> keys = new HashSet<String>();
+		for (Upload file : upload.getSubTransfers()) {
+			assertEquals(TransferState.Completed, file.getState());
+			keys.add(file.getDescription());
+		}
+		assertEquals(2, keys.size());
+		assertEquals(4, upload.getProgress().getTotalBytesToTransfer());
+		verify(s3, times(2)).putObject(any(PutObjectRequest.class));
+	}
+
+	/**
+	 * Test that small files of a streaming directory upload are put without
+	 * an upload of their own
+	 */
+	@Test
+	public void testSmallFilesHaveNoSubTransferWhenStreaming() throws Exception {
+		File directory = directory("a.txt", "b.txt");
+		when(s3.putObject(any(PutObjectRequest.class))).thenReturn(new PutObjectResult());
+		tm = TransferManagerBuilder.standard().withS3Client(s3).withStreamingDirectoryUploads(true).build();
+
+		MultipleFileUpload upload = tm.uploadDirectory("bucket", "dir", directory, false);
+		upload.waitForCompletion();
+
+		assertEquals(TransferState.Completed, upload.getState());
+		assertTrue(upload.getSubTransfers().isEmpty());
+		verify(s3, times(2)).putObject(any(PutObjectRequest.class));
+	}
+
+	/**
+	 * Test that a copy within the same bucket is rejected when the
+	 * destination prefix is under the source prefix, or the other way round
+	 */
+	@Test
+	public void testOverlappingCopyPrefixesAreRejected() {
+		tm = TransferManagerBuilder.standard().withS3Client(s3).build();
+
+		for (String[] prefixes : new String[][] {{"logs/", "logs/archive/"}, {"logs/archive/", "logs/"}, {null, "copy/"}}) {
+			try {
+				tm.copyDirectory("bucket", prefixes[0], "bucket", prefixes[1]);
+				fail("Expected the prefixes to be rejected");
+			} catch (IllegalArgumentException e) {
+				assertTrue(e.getMessage().contains("overlap"));
+			}
+		}
+		verify(s3, times(0)).listObjects(any(ListObjectsRequest.class));
+	}
+
+	/**
+	 * Test that small objects of a directory copy are copied as many at a
+	 * time as the queue size permits, however small the thread pool of the
+	 * transfer manager
+	 */
+	@Test
+	public void testSmallObjectCopiesNotBoundByThreadPool() throws Exception {
+		when(s3.listObjects(any(ListObjectsRequest.class))).thenReturn(listing("logs/a", "logs/b", "logs/c"));
+		final CountDownLatch inFlight = new CountDownLatch(3);
+		when(s3.copyObject(any(CopyObjectRequest.class))).thenAnswer(new Answer<CopyObjectResult>() {
+			@Override
+			public CopyObjectResult answer(InvocationOnMock invocation) throws Throwable {
+				inFlight.countDown();
+				if (!inFlight.await(10, TimeUnit.SECONDS)) {
+					throw new AmazonServiceException("copies not in flight together");
+				}
+				return new CopyObjectResult();
+			}
+		});
+		tm = TransferManagerBuilder.standard().withS3Client(s3).withDirectoryTransferQueueSize(3)
+				.withExecutorFactory(new ExecutorFactory() {
+					@Override
+					public ExecutorService newExecutor() {
+						return Executors.newSingleThreadExecutor();
+					}
+				}).build();
+
+		MultipleFileCopy copy = tm.copyDirectory("bucket", "logs/", "bucket", "archive/");
+		copy.waitForCompletion();
+
+		assertEquals(TransferState.Completed, copy.getState());
+		verify(s3, times(3)).copyObject(any(CopyObjectRequest.class));
+	}
+
+	/**
+	 * Returns a new directory holding files of two bytes with the given names
+	 */
+	private static File directory(String... names) throws IOException {
+		File directory = File.createTempFile("directory-upload", "");
+		directory.delete();
+		directory.mkdir();
+		directory.deleteOnExit();
+		for (String name : names) {
+			File file = new File(directory, name);
+			file.deleteOnExit();
+			FileOutputStream out = new FileOutputStream(file);
+			try {
+				out.write(new byte[] {'o', 'k'});
+			} finally {
+				out.close();
+			}
+		}
+		return directory;
+	}
+
+	private static ObjectListing listing(String... keys) {
+		ObjectListing listing = new ObjectListing();
+		for (String key : keys) {
+			S3ObjectSummary summary = new S3ObjectSummary();
+			summary.setBucketName("bucket");
+			summary.setKey(key);
+			summary.setSize(key.length());
+			listing.getObjectSummaries().add(summary);
+		}
+		return listing;
+	}
+}
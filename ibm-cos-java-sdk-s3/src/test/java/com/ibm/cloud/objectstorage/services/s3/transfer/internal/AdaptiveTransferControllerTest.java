@@ -0,0 +1,230 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.transfer.internal;
+
+import static com.ibm.cloud.objectstorage.services.s3.internal.Constants.MB;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.ibm.cloud.objectstorage.services.s3.model.AmazonS3Exception;
+
+public class AdaptiveTransferControllerTest {
+
+	private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	/** Parts handed to the executor, which runs none of them. */
+	private final List<Runnable> executed = new ArrayList<Runnable>();
+	private final Executor executor = new Executor() {
+		@Override
+		public void execute(Runnable command) {
+			executed.add(command);
+		}
+	};
+
+	/**
+	 * Test the limit doubles per window until the first throttling response
+	 * halves it, after which it grows by one part per window
+	 */
+	@Test
+	public void testSlowStartThenAdditiveIncrease() throws Exception {
+		AdaptiveTransferController controller = new AdaptiveTransferController(64, 5 * MB);
+		assertEquals(2, controller.getConcurrencyLimit());
+
+		completeWindow(controller);
+		assertEquals(4, controller.getConcurrencyLimit());
+		completeWindow(controller);
+		assertEquals(8, controller.getConcurrencyLimit());
+
+		AmazonS3Exception slowDown = new AmazonS3Exception("Please reduce your request rate.");
+		slowDown.setStatusCode(503);
+		slowDown.setErrorCode("SlowDown");
+		controller.submit(executor, part());
+		controller.release(slowDown);
+		assertEquals(4, controller.getConcurrencyLimit());
+
+		completeWindow(controller);
+		assertEquals(5, controller.getConcurrencyLimit());
+	}
+
+	/**
+	 * Test parts slowing down well beyond the best observed time per byte
+	 * shrink the limit, at most once per window
+	 */
+	@Test
+	public void testLatencyInflationDecreasesLimit() throws Exception {
+		AdaptiveTransferController controller = new AdaptiveTransferController(64, 5 * MB);
+		completeWindow(controller);
+		completeWindow(controller);
+		assertEquals(8, controller.getConcurrencyLimit());
+
+		controller.submit(executor, part());
+		controller.release(8 * MB, 3 * ONE_SECOND);
+		assertEquals(6, controller.getConcurrencyLimit());
+		controller.submit(executor, part());
+		controller.release(8 * MB, 3 * ONE_SECOND);
+		assertEquals(6, controller.getConcurrencyLimit());
+	}
+
+	/**
+	 * Test failures other than throttling leave the limit unchanged
+	 */
+	@Test
+	public void testOtherFailuresKeepLimit() throws Exception {
+		AdaptiveTransferController controller = new AdaptiveTransferController(64, 5 * MB);
+		controller.submit(executor, part());
+		controller.release(new AmazonS3Exception("Access Denied"));
+		assertEquals(2, controller.getConcurrencyLimit());
+		assertEquals(0, controller.getInFlight());
+	}
+
+	/**
+	 * Test part sizes follow the observed throughput within their bounds
+	 */
+	@Test
+	public void testRecommendPartSize() throws Exception {
+		AdaptiveTransferController controller = new AdaptiveTransferController(64, 5 * MB);
+		assertEquals(0, controller.recommendPartSize(1024L * MB));
+
+		// 8 MB per second and part, so about 16 MB per two-second part
+		completeWindow(controller);
+		assertEquals(16 * MB, controller.recommendPartSize(1024L * MB));
+		// Small objects are split so that every part in flight gets work
+		assertEquals(10 * MB, controller.recommendPartSize(40 * MB));
+		// Never below the minimum part size
+		assertEquals(5 * MB, controller.recommendPartSize(8 * MB));
+		// Unknown length
+		assertEquals(16 * MB, controller.recommendPartSize(-1));
+	}
+
+	/**
+	 * Test a part submitted while the limit is reached is queued without
+	 * blocking, and handed to the executor when a part in flight is released
+	 */
+	@Test
+	public void testPartAboveLimitStartsOnRelease() throws Exception {
+		AdaptiveTransferController controller = new AdaptiveTransferController(1, 5 * MB);
+		RunnableFuture<String> first = controller.submit(executor, part());
+		RunnableFuture<String> second = controller.submit(executor, part());
+
+		assertEquals(1, executed.size());
+		assertSame(first, executed.get(0));
+		assertEquals(1, controller.getInFlight());
+		assertEquals(1, controller.getPending());
+
+		controller.release(MB, ONE_SECOND);
+		assertEquals(2, executed.size());
+		assertSame(second, executed.get(1));
+		assertEquals(1, controller.getInFlight());
+		assertEquals(0, controller.getPending());
+	}
+
+	/**
+	 * Test canceled parts give back their place, whether queued or in flight
+	 */
+	@Test
+	public void testCanceledPartsGiveBackTheirSlot() throws Exception {
+		AdaptiveTransferController controller = new AdaptiveTransferController(1, 5 * MB);
+		Future<String> first = controller.submit(executor, part());
+		Future<String> second = controller.submit(executor, part());
+
+		second.cancel(true);
+		assertEquals(0, controller.getPending());
+		first.cancel(true);
+		assertEquals(0, controller.getInFlight());
+
+		// Runs nothing once canceled
+		executed.get(0).run();
+		assertEquals(0, controller.getInFlight());
+	}
+
+	/**
+	 * Test a queued part run by its caller is put in flight at once and
+	 * skipped by the queue
+	 */
+	@Test
+	public void testQueuedPartRunByCaller() throws Exception {
+		AdaptiveTransferController controller = new AdaptiveTransferController(1, 5 * MB);
+		controller.submit(executor, part());
+		RunnableFuture<String> second = controller.submit(executor, part());
+
+		second.run();
+		assertEquals("done", second.get());
+		assertEquals(2, controller.getInFlight());
+		assertEquals(0, controller.getPending());
+
+		controller.release(MB, ONE_SECOND);
+		controller.release(MB, ONE_SECOND);
+		assertEquals(0, controller.getInFlight());
+		assertEquals(1, executed.size());
+	}
+
+	/**
+	 * Test a part rejected by its executor gives back its slot
+	 */
+	@Test
+	public void testRejectedPartGivesBackSlot() throws Exception {
+		AdaptiveTransferController controller = new AdaptiveTransferController(1, 5 * MB);
+		Executor rejecting = new Executor() {
+			@Override
+			public void execute(Runnable command) {
+				throw new RejectedExecutionException("shut down");
+			}
+		};
+		try {
+			controller.submit(rejecting, part());
+			fail("Expected the part to be rejected");
+		} catch (RejectedExecutionException expected) {
+		}
+		assertEquals(0, controller.getInFlight());
+
+		controller.submit(executor, part());
+		Future<String> queued = controller.submit(rejecting, part());
+		controller.release(MB, ONE_SECOND);
+		assertTrue(queued.isDone());
+		assertEquals(0, controller.getInFlight());
+		assertFalse(queued.isCancelled());
+	}
+
+	private void completeWindow(AdaptiveTransferController controller) {
+		int limit = controller.getConcurrencyLimit();
+		for (int i = 0; i < limit; i++) {
+			controller.submit(executor, part());
+		}
+		for (int i = 0; i < limit; i++) {
+			controller.release(8 * MB, ONE_SECOND);
+		}
+	}
+
+	private static Callable<String> part() {
+		return new Callable<String>() {
+			@Override
+			public String call() {
+				return "done";
+			}
+		};
+	}
+}
@@ -0,0 +1,157 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.transfer.internal;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ibm.cloud.objectstorage.SdkClientException;
+import com.ibm.cloud.objectstorage.services.s3.model.S3Object;
+
+public class CompleteMultipartDownloadTest {
+
+	private ExecutorService executor;
+	private File file;
+
+	@Before
+	public void setUp() throws IOException {
+		executor = Executors.newFixedThreadPool(2);
+		file = File.createTempFile("complete-download", ".tmp");
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+		file.delete();
+	}
+
+	/**
+	 * Test that when a part fails, the destination channel is only closed
+	 * once the parts still running have stopped writing to it
+	 */
+	@Test
+	public void testChannelClosedAfterRunningPartsStop() throws Exception {
+		final CountDownLatch secondPartStarted = new CountDownLatch(1);
+		final AtomicBoolean secondPartFinished = new AtomicBoolean();
+		final IOException failure = new IOException("part failed");
+		DownloadBufferPool pool = new DownloadBufferPool(16, 2, false);
+		FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE);
+		InFlightParts inFlightParts = new InFlightParts();
+
+		Callable<S3Object> failingPart = new Callable<S3Object>() {
+			@Override
+			public S3Object call() throws Exception {
+				assertTrue(secondPartStarted.await(10, TimeUnit.SECONDS));
+				throw failure;
+			}
+		};
+		Callable<S3Object> slowPart = new Callable<S3Object>() {
+			@Override
+			public S3Object call() {
+				S3Object object = new S3Object();
+				object.setObjectContent(new SlowInputStream(secondPartStarted, secondPartFinished));
+				return object;
+			}
+		};
+
+		List<Future<Long>> parts = new ArrayList<Future<Long>>();
+		parts.add(executor.submit(new DownloadS3ObjectCallable(failingPart, channel, pool, 0)
+				.withInFlightParts(inFlightParts)));
+		parts.add(executor.submit(new DownloadS3ObjectCallable(slowPart, channel, pool, 16)
+				.withInFlightParts(inFlightParts)));
+
+		try {
+			new CompleteMultipartDownload(parts, file, mock(DownloadImpl.class), 1, channel, inFlightParts).call();
+			fail("Expected the failure of the first part");
+		} catch (SdkClientException e) {
+			assertSame(failure, ((ExecutionException) e.getCause()).getCause());
+		}
+
+		assertTrue(secondPartFinished.get());
+		assertFalse(channel.isOpen());
+	}
+
+	/**
+	 * Test that a part which hasn't started when the download fails doesn't
+	 * write anything
+	 */
+	@Test
+	public void testPartNotStartedAfterFailure() throws Exception {
+		InFlightParts inFlightParts = new InFlightParts();
+		inFlightParts.cancelAndAwait(new ArrayList<Future<Long>>());
+
+		assertFalse(inFlightParts.enter());
+	}
+
+	/**
+	 * Input stream that ignores interruption for a while before reaching its
+	 * end, like a part blocked in a socket read
+	 */
+	private static final class SlowInputStream extends InputStream {
+		private final CountDownLatch started;
+		private final AtomicBoolean finished;
+
+		SlowInputStream(CountDownLatch started, AtomicBoolean finished) {
+			this.started = started;
+			this.finished = finished;
+		}
+
+		@Override
+		public int read() {
+			byte[] b = new byte[1];
+			return read(b, 0, 1);
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			if (finished.get()) {
+				return -1;
+			}
+			started.countDown();
+			long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+			long remaining;
+			while ((remaining = deadline - System.nanoTime()) > 0) {
+				try {
+					TimeUnit.NANOSECONDS.sleep(remaining);
+				} catch (InterruptedException e) {
+					// keeps running, as a socket read would
+				}
+			}
+			finished.set(true);
+			return -1;
+		}
+	}
+}
@@ -0,0 +1,69 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.transfer.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CopyCheckpointTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Test that the marker only moves past objects once every object listed
+	 * before them was copied, and that it is read back by a restarted copy
+	 */
+	@Test
+	public void testMarkerFollowsObjectsCopiedInListingOrder() throws IOException {
+		File file = new File(folder.getRoot(), "checkpoint");
+		CopyCheckpoint checkpoint = load(file);
+		assertNull(checkpoint.getMarker());
+		checkpoint.listed("src/a");
+		checkpoint.listed("src/b");
+		checkpoint.listed("src/c");
+
+		checkpoint.copied("src/b");
+		assertNull(checkpoint.getMarker());
+		checkpoint.copied("src/a");
+		assertEquals("src/b", checkpoint.getMarker());
+		checkpoint.flush();
+
+		assertEquals("src/b", load(file).getMarker());
+	}
+
+	/**
+	 * Test that a checkpoint written by a copy of another prefix is rejected
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testCheckpointOfAnotherCopyIsRejected() throws IOException {
+		File file = new File(folder.getRoot(), "checkpoint");
+		CopyCheckpoint checkpoint = load(file);
+		checkpoint.listed("src/a");
+		checkpoint.copied("src/a");
+		checkpoint.flush();
+
+		CopyCheckpoint.load(file, "source", "other/", "destination", "dst/");
+	}
+
+	private static CopyCheckpoint load(File file) {
+		return CopyCheckpoint.load(file, "source", "src/", "destination", "dst/");
+	}
+}
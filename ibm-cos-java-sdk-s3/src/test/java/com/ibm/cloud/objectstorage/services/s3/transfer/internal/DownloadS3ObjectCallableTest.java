@@ -0,0 +1,123 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.transfer.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Callable;
+
+import org.junit.Test;
+
+import com.ibm.cloud.objectstorage.services.s3.model.S3Object;
+import com.ibm.cloud.objectstorage.util.StringUtils;
+
+public class DownloadS3ObjectCallableTest {
+
+	/**
+	 * Test parts written through a shared channel land at their own position
+	 * regardless of the order in which they complete
+	 */
+	@Test
+	public void testPartsWrittenToSharedChannel() throws Exception {
+		testPartsWrittenToSharedChannel(false);
+	}
+
+	/**
+	 * Test the same with buffers allocated outside of the heap
+	 */
+	@Test
+	public void testPartsWrittenToSharedChannelWithDirectBuffers() throws Exception {
+		testPartsWrittenToSharedChannel(true);
+	}
+
+	/**
+	 * Test buffers are reused and the hit rate reflects it
+	 */
+	@Test
+	public void testBufferPoolHitRate() {
+		DownloadBufferPool pool = new DownloadBufferPool(16, 1, true);
+		assertEquals(0.0, pool.getHitRate(), 0.0);
+
+		ByteBuffer first = pool.acquire();
+		ByteBuffer second = pool.acquire();
+		pool.release(first);
+		pool.release(second);
+		assertEquals(1, pool.getIdleCount());
+
+		pool.acquire();
+		assertEquals(1, pool.getHitCount());
+		assertEquals(2, pool.getMissCount());
+		assertEquals(1.0 / 3, pool.getHitRate(), 0.0001);
+
+		pool.release(ByteBuffer.allocate(16));
+		assertEquals(0, pool.getIdleCount());
+	}
+
+	/**
+	 * Test a direct pool never allocates more direct buffers than its capacity
+	 * and serves further misses from the heap
+	 */
+	@Test
+	public void testDirectBuffersBoundedByCapacity() {
+		DownloadBufferPool pool = new DownloadBufferPool(16, 2, true);
+
+		ByteBuffer first = pool.acquire();
+		ByteBuffer second = pool.acquire();
+		ByteBuffer third = pool.acquire();
+		assertTrue(first.isDirect());
+		assertTrue(second.isDirect());
+		assertFalse(third.isDirect());
+
+		pool.release(third);
+		pool.release(first);
+		assertEquals(1, pool.getIdleCount());
+		assertTrue(pool.acquire().isDirect());
+	}
+
+	private void testPartsWrittenToSharedChannel(boolean direct) throws Exception {
+		File file = File.createTempFile("download-part", ".tmp");
+		file.deleteOnExit();
+		DownloadBufferPool pool = new DownloadBufferPool(4, 2, direct);
+		FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE);
+		try {
+			assertEquals(17L, new DownloadS3ObjectCallable(part("second-part"), channel, pool, 6).call()
+					.longValue());
+			assertEquals(6L, new DownloadS3ObjectCallable(part("first-"), channel, pool, 0).call()
+					.longValue());
+		} finally {
+			channel.close();
+		}
+
+		assertEquals("first-second-part", new String(Files.readAllBytes(file.toPath()), StringUtils.UTF8));
+		assertEquals(0.5, pool.getHitRate(), 0.0);
+	}
+
+	private Callable<S3Object> part(final String content) {
+		return new Callable<S3Object>() {
+			@Override
+			public S3Object call() {
+				S3Object object = new S3Object();
+				object.setObjectContent(new ByteArrayInputStream(content.getBytes(StringUtils.UTF8)));
+				return object;
+			}
+		};
+	}
+}
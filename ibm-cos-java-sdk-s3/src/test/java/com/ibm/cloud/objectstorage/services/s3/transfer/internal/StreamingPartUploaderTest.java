@@ -0,0 +1,190 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.transfer.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.ibm.cloud.objectstorage.SdkClientException;
+import com.ibm.cloud.objectstorage.services.s3.AmazonS3;
+import com.ibm.cloud.objectstorage.services.s3.internal.Constants;
+import com.ibm.cloud.objectstorage.services.s3.model.ObjectMetadata;
+import com.ibm.cloud.objectstorage.services.s3.model.PartETag;
+import com.ibm.cloud.objectstorage.services.s3.model.PutObjectRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.UploadPartRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.UploadPartResult;
+import com.ibm.cloud.objectstorage.util.IOUtils;
+
+public class StreamingPartUploaderTest {
+
+	private static final int PART_SIZE = 16;
+
+	/**
+	 * Test a stream is split into parts of the part size, with a shorter last
+	 * part, and that parts are uploaded by the reading thread when the pool
+	 * never gets to them
+	 */
+	@Test
+	public void testPartsUploadedWhenPoolIsBusy() throws Exception {
+		byte[] content = content(PART_SIZE * 5 + 3);
+		final List<String> uploaded = Collections.synchronizedList(new ArrayList<String>());
+		AmazonS3 s3 = recordingClient(uploaded);
+		// A pool whose threads are all busy elsewhere and never pick up a part
+		ExecutorService busyPool = mock(ExecutorService.class);
+
+		List<Future<PartETag>> parts = upload(s3, busyPool, content, 2);
+
+		assertEquals(6, parts.size());
+		// Only as many parts as fit in memory are left for the pool
+		int pending = 0;
+		for (Future<PartETag> part : parts) {
+			if (!part.isDone()) {
+				pending++;
+			}
+		}
+		assertEquals(2, pending);
+		assertEquals(4, uploaded.size());
+		assertEquals("1:16:false", uploaded.get(0));
+		assertTrue(uploaded.contains("4:16:false"));
+	}
+
+	/**
+	 * Test a stream ending on a part boundary does not produce an empty part
+	 */
+	@Test
+	public void testStreamEndingOnPartBoundary() throws Exception {
+		byte[] content = content(PART_SIZE * 3);
+		List<String> uploaded = Collections.synchronizedList(new ArrayList<String>());
+		ExecutorService pool = mock(ExecutorService.class);
+
+		List<Future<PartETag>> parts = upload(recordingClient(uploaded), pool, content, 1);
+
+		assertEquals(3, parts.size());
+		assertEquals(3, uploaded.size());
+		assertFalse(uploaded.contains("4:0:true"));
+	}
+
+	/**
+	 * Test the part size doubles after every group of parts and stops
+	 * growing at the maximum part size
+	 */
+	@Test
+	public void testPartSizeGrowsWithPartCount() throws Exception {
+		byte[] content = content(PART_SIZE * 2 + PART_SIZE * 2 * 2 + PART_SIZE * 4 * 3 + 5);
+		List<String> uploaded = Collections.synchronizedList(new ArrayList<String>());
+		ExecutorService pool = Executors.newSingleThreadExecutor();
+		try {
+			List<Future<PartETag>> parts = upload(recordingClient(uploaded), pool, content, 2, PART_SIZE * 4, 2);
+			for (Future<PartETag> part : parts) {
+				part.get();
+			}
+		} finally {
+			pool.shutdown();
+		}
+
+		// The reading thread may upload a part itself, ahead of the pool
+		Collections.sort(uploaded);
+		assertEquals(8, uploaded.size());
+		assertEquals("1:16:false", uploaded.get(0));
+		assertEquals("2:16:false", uploaded.get(1));
+		assertEquals("3:32:false", uploaded.get(2));
+		assertEquals("4:32:false", uploaded.get(3));
+		assertEquals("5:64:false", uploaded.get(4));
+		assertEquals("6:64:false", uploaded.get(5));
+		assertEquals("7:64:false", uploaded.get(6));
+		assertEquals("8:5:true", uploaded.get(7));
+	}
+
+	/**
+	 * Test a stream needing more than the maximum number of parts at the
+	 * maximum part size fails instead of completing a truncated object
+	 */
+	@Test
+	public void testStreamLargerThanMaximumPartsFails() throws Exception {
+		byte[] content = content(PART_SIZE * Constants.MAXIMUM_UPLOAD_PARTS + 1);
+		List<String> uploaded = Collections.synchronizedList(new ArrayList<String>());
+		ExecutorService busyPool = mock(ExecutorService.class);
+
+		try {
+			upload(recordingClient(uploaded), busyPool, content, 1, PART_SIZE, 1000);
+			fail("Expected SdkClientException");
+		} catch (SdkClientException expected) {
+			assertTrue(expected.getMessage().contains(String.valueOf(Constants.MAXIMUM_UPLOAD_PARTS)));
+		}
+
+		uploaded.clear();
+		List<Future<PartETag>> parts = upload(recordingClient(uploaded), busyPool, content, 1, PART_SIZE * 2, 1000);
+		assertEquals(Constants.MAXIMUM_UPLOAD_PARTS / 2 + 501, parts.size());
+	}
+
+	private List<Future<PartETag>> upload(AmazonS3 s3, ExecutorService pool, byte[] content, int partsInMemory)
+			throws Exception {
+		return upload(s3, pool, content, partsInMemory, PART_SIZE, 1000);
+	}
+
+	private List<Future<PartETag>> upload(AmazonS3 s3, ExecutorService pool, byte[] content, int partsInMemory,
+			int maxPartSize, int partsPerPartSize) throws Exception {
+		InputStream input = new ByteArrayInputStream(content);
+		PutObjectRequest request = new PutObjectRequest("bucket", "key", input, new ObjectMetadata());
+		byte[] firstPart = new byte[PART_SIZE];
+		int firstPartLength = StreamingPartUploader.readFully(input, firstPart);
+
+		return new StreamingPartUploader(s3, pool, new UploadPartRequestFactory(request, "uploadId", PART_SIZE),
+				input, PART_SIZE, maxPartSize, partsPerPartSize, partsInMemory, false, null)
+				.uploadParts(firstPart, firstPartLength);
+	}
+
+	private AmazonS3 recordingClient(final List<String> uploaded) {
+		AmazonS3 s3 = mock(AmazonS3.class);
+		when(s3.uploadPart(any(UploadPartRequest.class))).thenAnswer(new Answer<UploadPartResult>() {
+			@Override
+			public UploadPartResult answer(InvocationOnMock invocation) throws Throwable {
+				UploadPartRequest request = (UploadPartRequest) invocation.getArguments()[0];
+				byte[] bytes = IOUtils.toByteArray(request.getInputStream());
+				assertEquals(request.getPartSize(), bytes.length);
+				uploaded.add(request.getPartNumber() + ":" + bytes.length + ":" + request.isLastPart());
+				UploadPartResult result = new UploadPartResult();
+				result.setPartNumber(request.getPartNumber());
+				result.setETag("etag" + request.getPartNumber());
+				return result;
+			}
+		});
+		return s3;
+	}
+
+	private byte[] content(int length) {
+		byte[] content = new byte[length];
+		for (int i = 0; i < length; i++) {
+			content[i] = (byte) i;
+		}
+		return content;
+	}
+}
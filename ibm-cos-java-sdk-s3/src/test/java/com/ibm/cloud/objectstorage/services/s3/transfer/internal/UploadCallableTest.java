@@ -0,0 +1,163 @@
+/*
+* Copyright 2026 IBM Corp. All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+* the License. You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+* an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+* specific language governing permissions and limitations under the License.
+*/
+package com.ibm.cloud.objectstorage.services.s3.transfer.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.ibm.cloud.objectstorage.AmazonServiceException;
+import com.ibm.cloud.objectstorage.SdkClientException;
+import com.ibm.cloud.objectstorage.services.s3.AmazonS3EncryptionClient;
+import com.ibm.cloud.objectstorage.services.s3.model.CompleteMultipartUploadRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.CompleteMultipartUploadResult;
+import com.ibm.cloud.objectstorage.services.s3.model.InitiateMultipartUploadRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.InitiateMultipartUploadResult;
+import com.ibm.cloud.objectstorage.services.s3.model.ListPartsRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.PartListing;
+import com.ibm.cloud.objectstorage.services.s3.model.UploadPartRequest;
+import com.ibm.cloud.objectstorage.services.s3.model.UploadPartResult;
+import com.ibm.cloud.objectstorage.services.s3.transfer.TransferManager;
+import com.ibm.cloud.objectstorage.services.s3.transfer.TransferManagerBuilder;
+import com.ibm.cloud.objectstorage.services.s3.transfer.Upload;
+
+public class UploadCallableTest {
+
+	private static final int PART_SIZE = 1024;
+
+	private final List<Integer> uploadedParts = Collections.synchronizedList(new ArrayList<Integer>());
+	private AmazonS3EncryptionClient s3;
+	private TransferManager tm;
+	private File file;
+
+	@Before
+	public void setUp() throws IOException {
+		s3 = mock(AmazonS3EncryptionClient.class);
+		when(s3.isParallelPartUploadSupported()).thenReturn(true);
+		InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+		initiated.setUploadId("upload-id");
+		when(s3.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiated);
+		when(s3.listParts(any(ListPartsRequest.class))).thenReturn(new PartListing());
+		when(s3.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+				.thenReturn(new CompleteMultipartUploadResult());
+		tm = TransferManagerBuilder.standard()
+				.withS3Client(s3)
+				.withMultipartUploadThreshold((long) PART_SIZE)
+				.withMinimumUploadPartSize((long) PART_SIZE)
+				.build();
+
+		file = File.createTempFile("upload-callable", ".dat");
+		FileOutputStream out = new FileOutputStream(file);
+		try {
+			out.write(new byte[2 * PART_SIZE + 100]);
+		} finally {
+			out.close();
+		}
+	}
+
+	@After
+	public void tearDown() {
+		tm.shutdownNow(false);
+		file.delete();
+	}
+
+	/**
+	 * Test that the last part of an upload encrypted in parallel is only
+	 * started once the other parts are uploaded
+	 */
+	@Test
+	public void testLastEncryptedPartStartsAfterOtherParts() throws Exception {
+		final CountDownLatch otherPartsStarted = new CountDownLatch(2);
+		final CountDownLatch otherPartsMayFinish = new CountDownLatch(1);
+		when(s3.uploadPart(any(UploadPartRequest.class))).thenAnswer(new Answer<UploadPartResult>() {
+			@Override
+			public UploadPartResult answer(InvocationOnMock invocation) throws Throwable {
+				UploadPartRequest request = (UploadPartRequest) invocation.getArguments()[0];
+				if (!request.isLastPart()) {
+					otherPartsStarted.countDown();
+					otherPartsMayFinish.await();
+				}
+				uploadedParts.add(request.getPartNumber());
+				return result(request.getPartNumber());
+			}
+		});
+
+		Upload upload = tm.upload("bucket", "key", file);
+
+		assertTrue(otherPartsStarted.await(10, TimeUnit.SECONDS));
+		Thread.sleep(100);
+		assertTrue(uploadedParts.isEmpty());
+		otherPartsMayFinish.countDown();
+		upload.waitForUploadResult();
+
+		assertEquals(3, uploadedParts.size());
+		assertEquals(Integer.valueOf(3), uploadedParts.get(2));
+	}
+
+	/**
+	 * Test that the last part of an upload encrypted in parallel is not
+	 * uploaded when another part fails
+	 */
+	@Test
+	public void testLastEncryptedPartNotUploadedAfterFailedPart() throws Exception {
+		final AmazonServiceException failure = new AmazonServiceException("part failed");
+		when(s3.uploadPart(any(UploadPartRequest.class))).thenAnswer(new Answer<UploadPartResult>() {
+			@Override
+			public UploadPartResult answer(InvocationOnMock invocation) throws Throwable {
+				UploadPartRequest request = (UploadPartRequest) invocation.getArguments()[0];
+				if (request.getPartNumber() == 1) {
+					throw failure;
+				}
+				uploadedParts.add(request.getPartNumber());
+				return result(request.getPartNumber());
+			}
+		});
+
+		Upload upload = tm.upload("bucket", "key", file);
+
+		try {
+			upload.waitForUploadResult();
+			fail("Expected the failure of the first part");
+		} catch (SdkClientException e) {
+			assertSame(failure, e.getCause());
+		}
+		assertFalse(uploadedParts.contains(3));
+	}
+
+	private static UploadPartResult result(int partNumber) {
+		UploadPartResult result = new UploadPartResult();
+		result.setPartNumber(partNumber);
+		result.setETag("etag-" + partNumber);
+		return result;
+	}
+}